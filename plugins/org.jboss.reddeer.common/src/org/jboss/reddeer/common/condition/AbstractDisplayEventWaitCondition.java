@@ -0,0 +1,84 @@
+/******************************************************************************* 
+ * Copyright (c) 2016 Red Hat, Inc. 
+ * Distributed under license by Red Hat, Inc. All rights reserved. 
+ * This program is made available under the terms of the 
+ * Eclipse Public License v1.0 which accompanies this distribution, 
+ * and is available at http://www.eclipse.org/legal/epl-v10.html 
+ * 
+ * Contributors: 
+ * Red Hat, Inc. - initial API and implementation 
+ ******************************************************************************/ 
+package org.jboss.reddeer.common.condition;
+
+import java.util.Arrays;
+
+import org.eclipse.swt.widgets.Event;
+import org.eclipse.swt.widgets.Listener;
+import org.jboss.reddeer.common.util.Display;
+import org.jboss.reddeer.common.wait.WaitNotifier;
+
+/**
+ * Abstract wait condition which wakes up waiting thread whenever one of specified
+ * SWT events (e.g. SWT.Activate, SWT.Dispose, SWT.Expand) occurs anywhere in the display.
+ * Display filters are installed only while a wait is in progress.
+ * 
+ * @since 2.0
+ */
+public abstract class AbstractDisplayEventWaitCondition extends AbstractWaitCondition
+		implements ObservableWaitCondition {
+
+	private final int[] eventTypes;
+
+	private Listener listener;
+
+	/**
+	 * Creates a new wait condition observing specified SWT event types.
+	 * 
+	 * @param eventTypes SWT event types waking up waiting thread
+	 */
+	protected AbstractDisplayEventWaitCondition(int... eventTypes) {
+		this.eventTypes = Arrays.copyOf(eventTypes, eventTypes.length);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.jboss.reddeer.common.condition.ObservableWaitCondition#addWaitNotifier(org.jboss.reddeer.common.wait.WaitNotifier)
+	 */
+	@Override
+	public void addWaitNotifier(final WaitNotifier notifier) {
+		final Listener newListener = new Listener() {
+			@Override
+			public void handleEvent(Event event) {
+				notifier.wakeUp();
+			}
+		};
+		Display.syncExec(new Runnable() {
+			@Override
+			public void run() {
+				for (int eventType : eventTypes) {
+					Display.getDisplay().addFilter(eventType, newListener);
+				}
+			}
+		});
+		listener = newListener;
+	}
+
+	/* (non-Javadoc)
+	 * @see org.jboss.reddeer.common.condition.ObservableWaitCondition#removeWaitNotifier(org.jboss.reddeer.common.wait.WaitNotifier)
+	 */
+	@Override
+	public void removeWaitNotifier(WaitNotifier notifier) {
+		final Listener oldListener = listener;
+		listener = null;
+		if (oldListener == null) {
+			return;
+		}
+		Display.syncExec(new Runnable() {
+			@Override
+			public void run() {
+				for (int eventType : eventTypes) {
+					Display.getDisplay().removeFilter(eventType, oldListener);
+				}
+			}
+		});
+	}
+}
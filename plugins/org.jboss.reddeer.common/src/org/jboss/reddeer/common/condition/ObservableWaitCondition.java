@@ -0,0 +1,38 @@
+/******************************************************************************* 
+ * Copyright (c) 2016 Red Hat, Inc. 
+ * Distributed under license by Red Hat, Inc. All rights reserved. 
+ * This program is made available under the terms of the 
+ * Eclipse Public License v1.0 which accompanies this distribution, 
+ * and is available at http://www.eclipse.org/legal/epl-v10.html 
+ * 
+ * Contributors: 
+ * Red Hat, Inc. - initial API and implementation 
+ ******************************************************************************/ 
+package org.jboss.reddeer.common.condition;
+
+import org.jboss.reddeer.common.wait.WaitNotifier;
+
+/**
+ * Wait condition which is able to notify waiting thread about events which could
+ * change its result (e.g. shell activation, job finish). Waits using such condition
+ * test it immediately after notification instead of waiting for next test period.
+ * 
+ * @since 2.0
+ */
+public interface ObservableWaitCondition extends WaitCondition {
+
+	/**
+	 * Registers notifier which should be woken up whenever result of the condition could change.
+	 * Called once before the first test of the condition.
+	 * 
+	 * @param notifier notifier to wake up
+	 */
+	void addWaitNotifier(WaitNotifier notifier);
+
+	/**
+	 * Unregisters previously registered notifier. Called once the waiting is over.
+	 * 
+	 * @param notifier notifier to unregister
+	 */
+	void removeWaitNotifier(WaitNotifier notifier);
+}
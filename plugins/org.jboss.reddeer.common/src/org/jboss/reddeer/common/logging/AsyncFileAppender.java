@@ -0,0 +1,205 @@
+/******************************************************************************* 
+ * Copyright (c) 2016 Red Hat, Inc. 
+ * Distributed under license by Red Hat, Inc. All rights reserved. 
+ * This program is made available under the terms of the 
+ * Eclipse Public License v1.0 which accompanies this distribution, 
+ * and is available at http://www.eclipse.org/legal/epl-v10.html 
+ * 
+ * Contributors: 
+ * Red Hat, Inc. - initial API and implementation 
+ ******************************************************************************/ 
+package org.jboss.reddeer.common.logging;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+import org.jboss.reddeer.common.properties.RedDeerProperties;
+
+/**
+ * Appender writing log messages to a file asynchronously. Messages are stored in
+ * a bounded ring buffer and written by a daemon thread, so logging thread never waits
+ * for file I/O. If the buffer is full the oldest messages are dropped and number of
+ * dropped messages is written to the file instead of them.
+ * <br>
+ * Default appender is used by {@link Logger} instead of standard output if
+ * {@link RedDeerProperties#LOG_FILE} is set.
+ * 
+ * @since 2.0
+ */
+public class AsyncFileAppender {
+
+	/**
+	 * Default number of messages held by the ring buffer.
+	 */
+	public static final int DEFAULT_CAPACITY = 8192;
+
+	private static final Object defaultLock = new Object();
+
+	private static volatile AsyncFileAppender defaultAppender;
+
+	private static volatile boolean defaultInitialized;
+
+	private final String[] buffer;
+
+	private final Writer writer;
+
+	private final Thread writerThread;
+
+	private int head;
+
+	private int size;
+
+	private long dropped;
+
+	private boolean closed;
+
+	/**
+	 * Creates a new appender writing to specified file and starts its writer thread.
+	 * 
+	 * @param file file to append messages to
+	 * @param capacity maximal number of messages waiting to be written
+	 * @throws IOException if file cannot be opened
+	 */
+	public AsyncFileAppender(File file, int capacity) throws IOException {
+		if (capacity <= 0) {
+			throw new IllegalArgumentException("Capacity has to be positive number");
+		}
+		File parent = file.getAbsoluteFile().getParentFile();
+		if (parent != null) {
+			parent.mkdirs();
+		}
+		this.buffer = new String[capacity];
+		this.writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file, true),
+				StandardCharsets.UTF_8));
+		this.writerThread = new Thread(new Runnable() {
+			@Override
+			public void run() {
+				writeMessages();
+			}
+		}, "RedDeer log appender");
+		writerThread.setDaemon(true);
+		writerThread.start();
+	}
+
+	/**
+	 * Gets default appender configured by {@link RedDeerProperties#LOG_FILE}.
+	 * 
+	 * @return default appender or null if log file is not set
+	 */
+	public static AsyncFileAppender getDefault() {
+		if (defaultInitialized) {
+			return defaultAppender;
+		}
+		synchronized (defaultLock) {
+			if (!defaultInitialized) {
+				// properties log through logger, so mark default appender as initialized first
+				defaultInitialized = true;
+				String logFile = RedDeerProperties.LOG_FILE.getValue();
+				if (logFile != null && !logFile.isEmpty()) {
+					try {
+						final AsyncFileAppender appender = new AsyncFileAppender(new File(logFile), DEFAULT_CAPACITY);
+						Runtime.getRuntime().addShutdownHook(new Thread(new Runnable() {
+							@Override
+							public void run() {
+								appender.close();
+							}
+						}, "RedDeer log appender shutdown"));
+						defaultAppender = appender;
+					} catch (IOException e) {
+						System.err.println("Cannot open log file " + logFile + ", logging to standard output");
+					}
+				}
+			}
+			return defaultAppender;
+		}
+	}
+
+	/**
+	 * Appends message. Method does not wait for the message to be written.
+	 * 
+	 * @param message message to append
+	 */
+	public void append(String message) {
+		synchronized (buffer) {
+			if (closed) {
+				return;
+			}
+			if (size == buffer.length) {
+				head = (head + 1) % buffer.length;
+				size--;
+				dropped++;
+			}
+			buffer[(head + size) % buffer.length] = message;
+			size++;
+			buffer.notifyAll();
+		}
+	}
+
+	/**
+	 * Writes all appended messages and closes the file. Messages appended later are ignored.
+	 */
+	public void close() {
+		synchronized (buffer) {
+			closed = true;
+			buffer.notifyAll();
+		}
+		try {
+			writerThread.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void writeMessages() {
+		String[] batch = new String[buffer.length];
+		try {
+			while (true) {
+				int count;
+				long droppedCount;
+				synchronized (buffer) {
+					while (size == 0 && !closed) {
+						buffer.wait();
+					}
+					if (size == 0) {
+						break;
+					}
+					count = size;
+					for (int i = 0; i < count; i++) {
+						int index = (head + i) % buffer.length;
+						batch[i] = buffer[index];
+						buffer[index] = null;
+					}
+					head = (head + count) % buffer.length;
+					size = 0;
+					droppedCount = dropped;
+					dropped = 0;
+				}
+				if (droppedCount > 0) {
+					writer.write(droppedCount + " log messages dropped");
+					writer.write(System.lineSeparator());
+				}
+				for (int i = 0; i < count; i++) {
+					writer.write(batch[i]);
+					writer.write(System.lineSeparator());
+					batch[i] = null;
+				}
+				writer.flush();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (IOException e) {
+			System.err.println("Cannot write to log file: " + e.getMessage());
+		} finally {
+			try {
+				writer.close();
+			} catch (IOException e) {
+				// nothing to do, file is being closed
+			}
+		}
+	}
+}
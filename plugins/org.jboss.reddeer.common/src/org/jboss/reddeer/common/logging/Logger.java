@@ -10,9 +10,11 @@
  ******************************************************************************/ 
 package org.jboss.reddeer.common.logging;
 
-import java.text.DateFormat;
-import java.text.SimpleDateFormat;
-import java.util.Date;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.function.Supplier;
 
 import org.jboss.reddeer.common.context.ExecutionSetting;
 import org.jboss.reddeer.common.exception.RedDeerException;
@@ -25,7 +27,7 @@ import org.jboss.reddeer.common.exception.RedDeerException;
  */
 public class Logger {
 
-	private DateFormat dateFormat = new SimpleDateFormat("HH:mm:ss.SSS");
+	private static final DateTimeFormatter dateFormat = DateTimeFormatter.ofPattern("HH:mm:ss.SSS");
 
 	private static final String error = "ERROR";
 	private static final String warning = "WARNING";
@@ -74,7 +76,21 @@ public class Logger {
 	 * @see java.lang.String#format(String, Object...)
 	 */
 	public void debug(String fmtString, Object... args) {
-		debug(String.format(fmtString, args));
+		if (isEnabled(MessageType.DEBUG)) {
+			debug(String.format(fmtString, args));
+		}
+	}
+
+	/**
+	 * Log debug message created by specified supplier. Supplier is called only
+	 * if debug messages are logged.
+	 *
+	 * @param msgSupplier supplier of message
+	 */
+	public void debug(Supplier<String> msgSupplier) {
+		if (isEnabled(MessageType.DEBUG)) {
+			debug(msgSupplier.get());
+		}
 	}
 
 	/**
@@ -94,7 +110,21 @@ public class Logger {
 	 * @see java.lang.String#format(String, Object...)
 	 */
 	public void trace(String fmtString, Object... args) {
-		trace(String.format(fmtString, args));
+		if (isEnabled(MessageType.TRACE)) {
+			trace(String.format(fmtString, args));
+		}
+	}
+
+	/**
+	 * Log trace message created by specified supplier. Supplier is called only
+	 * if trace messages are logged.
+	 *
+	 * @param msgSupplier supplier of message
+	 */
+	public void trace(Supplier<String> msgSupplier) {
+		if (isEnabled(MessageType.TRACE)) {
+			trace(msgSupplier.get());
+		}
 	}
 
 	/**
@@ -114,7 +144,9 @@ public class Logger {
 	 * @see java.lang.String#format(String, Object...)
 	 */
 	public void warn(String fmtString, Object... args) {
-		warn(String.format(fmtString, args));
+		if (isEnabled(MessageType.WARN)) {
+			warn(String.format(fmtString, args));
+		}
 	}
 
 	/**
@@ -134,7 +166,9 @@ public class Logger {
 	 * @see java.lang.String#format(String, Object...)
 	 */
 	public void error(String fmtString, Object... args) {
-		error(String.format(fmtString, args));
+		if (isEnabled(MessageType.ERROR)) {
+			error(String.format(fmtString, args));
+		}
 	}
 
 	/**
@@ -158,7 +192,9 @@ public class Logger {
 	 * @see java.lang.String#format(String, Object...)
 	 */
 	public void error(String fmtString, Throwable t, Object... args) {
-		error(String.format(fmtString, args), t);
+		if (isEnabled(MessageType.ERROR)) {
+			error(String.format(fmtString, args), t);
+		}
 	}
 
 	/**
@@ -178,7 +214,21 @@ public class Logger {
 	 * @see java.lang.String#format(String, Object...)
 	 */
 	public void info(String fmtString, Object... args) {
-		info(String.format(fmtString, args));
+		if (isEnabled(MessageType.INFO)) {
+			info(String.format(fmtString, args));
+		}
+	}
+
+	/**
+	 * Log info message created by specified supplier. Supplier is called only
+	 * if info messages are logged.
+	 *
+	 * @param msgSupplier supplier of message
+	 */
+	public void info(Supplier<String> msgSupplier) {
+		if (isEnabled(MessageType.INFO)) {
+			info(msgSupplier.get());
+		}
 	}
 
 	/**
@@ -198,7 +248,9 @@ public class Logger {
 	 * @see java.lang.String#format(String, Object...)
 	 */
 	public void dump(String fmtString, Object... args) {
-		dump(String.format(fmtString, args));
+		if (isEnabled(MessageType.DUMP)) {
+			dump(String.format(fmtString, args));
+		}
 	}
 
 	/**
@@ -226,7 +278,9 @@ public class Logger {
 	 * @see java.lang.String#format(String, Object...)
 	 */
 	public void step(String fmtString, Object... args) {
-		step(String.format(fmtString, args));
+		if (isEnabled(MessageType.STEP)) {
+			step(String.format(fmtString, args));
+		}
 	}
 
 	/**
@@ -254,20 +308,56 @@ public class Logger {
 	 * @see java.lang.String#format(String, Object...)
 	 */
 	public void fatal(String fmtString, Object... args) {
-		fatal(String.format(fmtString, args));
+		if (isEnabled(MessageType.FATAL)) {
+			fatal(String.format(fmtString, args));
+		}
+	}
+
+	/**
+	 * Finds out whether debug messages are logged. Use it to avoid building
+	 * expensive debug messages which would not be logged.
+	 *
+	 * @return true if debug messages are logged, false otherwise
+	 */
+	public boolean isDebugEnabled() {
+		return isEnabled(MessageType.DEBUG);
+	}
+
+	/**
+	 * Finds out whether trace messages are logged. Use it to avoid building
+	 * expensive trace messages which would not be logged.
+	 *
+	 * @return true if trace messages are logged, false otherwise
+	 */
+	public boolean isTraceEnabled() {
+		return isEnabled(MessageType.TRACE);
+	}
+
+	/**
+	 * Finds out whether info messages are logged.
+	 *
+	 * @return true if info messages are logged, false otherwise
+	 */
+	public boolean isInfoEnabled() {
+		return isEnabled(MessageType.INFO);
+	}
+
+	private boolean isEnabled(int type) {
+		ExecutionSetting setting = ExecutionSetting.getInstance();
+		if ((type & setting.getLogMessageFilter()) != type) {
+			return false;
+		}
+		return setting.getLogLevel() >= getLevelFromMsgType(type).getValue();
 	}
 
 	private void print(String severity, String msg, int type) {
-		if ((type & ExecutionSetting.getInstance().getLogMessageFilter()) != type)
+		if (!isEnabled(type)) {
 			return;
-		
-		int logLevel = ExecutionSetting.getInstance().getLogLevel();
-		if (logLevel < getLevelFromMsgType(type).getValue()) {
-			return; 
 		}
 
-		StringBuilder sb = new StringBuilder();
-		sb.append(dateFormat.format(new Date()) + " ");		
+		StringBuilder sb = new StringBuilder(64 + (msg == null ? 4 : msg.length()));
+		dateFormat.formatTo(LocalTime.now(), sb);
+		sb.append(' ');
 
 		sb.append(severity);
 		sb.append(" [");
@@ -277,7 +367,12 @@ public class Logger {
 		sb.append(loggerClass.getSimpleName());
 		sb.append("] ");
 		sb.append(msg);
-		System.out.println(sb.toString());
+		AsyncFileAppender appender = AsyncFileAppender.getDefault();
+		if (appender != null) {
+			appender.append(sb.toString());
+		} else {
+			System.out.println(sb.toString());
+		}
 	}
 
 	private LogLevel getLevelFromMsgType(int msgType) {
@@ -305,7 +400,14 @@ public class Logger {
 
 	private void printStackTraceRecursive(Throwable t) {
 		if ((t != null) && (t.getStackTrace() != null)) {
-			t.printStackTrace();
+			AsyncFileAppender appender = AsyncFileAppender.getDefault();
+			if (appender != null) {
+				StringWriter stackTrace = new StringWriter();
+				t.printStackTrace(new PrintWriter(stackTrace));
+				appender.append(stackTrace.toString());
+			} else {
+				t.printStackTrace();
+			}
 			printStackTraceRecursive(t.getCause());
 		}
 	}
@@ -10,8 +10,11 @@
  ******************************************************************************/ 
 package org.jboss.reddeer.common.matcher;
 
+import java.util.regex.Pattern;
+
 import org.hamcrest.Description;
 import org.hamcrest.TypeSafeMatcher;
+import org.jboss.reddeer.common.util.PatternCache;
 
 /**
  * Matcher to match text (String) to given regular expression.
@@ -24,8 +27,11 @@ public class RegexMatcher extends TypeSafeMatcher<String> {
 
 	private final String regex;
 
+	private final Pattern pattern;
+
 	/**
-	 * Default constructor.
+	 * Default constructor. Regular expression is compiled once and shared
+	 * with other matchers using the same regular expression.
 	 * 
 	 * @param regex
 	 *            regular expression to match against.
@@ -33,6 +39,7 @@ public class RegexMatcher extends TypeSafeMatcher<String> {
 
 	public RegexMatcher(String regex) {
 		this.regex = regex;
+		this.pattern = regex == null ? null : PatternCache.getPattern(regex);
 	}
 
 	/* (non-Javadoc)
@@ -49,7 +56,10 @@ public class RegexMatcher extends TypeSafeMatcher<String> {
 	 */
 	@Override
 	protected boolean matchesSafely(String textToMatch) {
-		return textToMatch.matches(regex);
+		if (pattern == null) {
+			return false;
+		}
+		return pattern.matcher(textToMatch).matches();
 	}
 
 	/* (non-Javadoc)
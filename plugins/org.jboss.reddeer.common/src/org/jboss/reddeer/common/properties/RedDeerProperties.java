@@ -36,6 +36,11 @@ public enum RedDeerProperties {
 	DISABLE_MAVEN_REPOSITORY_DOWNLOAD("rd.disableMavenIndex", true),
 	
 	LOG_COLLECTOR_ENABLED("rd.logCollectorEnabled", true),
+
+	/**
+	 * Compresses workbench log entries collected by log collectors as gzip.
+	 */
+	LOG_COLLECTOR_COMPRESSED("rd.logCollectorCompressed", false),
 	
 	MAXIMIZE_WORKBENCH_ENABLED("rd.maximizeWorkbench", true),
 
@@ -48,9 +53,85 @@ public enum RedDeerProperties {
 
 	RELATIVE_SCREENSHOT_DIRECTORY("rd.relativeScreenshotDirectory", (String) null),
 
+	/**
+	 * Image format of screenshots captured on failure.
+	 */
+	SCREENSHOT_FORMAT("rd.screenshotFormat", "png", "png", "jpeg"),
+
+	/**
+	 * Scale of screenshots captured on failure, values lower than 1 downscale screenshots.
+	 */
+	SCREENSHOT_SCALE("rd.screenshotScale", 1.f),
+
+	/**
+	 * Enables recording of frames of the active shell which are saved next to screenshots
+	 * captured on failure, see org.jboss.reddeer.junit.screenshot.FrameRecorder.
+	 */
+	FRAME_RECORDER_ENABLED("rd.frameRecorder", false),
+
+	/**
+	 * Time between two frames recorded by frame recorder in milliseconds.
+	 */
+	FRAME_RECORDER_INTERVAL("rd.frameRecorderInterval", 500.f),
+
+	/**
+	 * Maximum memory used by frames recorded by frame recorder in megabytes.
+	 */
+	FRAME_RECORDER_MEMORY("rd.frameRecorderMemory", 16.f),
+
 	OPEN_ASSOCIATED_PERSPECTIVE("rd.openAssociatedPerspective", "never"),
 
-	TIME_PERIOD_FACTOR("rd.timePeriodFactor", 1.f);
+	TIME_PERIOD_FACTOR("rd.timePeriodFactor", 1.f),
+
+	/**
+	 * Enables ordering of test classes minimizing requirement fulfillment and clean up,
+	 * see org.jboss.reddeer.junit.internal.runner.TestClassScheduler.
+	 */
+	SCHEDULE_TEST_CLASSES("rd.scheduleTestClasses", false),
+
+	/**
+	 * Shard of test classes executed by this instance in format index/count, e.g. 2/4,
+	 * see org.jboss.reddeer.junit.shard.ShardConfiguration.
+	 */
+	SHARD("rd.shard", (String) null),
+
+	/**
+	 * Path to the file with historical durations of test classes used to partition test classes into shards.
+	 */
+	SHARD_DURATIONS("rd.shardDurations", (String) null),
+
+	/**
+	 * Enables measuring of time spent in waits, lookups and UI thread,
+	 * see org.jboss.reddeer.common.timing.Timings.
+	 */
+	TIMINGS_ENABLED("rd.timings", false),
+
+	/**
+	 * Path to the file per test timing report is written to, JSON if it ends with .json, CSV otherwise.
+	 */
+	TIMING_REPORT("rd.timingReport", "reddeer-timings.csv"),
+
+	/**
+	 * Enables caching of widget lookup results, see org.jboss.reddeer.core.lookup.WidgetLookupCache.
+	 */
+	LOOKUP_CACHE_ENABLED("rd.lookupCacheEnabled", false),
+
+	/**
+	 * Enables caching of resolved menu paths, see org.jboss.reddeer.core.lookup.MenuLookupCache.
+	 */
+	MENU_CACHE_ENABLED("rd.menuCacheEnabled", false),
+
+	/**
+	 * Selects menu items backed by a command by executing the command instead of
+	 * notifying the menu item, see org.jboss.reddeer.core.handler.MenuHandler.
+	 */
+	MENU_COMMAND_INVOCATION("rd.menuCommandInvocation", false),
+
+	/**
+	 * Path to the file RedDeer log is written to asynchronously instead of standard output,
+	 * see org.jboss.reddeer.common.logging.AsyncFileAppender.
+	 */
+	LOG_FILE("rd.logFile", (String) null);
 
 	private static final Logger log = Logger.getLogger(RedDeerProperties.class);
 
@@ -0,0 +1,99 @@
+/******************************************************************************* 
+ * Copyright (c) 2016 Red Hat, Inc. 
+ * Distributed under license by Red Hat, Inc. All rights reserved. 
+ * This program is made available under the terms of the 
+ * Eclipse Public License v1.0 which accompanies this distribution, 
+ * and is available at http://www.eclipse.org/legal/epl-v10.html 
+ * 
+ * Contributors: 
+ * Red Hat, Inc. - initial API and implementation 
+ ******************************************************************************/ 
+package org.jboss.reddeer.common.timing;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+
+import org.jboss.reddeer.common.logging.Logger;
+
+/**
+ * Emits measured operations as Java Flight Recorder events named org.jboss.reddeer.Timing.
+ * Events are defined through jdk.jfr.EventFactory by reflection because RedDeer is compiled
+ * for Java 8 and JFR API is loaded from system class loader only if the running JVM provides it.
+ * 
+ * @since 2.0
+ */
+class JfrTimingListener implements TimingListener {
+
+	private static final Logger log = Logger.getLogger(JfrTimingListener.class);
+
+	private static final String EVENT_NAME = "org.jboss.reddeer.Timing";
+
+	private final Object eventFactory;
+
+	private final Method newEvent;
+
+	private final Method set;
+
+	private final Method commit;
+
+	private JfrTimingListener(Object eventFactory, Method newEvent, Method set, Method commit) {
+		this.eventFactory = eventFactory;
+		this.newEvent = newEvent;
+		this.set = set;
+		this.commit = commit;
+	}
+
+	/**
+	 * Creates listener emitting JFR events.
+	 *
+	 * @return listener or null if JFR events are not supported by the running JVM
+	 */
+	static JfrTimingListener create() {
+		try {
+			ClassLoader classLoader = ClassLoader.getSystemClassLoader();
+			Class<?> annotationElement = classLoader.loadClass("jdk.jfr.AnnotationElement");
+			Class<?> valueDescriptor = classLoader.loadClass("jdk.jfr.ValueDescriptor");
+			Class<?> eventFactoryClass = classLoader.loadClass("jdk.jfr.EventFactory");
+			Class<?> eventClass = classLoader.loadClass("jdk.jfr.Event");
+			Class<?> name = classLoader.loadClass("jdk.jfr.Name");
+			Class<?> label = classLoader.loadClass("jdk.jfr.Label");
+			Class<?> category = classLoader.loadClass("jdk.jfr.Category");
+			Class<?> timespan = classLoader.loadClass("jdk.jfr.Timespan");
+
+			Constructor<?> annotation = annotationElement.getConstructor(Class.class, Object.class);
+			Constructor<?> field = valueDescriptor.getConstructor(Class.class, String.class, List.class);
+			List<Object> eventAnnotations = Arrays.asList(
+					annotation.newInstance(name, EVENT_NAME),
+					annotation.newInstance(label, "RedDeer Timing"),
+					annotation.newInstance(category, new String[] { "RedDeer" }));
+			List<Object> fields = Arrays.asList(
+					field.newInstance(String.class, "category",
+							Arrays.asList(annotation.newInstance(label, "Category"))),
+					field.newInstance(long.class, "elapsed",
+							Arrays.asList(annotation.newInstance(label, "Elapsed"),
+									annotation.newInstance(timespan, "NANOSECONDS"))));
+			Object eventFactory = eventFactoryClass.getMethod("create", List.class, List.class)
+					.invoke(null, eventAnnotations, fields);
+			log.debug("Java Flight Recorder events " + EVENT_NAME + " are enabled");
+			return new JfrTimingListener(eventFactory, eventFactoryClass.getMethod("newEvent"),
+					eventClass.getMethod("set", int.class, Object.class), eventClass.getMethod("commit"));
+		} catch (ReflectiveOperationException | RuntimeException e) {
+			log.debug("Java Flight Recorder events are not supported by the running JVM");
+			return null;
+		}
+	}
+
+	@Override
+	public void timingRecorded(TimingCategory category, long durationNanos) {
+		try {
+			Object event = newEvent.invoke(eventFactory);
+			set.invoke(event, 0, category.name());
+			set.invoke(event, 1, durationNanos);
+			commit.invoke(event);
+		} catch (ReflectiveOperationException e) {
+			log.trace("Java Flight Recorder event could not be emitted: " + e.getMessage());
+		}
+	}
+}
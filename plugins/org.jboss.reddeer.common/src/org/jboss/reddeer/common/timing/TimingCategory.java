@@ -0,0 +1,43 @@
+/******************************************************************************* 
+ * Copyright (c) 2016 Red Hat, Inc. 
+ * Distributed under license by Red Hat, Inc. All rights reserved. 
+ * This program is made available under the terms of the 
+ * Eclipse Public License v1.0 which accompanies this distribution, 
+ * and is available at http://www.eclipse.org/legal/epl-v10.html 
+ * 
+ * Contributors: 
+ * Red Hat, Inc. - initial API and implementation 
+ ******************************************************************************/ 
+package org.jboss.reddeer.common.timing;
+
+/**
+ * Categories of operations measured by {@link Timings}.
+ * 
+ * @since 2.0
+ */
+public enum TimingCategory {
+
+	/** Waiting for a wait condition, see org.jboss.reddeer.common.wait.AbstractWait. */
+	WAIT,
+
+	/** Explicit sleep, see org.jboss.reddeer.common.wait.AbstractWait#sleep. */
+	SLEEP,
+
+	/** Synchronous execution in UI thread called from non UI thread. */
+	SYNC_EXEC,
+
+	/** Lookup of active widget, see org.jboss.reddeer.core.lookup.WidgetLookup. */
+	WIDGET_LOOKUP,
+
+	/** Lookup of active shell, see org.jboss.reddeer.core.lookup.ShellLookup. */
+	SHELL_LOOKUP,
+
+	/** Execution of test method body. */
+	TEST_METHOD,
+
+	/** Execution of before methods. */
+	BEFORES,
+
+	/** Execution of after methods. */
+	AFTERS
+}
@@ -0,0 +1,27 @@
+/******************************************************************************* 
+ * Copyright (c) 2016 Red Hat, Inc. 
+ * Distributed under license by Red Hat, Inc. All rights reserved. 
+ * This program is made available under the terms of the 
+ * Eclipse Public License v1.0 which accompanies this distribution, 
+ * and is available at http://www.eclipse.org/legal/epl-v10.html 
+ * 
+ * Contributors: 
+ * Red Hat, Inc. - initial API and implementation 
+ ******************************************************************************/ 
+package org.jboss.reddeer.common.timing;
+
+/**
+ * Listener notified about each operation measured by {@link Timings}.
+ * 
+ * @since 2.0
+ */
+public interface TimingListener {
+
+	/**
+	 * Called when an operation is measured. It is called in the thread which performed the operation.
+	 *
+	 * @param category category of operation
+	 * @param durationNanos duration of operation in nanoseconds
+	 */
+	void timingRecorded(TimingCategory category, long durationNanos);
+}
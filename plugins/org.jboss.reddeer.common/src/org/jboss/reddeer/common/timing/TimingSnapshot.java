@@ -0,0 +1,77 @@
+/******************************************************************************* 
+ * Copyright (c) 2016 Red Hat, Inc. 
+ * Distributed under license by Red Hat, Inc. All rights reserved. 
+ * This program is made available under the terms of the 
+ * Eclipse Public License v1.0 which accompanies this distribution, 
+ * and is available at http://www.eclipse.org/legal/epl-v10.html 
+ * 
+ * Contributors: 
+ * Red Hat, Inc. - initial API and implementation 
+ ******************************************************************************/ 
+package org.jboss.reddeer.common.timing;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Immutable snapshot of counters of {@link Timings}. Difference of two snapshots
+ * gives counters of operations performed in between.
+ * 
+ * @since 2.0
+ */
+public class TimingSnapshot {
+
+	private final long[] counts;
+
+	private final long[] nanos;
+
+	TimingSnapshot(long[] counts, long[] nanos) {
+		this.counts = counts;
+		this.nanos = nanos;
+	}
+
+	/**
+	 * Gets number of operations of specified category.
+	 *
+	 * @param category category of operation
+	 * @return number of operations
+	 */
+	public long getCount(TimingCategory category) {
+		return counts[category.ordinal()];
+	}
+
+	/**
+	 * Gets total duration of operations of specified category.
+	 *
+	 * @param category category of operation
+	 * @return total duration in nanoseconds
+	 */
+	public long getNanos(TimingCategory category) {
+		return nanos[category.ordinal()];
+	}
+
+	/**
+	 * Gets total duration of operations of specified category.
+	 *
+	 * @param category category of operation
+	 * @return total duration in milliseconds
+	 */
+	public long getMillis(TimingCategory category) {
+		return TimeUnit.NANOSECONDS.toMillis(getNanos(category));
+	}
+
+	/**
+	 * Gets counters of operations performed since specified earlier snapshot.
+	 *
+	 * @param earlier earlier snapshot
+	 * @return difference of this and earlier snapshot
+	 */
+	public TimingSnapshot since(TimingSnapshot earlier) {
+		long[] countsSince = new long[counts.length];
+		long[] nanosSince = new long[nanos.length];
+		for (int i = 0; i < counts.length; i++) {
+			countsSince[i] = counts[i] - earlier.counts[i];
+			nanosSince[i] = nanos[i] - earlier.nanos[i];
+		}
+		return new TimingSnapshot(countsSince, nanosSince);
+	}
+}
@@ -0,0 +1,139 @@
+/******************************************************************************* 
+ * Copyright (c) 2016 Red Hat, Inc. 
+ * Distributed under license by Red Hat, Inc. All rights reserved. 
+ * This program is made available under the terms of the 
+ * Eclipse Public License v1.0 which accompanies this distribution, 
+ * and is available at http://www.eclipse.org/legal/epl-v10.html 
+ * 
+ * Contributors: 
+ * Red Hat, Inc. - initial API and implementation 
+ ******************************************************************************/ 
+package org.jboss.reddeer.common.timing;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jboss.reddeer.common.properties.RedDeerProperties;
+
+/**
+ * Low overhead counters of time spent in RedDeer operations, e.g. waiting, lookups and
+ * synchronous executions in UI thread. Measuring is enabled by {@link RedDeerProperties#TIMINGS_ENABLED},
+ * otherwise {@link #start()} and {@link #stop(TimingCategory, long)} do nothing.
+ * <br>
+ * Operations can be nested, e.g. a widget lookup waits for the widget and calls UI thread,
+ * so durations of categories overlap and are not meant to be summed up. Each measured operation
+ * is also emitted as a Java Flight Recorder event if the running JVM supports it.
+ * <br>
+ * Usage:
+ * <pre>
+ * long start = Timings.start();
+ * try {
+ *     ...
+ * } finally {
+ *     Timings.stop(TimingCategory.WAIT, start);
+ * }
+ * </pre>
+ * 
+ * @since 2.0
+ */
+public class Timings {
+
+	private static final boolean ENABLED = RedDeerProperties.TIMINGS_ENABLED.getBooleanValue();
+
+	private static final LongAdder[] counts = createAdders();
+
+	private static final LongAdder[] nanos = createAdders();
+
+	private static final List<TimingListener> listeners = new CopyOnWriteArrayList<TimingListener>();
+
+	static {
+		if (ENABLED) {
+			TimingListener jfrListener = JfrTimingListener.create();
+			if (jfrListener != null) {
+				listeners.add(jfrListener);
+			}
+		}
+	}
+
+	private Timings() {
+
+	}
+
+	/**
+	 * Finds out whether measuring is enabled.
+	 *
+	 * @return true if measuring is enabled, false otherwise
+	 */
+	public static boolean isEnabled() {
+		return ENABLED;
+	}
+
+	/**
+	 * Starts measuring of an operation.
+	 *
+	 * @return start time to be passed to {@link #stop(TimingCategory, long)}
+	 */
+	public static long start() {
+		return ENABLED ? System.nanoTime() : 0;
+	}
+
+	/**
+	 * Stops measuring of an operation.
+	 *
+	 * @param category category of operation
+	 * @param start start time returned by {@link #start()}
+	 */
+	public static void stop(TimingCategory category, long start) {
+		if (!ENABLED) {
+			return;
+		}
+		long duration = System.nanoTime() - start;
+		counts[category.ordinal()].increment();
+		nanos[category.ordinal()].add(duration);
+		for (TimingListener listener : listeners) {
+			listener.timingRecorded(category, duration);
+		}
+	}
+
+	/**
+	 * Gets snapshot of current counters.
+	 *
+	 * @return snapshot of counters
+	 */
+	public static TimingSnapshot snapshot() {
+		long[] currentCounts = new long[counts.length];
+		long[] currentNanos = new long[nanos.length];
+		for (int i = 0; i < counts.length; i++) {
+			currentCounts[i] = counts[i].sum();
+			currentNanos[i] = nanos[i].sum();
+		}
+		return new TimingSnapshot(currentCounts, currentNanos);
+	}
+
+	/**
+	 * Adds listener notified about each measured operation.
+	 *
+	 * @param listener listener to add
+	 */
+	public static void addListener(TimingListener listener) {
+		listeners.add(listener);
+	}
+
+	/**
+	 * Removes listener.
+	 *
+	 * @param listener listener to remove
+	 */
+	public static void removeListener(TimingListener listener) {
+		listeners.remove(listener);
+	}
+
+	private static LongAdder[] createAdders() {
+		LongAdder[] adders = new LongAdder[TimingCategory.values().length];
+		for (int i = 0; i < adders.length; i++) {
+			adders[i] = new LongAdder();
+		}
+		return adders;
+	}
+}
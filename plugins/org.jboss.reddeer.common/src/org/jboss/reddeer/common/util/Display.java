@@ -10,8 +10,13 @@
  ******************************************************************************/ 
 package org.jboss.reddeer.common.util;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.jboss.reddeer.common.exception.RedDeerException;
 import org.jboss.reddeer.common.logging.Logger;
+import org.jboss.reddeer.common.timing.TimingCategory;
+import org.jboss.reddeer.common.timing.Timings;
 
 
 /**
@@ -71,7 +76,12 @@ public class Display {
 		ErrorHandlingRunnable<T> errorHandlingRunnable = new ErrorHandlingRunnable<T>(runnable);
 
 		if (!isUIThread()) {
-			Display.getDisplay().syncExec(errorHandlingRunnable);
+			long start = Timings.start();
+			try {
+				Display.getDisplay().syncExec(errorHandlingRunnable);
+			} finally {
+				Timings.stop(TimingCategory.SYNC_EXEC, start);
+			}
 		} else {
 			if (runnable instanceof ErrorHandlingRunnable){
 				errorHandlingRunnable = (ErrorHandlingRunnable<T>) runnable;
@@ -87,6 +97,27 @@ public class Display {
 
 	}
 
+	/**
+	 * Run all runnables sync in UI thread in a single UI thread call.
+	 * See also {@link UIBatch} for batching operations with different result types.
+	 *
+	 * @param <T> the generic type
+	 * @param runnables runnables to run in the given order
+	 * @return results of runnables in the same order as runnables
+	 */
+	public static <T> List<T> batch(final List<? extends ResultRunnable<? extends T>> runnables) {
+		return syncExec(new ResultRunnable<List<T>>() {
+			@Override
+			public List<T> run() {
+				List<T> results = new ArrayList<T>(runnables.size());
+				for (ResultRunnable<? extends T> runnable : runnables) {
+					results.add(runnable.run());
+				}
+				return results;
+			}
+		});
+	}
+
 	/**
 	 * Run async in UI thread without returning any result.
 	 * 
@@ -10,18 +10,41 @@
  ******************************************************************************/ 
 package org.jboss.reddeer.common.util;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.swt.widgets.Widget;
 import org.jboss.reddeer.common.exception.RedDeerException;
 
 /**
  * Object util contains helper methods for method invocation using reflection, etc.
+ * Resolved methods are cached per class, method name and argument types, including
+ * methods which do not exist on a class.
  * 
  * @author Jiri Peterka
  */
 public class ObjectUtil {
 
+	private static final AtomicLong cacheHits = new AtomicLong();
+
+	private static final AtomicLong cacheMisses = new AtomicLong();
+
+	private static final ClassValue<Map<MethodSignature, CachedMethod>> methodCache = 
+			new ClassValue<Map<MethodSignature, CachedMethod>>() {
+		@Override
+		protected Map<MethodSignature, CachedMethod> computeValue(Class<?> type) {
+			return new ConcurrentHashMap<MethodSignature, CachedMethod>();
+		}
+	};
+
 	/**
 	 * Invokes method using reflection. Widget based methods are executed in UI thread.
 	 * 
@@ -44,7 +67,7 @@ public class ObjectUtil {
 	 */
 	public static Object invokeMethod(final Object object, String methodName, final Class<?>[] argTypes, final Object[] args) {
 
-		final Method method = getMethod(object, methodName, argTypes);
+		final CachedMethod method = getMethod(object, methodName, argTypes);
 		
 		final Object result;
 		if (object instanceof Widget) {
@@ -56,17 +79,67 @@ public class ObjectUtil {
 		return result;
 	}
 
-	private static Method getMethod(final Object object, String methodName, final Class<?>[] argTypes) {
+	/**
+	 * Gets number of method lookups served from the method cache.
+	 * 
+	 * @return number of cache hits
+	 */
+	public static long getCacheHits() {
+		return cacheHits.get();
+	}
+
+	/**
+	 * Gets number of method lookups which had to be resolved by reflection.
+	 * 
+	 * @return number of cache misses
+	 */
+	public static long getCacheMisses() {
+		return cacheMisses.get();
+	}
+
+	private static CachedMethod getMethod(final Object object, String methodName, final Class<?>[] argTypes) {
+		Map<MethodSignature, CachedMethod> classCache = methodCache.get(object.getClass());
+		MethodSignature signature = new MethodSignature(methodName, argTypes);
+		CachedMethod method = classCache.get(signature);
+		if (method == null) {
+			cacheMisses.incrementAndGet();
+			method = resolveMethod(object.getClass(), methodName, argTypes);
+			// caller can reuse its array of argument types, key must not change
+			classCache.put(signature.copy(), method);
+		} else {
+			cacheHits.incrementAndGet();
+		}
+		if (method.exception != null) {
+			throw new RedDeerException("Exception when retrieving method " + methodName + " by reflection", method.exception);
+		}
+		return method;
+	}
+
+	private static CachedMethod resolveMethod(Class<?> clazz, String methodName, Class<?>[] argTypes) {
 		final Method method;
 		try {
-			method = object.getClass().getMethod(methodName, argTypes);
+			method = clazz.getMethod(methodName, argTypes);
 		} catch (Exception e) {
-			throw new RedDeerException("Exception when retrieving method " + methodName + " by reflection", e);
+			return new CachedMethod(null, null, e);
 		}
-		return method;
+		Class<?>[] parameterTypes = method.getParameterTypes();
+		MethodHandle handle;
+		try {
+			handle = MethodHandles.publicLookup().unreflect(method);
+			if (Modifier.isStatic(method.getModifiers())) {
+				handle = MethodHandles.dropArguments(handle, 0, clazz);
+			}
+			handle = handle.asType(MethodType.methodType(Object.class, clazz).appendParameterTypes(parameterTypes))
+					.asSpreader(Object[].class, parameterTypes.length)
+					.asType(MethodType.methodType(Object.class, Object.class, Object[].class));
+		} catch (IllegalAccessException | RuntimeException e) {
+			// e.g. public method declared by non public class, let reflection handle the invocation
+			handle = null;
+		}
+		return new CachedMethod(method, handle, null);
 	}
 	
-	private static Object invokeMethodUI(final Method method, final Object object, final Object[] args) {
+	private static Object invokeMethodUI(final CachedMethod method, final Object object, final Object[] args) {
 		return Display.syncExec(new ResultRunnable<Object>() {
 			@Override
 			public Object run() {
@@ -75,11 +148,80 @@ public class ObjectUtil {
 		});
 	}
 
-	private static Object invokeMethod(Method method, Object object, Object[] args) {
+	private static Object invokeMethod(CachedMethod method, Object object, Object[] args) {
 		try {
-			return method.invoke(object, args);
+			if (method.handle != null) {
+				return invokeHandle(method.handle, object, args);
+			}
+			return method.method.invoke(object, args);
 		} catch (Exception e) {
-			throw new RedDeerException("Exception when invoking method " + method + " by reflection", e);
+			throw new RedDeerException("Exception when invoking method " + method.method + " by reflection", e);
+		}
+	}
+
+	/**
+	 * Invokes method handle. Exceptions thrown by the method are wrapped the same way 
+	 * as by {@link Method#invoke(Object, Object...)}, errors are not wrapped.
+	 */
+	private static Object invokeHandle(MethodHandle handle, Object object, Object[] args)
+			throws InvocationTargetException {
+		try {
+			return handle.invokeExact(object, args);
+		} catch (Error e) {
+			throw e;
+		} catch (Throwable e) {
+			throw new InvocationTargetException(e);
+		}
+	}
+
+	/**
+	 * Method resolved for a class. Either method or exception thrown during its resolution is set.
+	 */
+	private static class CachedMethod {
+
+		private final Method method;
+
+		private final MethodHandle handle;
+
+		private final Exception exception;
+
+		private CachedMethod(Method method, MethodHandle handle, Exception exception) {
+			this.method = method;
+			this.handle = handle;
+			this.exception = exception;
+		}
+	}
+
+	/**
+	 * Cache key consisting of method name and argument types.
+	 */
+	private static class MethodSignature {
+
+		private final String name;
+
+		private final Class<?>[] argTypes;
+
+		private MethodSignature(String name, Class<?>[] argTypes) {
+			this.name = name;
+			this.argTypes = argTypes == null ? new Class<?>[0] : argTypes;
+		}
+
+		private MethodSignature copy() {
+			return new MethodSignature(name, argTypes.clone());
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * name.hashCode() + Arrays.hashCode(argTypes);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof MethodSignature)) {
+				return false;
+			}
+			MethodSignature other = (MethodSignature) obj;
+			return name.equals(other.name) && Arrays.equals(argTypes, other.argTypes);
 		}
 	}
 }
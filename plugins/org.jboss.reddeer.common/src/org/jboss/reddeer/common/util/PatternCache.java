@@ -0,0 +1,85 @@
+/******************************************************************************* 
+ * Copyright (c) 2016 Red Hat, Inc. 
+ * Distributed under license by Red Hat, Inc. All rights reserved. 
+ * This program is made available under the terms of the 
+ * Eclipse Public License v1.0 which accompanies this distribution, 
+ * and is available at http://www.eclipse.org/legal/epl-v10.html 
+ * 
+ * Contributors: 
+ * Red Hat, Inc. - initial API and implementation 
+ ******************************************************************************/ 
+package org.jboss.reddeer.common.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Bounded least recently used cache of compiled regular expressions. It is intended
+ * for regular expressions built at runtime which would be otherwise recompiled on
+ * every match, e.g. by {@link String#matches(String)}.
+ * 
+ * @since 2.0
+ */
+public class PatternCache {
+
+	/**
+	 * Maximal number of compiled patterns held by the cache.
+	 */
+	public static final int MAX_SIZE = 256;
+
+	private static final Map<String, Pattern> patterns = new LinkedHashMap<String, Pattern>(64, 0.75f, true) {
+
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, Pattern> eldest) {
+			return size() > MAX_SIZE;
+		}
+	};
+
+	private PatternCache() {
+	}
+
+	/**
+	 * Gets compiled pattern of specified regular expression. Pattern is compiled only
+	 * if it is not cached yet.
+	 * 
+	 * @param regex regular expression
+	 * @return compiled pattern
+	 * @throws java.util.regex.PatternSyntaxException if regular expression is invalid
+	 */
+	public static Pattern getPattern(String regex) {
+		synchronized (patterns) {
+			Pattern pattern = patterns.get(regex);
+			if (pattern == null) {
+				pattern = Pattern.compile(regex);
+				patterns.put(regex, pattern);
+			}
+			return pattern;
+		}
+	}
+
+	/**
+	 * Finds out whether whole specified text matches specified regular expression.
+	 * It is equivalent of {@link String#matches(String)} using cached pattern.
+	 * 
+	 * @param text text to match
+	 * @param regex regular expression
+	 * @return true if text matches regular expression, false otherwise
+	 */
+	public static boolean matches(String text, String regex) {
+		return getPattern(regex).matcher(text).matches();
+	}
+
+	/**
+	 * Gets number of cached patterns.
+	 * 
+	 * @return number of cached patterns
+	 */
+	public static int size() {
+		synchronized (patterns) {
+			return patterns.size();
+		}
+	}
+}
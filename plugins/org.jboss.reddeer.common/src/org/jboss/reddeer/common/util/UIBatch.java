@@ -0,0 +1,139 @@
+/******************************************************************************* 
+ * Copyright (c) 2016 Red Hat, Inc. 
+ * Distributed under license by Red Hat, Inc. All rights reserved. 
+ * This program is made available under the terms of the 
+ * Eclipse Public License v1.0 which accompanies this distribution, 
+ * and is available at http://www.eclipse.org/legal/epl-v10.html 
+ * 
+ * Contributors: 
+ * Red Hat, Inc. - initial API and implementation 
+ ******************************************************************************/ 
+package org.jboss.reddeer.common.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * UI batch collects several UI thread operations and executes all of them in a single
+ * {@link Display#syncExec(ResultRunnable)} call. Use it when many properties of many 
+ * widgets are read at once to avoid a UI thread round trip per property.
+ * 
+ * <pre>
+ * UIBatch batch = new UIBatch();
+ * UIBatch.Result&lt;String&gt; text = batch.add(...);
+ * UIBatch.Result&lt;Boolean&gt; enabled = batch.add(...);
+ * batch.execute();
+ * text.get();
+ * </pre>
+ * 
+ * If any of the operations fails, the remaining operations are not executed and
+ * {@link org.jboss.reddeer.common.exception.RedDeerException} is thrown from {@link #execute()}.
+ * 
+ * @since 2.0
+ */
+public class UIBatch {
+
+	private final List<Result<?>> results = new ArrayList<Result<?>>();
+
+	private boolean executed;
+
+	/**
+	 * Adds operation with a result to the batch.
+	 * 
+	 * @param <T> the generic type
+	 * @param runnable operation to execute in UI thread
+	 * @return handle of the result available after the batch is executed
+	 */
+	public <T> Result<T> add(ResultRunnable<T> runnable) {
+		if (executed) {
+			throw new IllegalStateException("UI batch has been already executed");
+		}
+		Result<T> result = new Result<T>(runnable);
+		results.add(result);
+		return result;
+	}
+
+	/**
+	 * Adds operation without a result to the batch.
+	 * 
+	 * @param runnable operation to execute in UI thread
+	 * @return this batch
+	 */
+	public UIBatch add(final Runnable runnable) {
+		add(new ResultRunnable<Void>() {
+			@Override
+			public Void run() {
+				runnable.run();
+				return null;
+			}
+		});
+		return this;
+	}
+
+	/**
+	 * Gets number of operations in the batch.
+	 * 
+	 * @return number of operations
+	 */
+	public int size() {
+		return results.size();
+	}
+
+	/**
+	 * Executes all operations in the batch in a single UI thread call 
+	 * in the order they were added. Batch can be executed only once.
+	 */
+	public void execute() {
+		if (executed) {
+			throw new IllegalStateException("UI batch has been already executed");
+		}
+		executed = true;
+		if (results.isEmpty()) {
+			return;
+		}
+		Display.syncExec(new Runnable() {
+			@Override
+			public void run() {
+				for (Result<?> result : results) {
+					result.compute();
+				}
+			}
+		});
+	}
+
+	/**
+	 * Result of an operation of {@link UIBatch}.
+	 *
+	 * @param <T> type of the result
+	 */
+	public static class Result<T> {
+
+		private final ResultRunnable<T> runnable;
+
+		private T value;
+
+		private boolean computed;
+
+		private Result(ResultRunnable<T> runnable) {
+			this.runnable = runnable;
+		}
+
+		private void compute() {
+			value = runnable.run();
+			computed = true;
+		}
+
+		/**
+		 * Gets result of the operation.
+		 * 
+		 * @return result of the operation
+		 * @throws IllegalStateException if the batch was not executed yet
+		 */
+		public T get() {
+			if (!computed) {
+				throw new IllegalStateException("UI batch has not been executed yet");
+			}
+			return value;
+		}
+	}
+}
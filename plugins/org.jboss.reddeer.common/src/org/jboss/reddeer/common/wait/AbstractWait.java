@@ -10,9 +10,12 @@
  ******************************************************************************/
 package org.jboss.reddeer.common.wait;
 
+import org.jboss.reddeer.common.condition.ObservableWaitCondition;
 import org.jboss.reddeer.common.condition.WaitCondition;
 import org.jboss.reddeer.common.exception.WaitTimeoutExpiredException;
 import org.jboss.reddeer.common.logging.Logger;
+import org.jboss.reddeer.common.timing.TimingCategory;
+import org.jboss.reddeer.common.timing.Timings;
 import org.jboss.reddeer.common.util.Display;
 
 /**
@@ -31,6 +34,12 @@ public abstract class AbstractWait implements Wait {
 	 */
 	private static final Logger log = Logger.getLogger(AbstractWait.class);
 
+	/**
+	 * Initial time in milliseconds between two tests of a wait condition. The time
+	 * is doubled after each unsuccessful test until it reaches the test period.
+	 */
+	public static final long MIN_TEST_PERIOD = 10;
+
 	private TimePeriod timeout;
 
 	private boolean throwTimeoutException = true;
@@ -116,25 +125,54 @@ public abstract class AbstractWait implements Wait {
 
 	@Override
 	public void wait(WaitCondition condition, TimePeriod testPeriod) {
+		long start = Timings.start();
+		try {
+			waitForCondition(condition, testPeriod);
+		} finally {
+			Timings.stop(TimingCategory.WAIT, start);
+		}
+	}
+
+	private void waitForCondition(WaitCondition condition, TimePeriod testPeriod) {
 		log.debug(this.description() + condition.description() + "...");
 
 		long limit;
-		if ((Long.MAX_VALUE - System.currentTimeMillis()) / 1000 > getTimeout().getSeconds()) {
-			limit = System.currentTimeMillis() + getTimeout().getSeconds() * 1000;
+		if ((Long.MAX_VALUE - System.currentTimeMillis()) > getTimeout().getMilliseconds()) {
+			limit = System.currentTimeMillis() + getTimeout().getMilliseconds();
 		} else {
 			limit = Long.MAX_VALUE;
 		}
 
-		while (true) {
-			if (stopWaiting(condition)) {
-				break;
-			}
+		WaitNotifier notifier = null;
+		if (condition instanceof ObservableWaitCondition) {
+			notifier = new WaitNotifier();
+			((ObservableWaitCondition) condition).addWaitNotifier(notifier);
+		}
 
-			if (timeoutExceeded(condition, limit)) {
-				return;
-			}
+		try {
+			long maxTestPeriod = testPeriod.getMilliseconds();
+			long currentTestPeriod = Math.min(MIN_TEST_PERIOD, maxTestPeriod);
+			while (true) {
+				if (stopWaiting(condition)) {
+					break;
+				}
+
+				if (timeoutExceeded(condition, limit)) {
+					return;
+				}
 
-			sleep(testPeriod);
+				// do not oversleep the timeout, condition is tested once more after it expires
+				long sleepTime = Math.min(currentTestPeriod, Math.max(limit - System.currentTimeMillis() + 1, 0));
+				if (sleep(notifier, sleepTime)) {
+					currentTestPeriod = Math.min(MIN_TEST_PERIOD, maxTestPeriod);
+				} else {
+					currentTestPeriod = Math.min(currentTestPeriod * 2, maxTestPeriod);
+				}
+			}
+		} finally {
+			if (notifier != null) {
+				((ObservableWaitCondition) condition).removeWaitNotifier(notifier);
+			}
 		}
 
 		log.debug(this.description() + condition.description() + " finished successfully");
@@ -166,16 +204,47 @@ public abstract class AbstractWait implements Wait {
 	 *            time period to sleep
 	 */
 	public static void sleep(TimePeriod timePeriod) {
-		log.debug("Wait "+timePeriod.getSeconds() +" seconds");
-		if (Thread.currentThread().equals(Display.getDisplay().getThread())) {
-			throw new RuntimeException("Tried to execute sleep in UI thread!");
+		if (timePeriod.getMilliseconds() % 1000 == 0) {
+			log.debug("Wait " + timePeriod.getSeconds() + " seconds");
+		} else {
+			log.debug("Wait " + timePeriod.getMilliseconds() + " milliseconds");
+		}
+		checkNotUIThread();
+		long start = Timings.start();
+		try {
+			Thread.sleep(timePeriod.getMilliseconds());
+		} catch (InterruptedException e) {
+			throw new RuntimeException("Sleep interrupted", e);
+		} finally {
+			Timings.stop(TimingCategory.SLEEP, start);
 		}
+	}
+
+	/**
+	 * Sleeps for specified number of milliseconds or until notifier is woken up.
+	 * 
+	 * @param notifier notifier to wait on, can be null
+	 * @param milliseconds time to sleep
+	 * @return true if the sleep was interrupted by notifier, false otherwise
+	 */
+	private static boolean sleep(WaitNotifier notifier, long milliseconds) {
+		checkNotUIThread();
 		try {
-			Thread.sleep(timePeriod.getSeconds() * 1000);
+			if (notifier != null) {
+				return notifier.await(milliseconds);
+			}
+			Thread.sleep(milliseconds);
+			return false;
 		} catch (InterruptedException e) {
 			throw new RuntimeException("Sleep interrupted", e);
 		}
 	}
+
+	private static void checkNotUIThread() {
+		if (Thread.currentThread().equals(Display.getDisplay().getThread())) {
+			throw new RuntimeException("Tried to execute sleep in UI thread!");
+		}
+	}
 	
 	private boolean timeoutExceeded(WaitCondition condition, long limit) {
 		if (System.currentTimeMillis() > limit) {
@@ -67,11 +67,11 @@ public class GroupWait {
 	}
 	
 	private TimePeriod getRemainingTimeoutPeriod(TimePeriod oldTimeout, long startTimeOfWait) {
-		long diffTime = Math.round((System.currentTimeMillis() - startTimeOfWait) / 1000);
-		long remainingTimeout = oldTimeout.getSeconds() - diffTime;
+		long diffTime = System.currentTimeMillis() - startTimeOfWait;
+		long remainingTimeout = oldTimeout.getMilliseconds() - diffTime;
 		if (remainingTimeout <= 0) {
 			return TimePeriod.NONE;
 		}
-		return TimePeriod.getCustom(remainingTimeout);
+		return TimePeriod.getCustomMillis(remainingTimeout);
 	}
 }
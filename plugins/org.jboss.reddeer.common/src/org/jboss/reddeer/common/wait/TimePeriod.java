@@ -44,8 +44,15 @@ public class TimePeriod {
 
 	private long seconds;
 
+	private long milliseconds;
+
 	private TimePeriod(long seconds) {
+		this(seconds, seconds > Long.MAX_VALUE / 1000 ? Long.MAX_VALUE : seconds * 1000);
+	}
+
+	private TimePeriod(long seconds, long milliseconds) {
 		this.seconds = seconds;
+		this.milliseconds = milliseconds;
 	}
 
 	/**
@@ -54,19 +61,32 @@ public class TimePeriod {
 	 * @return duration of time period in seconds
 	 */
 	public long getSeconds() {
-		if (seconds == Long.MAX_VALUE || seconds == 0) {
-			return seconds;
+		return applyFactor(seconds);
+	}
+
+	/**
+	 * Gets duration of a time period in milliseconds.
+	 * 
+	 * @return duration of time period in milliseconds
+	 */
+	public long getMilliseconds() {
+		return applyFactor(milliseconds);
+	}
+
+	private static long applyFactor(long value) {
+		if (value == Long.MAX_VALUE || value == 0) {
+			return value;
 		}
 
 		if (FACTOR == 1) {
-			return seconds;
+			return value;
 		}
 
 		// do not exceed max value of Long
-		if (seconds >= Long.MAX_VALUE / FACTOR) {
+		if (value >= Long.MAX_VALUE / FACTOR) {
 			return Long.MAX_VALUE;
 		} else {
-			return Math.round((double) seconds * FACTOR);
+			return Math.round((double) value * FACTOR);
 		}
 	}
 
@@ -83,11 +103,27 @@ public class TimePeriod {
 		return new TimePeriod(seconds);
 	}
 
+	/**
+	 * Gets custom duration of a time period specified by milliseconds.
+	 * 
+	 * @param milliseconds how many milliseconds should time period last
+	 * @return time period with custom time frame in milliseconds
+	 */
+	public static TimePeriod getCustomMillis(long milliseconds) {
+		if (milliseconds < 0) {
+			throw new IllegalArgumentException("Time in milliseconds has to be positive number");
+		}
+		return new TimePeriod(milliseconds / 1000, milliseconds);
+	}
+
 	/* (non-Javadoc)
 	 * @see java.lang.Object#toString()
 	 */
 	@Override
 	public String toString() {
+		if (milliseconds % 1000 != 0) {
+			return "Time period " + milliseconds + " ms (factor " + FACTOR + " was used).";
+		}
 		return "Time period " + seconds + " s (factor " + FACTOR + " was used).";
 	}
 	
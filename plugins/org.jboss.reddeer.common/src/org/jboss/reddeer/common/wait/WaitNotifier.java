@@ -0,0 +1,52 @@
+/******************************************************************************* 
+ * Copyright (c) 2016 Red Hat, Inc. 
+ * Distributed under license by Red Hat, Inc. All rights reserved. 
+ * This program is made available under the terms of the 
+ * Eclipse Public License v1.0 which accompanies this distribution, 
+ * and is available at http://www.eclipse.org/legal/epl-v10.html 
+ * 
+ * Contributors: 
+ * Red Hat, Inc. - initial API and implementation 
+ ******************************************************************************/ 
+package org.jboss.reddeer.common.wait;
+
+/**
+ * Wait notifier allows to wake up a waiting thread before its test period elapses.
+ * Notifier is passed to {@link org.jboss.reddeer.common.condition.ObservableWaitCondition}
+ * which calls {@link #wakeUp()} whenever an event which could change result of
+ * the condition occurs. Waiting thread then tests the condition immediately.
+ * 
+ * @since 2.0
+ */
+public class WaitNotifier {
+
+	private boolean notified;
+
+	/**
+	 * Wakes up the waiting thread. Can be called from any thread, including UI thread.
+	 */
+	public synchronized void wakeUp() {
+		notified = true;
+		notifyAll();
+	}
+
+	/**
+	 * Blocks current thread until {@link #wakeUp()} is called or specified time elapses.
+	 * Wake up which occurred before this method was called is not lost.
+	 * 
+	 * @param milliseconds maximal time to block in milliseconds
+	 * @return true if the thread was woken up, false if time elapsed
+	 * @throws InterruptedException if the thread is interrupted while waiting
+	 */
+	public synchronized boolean await(long milliseconds) throws InterruptedException {
+		long deadline = System.nanoTime() + milliseconds * 1000000L;
+		long remaining = milliseconds;
+		while (!notified && remaining > 0) {
+			wait(remaining);
+			remaining = (deadline - System.nanoTime()) / 1000000L;
+		}
+		boolean wasNotified = notified;
+		notified = false;
+		return wasNotified;
+	}
+}
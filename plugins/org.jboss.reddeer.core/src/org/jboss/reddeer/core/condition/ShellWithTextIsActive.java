@@ -10,9 +10,10 @@
  ******************************************************************************/ 
 package org.jboss.reddeer.core.condition;
 
+import org.eclipse.swt.SWT;
 import org.eclipse.swt.widgets.Shell;
 import org.hamcrest.core.IsEqual;
-import org.jboss.reddeer.common.condition.AbstractWaitCondition;
+import org.jboss.reddeer.common.condition.AbstractDisplayEventWaitCondition;
 import org.jboss.reddeer.common.exception.RedDeerException;
 import org.jboss.reddeer.common.logging.Logger;
 import org.jboss.reddeer.core.handler.WidgetHandler;
@@ -26,7 +27,7 @@ import org.jboss.reddeer.core.lookup.ShellLookup;
  * @author jniederm
  */
 
-public class ShellWithTextIsActive extends AbstractWaitCondition {
+public class ShellWithTextIsActive extends AbstractDisplayEventWaitCondition {
 
 	private static final Logger log = Logger.getLogger(ShellWithTextIsActive.class);
 	private org.hamcrest.Matcher<String> matcher;
@@ -38,6 +39,7 @@ public class ShellWithTextIsActive extends AbstractWaitCondition {
 	 * @param text title of the shell
 	 */
 	public ShellWithTextIsActive(String text) {
+		super(SWT.Activate, SWT.Deactivate, SWT.Dispose);
 		InstanceValidator.checkNotNull(text, "text");
 		this.matcher = new IsEqual<String>(text);
 	}
@@ -49,6 +51,7 @@ public class ShellWithTextIsActive extends AbstractWaitCondition {
 	 * @param matcher matcher matching title of the shell
 	 */
 	public ShellWithTextIsActive(org.hamcrest.Matcher<String> matcher) {
+		super(SWT.Activate, SWT.Deactivate, SWT.Dispose);
 		InstanceValidator.checkNotNull(matcher, "matcher");
 		this.matcher = matcher;
 	}
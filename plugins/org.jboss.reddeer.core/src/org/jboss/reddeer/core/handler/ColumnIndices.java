@@ -0,0 +1,54 @@
+/******************************************************************************* 
+ * Copyright (c) 2016 Red Hat, Inc. 
+ * Distributed under license by Red Hat, Inc. All rights reserved. 
+ * This program is made available under the terms of the 
+ * Eclipse Public License v1.0 which accompanies this distribution, 
+ * and is available at http://www.eclipse.org/legal/epl-v10.html 
+ * 
+ * Contributors: 
+ * Red Hat, Inc. - initial API and implementation 
+ ******************************************************************************/ 
+package org.jboss.reddeer.core.handler;
+
+/**
+ * Column indices of cells read in bulk from table or tree items. If no column 
+ * is requested, all columns of item's parent are read. Parent without columns
+ * has one column.
+ * 
+ * @since 2.0
+ */
+final class ColumnIndices {
+
+	private final int[] columns;
+
+	private int[] allColumns = new int[0];
+
+	/**
+	 * Creates column indices.
+	 * 
+	 * @param columns requested column indices, all columns are read if no index is specified
+	 */
+	ColumnIndices(int[] columns) {
+		this.columns = columns;
+	}
+
+	/**
+	 * Gets indices of columns to read from an item whose parent has specified number of columns.
+	 * 
+	 * @param columnCount number of columns of the parent table or tree
+	 * @return column indices to read
+	 */
+	int[] get(int columnCount) {
+		if (columns.length > 0) {
+			return columns;
+		}
+		int count = Math.max(columnCount, 1);
+		if (allColumns.length != count) {
+			allColumns = new int[count];
+			for (int i = 0; i < count; i++) {
+				allColumns[i] = i;
+			}
+		}
+		return allColumns;
+	}
+}
@@ -0,0 +1,88 @@
+/******************************************************************************* 
+ * Copyright (c) 2016 Red Hat, Inc. 
+ * Distributed under license by Red Hat, Inc. All rights reserved. 
+ * This program is made available under the terms of the 
+ * Eclipse Public License v1.0 which accompanies this distribution, 
+ * and is available at http://www.eclipse.org/legal/epl-v10.html 
+ * 
+ * Contributors: 
+ * Red Hat, Inc. - initial API and implementation 
+ ******************************************************************************/ 
+package org.jboss.reddeer.core.handler;
+
+/**
+ * Immutable state of a table or tree item read in bulk by
+ * {@link TableHandler#getStates(java.util.List)} or {@link TreeItemHandler#getStates(java.util.List)}.
+ * 
+ * @since 2.0
+ */
+public class ItemState {
+
+	private final boolean checked;
+
+	private final boolean selected;
+
+	private final boolean grayed;
+
+	private final boolean expanded;
+
+	/**
+	 * Creates a new item state.
+	 * 
+	 * @param checked whether item is checked
+	 * @param selected whether item is selected
+	 * @param grayed whether item is grayed
+	 * @param expanded whether item is expanded, always false for table items
+	 */
+	public ItemState(boolean checked, boolean selected, boolean grayed, boolean expanded) {
+		this.checked = checked;
+		this.selected = selected;
+		this.grayed = grayed;
+		this.expanded = expanded;
+	}
+
+	/**
+	 * Finds out whether item is checked.
+	 * 
+	 * @return true if item is checked, false otherwise
+	 */
+	public boolean isChecked() {
+		return checked;
+	}
+
+	/**
+	 * Finds out whether item is selected.
+	 * 
+	 * @return true if item is selected, false otherwise
+	 */
+	public boolean isSelected() {
+		return selected;
+	}
+
+	/**
+	 * Finds out whether item is grayed.
+	 * 
+	 * @return true if item is grayed, false otherwise
+	 */
+	public boolean isGrayed() {
+		return grayed;
+	}
+
+	/**
+	 * Finds out whether item is expanded.
+	 * 
+	 * @return true if item is expanded, false otherwise
+	 */
+	public boolean isExpanded() {
+		return expanded;
+	}
+
+	/* (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "ItemState [checked=" + checked + ", selected=" + selected + ", grayed=" + grayed
+				+ ", expanded=" + expanded + "]";
+	}
+}
@@ -19,9 +19,11 @@ import org.eclipse.swt.widgets.Event;
 import org.eclipse.swt.widgets.Menu;
 import org.eclipse.swt.widgets.MenuItem;
 import org.jboss.reddeer.common.logging.Logger;
+import org.jboss.reddeer.common.properties.RedDeerProperties;
 import org.jboss.reddeer.common.util.Display;
 import org.jboss.reddeer.common.util.ResultRunnable;
 import org.jboss.reddeer.core.exception.CoreLayerException;
+import org.jboss.reddeer.workbench.core.lookup.MenuContributionLookup;
 
 /**
  * Contains methods for handling UI operations on {@link MenuItem} widgets.
@@ -67,7 +69,13 @@ public class MenuHandler {
 	}
 
 	/**
-	 * Selects (click) for MenuItem.
+	 * Selects (click) for MenuItem. If {@link RedDeerProperties#MENU_COMMAND_INVOCATION} is enabled
+	 * and the menu item is backed by a workbench command, the command is executed directly.
+	 * <br>
+	 * Command is executed asynchronously in UI thread, so a dialog opened by the command does not
+	 * block the caller. This method returns once the command finished or opened a modal dialog, but
+	 * an exception thrown by the command is only logged and it is not thrown by this method. Callers
+	 * should check the effect of the command, e.g. wait for a shell opened by it.
 	 * @param item given item which is going to be selected (clicked)
 	 */
 	public void select(final MenuItem item) {
@@ -82,6 +90,14 @@ public class MenuHandler {
 
 		if (!enabled) {
 			throw new CoreLayerException("Menu item is not enabled");
+		} else if (RedDeerProperties.MENU_COMMAND_INVOCATION.getBooleanValue() && !isToggle(item)
+				&& executeCommand(item)) {
+			Display.syncExec(new Runnable() {
+				@Override
+				public void run() {
+
+				}
+			});
 		} else {
 			Display.syncExec(new Runnable() {
 
@@ -118,6 +134,24 @@ public class MenuHandler {
 		}
 	}
 	
+	private boolean isToggle(final MenuItem item) {
+		return Display.syncExec(new ResultRunnable<Boolean>() {
+			@Override
+			public Boolean run() {
+				return (item.getStyle() & (SWT.RADIO | SWT.CHECK)) != 0;
+			}
+		});
+	}
+
+	private boolean executeCommand(MenuItem item) {
+		try {
+			return MenuContributionLookup.getInstance().executeCommand(item);
+		} catch (NoClassDefFoundError e) {
+			log.trace("Workbench not available");
+			return false;
+		}
+	}
+
 	/**
 	 * Check weather or not menuitem is enabled.
 	 * @param menuItem given MenuItem 
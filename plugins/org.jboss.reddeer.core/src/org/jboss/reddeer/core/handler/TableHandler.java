@@ -11,7 +11,13 @@
 package org.jboss.reddeer.core.handler;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.graphics.Image;
@@ -34,6 +40,11 @@ import org.jboss.reddeer.core.handler.WidgetHandler;
  */
 public class TableHandler {
 
+	/**
+	 * Number of rows of virtual table read in one UI thread call by {@link #getSnapshot(Table)}.
+	 */
+	public static final int VIRTUAL_PAGE_SIZE = 1000;
+
 	private static TableHandler instance;
 
 	private TableHandler() {
@@ -88,6 +99,124 @@ public class TableHandler {
 		});
 	}
 	
+	/**
+	 * Gets texts of specified columns of specified {@link TableItem}s in a single UI thread call.
+	 * 
+	 * @param items table items to handle
+	 * @param columns indices of columns to read, all columns are read if no index is specified
+	 * @return list containing texts of specified columns for each item in the same order as items
+	 */
+	public List<String[]> getTexts(final List<TableItem> items, final int... columns) {
+		return Display.syncExec(new ResultRunnable<List<String[]>>() {
+
+			@Override
+			public List<String[]> run() {
+				List<String[]> result = new ArrayList<String[]>(items.size());
+				ColumnIndices columnIndices = new ColumnIndices(columns);
+				for (TableItem item : items) {
+					int[] indices = columnIndices.get(item.getParent().getColumnCount());
+					String[] texts = new String[indices.length];
+					for (int i = 0; i < indices.length; i++) {
+						texts[i] = item.getText(indices[i]);
+					}
+					result.add(texts);
+				}
+				return result;
+			}
+		});
+	}
+
+	/**
+	 * Gets checked, selected and grayed states of specified {@link TableItem}s in a single UI thread call.
+	 * 
+	 * @param items table items to handle
+	 * @return list of states in the same order as items
+	 */
+	public List<ItemState> getStates(final List<TableItem> items) {
+		return Display.syncExec(new ResultRunnable<List<ItemState>>() {
+
+			@Override
+			public List<ItemState> run() {
+				List<ItemState> result = new ArrayList<ItemState>(items.size());
+				Map<Table, Set<TableItem>> selections = new HashMap<Table, Set<TableItem>>();
+				for (TableItem item : items) {
+					Set<TableItem> selection = selections.get(item.getParent());
+					if (selection == null) {
+						selection = new HashSet<TableItem>(Arrays.asList(item.getParent().getSelection()));
+						selections.put(item.getParent(), selection);
+					}
+					result.add(new ItemState(item.getChecked(), selection.contains(item), item.getGrayed(), false));
+				}
+				return result;
+			}
+		});
+	}
+
+	/**
+	 * Gets snapshot of content of specified {@link Table}. Texts of all cells and checked
+	 * and selected state of all rows are read in a single UI thread call. Rows of 
+	 * {@link SWT#VIRTUAL} tables are materialized in pages of {@link #VIRTUAL_PAGE_SIZE}
+	 * rows, each page in its own UI thread call.
+	 * 
+	 * @param table table to handle
+	 * @return snapshot of table content
+	 */
+	public TableSnapshot getSnapshot(final Table table) {
+		final int[] info = Display.syncExec(new ResultRunnable<int[]>() {
+
+			@Override
+			public int[] run() {
+				return new int[] { table.getItemCount(), Math.max(table.getColumnCount(), 1),
+						(table.getStyle() & SWT.VIRTUAL) != 0 ? 1 : 0 };
+			}
+		});
+		final int rows = info[0];
+		final int pageSize = info[2] == 1 ? VIRTUAL_PAGE_SIZE : Math.max(rows, 1);
+		final TableItem[] items = new TableItem[rows];
+		final String[][] columns = new String[info[1]][rows];
+		final BitSet checked = new BitSet(rows);
+		final BitSet selected = new BitSet(rows);
+		final int[] readRows = new int[] { 0 };
+
+		for (int start = 0; start < rows && readRows[0] == start; start += pageSize) {
+			final int from = start;
+			final int to = Math.min(rows, start + pageSize);
+			Display.syncExec(new Runnable() {
+
+				@Override
+				public void run() {
+					int last = Math.min(to, table.getItemCount());
+					if (from == 0) {
+						for (int index : table.getSelectionIndices()) {
+							selected.set(index);
+						}
+					}
+					for (int row = from; row < last; row++) {
+						TableItem item = table.getItem(row);
+						items[row] = item;
+						for (int column = 0; column < columns.length; column++) {
+							columns[column][row] = item.getText(column);
+						}
+						if (item.getChecked()) {
+							checked.set(row);
+						}
+					}
+					readRows[0] = last;
+				}
+			});
+		}
+
+		if (readRows[0] < rows) {
+			// table shrank while it was read
+			for (int column = 0; column < columns.length; column++) {
+				columns[column] = Arrays.copyOf(columns[column], readRows[0]);
+			}
+			return new TableSnapshot(Arrays.copyOf(items, readRows[0]), columns, 
+					checked.get(0, readRows[0]), selected.get(0, readRows[0]));
+		}
+		return new TableSnapshot(items, columns, checked, selected);
+	}
+
 	/**
 	 * Finds out whether specified {@link TableItem} is grayed or not.
 	 * 
@@ -132,23 +261,23 @@ public class TableHandler {
 	 */
 	public int indexOf(final Table table, final String item,
 			final int columnIndex) {
-		final TableItem[] tableItems = getSWTItems(table);
-
-		for (int i = 0; i < tableItems.length; i++) {
-			final int y = i;
-			String itemText = Display.syncExec(new ResultRunnable<String>() {
+		int index = Display.syncExec(new ResultRunnable<Integer>() {
 
-				@Override
-				public String run() {
-					return tableItems[y].getText(columnIndex);
+			@Override
+			public Integer run() {
+				TableItem[] tableItems = table.getItems();
+				for (int i = 0; i < tableItems.length; i++) {
+					if (tableItems[i].getText(columnIndex).equals(item)) {
+						return i;
+					}
 				}
-			});
-
-			if (itemText.equals(item)) {
-				return y;
+				return -1;
 			}
+		});
+		if (index < 0) {
+			throw new CoreLayerException("Item " + item + " does not exist in table");
 		}
-		throw new CoreLayerException("Item " + item + " does not exist in table");
+		return index;
 	}
 
 	/**
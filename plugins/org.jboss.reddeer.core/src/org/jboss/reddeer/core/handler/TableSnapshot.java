@@ -0,0 +1,130 @@
+/******************************************************************************* 
+ * Copyright (c) 2016 Red Hat, Inc. 
+ * Distributed under license by Red Hat, Inc. All rights reserved. 
+ * This program is made available under the terms of the 
+ * Eclipse Public License v1.0 which accompanies this distribution, 
+ * and is available at http://www.eclipse.org/legal/epl-v10.html 
+ * 
+ * Contributors: 
+ * Red Hat, Inc. - initial API and implementation 
+ ******************************************************************************/ 
+package org.jboss.reddeer.core.handler;
+
+import java.util.BitSet;
+
+import org.eclipse.swt.widgets.TableItem;
+
+/**
+ * Immutable column oriented snapshot of a {@link org.eclipse.swt.widgets.Table} content.
+ * Snapshot holds texts of all cells and checked and selected state of all rows read
+ * in bulk by {@link TableHandler#getSnapshot(org.eclipse.swt.widgets.Table)}.
+ * 
+ * @since 2.0
+ */
+public class TableSnapshot {
+
+	private final TableItem[] items;
+
+	private final String[][] columns;
+
+	private final BitSet checked;
+
+	private final BitSet selected;
+
+	/**
+	 * Creates a new table snapshot.
+	 * 
+	 * @param items table items, one per row
+	 * @param columns cell texts indexed by column and row
+	 * @param checked checked rows
+	 * @param selected selected rows
+	 */
+	TableSnapshot(TableItem[] items, String[][] columns, BitSet checked, BitSet selected) {
+		this.items = items;
+		this.columns = columns;
+		this.checked = checked;
+		this.selected = selected;
+	}
+
+	/**
+	 * Gets number of rows in the snapshot.
+	 * 
+	 * @return number of rows
+	 */
+	public int rowCount() {
+		return items.length;
+	}
+
+	/**
+	 * Gets number of columns in the snapshot. Table without columns has one column.
+	 * 
+	 * @return number of columns
+	 */
+	public int columnCount() {
+		return columns.length;
+	}
+
+	/**
+	 * Gets SWT table item of specified row.
+	 * 
+	 * @param row index of row
+	 * @return table item of specified row
+	 */
+	public TableItem getItem(int row) {
+		return items[row];
+	}
+
+	/**
+	 * Gets text of cell in specified row and column.
+	 * 
+	 * @param row index of row
+	 * @param column index of column
+	 * @return text of specified cell, empty string if column does not exist
+	 */
+	public String getText(int row, int column) {
+		if (column < 0 || column >= columns.length) {
+			return "";
+		}
+		return columns[column][row];
+	}
+
+	/**
+	 * Finds out whether specified row is checked.
+	 * 
+	 * @param row index of row
+	 * @return true if row is checked, false otherwise
+	 */
+	public boolean isChecked(int row) {
+		return checked.get(row);
+	}
+
+	/**
+	 * Finds out whether specified row is selected.
+	 * 
+	 * @param row index of row
+	 * @return true if row is selected, false otherwise
+	 */
+	public boolean isSelected(int row) {
+		return selected.get(row);
+	}
+
+	/**
+	 * Finds index of the first row which has specified text in specified column.
+	 * 
+	 * @param text text of cell
+	 * @param column index of column
+	 * @return index of the first matching row or -1 if there is no such row
+	 */
+	public int indexOf(String text, int column) {
+		if (column < 0 || column >= columns.length) {
+			return -1;
+		}
+		String[] cells = columns[column];
+		for (int row = 0; row < cells.length; row++) {
+			if (cells[row].equals(text)) {
+				return row;
+			}
+		}
+		return -1;
+	}
+}
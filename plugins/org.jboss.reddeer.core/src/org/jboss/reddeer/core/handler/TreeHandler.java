@@ -12,6 +12,7 @@ package org.jboss.reddeer.core.handler;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.List;
 
 import org.eclipse.swt.SWT;
@@ -65,6 +66,60 @@ public class TreeHandler {
 		});
 	}
 
+	/**
+	 * Gets snapshot of already materialized part of specified {@link org.eclipse.swt.widgets.Tree}
+	 * in a single UI thread call. Children of expanded tree items are captured recursively,
+	 * collapsed tree items with children are reported by {@link TreeSnapshot#getCollapsedBranches()}.
+	 *
+	 * @param swtTree tree to handle
+	 * @return snapshot of specified tree
+	 */
+	public TreeSnapshot getSnapshot(final org.eclipse.swt.widgets.Tree swtTree) {
+		return Display.syncExec(new ResultRunnable<TreeSnapshot>() {
+			@Override
+			public TreeSnapshot run() {
+				int columnCount = Math.max(swtTree.getColumnCount(), 1);
+				List<org.eclipse.swt.widgets.TreeItem> items = new ArrayList<org.eclipse.swt.widgets.TreeItem>();
+				List<Integer> parents = new ArrayList<Integer>();
+				List<String[]> texts = new ArrayList<String[]>();
+				BitSet expanded = new BitSet();
+				BitSet checked = new BitSet();
+				BitSet collapsedBranches = new BitSet();
+				capture(swtTree.getItems(), -1, columnCount, items, parents, texts, expanded, checked,
+						collapsedBranches);
+				int[] parentNodes = new int[parents.size()];
+				for (int i = 0; i < parentNodes.length; i++) {
+					parentNodes[i] = parents.get(i);
+				}
+				return new TreeSnapshot(items.toArray(new org.eclipse.swt.widgets.TreeItem[0]), parentNodes,
+						texts.toArray(new String[0][]), expanded, checked, collapsedBranches);
+			}
+		});
+	}
+
+	private void capture(org.eclipse.swt.widgets.TreeItem[] children, int parent, int columnCount,
+			List<org.eclipse.swt.widgets.TreeItem> items, List<Integer> parents, List<String[]> texts,
+			BitSet expanded, BitSet checked, BitSet collapsedBranches) {
+		for (org.eclipse.swt.widgets.TreeItem item : children) {
+			int node = items.size();
+			items.add(item);
+			parents.add(parent);
+			String[] cells = new String[columnCount];
+			for (int column = 0; column < columnCount; column++) {
+				cells[column] = item.getText(column);
+			}
+			texts.add(cells);
+			checked.set(node, item.getChecked());
+			if (item.getExpanded()) {
+				expanded.set(node);
+				capture(item.getItems(), node, columnCount, items, parents, texts, expanded, checked,
+						collapsedBranches);
+			} else if (item.getItemCount() > 0) {
+				collapsedBranches.set(node);
+			}
+		}
+	}
+
 	/**
 	 * Sets focus on specified {@link org.eclipse.swt.widgets.Tree}.
 	 * 
@@ -10,9 +10,14 @@
  ******************************************************************************/
 package org.jboss.reddeer.core.handler;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.graphics.Rectangle;
@@ -78,6 +83,64 @@ public class TreeItemHandler {
 		return text;
 	}
 
+	/**
+	 * Gets texts of specified columns of specified {@link TreeItem}s in a single UI thread call.
+	 * 
+	 * @param items
+	 *            tree items to handle
+	 * @param columns
+	 *            indices of columns to read, all columns are read if no
+	 *            index is specified
+	 * @return list containing texts of specified columns for each item in
+	 *         the same order as items
+	 */
+	public List<String[]> getTexts(final List<TreeItem> items, final int... columns) {
+		return Display.syncExec(new ResultRunnable<List<String[]>>() {
+			@Override
+			public List<String[]> run() {
+				List<String[]> result = new ArrayList<String[]>(items.size());
+				ColumnIndices columnIndices = new ColumnIndices(columns);
+				for (TreeItem item : items) {
+					int[] indices = columnIndices.get(item.getParent().getColumnCount());
+					String[] texts = new String[indices.length];
+					for (int i = 0; i < indices.length; i++) {
+						texts[i] = item.getText(indices[i]);
+					}
+					result.add(texts);
+				}
+				return result;
+			}
+		});
+	}
+
+	/**
+	 * Gets checked, selected, grayed and expanded states of specified
+	 * {@link TreeItem}s in a single UI thread call.
+	 * 
+	 * @param items
+	 *            tree items to handle
+	 * @return list of states in the same order as items
+	 */
+	public List<ItemState> getStates(final List<TreeItem> items) {
+		return Display.syncExec(new ResultRunnable<List<ItemState>>() {
+			@Override
+			public List<ItemState> run() {
+				List<ItemState> result = new ArrayList<ItemState>(items.size());
+				Map<Tree, Set<TreeItem>> selections = new HashMap<Tree, Set<TreeItem>>();
+				for (TreeItem item : items) {
+					Set<TreeItem> selection = selections.get(item.getParent());
+					if (selection == null) {
+						selection = new HashSet<TreeItem>(Arrays.asList(item.getParent().getSelection()));
+						selections.put(item.getParent(), selection);
+					}
+					result.add(new ItemState(item.getChecked(), selection.contains(item), item.getGrayed(),
+							item.getExpanded()));
+				}
+				return result;
+			}
+		});
+	}
+
 	/**
 	 * Gets tool tip of specified {@link TreeItem}.
 	 * 
@@ -0,0 +1,231 @@
+/******************************************************************************* 
+ * Copyright (c) 2016 Red Hat, Inc. 
+ * Distributed under license by Red Hat, Inc. All rights reserved. 
+ * This program is made available under the terms of the 
+ * Eclipse Public License v1.0 which accompanies this distribution, 
+ * and is available at http://www.eclipse.org/legal/epl-v10.html 
+ * 
+ * Contributors: 
+ * Red Hat, Inc. - initial API and implementation 
+ ******************************************************************************/ 
+package org.jboss.reddeer.core.handler;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.swt.widgets.TreeItem;
+
+/**
+ * Immutable snapshot of already materialized part of a {@link org.eclipse.swt.widgets.Tree}.
+ * Snapshot holds tree items in depth-first order together with texts of all their cells,
+ * their expanded and checked state and index of item paths. It is read in bulk by
+ * {@link TreeHandler#getSnapshot(org.eclipse.swt.widgets.Tree)}.
+ * <br>
+ * Children of collapsed tree items are not captured because lazy trees populate them only
+ * on expansion. Such items are reported as collapsed branches and can be expanded on demand.
+ *
+ * @since 2.0
+ */
+public class TreeSnapshot {
+
+	private static final char PATH_SEPARATOR = '\u0000';
+
+	private final TreeItem[] items;
+
+	private final int[] parents;
+
+	private final String[][] texts;
+
+	private final BitSet expanded;
+
+	private final BitSet checked;
+
+	private final BitSet collapsedBranches;
+
+	private final Map<String, List<Integer>> pathIndex = new HashMap<String, List<Integer>>();
+
+	/**
+	 * Creates a new tree snapshot.
+	 *
+	 * @param items tree items in depth-first order
+	 * @param parents index of parent node of each node, -1 for top level items
+	 * @param texts cell texts indexed by node and column
+	 * @param expanded expanded nodes
+	 * @param checked checked nodes
+	 * @param collapsedBranches collapsed nodes having children which were not captured
+	 */
+	TreeSnapshot(TreeItem[] items, int[] parents, String[][] texts, BitSet expanded, BitSet checked,
+			BitSet collapsedBranches) {
+		this.items = items;
+		this.parents = parents;
+		this.texts = texts;
+		this.expanded = expanded;
+		this.checked = checked;
+		this.collapsedBranches = collapsedBranches;
+		String[] keys = new String[items.length];
+		for (int node = 0; node < items.length; node++) {
+			String text = getText(node, 0);
+			keys[node] = parents[node] < 0 ? text : keys[parents[node]] + PATH_SEPARATOR + text;
+			List<Integer> nodes = pathIndex.get(keys[node]);
+			if (nodes == null) {
+				nodes = new ArrayList<Integer>(1);
+				pathIndex.put(keys[node], nodes);
+			}
+			nodes.add(node);
+		}
+	}
+
+	/**
+	 * Gets number of captured tree items.
+	 *
+	 * @return number of captured tree items
+	 */
+	public int size() {
+		return items.length;
+	}
+
+	/**
+	 * Gets SWT tree item of specified node.
+	 *
+	 * @param node index of node
+	 * @return tree item of specified node
+	 */
+	public TreeItem getItem(int node) {
+		return items[node];
+	}
+
+	/**
+	 * Gets all captured tree items in depth-first order.
+	 *
+	 * @return unmodifiable list of captured tree items
+	 */
+	public List<TreeItem> getItems() {
+		List<TreeItem> result = new ArrayList<TreeItem>(items.length);
+		Collections.addAll(result, items);
+		return Collections.unmodifiableList(result);
+	}
+
+	/**
+	 * Gets index of parent node of specified node.
+	 *
+	 * @param node index of node
+	 * @return index of parent node or -1 for top level item
+	 */
+	public int getParent(int node) {
+		return parents[node];
+	}
+
+	/**
+	 * Gets text of specified node in specified column.
+	 *
+	 * @param node index of node
+	 * @param column index of column
+	 * @return text of cell or empty string if there is no such column
+	 */
+	public String getText(int node, int column) {
+		String[] cells = texts[node];
+		return column >= 0 && column < cells.length ? cells[column] : "";
+	}
+
+	/**
+	 * Gets path of specified node, i.e. texts of all its ancestors and its own text.
+	 *
+	 * @param node index of node
+	 * @return path of specified node
+	 */
+	public String[] getPath(int node) {
+		LinkedList<String> path = new LinkedList<String>();
+		for (int current = node; current >= 0; current = parents[current]) {
+			path.addFirst(getText(current, 0));
+		}
+		return path.toArray(new String[0]);
+	}
+
+	/**
+	 * Finds out whether specified node was expanded.
+	 *
+	 * @param node index of node
+	 * @return true if node was expanded, false otherwise
+	 */
+	public boolean isExpanded(int node) {
+		return expanded.get(node);
+	}
+
+	/**
+	 * Finds out whether specified node was checked.
+	 *
+	 * @param node index of node
+	 * @return true if node was checked, false otherwise
+	 */
+	public boolean isChecked(int node) {
+		return checked.get(node);
+	}
+
+	/**
+	 * Finds out whether specified node is collapsed and has children which were not captured.
+	 *
+	 * @param node index of node
+	 * @return true if node has to be expanded to get its children, false otherwise
+	 */
+	public boolean isCollapsedBranch(int node) {
+		return collapsedBranches.get(node);
+	}
+
+	/**
+	 * Gets tree items which have to be expanded to capture their children.
+	 *
+	 * @return tree items of collapsed branches in depth-first order
+	 */
+	public List<TreeItem> getCollapsedBranches() {
+		List<TreeItem> result = new ArrayList<TreeItem>(collapsedBranches.cardinality());
+		for (int node = collapsedBranches.nextSetBit(0); node >= 0; node = collapsedBranches.nextSetBit(node + 1)) {
+			result.add(items[node]);
+		}
+		return result;
+	}
+
+	/**
+	 * Gets index of first node with specified path.
+	 *
+	 * @param path texts of tree items on the path starting with top level item
+	 * @return index of first node with specified path or -1 if there is no such node
+	 */
+	public int indexOf(String... path) {
+		List<Integer> nodes = pathIndex.get(toKey(path));
+		return nodes == null ? -1 : nodes.get(0);
+	}
+
+	/**
+	 * Gets all tree items with specified path.
+	 *
+	 * @param path texts of tree items on the path starting with top level item
+	 * @return tree items with specified path in depth-first order, empty list if there is no such item
+	 */
+	public List<TreeItem> findItems(String... path) {
+		List<Integer> nodes = pathIndex.get(toKey(path));
+		if (nodes == null) {
+			return Collections.emptyList();
+		}
+		List<TreeItem> result = new ArrayList<TreeItem>(nodes.size());
+		for (int node : nodes) {
+			result.add(items[node]);
+		}
+		return result;
+	}
+
+	private static String toKey(String[] path) {
+		StringBuilder key = new StringBuilder();
+		for (int i = 0; i < path.length; i++) {
+			if (i > 0) {
+				key.append(PATH_SEPARATOR);
+			}
+			key.append(path[i]);
+		}
+		return key.toString();
+	}
+}
@@ -10,6 +10,9 @@
  ******************************************************************************/ 
 package org.jboss.reddeer.core.handler;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.custom.CTabFolder;
 import org.eclipse.swt.custom.CTabItem;
@@ -184,6 +187,44 @@ public class WidgetHandler {
 						+ " should be String, but was " + o.getClass());
 	}
 
+	/**
+	 * Gets texts of specified widgets in a single UI thread call.
+	 *
+	 * @param widgets widgets to handle
+	 * @return texts of specified widgets in the same order as widgets
+	 */
+	public List<String> getTexts(final List<? extends Widget> widgets) {
+		List<ResultRunnable<String>> runnables = new ArrayList<ResultRunnable<String>>(widgets.size());
+		for (final Widget widget : widgets) {
+			runnables.add(new ResultRunnable<String>() {
+				@Override
+				public String run() {
+					return getText(widget);
+				}
+			});
+		}
+		return Display.batch(runnables);
+	}
+
+	/**
+	 * Gets tool tip texts of specified widgets in a single UI thread call.
+	 *
+	 * @param widgets widgets to handle
+	 * @return tool tip texts of specified widgets in the same order as widgets
+	 */
+	public List<String> getToolTipTexts(final List<? extends Widget> widgets) {
+		List<ResultRunnable<String>> runnables = new ArrayList<ResultRunnable<String>>(widgets.size());
+		for (final Widget widget : widgets) {
+			runnables.add(new ResultRunnable<String>() {
+				@Override
+				public String run() {
+					return getToolTipText(widget);
+				}
+			});
+		}
+		return Display.batch(runnables);
+	}
+
 	/**
 	 * Gets tool tip text of specified widget.
 	 *
@@ -26,6 +26,7 @@ import org.jboss.reddeer.common.util.ResultRunnable;
 import org.jboss.reddeer.core.exception.CoreLayerException;
 import org.jboss.reddeer.core.handler.ToolItemHandler;
 import org.jboss.reddeer.core.handler.WidgetHandler;
+import org.jboss.reddeer.workbench.core.lookup.MenuContributionLookup;
 
 /**
  * Menu lookup provides methods for finding menus and context menus and their items. Works also with dynamic menus.
@@ -218,6 +219,7 @@ public class MenuLookup {
 	
 	/**
 	 * Gets Menu item matching menu path defined by specified top menu items and matchers.
+	 * Resolved menu paths are cached by {@link MenuLookupCache} if it is enabled.
 	 * 
 	 * @param topItems top level menu items where to search for menu item
 	 * @param matchers matchers to match menu item
@@ -229,36 +231,82 @@ public class MenuLookup {
 
 			@Override
 			public MenuItem run() {
-				Menu currentMenu = null;
-				MenuItem currentItem = null;;
-				MenuItem[] menuItems = topItems;
-				for (Matcher<String> m : matchers) {
-					currentItem = null;
-					for (MenuItem i : menuItems) {
-						String normalized = i.getText().replace("&", "");
-						log.debug("Found menu:'" + normalized + "'");
-						if (m.matches(normalized)) {
-							log.debug("Item match:" + normalized);
-							currentItem = i;
-							currentMenu = i.getMenu();
-							break;
-						} 
-					}
-					if (currentItem == null){
+				MenuLookupCache cache = MenuLookupCache.getInstance();
+				MenuItem cachedItem = cache.get(topItems, matchers);
+				if (cachedItem != null) {
+					return cachedItem;
+				}
+				cache.setResolving(true);
+				try {
+					MenuItem[] path = resolveMenuPath(topItems, matchers);
+					if (path == null) {
 						return null;
 					}
-					if (m != matchers[matchers.length-1]) {
-						currentMenu = currentItem.getMenu();
-						sendShowUI(currentMenu);
-						menuItems = currentMenu.getItems();
-					} 
+					cache.put(topItems, matchers, path);
+					return path[path.length - 1];
+				} finally {
+					cache.setResolving(false);
 				}
-				return currentItem;
 			}
 		});
 		return i;
 	}
 
+	private MenuItem[] resolveMenuPath(MenuItem[] topItems, Matcher<String>[] matchers) {
+		MenuItem[] path = new MenuItem[matchers.length];
+		Menu currentMenu = null;
+		MenuItem currentItem = null;
+		MenuItem[] menuItems = topItems;
+		for (int level = 0; level < matchers.length; level++) {
+			Matcher<String> m = matchers[level];
+			currentItem = null;
+			for (MenuItem i : menuItems) {
+				String normalized = i.getText().replace("&", "");
+				log.debug("Found menu:'" + normalized + "'");
+				if (m.matches(normalized)) {
+					log.debug("Item match:" + normalized);
+					currentItem = i;
+					currentMenu = i.getMenu();
+					break;
+				} 
+			}
+			if (currentItem == null){
+				return null;
+			}
+			path[level] = currentItem;
+			if (level != matchers.length - 1) {
+				currentMenu = currentItem.getMenu();
+				sendShowUI(currentMenu);
+				menuItems = currentMenu.getItems();
+			} 
+		}
+		return path;
+	}
+
+	/**
+	 * Gets contribution ID of specified menu item.
+	 * 
+	 * @param item menu item
+	 * @return contribution ID or null if menu item was not created by a contribution item
+	 *         or workbench is not available
+	 */
+	public String getContributionId(final MenuItem item) {
+		String contributionId = Display.syncExec(new ResultRunnable<String>() {
+			@Override
+			public String run() {
+				return MenuLookupCache.getInstance().getContributionId(item);
+			}
+		});
+		if (contributionId != null) {
+			return contributionId;
+		}
+		try {
+			return MenuContributionLookup.getInstance().getContributionId(item);
+		} catch (NoClassDefFoundError e) {
+			log.trace("Workbench not available");
+			return null;
+		}
+	}
 
 	/**
 	 * Sends SWT.Show to widget.
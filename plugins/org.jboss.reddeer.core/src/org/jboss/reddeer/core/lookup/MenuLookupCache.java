@@ -0,0 +1,345 @@
+/******************************************************************************* 
+ * Copyright (c) 2016 Red Hat, Inc. 
+ * Distributed under license by Red Hat, Inc. All rights reserved. 
+ * This program is made available under the terms of the 
+ * Eclipse Public License v1.0 which accompanies this distribution, 
+ * and is available at http://www.eclipse.org/legal/epl-v10.html 
+ * 
+ * Contributors: 
+ * Red Hat, Inc. - initial API and implementation 
+ ******************************************************************************/ 
+package org.jboss.reddeer.core.lookup;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Event;
+import org.eclipse.swt.widgets.Listener;
+import org.eclipse.swt.widgets.Menu;
+import org.eclipse.swt.widgets.MenuItem;
+import org.eclipse.swt.widgets.Widget;
+import org.hamcrest.Matcher;
+import org.jboss.reddeer.common.logging.Logger;
+import org.jboss.reddeer.common.properties.RedDeerProperties;
+import org.jboss.reddeer.common.util.Display;
+import org.jboss.reddeer.workbench.core.lookup.MenuContributionLookup;
+
+/**
+ * Cache of menu paths resolved by {@link MenuLookup}. Path is keyed by the menu containing top level
+ * menu items and by descriptions of menu item text matchers. Cached path holds all menu items on the
+ * path, their normalized texts and contribution ID of the last menu item. Cached path is invalidated
+ * when any menu on the path is shown or disposed or when any menu item on the path is disposed.
+ * Cached path is returned only if none of its menu items is disposed and their texts still match.
+ * <br>
+ * Intermediate menus on a cached path are shown again before the path is returned, so enablement
+ * and dynamic contributions are refreshed the same way as when the path is resolved. Only matching
+ * of menu item texts on each level is saved. If showing a menu replaces menu items on the path,
+ * the cached path is not returned and it has to be resolved again.
+ * <br>
+ * Cache is disabled by default and can be enabled by {@link RedDeerProperties#MENU_CACHE_ENABLED}.
+ * All methods except {@link #getInstance()}, {@link #isEnabled()} and {@link #invalidate()} have to
+ * be called in UI thread.
+ *
+ * @since 2.0
+ */
+public class MenuLookupCache {
+
+	private static final Logger logger = Logger.getLogger(MenuLookupCache.class);
+
+	private static final int[] INVALIDATING_EVENTS = new int[] { SWT.Show, SWT.Dispose };
+
+	private static MenuLookupCache instance;
+
+	private final boolean enabled;
+
+	private final Map<Key, Entry> entries = new ConcurrentHashMap<Key, Entry>();
+
+	private volatile boolean listening;
+
+	private boolean resolving;
+
+	private final AtomicLong hits = new AtomicLong();
+
+	private final AtomicLong misses = new AtomicLong();
+
+	private final Listener invalidationListener = new Listener() {
+		@Override
+		public void handleEvent(Event event) {
+			// menus shown by lookup itself are being resolved right now
+			if (event.type == SWT.Show && resolving) {
+				return;
+			}
+			if (event.widget instanceof Menu || event.widget instanceof MenuItem) {
+				invalidate(event.widget);
+			}
+		}
+	};
+
+	/**
+	 * Creates a new menu lookup cache. Shared instance used by {@link MenuLookup}
+	 * is available by {@link #getInstance()}.
+	 * 
+	 * @param enabled whether cache is enabled
+	 */
+	public MenuLookupCache(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	/**
+	 * Gets instance of MenuLookupCache.
+	 *
+	 * @return MenuLookupCache instance
+	 */
+	public static synchronized MenuLookupCache getInstance() {
+		if (instance == null) {
+			instance = new MenuLookupCache(RedDeerProperties.MENU_CACHE_ENABLED.getBooleanValue());
+		}
+		return instance;
+	}
+
+	/**
+	 * Finds out whether cache is enabled.
+	 *
+	 * @return true if cache is enabled, false otherwise
+	 */
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Gets last menu item of cached menu path. Intermediate menus of the path are shown first.
+	 *
+	 * @param topItems top level menu items the path starts at
+	 * @param matchers menu item text matchers the path was resolved by
+	 * @return cached menu item or null if there is no valid cached path
+	 */
+	public MenuItem get(MenuItem[] topItems, Matcher<String>[] matchers) {
+		if (!enabled || topItems.length == 0) {
+			return null;
+		}
+		Entry entry = entries.get(new Key(topItems[0].getParent(), matchers));
+		if (entry != null && entry.isValid(matchers) && show(entry) && entry.isValid(matchers)) {
+			hits.incrementAndGet();
+			if (logger.isTraceEnabled()) {
+				logger.trace("Menu cache hit for path " + Arrays.toString(entry.texts));
+			}
+			return entry.items[entry.items.length - 1];
+		}
+		misses.incrementAndGet();
+		return null;
+	}
+
+	/**
+	 * Caches resolved menu path.
+	 *
+	 * @param topItems top level menu items the path starts at
+	 * @param matchers menu item text matchers the path was resolved by
+	 * @param path menu items matching matchers
+	 */
+	public void put(MenuItem[] topItems, Matcher<String>[] matchers, MenuItem[] path) {
+		if (!enabled || topItems.length == 0 || path.length != matchers.length) {
+			return;
+		}
+		startListening();
+		Entry entry = new Entry(topItems[0].getParent(), path);
+		entries.put(new Key(entry.menus[0], matchers), entry);
+		logger.debug("Cached menu path " + Arrays.toString(entry.texts)
+				+ (entry.contributionId == null ? "" : " with contribution ID " + entry.contributionId));
+	}
+
+	/**
+	 * Gets contribution ID of the last menu item of cached menu path.
+	 *
+	 * @param item last menu item of a cached path
+	 * @return contribution ID or null if there is no such cached path or its menu item was not
+	 *         contributed by a contribution item
+	 */
+	public String getContributionId(MenuItem item) {
+		for (Entry entry : entries.values()) {
+			if (entry.items[entry.items.length - 1] == item) {
+				return entry.contributionId;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Marks that menu path is being resolved by menu lookup, so menus shown by the lookup do not
+	 * invalidate cached paths.
+	 *
+	 * @param resolving true when resolving starts, false when it ends
+	 */
+	public void setResolving(boolean resolving) {
+		this.resolving = resolving;
+	}
+
+	/**
+	 * Removes all cached menu paths.
+	 */
+	public void invalidate() {
+		entries.clear();
+	}
+
+	/**
+	 * Removes all cached menu paths and stops listening to invalidating events. Can be called
+	 * from any thread.
+	 */
+	public synchronized void dispose() {
+		invalidate();
+		if (!listening) {
+			return;
+		}
+		Display.syncExec(new Runnable() {
+			@Override
+			public void run() {
+				for (int eventType : INVALIDATING_EVENTS) {
+					Display.getDisplay().removeFilter(eventType, invalidationListener);
+				}
+			}
+		});
+		listening = false;
+	}
+
+	private void invalidate(Widget widget) {
+		Iterator<Entry> iterator = entries.values().iterator();
+		while (iterator.hasNext()) {
+			if (iterator.next().contains(widget)) {
+				iterator.remove();
+			}
+		}
+	}
+
+	/**
+	 * Gets number of menu path lookups served from cache.
+	 *
+	 * @return number of cache hits
+	 */
+	public long getHits() {
+		return hits.get();
+	}
+
+	/**
+	 * Gets number of menu path lookups not served from cache.
+	 *
+	 * @return number of cache misses
+	 */
+	public long getMisses() {
+		return misses.get();
+	}
+
+	private boolean show(Entry entry) {
+		boolean wasResolving = resolving;
+		resolving = true;
+		try {
+			for (int i = 0; i < entry.items.length - 1; i++) {
+				Menu menu = entry.items[i].isDisposed() ? null : entry.items[i].getMenu();
+				if (menu == null || menu.isDisposed()) {
+					return false;
+				}
+				menu.notifyListeners(SWT.Show, new Event());
+			}
+			return true;
+		} finally {
+			resolving = wasResolving;
+		}
+	}
+
+	private synchronized void startListening() {
+		if (listening) {
+			return;
+		}
+		for (int eventType : INVALIDATING_EVENTS) {
+			Display.getDisplay().addFilter(eventType, invalidationListener);
+		}
+		listening = true;
+	}
+
+	private static String normalize(MenuItem item) {
+		return item.getText().replace("&", "");
+	}
+
+	private static String getContributionId(MenuItem item) {
+		try {
+			return MenuContributionLookup.getInstance().getContributionId(item);
+		} catch (NoClassDefFoundError e) {
+			logger.trace("Workbench not available");
+			return null;
+		}
+	}
+
+	private static class Entry {
+
+		private final Menu[] menus;
+		private final MenuItem[] items;
+		private final String[] texts;
+		private final String contributionId;
+
+		public Entry(Menu topMenu, MenuItem[] items) {
+			this.items = items;
+			this.menus = new Menu[items.length];
+			this.texts = new String[items.length];
+			menus[0] = topMenu;
+			for (int i = 0; i < items.length; i++) {
+				if (i > 0) {
+					menus[i] = items[i - 1].getMenu();
+				}
+				texts[i] = normalize(items[i]);
+			}
+			this.contributionId = getContributionId(items[items.length - 1]);
+		}
+
+		public boolean isValid(Matcher<String>[] matchers) {
+			for (int i = 0; i < items.length; i++) {
+				if (items[i].isDisposed() || !matchers[i].matches(normalize(items[i]))) {
+					return false;
+				}
+				// menu item could be left in a menu which was replaced by a new one
+				if (i > 0 && items[i].getParent() != items[i - 1].getMenu()) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		public boolean contains(Widget widget) {
+			for (int i = 0; i < items.length; i++) {
+				if (items[i] == widget || menus[i] == widget) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+
+	private static class Key {
+
+		private final Menu menu;
+		private final String[] matchers;
+
+		public Key(Menu menu, Matcher<String>[] matchers) {
+			this.menu = menu;
+			this.matchers = new String[matchers.length];
+			for (int i = 0; i < matchers.length; i++) {
+				this.matchers[i] = matchers[i].toString();
+			}
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * System.identityHashCode(menu) + Arrays.hashCode(matchers);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return menu == other.menu && Arrays.equals(matchers, other.matchers);
+		}
+	}
+}
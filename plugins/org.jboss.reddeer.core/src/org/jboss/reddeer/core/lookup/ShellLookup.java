@@ -17,6 +17,8 @@ import org.eclipse.swt.widgets.Control;
 import org.eclipse.swt.widgets.Shell;
 import org.hamcrest.Matcher;
 import org.jboss.reddeer.common.condition.AbstractWaitCondition;
+import org.jboss.reddeer.common.timing.TimingCategory;
+import org.jboss.reddeer.common.timing.Timings;
 import org.jboss.reddeer.common.util.Display;
 import org.jboss.reddeer.common.util.ResultRunnable;
 import org.jboss.reddeer.common.wait.TimePeriod;
@@ -61,18 +63,23 @@ public class ShellLookup {
 	 * or shell with highest index if there is no active or focused shell
 	 */
 	public Shell getActiveShell() {
-		new WaitUntil(new ActiveShellExists(), TimePeriod.SHORT, false);
-		Shell activeShell = getCurrentActiveShell();
-		// try to find shell with focus
-		if (activeShell == null) {
-			new WaitUntil(new ShellIsFocused(), TimePeriod.SHORT, false);
-			activeShell = getCurrentFocusShell();
-		}
-		// if still no shell found, last visible shell will be returned
-		if (activeShell == null) {
-			activeShell = getLastVisibleShell();
+		long start = Timings.start();
+		try {
+			new WaitUntil(new ActiveShellExists(), TimePeriod.SHORT, false);
+			Shell activeShell = getCurrentActiveShell();
+			// try to find shell with focus
+			if (activeShell == null) {
+				new WaitUntil(new ShellIsFocused(), TimePeriod.SHORT, false);
+				activeShell = getCurrentFocusShell();
+			}
+			// if still no shell found, last visible shell will be returned
+			if (activeShell == null) {
+				activeShell = getLastVisibleShell();
+			}
+			return activeShell;
+		} finally {
+			Timings.stop(TimingCategory.SHELL_LOOKUP, start);
 		}
-		return activeShell;
 	}
 
 	/**
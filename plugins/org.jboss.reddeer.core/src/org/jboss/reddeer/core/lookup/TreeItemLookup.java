@@ -11,12 +11,17 @@
 package org.jboss.reddeer.core.lookup;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
+import org.eclipse.swt.SWT;
 import org.eclipse.swt.widgets.Tree;
 import org.eclipse.swt.widgets.TreeItem;
 import org.hamcrest.Matcher;
+import org.jboss.reddeer.common.condition.AbstractDisplayEventWaitCondition;
 import org.jboss.reddeer.common.condition.AbstractWaitCondition;
+import org.jboss.reddeer.common.util.Display;
+import org.jboss.reddeer.common.util.ResultRunnable;
 import org.jboss.reddeer.common.wait.TimePeriod;
 import org.jboss.reddeer.common.wait.WaitUntil;
 import org.jboss.reddeer.core.exception.CoreLayerException;
@@ -142,23 +147,50 @@ public class TreeItemLookup {
 		throw new IllegalStateException("It should never get here. This is probably flaw in lookup algoritnus");
 	}
 		
-	private List<TreeItem> getChildItems(List<TreeItem> parentItems) {
-		List<TreeItem> children = new ArrayList<TreeItem>();
-		for (TreeItem parentItem : parentItems){
-			new WaitUntil(new TreeItemHasChildren(parentItem), TimePeriod.NORMAL, false);	
-			children.addAll(TreeItemHandler.getInstance().getChildrenItems(parentItem));
+	private List<TreeItem> getChildItems(final List<TreeItem> parentItems) {
+		// leaves and already expanded items are resolved in one UI thread call,
+		// only collapsed items having children are expanded and waited for
+		List<TreeItem> collapsedItems = Display.syncExec(new ResultRunnable<List<TreeItem>>() {
+			@Override
+			public List<TreeItem> run() {
+				List<TreeItem> collapsed = new ArrayList<TreeItem>();
+				for (TreeItem parentItem : parentItems) {
+					if (!parentItem.getExpanded() && parentItem.getItemCount() > 0) {
+						collapsed.add(parentItem);
+					}
+				}
+				return collapsed;
+			}
+		});
+		for (TreeItem collapsedItem : collapsedItems) {
+			TreeItemHandler.getInstance().expand(collapsedItem, TimePeriod.SHORT);
+			new WaitUntil(new TreeItemHasChildren(collapsedItem), TimePeriod.NORMAL, false);
 		}
-		return children;
+		return Display.syncExec(new ResultRunnable<List<TreeItem>>() {
+			@Override
+			public List<TreeItem> run() {
+				List<TreeItem> children = new ArrayList<TreeItem>();
+				for (TreeItem parentItem : parentItems) {
+					children.addAll(Arrays.asList(parentItem.getItems()));
+				}
+				return children;
+			}
+		});
 	}
 
-	private List<TreeItem> getMatchingTreeItems(List<TreeItem> items, Matcher<TreeItem> matcher){
-		List<TreeItem> matchingitems = new ArrayList<TreeItem>();
-		for (TreeItem item : items){
-			if (matcher.matches(item)){
-				matchingitems.add(item);
+	private List<TreeItem> getMatchingTreeItems(final List<TreeItem> items, final Matcher<TreeItem> matcher){
+		return Display.syncExec(new ResultRunnable<List<TreeItem>>() {
+			@Override
+			public List<TreeItem> run() {
+				List<TreeItem> matchingitems = new ArrayList<TreeItem>();
+				for (TreeItem item : items){
+					if (matcher.matches(item)){
+						matchingitems.add(item);
+					}
+				}
+				return matchingitems;
 			}
-		}
-		return matchingitems;
+		});
 	}
 	
 	/**
@@ -198,12 +230,14 @@ public class TreeItemLookup {
 	}
 	
 	/**
-	 * Condition is met when tree item has at least one child. 
+	 * Condition is met when tree item has at least one child. Tree item is not
+	 * expanded by the condition, otherwise each test would fire SWT.Expand event
+	 * and wake up the waiting thread again.
 	 * 
 	 * @author jjankovi
 	 *
 	 */
-	public class TreeItemHasChildren extends AbstractWaitCondition {
+	public class TreeItemHasChildren extends AbstractDisplayEventWaitCondition {
 		
 		private final TreeItem treeItem;
 		
@@ -213,6 +247,7 @@ public class TreeItemLookup {
 		 * @param treeItem the tree item
 		 */
 		public TreeItemHasChildren(TreeItem treeItem) {
+			super(SWT.Expand);
 			this.treeItem = treeItem;
 		}
 
@@ -221,7 +256,12 @@ public class TreeItemLookup {
 		 */
 		@Override
 		public boolean test() {
-			return TreeItemHandler.getInstance().getChildrenItems(treeItem).size() > 0;
+			return Display.syncExec(new ResultRunnable<Boolean>() {
+				@Override
+				public Boolean run() {
+					return !treeItem.isDisposed() && treeItem.getItemCount() > 0;
+				}
+			});
 		}
 
 		/* (non-Javadoc)
@@ -11,7 +11,6 @@
 package org.jboss.reddeer.core.lookup;
 
 import java.util.ArrayList;
-import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.ListIterator;
@@ -30,6 +29,8 @@ import org.jboss.reddeer.common.exception.WaitTimeoutExpiredException;
 import org.jboss.reddeer.common.logging.Logger;
 import org.jboss.reddeer.common.matcher.AndMatcher;
 import org.jboss.reddeer.common.matcher.MatcherBuilder;
+import org.jboss.reddeer.common.timing.TimingCategory;
+import org.jboss.reddeer.common.timing.Timings;
 import org.jboss.reddeer.common.util.Display;
 import org.jboss.reddeer.common.util.ObjectUtil;
 import org.jboss.reddeer.common.util.ResultRunnable;
@@ -94,12 +95,32 @@ public class WidgetLookup {
 	 * @param matchers matchers to match widget
 	 * @return widget located withing specified referenced composite, laying on specified index and matching specified matchers
 	 */
+	@SuppressWarnings("rawtypes")
+	public <T extends Widget> T activeWidget(ReferencedComposite refComposite, Class<T> clazz, int index, TimePeriod timePeriod, Matcher... matchers) {
+		long start = Timings.start();
+		try {
+			return findActiveWidget(refComposite, clazz, index, timePeriod, matchers);
+		} finally {
+			Timings.stop(TimingCategory.WIDGET_LOOKUP, start);
+		}
+	}
+
 	@SuppressWarnings({ "rawtypes","unchecked" })
-	public <T extends Widget> T activeWidget(ReferencedComposite refComposite, Class<T> clazz, int index, TimePeriod timePeriod, Matcher... matchers) {				
-		logger.debug("Looking up active widget with class type " + clazz.getName() +  ", index " + index + " and " + createMatcherDebugMsg(matchers));
+	private <T extends Widget> T findActiveWidget(ReferencedComposite refComposite, Class<T> clazz, int index, TimePeriod timePeriod, Matcher... matchers) {
+		if (logger.isDebugEnabled()) {
+			logger.debug("Looking up active widget with class type " + clazz.getName() +  ", index " + index + " and " + createMatcherDebugMsg(matchers));
+		}
 
 		Control parentControl = getParentControl(refComposite);
 		WidgetIsFound found = new WidgetIsFound(clazz, parentControl, index, matchers);
+		WidgetLookupCache cache = WidgetLookupCache.getInstance();
+		Widget cachedWidget = cache.get(parentControl, clazz, index, found.getAndMatcher());
+		if (cachedWidget != null) {
+			if (logger.isDebugEnabled()) {
+				logger.debug("Active widget with class type " + clazz.getName() +  " and index " + index + " was found in lookup cache");
+			}
+			return (T)cachedWidget;
+		}
 		try{
 			new WaitUntil(found, timePeriod);
 		} catch (WaitTimeoutExpiredException ex){
@@ -108,8 +129,12 @@ public class WidgetLookup {
 			logger.error("Active widget with class type " + clazz.getName() +  " and index " + index + " was not found");
 			throw new CoreLayerException(exceptionText, ex);
 		}
-		logger.debug("Active widget with class type " + clazz.getName() +  " and index " + index + " was found");
-		return (T)found.getWidget();
+		if (logger.isDebugEnabled()) {
+			logger.debug("Active widget with class type " + clazz.getName() +  " and index " + index + " was found");
+		}
+		Widget widget = found.getWidget();
+		cache.put(parentControl, clazz, index, found.getAndMatcher(), widget);
+		return (T)widget;
 	}
 	
 	/**
@@ -122,7 +147,9 @@ public class WidgetLookup {
 	 * @return widgets located in specified referenced composite and matching specified matchers
 	 */
 	public <T extends Widget> List<T> activeWidgets(ReferencedComposite refComposite, Class<T> clazz, Matcher<?>... matchers) {				
-		logger.debug("Looking up active widgets with class type " + clazz.getName() +  " and " + createMatcherDebugMsg(matchers));
+		if (logger.isDebugEnabled()) {
+			logger.debug("Looking up active widgets with class type " + clazz.getName() +  " and " + createMatcherDebugMsg(matchers));
+		}
 
 		ClassMatcher cm = new ClassMatcher(clazz);
 		Matcher<?>[] allMatchers = MatcherBuilder.getInstance().addMatcher(matchers, cm);
@@ -170,7 +197,9 @@ public class WidgetLookup {
 	public <T extends Widget> List<T> activeWidgets(Control refComposite, Matcher matcher) {
 		logger.trace("Looking up widgets with specified parent and matchers");
 		List<T> widgets = findControls(refComposite, matcher, true);
-		logger.trace(widgets.size() + " widget(s) found");
+		if (logger.isTraceEnabled()) {
+			logger.trace(widgets.size() + " widget(s) found");
+		}
 		return widgets;
 	}
 
@@ -184,10 +213,13 @@ public class WidgetLookup {
 	 */
 	@SuppressWarnings({ "rawtypes", "unchecked" })
 	public <T extends Widget> T activeWidget(Control refComposite, Matcher matcher, int index) {
-		String widgetDescription = "widget with index " + index;
-		logger.trace("Looking up " + widgetDescription + " with specified parent and matchers");
+		if (logger.isTraceEnabled()) {
+			logger.trace("Looking up widget with index " + index + " with specified parent and matchers");
+		}
 		T widget = (T)findControl(refComposite, matcher, true, index);
-		logger.trace(widgetDescription + (widget != null ? " is found" : "is not found"));
+		if (logger.isTraceEnabled()) {
+			logger.trace("widget with index " + index + (widget != null ? " is found" : " is not found"));
+		}
 		return widget;
 	}
 
@@ -216,7 +248,11 @@ public class WidgetLookup {
 	 * @return active workbench control or active shell
 	 */
 	public Control getActiveWidgetParentControl() {
-		Control control = null;
+		WidgetLookupCache cache = WidgetLookupCache.getInstance();
+		Control control = cache.getActiveParent();
+		if (control != null) {
+			return control;
+		}
 		
 		Shell activeWorkbenchParentShell = null;
 		if(getWorkbenchLookup() != null){
@@ -227,15 +263,20 @@ public class WidgetLookup {
 
 		if ((activeWorkbenchParentShell == null || !activeWorkbenchParentShell.equals(activeShell))
 				&& activeShell != null){
-			logger.trace("Setting active shell with title \"" + WidgetHandler.getInstance().getText(activeShell) + "\" as the parent");
+			if (logger.isTraceEnabled()) {
+				logger.trace("Setting active shell with title \"" + WidgetHandler.getInstance().getText(activeShell) + "\" as the parent");
+			}
 			control = activeShell;	
 		}			
 		else {
 			if (getWorkbenchLookup() != null && getWorkbenchLookup().getActiveWorkbenchPartTitle() != null){
-				logger.trace("Setting workbench part with title \"" + getWorkbenchLookup().getActiveWorkbenchPartTitle() + "\"as the parent");
+				if (logger.isTraceEnabled()) {
+					logger.trace("Setting workbench part with title \"" + getWorkbenchLookup().getActiveWorkbenchPartTitle() + "\"as the parent");
+				}
 				control = getWorkbenchLookup().getActiveWorkbenchPartControl();
 			}
 		}	
+		cache.putActiveParent(control);
 		return control;
 	}
 
@@ -273,6 +314,7 @@ public class WidgetLookup {
 
 	/**
 	 * Finds list of controls matching specified matchers for parent widget.
+	 * Whole lookup is performed in single UI thread pass, see {@link WidgetSnapshot}.
 	 * 
 	 * @param parentWidget parent widget to search for controls
 	 * @param matcher matcher to match controls
@@ -281,28 +323,12 @@ public class WidgetLookup {
 	 */
 	private <T extends Widget> List<T> findControls(final Widget parentWidget, 
 			final Matcher<T> matcher, final boolean recursive) {
-		return findControlsUI(parentWidget, matcher, recursive);
+		return new ArrayList<T>(WidgetSnapshot.capture(parentWidget, matcher, recursive).getWidgets());
 	}
 
 	private <T extends Widget> T findControl(final Widget parentWidget, 
 			final Matcher<T> matcher, final boolean recursive, final int index) {
-		return findControlUI(parentWidget, matcher, recursive, new Index(index));
-	}
-
-	private static class Index {
-		private int value;
-
-		public Index(int index) {
-			value = index;
-		}
-
-		public boolean isFirst() {
-			return value <= 0;
-		}
-
-		public void passed() {
-			value--;
-		}
+		return WidgetSnapshot.find(parentWidget, matcher, recursive, index);
 	}
 
 	/**
@@ -322,126 +348,6 @@ public class WidgetLookup {
 	}
 
 
-	/**
-	 * Gets list of children control widgets located within specified 
-	 * parent widget matching specified matcher.
-	 * 
-	 * @param parentWidget parent widget
-	 * @param matcher matcher to match widgets
-	 * @param recursive true for recursive search, false otherwise
-	 * @return children control widget matching specified matcher
-	 */
-	@SuppressWarnings("unchecked")
-	private <T extends Widget> List<T> findControlsUI(final Widget parentWidget, final Matcher<T> matcher, final boolean recursive) {
-
-		if ((parentWidget == null) || parentWidget.isDisposed())
-			return new ArrayList<T>();
-
-
-		if (!visible(parentWidget)) {
-			return new ArrayList<T>();
-		}
-
-		LinkedHashSet<T> controls = new LinkedHashSet<T>();
-
-		if (matcher.matches(parentWidget) && !controls.contains(parentWidget))
-			try {
-				controls.add((T) parentWidget);
-			} catch (ClassCastException exception) {
-				throw new IllegalArgumentException("The specified matcher should only match against is declared type.", exception);
-			}
-		if (recursive) {
-			List<Widget> children = Display.syncExec(new ResultRunnable<List<Widget>>() {
-
-				@Override
-				public List<Widget> run() {
-					return WidgetResolver.getInstance().getChildren(parentWidget);
-				}
-			});
-			controls.addAll(findControlsUI(children, matcher, recursive));
-		}
-		return new ArrayList<T>(controls);
-	}
-
-	@SuppressWarnings("unchecked")
-	private <T extends Widget> T findControlUI(final Widget parentWidget, final Matcher<T> matcher, final boolean recursive, Index index) {
-		if ((parentWidget == null) || parentWidget.isDisposed() || !visible(parentWidget)) {
-			return null;
-		}
-
-		if (matcher.matches(parentWidget))
-			try {
-				T control = (T) parentWidget;
-				if(index.isFirst()) {
-					return control;
-				} else {
-					index.passed();
-				}
-			} catch (ClassCastException exception) {
-				throw new IllegalArgumentException("The specified matcher should only match against is declared type.", exception);
-			}
-		if (recursive) {
-			List<Widget> children = Display.syncExec(new ResultRunnable<List<Widget>>() {
-
-				@Override
-				public List<Widget> run() {
-					return WidgetResolver.getInstance().getChildren(parentWidget);
-				}
-			});
-			return findControlUI(children, matcher, recursive, index);
-		}
-		return null;
-	}
-
-	/**
-	 * Gets list of children control widgets matching specified matcher from specified list of widgets. Method
-	 * can be used recursively to get all children in descendants.
-	 * 
-	 * Note: Must be used in UI Thread
-	 * 
-	 * @param widgets list of widgets to get children from
-	 * @param matcher matcher to match widgets
-	 * @param recursive true for recursive search, false otherwise
-	 * @return list of children widgets of widgets from specified list
-	 */
-	private <T extends Widget> List<T> findControlsUI(final List<Widget> widgets, final Matcher<T> matcher, final boolean recursive) {
-		LinkedHashSet<T> list = new LinkedHashSet<T>();
-		for (Widget w : widgets) {
-			list.addAll(findControlsUI(w, matcher, recursive));
-		}
-		return new ArrayList<T>(list);
-	}
-
-	private <T extends Widget> T findControlUI(final List<Widget> widgets, final Matcher<T> matcher, final boolean recursive, Index index) {
-		for (Widget w : widgets) {
-			T control = findControlUI(w, matcher, recursive, index);
-			if(control != null) {
-				return control;
-			}
-		}
-		return null;
-	}
-
-	/**
-	 * Finds out whether widget is visible or not.
-	 * 
-	 * @param w widget to resolve
-	 * @return true if widget is visible, false otherwise
-	 */
-	private boolean visible(final Widget w) {
-		if (w.isDisposed()) {
-			return false;
-		}
-		
-		return Display.syncExec(new ResultRunnable<Boolean>() {
-
-			@Override
-			public Boolean run() {
-				return !((w instanceof Control) && !((Control) w).getVisible());
-			}
-		});
-	}
-
 	private String createMatcherDebugMsg(Matcher<?>[] matchers) {
 		StringBuilder sb = new StringBuilder();
 
@@ -0,0 +1,291 @@
+/******************************************************************************* 
+ * Copyright (c) 2016 Red Hat, Inc. 
+ * Distributed under license by Red Hat, Inc. All rights reserved. 
+ * This program is made available under the terms of the 
+ * Eclipse Public License v1.0 which accompanies this distribution, 
+ * and is available at http://www.eclipse.org/legal/epl-v10.html 
+ * 
+ * Contributors: 
+ * Red Hat, Inc. - initial API and implementation 
+ ******************************************************************************/ 
+package org.jboss.reddeer.core.lookup;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Control;
+import org.eclipse.swt.widgets.Event;
+import org.eclipse.swt.widgets.Listener;
+import org.eclipse.swt.widgets.Widget;
+import org.hamcrest.Matcher;
+import org.jboss.reddeer.common.logging.Logger;
+import org.jboss.reddeer.common.properties.RedDeerProperties;
+import org.jboss.reddeer.common.util.Display;
+import org.jboss.reddeer.common.util.ResultRunnable;
+
+/**
+ * Cache of widget lookup results used by {@link WidgetLookup}. Results are keyed by parent control,
+ * widget class and matcher description. Whole cache is invalidated when any widget is created, disposed,
+ * shown or hidden and when any shell or control is activated or deactivated. Cached widget is returned
+ * only if it is not disposed, is visible and still matches the matcher it was found by.
+ * <br>
+ * Only lookups of the first matching widget are cached. Widget with a higher index is found relative 
+ * to all preceding matching widgets and it could be returned for a wrong index if a matching widget 
+ * was created before it in the same UI thread call as the lookup, i.e. before the cache was invalidated.
+ * <br>
+ * Cache is disabled by default and can be enabled by {@link RedDeerProperties#LOOKUP_CACHE_ENABLED}.
+ *
+ * @since 2.0
+ */
+public class WidgetLookupCache {
+
+	private static final Logger logger = Logger.getLogger(WidgetLookupCache.class);
+
+	private static final int[] INVALIDATING_EVENTS = new int[] { SWT.Dispose, SWT.Show, SWT.Hide, SWT.Activate,
+			SWT.Deactivate };
+
+	private static WidgetLookupCache instance;
+
+	private final boolean enabled;
+
+	private final Map<Key, Widget> widgets = new ConcurrentHashMap<Key, Widget>();
+
+	private volatile Control activeParent;
+
+	private volatile boolean listening;
+
+	private final AtomicLong hits = new AtomicLong();
+
+	private final AtomicLong misses = new AtomicLong();
+
+	private final Listener invalidationListener = new Listener() {
+		@Override
+		public void handleEvent(Event event) {
+			invalidate();
+		}
+	};
+
+	/**
+	 * Creates a new widget lookup cache. Shared instance used by {@link WidgetLookup}
+	 * is available by {@link #getInstance()}.
+	 * 
+	 * @param enabled whether cache is enabled
+	 */
+	public WidgetLookupCache(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	/**
+	 * Gets instance of WidgetLookupCache.
+	 *
+	 * @return WidgetLookupCache instance
+	 */
+	public static synchronized WidgetLookupCache getInstance() {
+		if (instance == null) {
+			instance = new WidgetLookupCache(RedDeerProperties.LOOKUP_CACHE_ENABLED.getBooleanValue());
+		}
+		return instance;
+	}
+
+	/**
+	 * Finds out whether cache is enabled.
+	 *
+	 * @return true if cache is enabled, false otherwise
+	 */
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Gets cached widget.
+	 *
+	 * @param parent parent control the widget was looked up in
+	 * @param clazz class of widget
+	 * @param index index of widget
+	 * @param matcher matcher the widget was found by
+	 * @return cached widget or null if there is no valid cached widget
+	 */
+	public Widget get(Control parent, Class<?> clazz, int index, final Matcher<?> matcher) {
+		if (!enabled) {
+			return null;
+		}
+		final Key key = new Key(parent, clazz, index, matcher);
+		Widget widget = null;
+		if (widgets.containsKey(key)) {
+			// events invalidating the cache, e.g. creation of a widget, are processed
+			// by display before the widget is read in UI thread
+			widget = getValid(key, matcher);
+		}
+		if (widget != null) {
+			hits.incrementAndGet();
+			if (logger.isTraceEnabled()) {
+				logger.trace("Lookup cache hit for widget with class type " + clazz.getName() + " and index " + index);
+			}
+			return widget;
+		}
+		misses.incrementAndGet();
+		return null;
+	}
+
+	/**
+	 * Caches widget.
+	 *
+	 * @param parent parent control the widget was looked up in
+	 * @param clazz class of widget
+	 * @param index index of widget, widgets with index greater than 0 are not cached
+	 * @param matcher matcher the widget was found by
+	 * @param widget found widget
+	 */
+	public void put(Control parent, Class<?> clazz, int index, Matcher<?> matcher, Widget widget) {
+		if (!enabled || parent == null || widget == null || index > 0) {
+			return;
+		}
+		startListening();
+		widgets.put(new Key(parent, clazz, index, matcher), widget);
+	}
+
+	/**
+	 * Gets cached active parent control.
+	 *
+	 * @return active parent control or null if it is not cached or no longer valid
+	 */
+	public Control getActiveParent() {
+		if (!enabled) {
+			return null;
+		}
+		Control parent = activeParent;
+		if (parent != null && !parent.isDisposed()) {
+			hits.incrementAndGet();
+			return parent;
+		}
+		misses.incrementAndGet();
+		return null;
+	}
+
+	/**
+	 * Caches active parent control.
+	 *
+	 * @param parent active parent control
+	 */
+	public void putActiveParent(Control parent) {
+		if (!enabled || parent == null) {
+			return;
+		}
+		startListening();
+		activeParent = parent;
+	}
+
+	/**
+	 * Removes all cached widgets and cached active parent control.
+	 */
+	public void invalidate() {
+		widgets.clear();
+		activeParent = null;
+	}
+
+	/**
+	 * Removes all cached widgets and stops listening to invalidating events.
+	 */
+	public synchronized void dispose() {
+		invalidate();
+		if (!listening) {
+			return;
+		}
+		Display.syncExec(new Runnable() {
+			@Override
+			public void run() {
+				for (int eventType : INVALIDATING_EVENTS) {
+					Display.getDisplay().removeFilter(eventType, invalidationListener);
+				}
+				Display.getDisplay().removeListener(SWT.Skin, invalidationListener);
+			}
+		});
+		listening = false;
+	}
+
+	/**
+	 * Gets number of lookups served from cache.
+	 *
+	 * @return number of cache hits
+	 */
+	public long getHits() {
+		return hits.get();
+	}
+
+	/**
+	 * Gets number of lookups not served from cache.
+	 *
+	 * @return number of cache misses
+	 */
+	public long getMisses() {
+		return misses.get();
+	}
+
+	private Widget getValid(final Key key, final Matcher<?> matcher) {
+		return Display.syncExec(new ResultRunnable<Widget>() {
+			@Override
+			public Widget run() {
+				Widget widget = widgets.get(key);
+				if (widget == null || widget.isDisposed()) {
+					return null;
+				}
+				if (widget instanceof Control && !((Control) widget).isVisible()) {
+					return null;
+				}
+				return matcher.matches(widget) ? widget : null;
+			}
+		});
+	}
+
+	private synchronized void startListening() {
+		if (listening) {
+			return;
+		}
+		Display.syncExec(new Runnable() {
+			@Override
+			public void run() {
+				for (int eventType : INVALIDATING_EVENTS) {
+					Display.getDisplay().addFilter(eventType, invalidationListener);
+				}
+				// display sends skin event for each newly created widget
+				Display.getDisplay().addListener(SWT.Skin, invalidationListener);
+			}
+		});
+		listening = true;
+	}
+
+	private static class Key {
+
+		private final Control parent;
+		private final Class<?> clazz;
+		private final int index;
+		private final String matcher;
+
+		public Key(Control parent, Class<?> clazz, int index, Matcher<?> matcher) {
+			this.parent = parent;
+			this.clazz = clazz;
+			this.index = index;
+			this.matcher = matcher.toString();
+		}
+
+		@Override
+		public int hashCode() {
+			int result = System.identityHashCode(parent);
+			result = 31 * result + clazz.hashCode();
+			result = 31 * result + index;
+			return 31 * result + matcher.hashCode();
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return parent == other.parent && clazz == other.clazz && index == other.index
+					&& matcher.equals(other.matcher);
+		}
+	}
+}
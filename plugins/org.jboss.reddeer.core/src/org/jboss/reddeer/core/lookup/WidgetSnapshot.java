@@ -0,0 +1,164 @@
+/******************************************************************************* 
+ * Copyright (c) 2016 Red Hat, Inc. 
+ * Distributed under license by Red Hat, Inc. All rights reserved. 
+ * This program is made available under the terms of the 
+ * Eclipse Public License v1.0 which accompanies this distribution, 
+ * and is available at http://www.eclipse.org/legal/epl-v10.html 
+ * 
+ * Contributors: 
+ * Red Hat, Inc. - initial API and implementation 
+ ******************************************************************************/ 
+package org.jboss.reddeer.core.lookup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.swt.widgets.Control;
+import org.eclipse.swt.widgets.Widget;
+import org.hamcrest.Matcher;
+import org.jboss.reddeer.common.util.Display;
+import org.jboss.reddeer.common.util.ResultRunnable;
+import org.jboss.reddeer.core.resolver.WidgetResolver;
+
+/**
+ * Immutable snapshot of widgets matching a matcher within a widget subtree.
+ * Whole subtree is walked, and matcher is evaluated, in a single UI thread pass
+ * so the lookup costs one UI thread round trip instead of one per widget.
+ *
+ * @param <T> type of captured widgets
+ */
+public class WidgetSnapshot<T extends Widget> {
+
+	private final List<T> widgets;
+
+	private WidgetSnapshot(List<T> widgets) {
+		this.widgets = Collections.unmodifiableList(widgets);
+	}
+
+	/**
+	 * Captures all visible widgets in subtree of specified parent widget matching specified matcher.
+	 *
+	 * @param <T> the generic type
+	 * @param parentWidget root of the subtree, included in the lookup
+	 * @param matcher matcher to match widgets
+	 * @param recursive true for recursive search, false to evaluate parent widget only
+	 * @return snapshot of matching widgets in depth-first order
+	 */
+	public static <T extends Widget> WidgetSnapshot<T> capture(final Widget parentWidget, final Matcher<T> matcher,
+			final boolean recursive) {
+		return Display.syncExec(new ResultRunnable<WidgetSnapshot<T>>() {
+			@Override
+			public WidgetSnapshot<T> run() {
+				Set<T> controls = new LinkedHashSet<T>();
+				collect(parentWidget, matcher, recursive, controls);
+				return new WidgetSnapshot<T>(new ArrayList<T>(controls));
+			}
+		});
+	}
+
+	/**
+	 * Finds widget with specified index among visible widgets in subtree of specified parent
+	 * widget matching specified matcher. The walk stops as soon as the widget is found.
+	 *
+	 * @param <T> the generic type
+	 * @param parentWidget root of the subtree, included in the lookup
+	 * @param matcher matcher to match widgets
+	 * @param recursive true for recursive search, false to evaluate parent widget only
+	 * @param index index of the widget in depth-first order of matching widgets
+	 * @return matching widget with specified index or null if there is no such widget
+	 */
+	public static <T extends Widget> T find(final Widget parentWidget, final Matcher<T> matcher,
+			final boolean recursive, final int index) {
+		return Display.syncExec(new ResultRunnable<T>() {
+			@Override
+			public T run() {
+				return find(parentWidget, matcher, recursive, new int[] { index });
+			}
+		});
+	}
+
+	/**
+	 * Gets captured widgets.
+	 *
+	 * @return unmodifiable list of captured widgets
+	 */
+	public List<T> getWidgets() {
+		return widgets;
+	}
+
+	/**
+	 * Gets captured widget with specified index.
+	 *
+	 * @param index index of widget
+	 * @return widget with specified index or null if index is out of range
+	 */
+	public T get(int index) {
+		return index >= 0 && index < widgets.size() ? widgets.get(index) : null;
+	}
+
+	/**
+	 * Gets number of captured widgets.
+	 *
+	 * @return number of captured widgets
+	 */
+	public int size() {
+		return widgets.size();
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T extends Widget> void collect(Widget widget, Matcher<T> matcher, boolean recursive,
+			Set<T> controls) {
+		if (!isVisible(widget)) {
+			return;
+		}
+		if (matcher.matches(widget)) {
+			try {
+				controls.add((T) widget);
+			} catch (ClassCastException exception) {
+				throw new IllegalArgumentException("The specified matcher should only match against is declared type.", exception);
+			}
+		}
+		if (recursive) {
+			for (Widget child : WidgetResolver.getInstance().getChildren(widget)) {
+				collect(child, matcher, recursive, controls);
+			}
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T extends Widget> T find(Widget widget, Matcher<T> matcher, boolean recursive, int[] index) {
+		if (!isVisible(widget)) {
+			return null;
+		}
+		if (matcher.matches(widget)) {
+			try {
+				T control = (T) widget;
+				if (index[0] <= 0) {
+					return control;
+				}
+				index[0]--;
+			} catch (ClassCastException exception) {
+				throw new IllegalArgumentException("The specified matcher should only match against is declared type.", exception);
+			}
+		}
+		if (recursive) {
+			for (Widget child : WidgetResolver.getInstance().getChildren(widget)) {
+				T control = find(child, matcher, recursive, index);
+				if (control != null) {
+					return control;
+				}
+			}
+		}
+		return null;
+	}
+
+	private static boolean isVisible(Widget widget) {
+		if (widget == null || widget.isDisposed()) {
+			return false;
+		}
+		return !(widget instanceof Control) || ((Control) widget).getVisible();
+	}
+}
@@ -0,0 +1,97 @@
+/******************************************************************************* 
+ * Copyright (c) 2016 Red Hat, Inc. 
+ * Distributed under license by Red Hat, Inc. All rights reserved. 
+ * This program is made available under the terms of the 
+ * Eclipse Public License v1.0 which accompanies this distribution, 
+ * and is available at http://www.eclipse.org/legal/epl-v10.html 
+ * 
+ * Contributors: 
+ * Red Hat, Inc. - initial API and implementation 
+ ******************************************************************************/ 
+package org.jboss.reddeer.eclipse.condition;
+
+import java.util.regex.Pattern;
+
+import org.jboss.reddeer.common.condition.AbstractWaitCondition;
+import org.jboss.reddeer.common.condition.ObservableWaitCondition;
+import org.jboss.reddeer.common.wait.WaitNotifier;
+import org.jboss.reddeer.eclipse.ui.console.ConsolePatternWatch;
+
+/**
+ * Wait condition which is fulfilled once a pattern watched by {@link ConsolePatternWatch}
+ * appears in a console. Waiting thread is woken up immediately when the pattern matches.
+ * 
+ * @since 2.0
+ */
+public class ConsoleHasMatch extends AbstractWaitCondition implements ObservableWaitCondition {
+
+	private ConsolePatternWatch watch;
+	private Pattern pattern;
+
+	/**
+	 * Creates new ConsoleHasMatch wait condition waiting until any of patterns
+	 * watched by specified watch matches.
+	 * 
+	 * @param watch console pattern watch
+	 */
+	public ConsoleHasMatch(ConsolePatternWatch watch) {
+		this(watch, null);
+	}
+
+	/**
+	 * Creates new ConsoleHasMatch wait condition waiting until specified pattern
+	 * watched by specified watch matches.
+	 * 
+	 * @param watch console pattern watch
+	 * @param pattern one of patterns of the watch
+	 */
+	public ConsoleHasMatch(ConsolePatternWatch watch, Pattern pattern) {
+		if (pattern != null && !watch.getPatterns().contains(pattern)) {
+			throw new IllegalArgumentException("Pattern '" + pattern.pattern() + "' is not watched");
+		}
+		this.watch = watch;
+		this.pattern = pattern;
+	}
+
+	@Override
+	public boolean test() {
+		return pattern == null ? watch.hasMatch() : watch.hasMatch(pattern);
+	}
+
+	@Override
+	public String description() {
+		return "console matches " + (pattern == null ? watch.getPatterns() : "'" + pattern.pattern() + "'");
+	}
+
+	/* (non-Javadoc)
+	 * @see org.jboss.reddeer.common.condition.WaitCondition#errorMessageWhile()
+	 */
+	@Override
+	public String errorMessageWhile() {
+		return "console still matches: " + watch.getMatches();
+	}
+
+	/* (non-Javadoc)
+	 * @see org.jboss.reddeer.common.condition.WaitCondition#errorMessageUntil()
+	 */
+	@Override
+	public String errorMessageUntil() {
+		return "console does not match " + (pattern == null ? watch.getPatterns() : "'" + pattern.pattern() + "'");
+	}
+
+	/* (non-Javadoc)
+	 * @see org.jboss.reddeer.common.condition.ObservableWaitCondition#addWaitNotifier(org.jboss.reddeer.common.wait.WaitNotifier)
+	 */
+	@Override
+	public void addWaitNotifier(WaitNotifier notifier) {
+		watch.addWaitNotifier(notifier);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.jboss.reddeer.common.condition.ObservableWaitCondition#removeWaitNotifier(org.jboss.reddeer.common.wait.WaitNotifier)
+	 */
+	@Override
+	public void removeWaitNotifier(WaitNotifier notifier) {
+		watch.removeWaitNotifier(notifier);
+	}
+}
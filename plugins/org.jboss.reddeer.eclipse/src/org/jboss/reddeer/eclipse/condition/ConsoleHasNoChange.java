@@ -12,10 +12,13 @@ package org.jboss.reddeer.eclipse.condition;
 
 import org.jboss.reddeer.common.condition.AbstractWaitCondition;
 import org.jboss.reddeer.common.wait.TimePeriod;
+import org.jboss.reddeer.eclipse.ui.console.ConsoleObserver;
 import org.jboss.reddeer.eclipse.ui.console.ConsoleView;
 
 /**
  * Returns true if a console has no change for the specified time period.
+ * Changes of a text console are tracked by {@link ConsoleObserver}, so console
+ * content is not read while polling.
  * 
  * @author Andrej Podhradsky
  * 
@@ -24,6 +27,7 @@ public class ConsoleHasNoChange extends AbstractWaitCondition {
 
 	private TimePeriod timePeriod;
 
+	private ConsoleObserver observer;
 	private String consoleText;
 	private long consoleTime;
 
@@ -42,7 +46,10 @@ public class ConsoleHasNoChange extends AbstractWaitCondition {
 	 */
 	public ConsoleHasNoChange(TimePeriod timePeriod) {
 		this.timePeriod = timePeriod;
-		this.consoleText = getConsoleText();
+		this.observer = getConsoleObserver();
+		if (observer == null) {
+			this.consoleText = getConsoleText();
+		}
 		this.consoleTime = System.currentTimeMillis();
 	}
 
@@ -51,13 +58,22 @@ public class ConsoleHasNoChange extends AbstractWaitCondition {
 	 */
 	@Override
 	public boolean test() {
-		String currentConsoleText = getConsoleText();
 		long currentConsoleTime = System.currentTimeMillis();
-
-		if (!currentConsoleText.equals(consoleText)) {
-			consoleText = currentConsoleText;
-			consoleTime = currentConsoleTime;
-			return false;
+		ConsoleObserver currentObserver = ConsoleObserver.getDisplayedConsoleObserver();
+		if (currentObserver != null || observer != null) {
+			if (currentObserver != observer) {
+				observer = currentObserver;
+				consoleTime = currentConsoleTime;
+				return false;
+			}
+			consoleTime = Math.max(consoleTime, observer.getLastChangeTime());
+		} else {
+			String currentConsoleText = getConsoleText();
+			if (currentConsoleText == null ? consoleText != null : !currentConsoleText.equals(consoleText)) {
+				consoleText = currentConsoleText;
+				consoleTime = currentConsoleTime;
+				return false;
+			}
 		}
 
 		return currentConsoleTime - consoleTime - timePeriod.getSeconds() * 1000 >= 0;
@@ -71,6 +87,13 @@ public class ConsoleHasNoChange extends AbstractWaitCondition {
 		return "Console is still changing";
 	}
 
+	private static ConsoleObserver getConsoleObserver() {
+		ConsoleView consoleView = new ConsoleView();
+		consoleView.open();
+
+		return consoleView.getConsoleObserver();
+	}
+
 	private static String getConsoleText() {
 		ConsoleView consoleView = new ConsoleView();
 		consoleView.open();
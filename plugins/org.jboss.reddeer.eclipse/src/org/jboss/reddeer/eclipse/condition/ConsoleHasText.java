@@ -11,10 +11,12 @@
 package org.jboss.reddeer.eclipse.condition;
 
 import org.jboss.reddeer.common.condition.AbstractWaitCondition;
+import org.jboss.reddeer.eclipse.ui.console.ConsoleObserver;
 import org.jboss.reddeer.eclipse.ui.console.ConsoleView;
 
 /**
- * Wait condition for existence of text.
+ * Wait condition for existence of text. Text console is searched incrementally
+ * by {@link ConsoleObserver}, i.e. each poll reads only newly appended text.
  * 
  * @author apodhrad, mlabuda@redhat.com
  * @contributor jkopriva@redhat.com
@@ -24,6 +26,7 @@ public class ConsoleHasText extends AbstractWaitCondition {
 
 	private String text;
 	private ConsoleView consoleView;
+	private ConsoleObserver.Mark mark;
 	
 	/**
 	 * Creates new ConsoleHasText wait condition waiting until a console
@@ -48,6 +51,13 @@ public class ConsoleHasText extends AbstractWaitCondition {
 	
 	@Override
 	public boolean test() {
+		ConsoleObserver observer = ConsoleObserver.getDisplayedConsoleObserver();
+		if (observer != null) {
+			if (mark == null || mark.getObserver() != observer) {
+				mark = observer.markStart();
+			}
+			return observer.hasTextSince(mark, text);
+		}
 		String consoleText = consoleView.getConsoleText();
 		if (consoleText == null) {
 			return false;
@@ -0,0 +1,78 @@
+/******************************************************************************* 
+ * Copyright (c) 2016 Red Hat, Inc. 
+ * Distributed under license by Red Hat, Inc. All rights reserved. 
+ * This program is made available under the terms of the 
+ * Eclipse Public License v1.0 which accompanies this distribution, 
+ * and is available at http://www.eclipse.org/legal/epl-v10.html 
+ * 
+ * Contributors: 
+ * Red Hat, Inc. - initial API and implementation 
+ ******************************************************************************/ 
+package org.jboss.reddeer.eclipse.ui.console;
+
+import java.util.regex.Pattern;
+
+/**
+ * Match of a pattern watched by {@link ConsolePatternWatch}.
+ *
+ * @since 2.0
+ */
+public class ConsoleMatch {
+
+	private final Pattern pattern;
+
+	private final String text;
+
+	private final long offset;
+
+	private final long time;
+
+	ConsoleMatch(Pattern pattern, String text, long offset, long time) {
+		this.pattern = pattern;
+		this.text = text;
+		this.offset = offset;
+		this.time = time;
+	}
+
+	/**
+	 * Gets pattern which matched.
+	 *
+	 * @return matched pattern
+	 */
+	public Pattern getPattern() {
+		return pattern;
+	}
+
+	/**
+	 * Gets matched text.
+	 *
+	 * @return matched text
+	 */
+	public String getText() {
+		return text;
+	}
+
+	/**
+	 * Gets absolute offset of the match in console, i.e. text removed by clearing or trimming
+	 * of the console is counted in.
+	 *
+	 * @return offset of the match
+	 */
+	public long getOffset() {
+		return offset;
+	}
+
+	/**
+	 * Gets time when the match appeared in console.
+	 *
+	 * @return time of the match in milliseconds
+	 */
+	public long getTime() {
+		return time;
+	}
+
+	@Override
+	public String toString() {
+		return "'" + text + "' matching '" + pattern.pattern() + "' at offset " + offset;
+	}
+}
@@ -0,0 +1,386 @@
+/******************************************************************************* 
+ * Copyright (c) 2016 Red Hat, Inc. 
+ * Distributed under license by Red Hat, Inc. All rights reserved. 
+ * This program is made available under the terms of the 
+ * Eclipse Public License v1.0 which accompanies this distribution, 
+ * and is available at http://www.eclipse.org/legal/epl-v10.html 
+ * 
+ * Contributors: 
+ * Red Hat, Inc. - initial API and implementation 
+ ******************************************************************************/ 
+package org.jboss.reddeer.eclipse.ui.console;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Pattern;
+
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.DocumentEvent;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IDocumentListener;
+import org.eclipse.ui.IViewPart;
+import org.eclipse.ui.IWorkbenchPage;
+import org.eclipse.ui.IWorkbenchWindow;
+import org.eclipse.ui.PlatformUI;
+import org.eclipse.ui.console.ConsolePlugin;
+import org.eclipse.ui.console.IConsole;
+import org.eclipse.ui.console.IConsoleConstants;
+import org.eclipse.ui.console.IConsoleListener;
+import org.eclipse.ui.console.IConsoleView;
+import org.eclipse.ui.console.TextConsole;
+import org.jboss.reddeer.common.logging.Logger;
+import org.jboss.reddeer.common.util.Display;
+import org.jboss.reddeer.common.util.ResultRunnable;
+
+/**
+ * Observes document of a text console incrementally. Document listener is attached to the
+ * document once and it records length of the document, time of the last change and number
+ * of changes. Text is searched by {@link Mark} which remembers how far the document was
+ * already searched, thus repeated polling reads only text appended since the previous poll
+ * instead of copying whole console content.
+ * <br>
+ * Positions are absolute, i.e. text removed from the beginning of the document (clearing
+ * or trimming of the console) does not move them. Any other modification of already
+ * written text invalidates what was searched and the next search starts over.
+ *
+ * @since 2.0
+ */
+public class ConsoleObserver {
+
+	private static final Logger logger = Logger.getLogger(ConsoleObserver.class);
+
+	private static final Map<IConsole, ConsoleObserver> observers = new HashMap<IConsole, ConsoleObserver>();
+
+	private static boolean listening;
+
+	private final IConsole console;
+
+	private final IDocument document;
+
+	private final IDocumentListener documentListener = new IDocumentListener() {
+
+		@Override
+		public void documentAboutToBeChanged(DocumentEvent event) {
+		}
+
+		@Override
+		public void documentChanged(DocumentEvent event) {
+			changed(event.getOffset(), event.getLength(), event.getText() == null ? "" : event.getText());
+		}
+	};
+
+	private final List<ConsolePatternWatch> watches = new CopyOnWriteArrayList<ConsolePatternWatch>();
+
+	private long length;
+
+	private long trimmed;
+
+	private long generation;
+
+	private long changeCount;
+
+	private long lastChangeTime;
+
+	private ConsoleObserver(IConsole console, IDocument document) {
+		this.console = console;
+		this.document = document;
+		this.length = document.getLength();
+		this.lastChangeTime = System.currentTimeMillis();
+	}
+
+	/**
+	 * Gets observer of the console displayed in Console view. Console view is not activated.
+	 *
+	 * @return observer of displayed console or null if Console view is not opened or it does
+	 *         not display a text console
+	 */
+	public static ConsoleObserver getDisplayedConsoleObserver() {
+		return Display.syncExec(new ResultRunnable<ConsoleObserver>() {
+			@Override
+			public ConsoleObserver run() {
+				IWorkbenchWindow window = PlatformUI.getWorkbench().getActiveWorkbenchWindow();
+				IWorkbenchPage page = window == null ? null : window.getActivePage();
+				IViewPart view = page == null ? null : page.findView(IConsoleConstants.ID_CONSOLE_VIEW);
+				if (!(view instanceof IConsoleView)) {
+					return null;
+				}
+				return getObserverInUIThread(((IConsoleView) view).getConsole());
+			}
+		});
+	}
+
+	/**
+	 * Gets observer of specified console. Console does not have to be displayed.
+	 *
+	 * @param console console to observe
+	 * @return observer of specified console or null if it is not a text console
+	 */
+	public static ConsoleObserver getObserver(final IConsole console) {
+		return Display.syncExec(new ResultRunnable<ConsoleObserver>() {
+			@Override
+			public ConsoleObserver run() {
+				return getObserverInUIThread(console);
+			}
+		});
+	}
+
+	private static synchronized ConsoleObserver getObserverInUIThread(IConsole console) {
+		if (!(console instanceof TextConsole)) {
+			return null;
+		}
+		ConsoleObserver observer = observers.get(console);
+		if (observer == null) {
+			startListening();
+			observer = new ConsoleObserver(console, ((TextConsole) console).getDocument());
+			observer.document.addDocumentListener(observer.documentListener);
+			observers.put(console, observer);
+			logger.debug("Observing console '" + console.getName() + "'");
+		}
+		return observer;
+	}
+
+	private static void startListening() {
+		if (listening) {
+			return;
+		}
+		ConsolePlugin.getDefault().getConsoleManager().addConsoleListener(new IConsoleListener() {
+
+			@Override
+			public void consolesAdded(IConsole[] consoles) {
+			}
+
+			@Override
+			public void consolesRemoved(IConsole[] consoles) {
+				synchronized (ConsoleObserver.class) {
+					for (IConsole console : consoles) {
+						ConsoleObserver observer = observers.remove(console);
+						if (observer != null) {
+							observer.document.removeDocumentListener(observer.documentListener);
+						}
+					}
+				}
+			}
+		});
+		listening = true;
+	}
+
+	private synchronized void changed(int offset, int removed, String text) {
+		int inserted = text.length();
+		boolean appended = removed == 0 && offset == length;
+		boolean replaced = !appended && offset == 0 && removed == length;
+		boolean edited = false;
+		if (replaced || !appended && offset == 0 && inserted == 0) {
+			// console cleared or trimmed, remaining text keeps its absolute position
+			trimmed += removed;
+		} else if (!appended) {
+			edited = true;
+			generation++;
+		}
+		length += inserted - removed;
+		changeCount++;
+		lastChangeTime = System.currentTimeMillis();
+		for (ConsolePatternWatch watch : watches) {
+			if (replaced || edited) {
+				watch.reset();
+			}
+			if ((appended || replaced) && inserted > 0) {
+				watch.appended(trimmed + length - inserted, text);
+			}
+		}
+	}
+
+	/**
+	 * Starts watching text appended to console for specified patterns. Only text appended
+	 * after this call is watched.
+	 *
+	 * @param maxCarryOver maximal number of characters of already watched text kept for
+	 *            matches spanning several chunks of console output
+	 * @param patterns patterns to watch
+	 * @return pattern watch which has to be closed once it is not needed
+	 */
+	public ConsolePatternWatch watch(int maxCarryOver, Pattern... patterns) {
+		ConsolePatternWatch watch = new ConsolePatternWatch(this, maxCarryOver, patterns);
+		watches.add(watch);
+		return watch;
+	}
+
+	void removeWatch(ConsolePatternWatch watch) {
+		watches.remove(watch);
+	}
+
+	/**
+	 * Gets observed console.
+	 *
+	 * @return observed console
+	 */
+	public IConsole getConsole() {
+		return console;
+	}
+
+	/**
+	 * Gets current length of console document.
+	 *
+	 * @return length of console document
+	 */
+	public synchronized long getLength() {
+		return length;
+	}
+
+	/**
+	 * Gets number of changes of console document since it is observed.
+	 *
+	 * @return number of changes
+	 */
+	public synchronized long getChangeCount() {
+		return changeCount;
+	}
+
+	/**
+	 * Gets time of the last change of console document. If document was not changed
+	 * since it is observed, time when observing started is returned.
+	 *
+	 * @return time of the last change in milliseconds
+	 */
+	public synchronized long getLastChangeTime() {
+		return lastChangeTime;
+	}
+
+	/**
+	 * Creates a mark at the current end of console document. Only text appended after
+	 * the mark is searched by the mark.
+	 *
+	 * @return mark at the end of console document
+	 */
+	public synchronized Mark mark() {
+		return new Mark(this, trimmed + length, generation);
+	}
+
+	/**
+	 * Creates a mark at the beginning of console document. Whole console content is searched
+	 * by the mark.
+	 *
+	 * @return mark at the beginning of console document
+	 */
+	public synchronized Mark markStart() {
+		return new Mark(this, 0, generation);
+	}
+
+	/**
+	 * Finds out whether console contains specified text after specified mark. Only text
+	 * which was not searched by the mark yet is read from console document.
+	 *
+	 * @param mark mark created by this observer
+	 * @param text text to search for
+	 * @return true if text is present in console after the mark, false otherwise
+	 */
+	public boolean hasTextSince(final Mark mark, final String text) {
+		if (mark.observer != this) {
+			throw new IllegalArgumentException("Mark was not created by this console observer");
+		}
+		return Display.syncExec(new ResultRunnable<Boolean>() {
+			@Override
+			public Boolean run() {
+				synchronized (ConsoleObserver.this) {
+					return search(mark, text);
+				}
+			}
+		});
+	}
+
+	/**
+	 * Gets text appended to console after specified mark.
+	 *
+	 * @param mark mark created by this observer
+	 * @return text after the mark which is still present in console
+	 */
+	public String getTextSince(final Mark mark) {
+		return Display.syncExec(new ResultRunnable<String>() {
+			@Override
+			public String run() {
+				synchronized (ConsoleObserver.this) {
+					long from = Math.max(mark.start, trimmed);
+					return read(from, trimmed + length);
+				}
+			}
+		});
+	}
+
+	private boolean search(Mark mark, String text) {
+		long end = trimmed + length;
+		if (mark.generation != generation || !text.equals(mark.text)) {
+			mark.generation = generation;
+			mark.text = text;
+			mark.scanned = mark.start;
+			mark.found = -1;
+		}
+		if (mark.found >= 0) {
+			if (mark.found >= trimmed) {
+				return true;
+			}
+			mark.found = -1;
+		}
+		if (text.isEmpty()) {
+			return end > Math.max(mark.start, trimmed);
+		}
+		long from = Math.max(Math.max(mark.start, trimmed), mark.scanned - text.length() + 1);
+		mark.scanned = end;
+		if (end - from < text.length()) {
+			return false;
+		}
+		int index = read(from, end).indexOf(text);
+		if (index < 0) {
+			return false;
+		}
+		mark.found = from + index;
+		return true;
+	}
+
+	private String read(long from, long to) {
+		if (to <= from) {
+			return "";
+		}
+		try {
+			return document.get((int) (from - trimmed), (int) (to - from));
+		} catch (BadLocationException e) {
+			logger.warn("Cannot read console document: " + e.getMessage());
+			return "";
+		}
+	}
+
+	/**
+	 * Position in observed console remembering how far console was already searched.
+	 * Mark is not thread safe and it is supposed to be used by a single wait condition.
+	 */
+	public static class Mark {
+
+		private final ConsoleObserver observer;
+
+		private final long start;
+
+		private long scanned;
+
+		private long generation;
+
+		private long found = -1;
+
+		private String text;
+
+		private Mark(ConsoleObserver observer, long start, long generation) {
+			this.observer = observer;
+			this.start = start;
+			this.scanned = start;
+			this.generation = generation;
+		}
+
+		/**
+		 * Gets observer which created the mark.
+		 *
+		 * @return console observer
+		 */
+		public ConsoleObserver getObserver() {
+			return observer;
+		}
+	}
+}
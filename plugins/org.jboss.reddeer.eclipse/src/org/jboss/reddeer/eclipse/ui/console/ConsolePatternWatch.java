@@ -0,0 +1,299 @@
+/******************************************************************************* 
+ * Copyright (c) 2016 Red Hat, Inc. 
+ * Distributed under license by Red Hat, Inc. All rights reserved. 
+ * This program is made available under the terms of the 
+ * Eclipse Public License v1.0 which accompanies this distribution, 
+ * and is available at http://www.eclipse.org/legal/epl-v10.html 
+ * 
+ * Contributors: 
+ * Red Hat, Inc. - initial API and implementation 
+ ******************************************************************************/ 
+package org.jboss.reddeer.eclipse.ui.console;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.jboss.reddeer.common.logging.Logger;
+import org.jboss.reddeer.common.wait.WaitNotifier;
+
+/**
+ * Watches text appended to a console for a set of patterns. Document listener of
+ * {@link ConsoleObserver} only hands appended text over to a background thread shared
+ * by all watches, so UI thread writing to console is not slowed down by pattern matching.
+ * Patterns are evaluated only against newly appended text together with a bounded carry-over
+ * of previous text, so matches spanning several chunks of console output are found as well.
+ * Matches are recorded with their offsets and times of appending and registered wait notifiers
+ * are woken up as soon as the text is evaluated, see
+ * {@link org.jboss.reddeer.eclipse.condition.ConsoleHasMatch}. Use {@link #flush()} to wait
+ * until all text appended so far is evaluated.
+ * <br>
+ * Watch is created by {@link ConsoleView#watchConsole(Pattern...)} and should be closed
+ * once it is not needed.
+ *
+ * @since 2.0
+ */
+public class ConsolePatternWatch {
+
+	private static final Logger logger = Logger.getLogger(ConsolePatternWatch.class);
+
+	/**
+	 * Default maximal number of characters of already watched text kept for matches
+	 * spanning several chunks.
+	 */
+	public static final int DEFAULT_CARRY_OVER = 4096;
+
+	/**
+	 * Maximal number of recorded matches, further matches are only counted. First match
+	 * of each pattern is always kept.
+	 */
+	public static final int MAX_RECORDED_MATCHES = 1000;
+
+	private static final ExecutorService evaluator = Executors.newSingleThreadExecutor(new ThreadFactory() {
+		@Override
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new Thread(runnable, "RedDeer console pattern watch");
+			thread.setDaemon(true);
+			return thread;
+		}
+	});
+
+	private final ConsoleObserver observer;
+
+	private final Pattern[] patterns;
+
+	private final long[] matchedUntil;
+
+	private final int maxCarryOver;
+
+	private final List<ConsoleMatch> matches = new ArrayList<ConsoleMatch>();
+
+	private final Map<Pattern, ConsoleMatch> firstMatches = new HashMap<Pattern, ConsoleMatch>();
+
+	private final List<WaitNotifier> notifiers = new CopyOnWriteArrayList<WaitNotifier>();
+
+	private String carryOver = "";
+
+	private long carryOverOffset;
+
+	private long matchCount;
+
+	private boolean closed;
+
+	ConsolePatternWatch(ConsoleObserver observer, int maxCarryOver, Pattern... patterns) {
+		if (patterns.length == 0) {
+			throw new IllegalArgumentException("At least one pattern has to be watched");
+		}
+		this.observer = observer;
+		this.patterns = patterns.clone();
+		this.matchedUntil = new long[patterns.length];
+		this.maxCarryOver = maxCarryOver;
+	}
+
+	/**
+	 * Schedules evaluation of patterns against text appended to console. Called by console observer.
+	 *
+	 * @param offset absolute offset of appended text
+	 * @param text appended text
+	 */
+	void appended(final long offset, final String text) {
+		if (text.isEmpty()) {
+			return;
+		}
+		final long time = System.currentTimeMillis();
+		evaluator.execute(new Runnable() {
+			@Override
+			public void run() {
+				try {
+					evaluate(offset, text, time);
+				} catch (RuntimeException e) {
+					logger.error("Cannot evaluate console patterns " + Arrays.toString(patterns), e);
+				}
+			}
+		});
+	}
+
+	/**
+	 * Schedules forgetting of carry-over because console text before next appended text changed.
+	 * Called by console observer.
+	 */
+	void reset() {
+		evaluator.execute(new Runnable() {
+			@Override
+			public void run() {
+				synchronized (ConsolePatternWatch.this) {
+					carryOver = "";
+				}
+			}
+		});
+	}
+
+	/**
+	 * Waits until all text appended to console so far is evaluated. Should not be called from
+	 * a notifier registered to a watch because notifiers are woken up by evaluating thread.
+	 */
+	public void flush() {
+		try {
+			evaluator.submit(new Runnable() {
+				@Override
+				public void run() {
+				}
+			}).get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (ExecutionException e) {
+			logger.error("Cannot wait for evaluation of console patterns", e);
+		}
+	}
+
+	private void evaluate(long offset, String text, long time) {
+		boolean matched = false;
+		synchronized (this) {
+			if (closed) {
+				return;
+			}
+			if (carryOverOffset + carryOver.length() != offset) {
+				carryOver = "";
+			}
+			String buffer = carryOver + text;
+			long bufferOffset = offset - carryOver.length();
+			for (int i = 0; i < patterns.length; i++) {
+				Matcher matcher = patterns[i].matcher(buffer);
+				int from = (int) Math.max(0, matchedUntil[i] - bufferOffset);
+				while (from <= buffer.length() && matcher.find(from)) {
+					// matches lying completely in carry-over were reported already
+					if (matcher.end() > carryOver.length()) {
+						record(new ConsoleMatch(patterns[i], matcher.group(), bufferOffset + matcher.start(), time));
+						matchedUntil[i] = bufferOffset + matcher.end();
+						matched = true;
+					}
+					from = matcher.end() == matcher.start() ? matcher.end() + 1 : matcher.end();
+				}
+			}
+			int keep = Math.min(buffer.length(), maxCarryOver);
+			carryOver = buffer.substring(buffer.length() - keep);
+			carryOverOffset = offset + text.length() - keep;
+		}
+		if (matched) {
+			for (WaitNotifier notifier : notifiers) {
+				notifier.wakeUp();
+			}
+		}
+	}
+
+	private void record(ConsoleMatch match) {
+		matchCount++;
+		if (!firstMatches.containsKey(match.getPattern())) {
+			firstMatches.put(match.getPattern(), match);
+		}
+		if (matches.size() < MAX_RECORDED_MATCHES) {
+			matches.add(match);
+		}
+		logger.debug("Console pattern matched: " + match);
+	}
+
+	/**
+	 * Gets watched patterns.
+	 *
+	 * @return watched patterns
+	 */
+	public List<Pattern> getPatterns() {
+		return Collections.unmodifiableList(Arrays.asList(patterns));
+	}
+
+	/**
+	 * Finds out whether any watched pattern matched.
+	 *
+	 * @return true if any pattern matched, false otherwise
+	 */
+	public synchronized boolean hasMatch() {
+		return matchCount > 0;
+	}
+
+	/**
+	 * Finds out whether specified pattern matched.
+	 *
+	 * @param pattern one of watched patterns
+	 * @return true if pattern matched, false otherwise
+	 */
+	public synchronized boolean hasMatch(Pattern pattern) {
+		return firstMatches.containsKey(pattern);
+	}
+
+	/**
+	 * Gets first match of any watched pattern.
+	 *
+	 * @return first match or null if no pattern matched
+	 */
+	public synchronized ConsoleMatch getFirstMatch() {
+		return matches.isEmpty() ? null : matches.get(0);
+	}
+
+	/**
+	 * Gets first match of specified pattern.
+	 *
+	 * @param pattern one of watched patterns
+	 * @return first match of pattern or null if pattern did not match
+	 */
+	public synchronized ConsoleMatch getFirstMatch(Pattern pattern) {
+		return firstMatches.get(pattern);
+	}
+
+	/**
+	 * Gets recorded matches in order they appeared in console. At most
+	 * {@link #MAX_RECORDED_MATCHES} matches are recorded.
+	 *
+	 * @return recorded matches
+	 */
+	public synchronized List<ConsoleMatch> getMatches() {
+		return new ArrayList<ConsoleMatch>(matches);
+	}
+
+	/**
+	 * Gets number of all matches including those which were not recorded.
+	 *
+	 * @return number of matches
+	 */
+	public synchronized long getMatchCount() {
+		return matchCount;
+	}
+
+	/**
+	 * Registers notifier woken up whenever a watched pattern matches.
+	 *
+	 * @param notifier notifier to wake up
+	 */
+	public void addWaitNotifier(WaitNotifier notifier) {
+		notifiers.add(notifier);
+	}
+
+	/**
+	 * Unregisters notifier.
+	 *
+	 * @param notifier notifier to unregister
+	 */
+	public void removeWaitNotifier(WaitNotifier notifier) {
+		notifiers.remove(notifier);
+	}
+
+	/**
+	 * Stops watching console. Recorded matches are kept.
+	 */
+	public void close() {
+		synchronized (this) {
+			closed = true;
+			carryOver = "";
+		}
+		observer.removeWatch(this);
+	}
+}
@@ -10,6 +10,9 @@
  ******************************************************************************/ 
 package org.jboss.reddeer.eclipse.ui.console;
 
+import java.util.Arrays;
+import java.util.regex.Pattern;
+
 import org.hamcrest.Matcher;
 import org.hamcrest.core.IsEqual;
 import org.jboss.reddeer.common.condition.AbstractWaitCondition;
@@ -21,6 +24,7 @@ import org.jboss.reddeer.core.exception.CoreLayerException;
 import org.jboss.reddeer.eclipse.condition.ConsoleHasLabel;
 import org.jboss.reddeer.eclipse.condition.ConsoleHasLaunch;
 import org.jboss.reddeer.eclipse.condition.ConsoleIsTerminated;
+import org.jboss.reddeer.eclipse.exception.EclipseLayerException;
 import org.jboss.reddeer.swt.exception.SWTLayerException;
 import org.jboss.reddeer.swt.impl.label.DefaultLabel;
 import org.jboss.reddeer.swt.impl.menu.ToolItemMenu;
@@ -61,6 +65,47 @@ public class ConsoleView extends WorkbenchView {
 		return new DefaultStyledText().getText();
 	}
 	
+	/**
+	 * Gets observer of displayed console which allows to check console changes and
+	 * search console text incrementally.
+	 *
+	 * @return observer of displayed console or null if there is no text console to display
+	 */
+	public ConsoleObserver getConsoleObserver() {
+		activate();
+		return ConsoleObserver.getDisplayedConsoleObserver();
+	}
+
+	/**
+	 * Starts watching text appended to displayed console for specified patterns. Patterns
+	 * are evaluated only against newly appended text, use
+	 * {@link org.jboss.reddeer.eclipse.condition.ConsoleHasMatch} to wait for a match.
+	 * Watch has to be closed once it is not needed.
+	 *
+	 * @param patterns patterns to watch
+	 * @return pattern watch
+	 */
+	public ConsolePatternWatch watchConsole(Pattern... patterns) {
+		return watchConsole(ConsolePatternWatch.DEFAULT_CARRY_OVER, patterns);
+	}
+
+	/**
+	 * Starts watching text appended to displayed console for specified patterns.
+	 *
+	 * @param maxCarryOver maximal number of characters kept for matches spanning
+	 *            several chunks of console output
+	 * @param patterns patterns to watch
+	 * @return pattern watch
+	 */
+	public ConsolePatternWatch watchConsole(int maxCarryOver, Pattern... patterns) {
+		ConsoleObserver observer = getConsoleObserver();
+		if (observer == null) {
+			throw new EclipseLayerException("There is no text console to watch");
+		}
+		log.info("Watching console for " + Arrays.toString(patterns));
+		return observer.watch(maxCarryOver, patterns);
+	}
+
 	/**
 	 * Clears the console.
 	 */
@@ -184,6 +229,10 @@ public class ConsoleView extends WorkbenchView {
 
 		@Override
 		public boolean test() {
+			ConsoleObserver observer = ConsoleObserver.getDisplayedConsoleObserver();
+			if (observer != null && this.consoleText.isEmpty()) {
+				return observer.getLength() == 0;
+			}
 			try {
 				DefaultStyledText dstConsole = new DefaultStyledText();
 				return dstConsole.getText().equals(this.consoleText);
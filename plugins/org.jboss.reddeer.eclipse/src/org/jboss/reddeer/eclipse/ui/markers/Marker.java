@@ -45,8 +45,9 @@ public class Marker extends AbstractMarker {
 	protected String getCell(Column column) {
 		MarkersView markersView = new MarkersView();
 		List<String> columns = markersView.getProblemColumns();
-		if (columns.contains(column.toString())) {
-			return markerItem.getCell(markersView.getIndexOfColumn(column));
+		int index = columns.indexOf(column.toString());
+		if (index >= 0) {
+			return markerItem.getCell(index);
 		}
 		return null;
 	}
@@ -63,8 +63,9 @@ public class Problem extends AbstractMarker {
 	protected String getCell(Column column) {
 		ProblemsView problemsView = new ProblemsView();
 		List<String> columns = problemsView.getProblemColumns();
-		if (columns.contains(column.toString())) {
-			return markerItem.getCell(problemsView.getIndexOfColumn(column));
+		int index = columns.indexOf(column.toString());
+		if (index >= 0) {
+			return markerItem.getCell(index);
 		}
 		return null;
 	}
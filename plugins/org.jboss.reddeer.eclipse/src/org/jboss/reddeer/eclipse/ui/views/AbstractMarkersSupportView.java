@@ -13,11 +13,15 @@ package org.jboss.reddeer.eclipse.ui.views;
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.regex.Pattern;
 
 import org.jboss.reddeer.common.exception.RedDeerException;
+import org.jboss.reddeer.common.util.Display;
+import org.jboss.reddeer.common.util.PatternCache;
+import org.jboss.reddeer.common.util.ResultRunnable;
 import org.jboss.reddeer.common.wait.WaitWhile;
 import org.jboss.reddeer.core.condition.ShellWithTextIsAvailable;
-import org.jboss.reddeer.core.exception.CoreLayerException;
+import org.jboss.reddeer.core.handler.TreeItemHandler;
 import org.jboss.reddeer.eclipse.exception.EclipseLayerException;
 import org.jboss.reddeer.eclipse.ui.markers.AbstractMarker;
 import org.jboss.reddeer.eclipse.ui.markers.matcher.AbstractMarkerMatcher;
@@ -29,6 +33,7 @@ import org.jboss.reddeer.workbench.impl.menu.ViewMenu;
 import org.jboss.reddeer.swt.impl.shell.DefaultShell;
 import org.jboss.reddeer.swt.impl.table.DefaultTable;
 import org.jboss.reddeer.swt.impl.tree.DefaultTree;
+import org.jboss.reddeer.swt.impl.tree.DefaultTreeItem;
 import org.jboss.reddeer.workbench.impl.view.WorkbenchView;
 
 /**
@@ -181,6 +186,8 @@ public class AbstractMarkersSupportView extends WorkbenchView {
 	
 	/**
 	 * Gets markers of any type matching specified matcher as a list of markers of specific class.
+	 * Indices of matched columns are computed once and all cells of markers of specified type
+	 * are read in a single UI thread call.
 	 * 
 	 * @param clazz class of marker to get
 	 * @param markerType type of a marker (Error, Warning, Java Problem etc.)
@@ -189,78 +196,135 @@ public class AbstractMarkersSupportView extends WorkbenchView {
 	 */
 	protected <T extends AbstractMarker> List<T> getMarkers(Class<T> clazz, String markerType, AbstractMarkerMatcher... matchers) {
 		List<T> filteredResult = new ArrayList<T>();
-		List<TreeItem> markerItems = getAllSpecificMarkerItems(markerType);
-		if (markerItems != null) {
-			for (TreeItem markerItem: markerItems) {
-				if (matchMarkerTreeItem(markerItem, matchers)) {
-					try {
-						filteredResult.add(clazz.getConstructor(String.class, TreeItem.class).newInstance(
-								markerType, markerItem));
-					} catch (InstantiationException | IllegalAccessException | IllegalArgumentException
-							| InvocationTargetException | NoSuchMethodException | SecurityException e) {
-						// if something bad happen, print stack trace and throw RedDeer Exception 
-						e.printStackTrace();
-						throw new EclipseLayerException("Cannot create a new marker.");
-					}
+		activate();
+		DefaultTree tree = new DefaultTree();
+		List<MarkerRow> markerRows = getAllSpecificMarkerRows(tree.getSWTWidget(), markerType);
+		if (markerRows.isEmpty()) {
+			return filteredResult;
+		}
+		int[] columnIndices = getColumnIndices(tree.getHeaderColumns(), matchers);
+		for (MarkerRow markerRow: markerRows) {
+			if (matchMarkerRow(markerRow, columnIndices, matchers)) {
+				try {
+					filteredResult.add(clazz.getConstructor(String.class, TreeItem.class).newInstance(
+							markerType, new DefaultTreeItem(markerRow.item)));
+				} catch (InstantiationException | IllegalAccessException | IllegalArgumentException
+						| InvocationTargetException | NoSuchMethodException | SecurityException e) {
+					// if something bad happen, print stack trace and throw RedDeer Exception 
+					e.printStackTrace();
+					throw new EclipseLayerException("Cannot create a new marker.");
 				}
 			}
 		}
 		return filteredResult;
 	}
 
+	private int[] getColumnIndices(List<String> columns, AbstractMarkerMatcher... matchers) {
+		if (matchers == null) {
+			return new int[0];
+		}
+		int[] columnIndices = new int[matchers.length];
+		for (int i = 0; i < matchers.length; i++) {
+			columnIndices[i] = getColumnIndex(columns, matchers[i].getColumn().toString());
+		}
+		return columnIndices;
+	}
+
 	/** 
 	 * Matches a specific marker with provided matchers. 
-	 * @param item tree item of marker
+	 * @param markerRow cells of marker
+	 * @param columnIndices indices of columns matched by matchers
 	 * @param matchers matchers to match marker
 	 * @return true if marker matches all provided matchers, false otherwise
 	 */
-	private boolean matchMarkerTreeItem(TreeItem item, AbstractMarkerMatcher... matchers) {
-		boolean itemFitsMatchers = true;
-		if(matchers != null){
-			for (AbstractMarkerMatcher matcher: matchers) {
-				try{
-					if (!matcher.matches(item.getCell(getIndexOfColumn(matcher.getColumn())))) {
-						itemFitsMatchers = false;
-						break;
-					}
-				} catch (CoreLayerException ex){
-					//if widget is disposed we can ignore it - problem disappeared
-					if(!item.isDisposed()){
-						throw ex;
-					} else {
-						itemFitsMatchers = false;
-					}
+	private boolean matchMarkerRow(MarkerRow markerRow, int[] columnIndices, AbstractMarkerMatcher... matchers) {
+		if (matchers != null) {
+			for (int i = 0; i < matchers.length; i++) {
+				if (!matchers[i].matches(markerRow.getCell(columnIndices[i]))) {
+					return false;
 				}
 			}
 		}
-		return itemFitsMatchers;
+		return true;
 	}
 	
 	/**
-	 * Gets a list of tree items of a specific marker type. If such type is not listed, return null.
+	 * Gets cells of all markers of a specific marker type. If such type is not listed, returns empty list.
+	 * Markers which are disposed while being read are skipped, because such problems disappeared.
+	 * 
+	 * @param tree tree of markers
 	 * @param markerType type of a marker
-	 * @return list of markers of specific type or null if such type is not present (no such items)
+	 * @return cells of markers of specific type
 	 */
-	private List<TreeItem> getAllSpecificMarkerItems(String markerType) {
+	private List<MarkerRow> getAllSpecificMarkerRows(final org.eclipse.swt.widgets.Tree tree, String markerType) {
 		// suffix of marker type can be '(XX items)' or 'XXX of XXX items) 
 		String markerTypeSuffix = " \\(\\d+ .*\\)";
-		activate();
-		List<TreeItem> markerTypeItems = new DefaultTree().getItems();
-		for (TreeItem item: markerTypeItems) {
-			try {
-				if (item.getText().matches(markerType + markerTypeSuffix)) {
-					return item.getItems();
+		final Pattern markerTypePattern = PatternCache.getPattern(markerType + markerTypeSuffix);
+		final org.eclipse.swt.widgets.TreeItem markerTypeItem = Display.syncExec(
+				new ResultRunnable<org.eclipse.swt.widgets.TreeItem>() {
+			@Override
+			public org.eclipse.swt.widgets.TreeItem run() {
+				for (org.eclipse.swt.widgets.TreeItem item: tree.getItems()) {
+					if (!item.isDisposed() && markerTypePattern.matcher(item.getText()).matches()) {
+						return item;
+					}
+				}
+				return null;
+			}
+		});
+		if (markerTypeItem == null) {
+			return new ArrayList<MarkerRow>();
+		}
+		try {
+			TreeItemHandler.getInstance().expand(markerTypeItem);
+		} catch (RedDeerException ex) {
+			//if widget is disposed we can ignore it - problems disappeared
+			if (!markerTypeItem.isDisposed()) {
+				// if widget is not disposed, something else went wrong and we throw such exception
+				throw ex;
+			}
+			return new ArrayList<MarkerRow>();
+		}
+		return Display.syncExec(new ResultRunnable<List<MarkerRow>>() {
+			@Override
+			public List<MarkerRow> run() {
+				List<MarkerRow> markerRows = new ArrayList<MarkerRow>();
+				if (markerTypeItem.isDisposed()) {
+					return markerRows;
 				}
-			} catch (RedDeerException ex) {
-				//if widget is disposed we can ignore it - problem disappeared
-				if (!item.isDisposed()) {
-					// if widget is not disposed, something else went wrong and we throw such exception
-					throw ex;
+				int columnCount = Math.max(tree.getColumnCount(), 1);
+				for (org.eclipse.swt.widgets.TreeItem item: markerTypeItem.getItems()) {
+					if (item.isDisposed()) {
+						continue;
+					}
+					String[] cells = new String[columnCount];
+					for (int i = 0; i < columnCount; i++) {
+						cells[i] = item.getText(i);
+					}
+					markerRows.add(new MarkerRow(item, cells));
 				}
+				return markerRows;
 			}
+		});
+	}
+
+	/**
+	 * Marker tree item together with texts of its cells read at once.
+	 */
+	private static class MarkerRow {
+
+		private final org.eclipse.swt.widgets.TreeItem item;
+
+		private final String[] cells;
+
+		public MarkerRow(org.eclipse.swt.widgets.TreeItem item, String[] cells) {
+			this.item = item;
+			this.cells = cells;
+		}
+
+		public String getCell(int index) {
+			return index < cells.length ? cells[index] : "";
 		}
-		// If there is no group of specific marker type, return null
-		return null;
 	}
 	
 	/**
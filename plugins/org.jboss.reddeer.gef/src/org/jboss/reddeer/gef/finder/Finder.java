@@ -10,13 +10,16 @@
  ******************************************************************************/ 
 package org.jboss.reddeer.gef.finder;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
-import java.util.Stack;
 
 import org.hamcrest.Matcher;
 
 /**
+ * Finds objects in a tree by depth first search. Children are visited in reverse order,
+ * the order of found objects is the same for limited and unlimited searches.
  * 
  * @author apodhrad
  * 
@@ -25,6 +28,11 @@ import org.hamcrest.Matcher;
  */
 public abstract class Finder<T> {
 
+	/**
+	 * Value of count or depth limit meaning there is no limit.
+	 */
+	public static final int UNLIMITED = -1;
+
 	/**
 	 * Find.
 	 *
@@ -33,25 +41,69 @@ public abstract class Finder<T> {
 	 * @return the list
 	 */
 	public List<T> find(T parent, Matcher<?> matcher) {
+		return find(parent, matcher, UNLIMITED, UNLIMITED);
+	}
+
+	/**
+	 * Finds objects fulfilling the matcher. Search stops once the specified number of
+	 * objects is found.
+	 *
+	 * @param parent the parent
+	 * @param matcher the matcher
+	 * @param maxCount maximal number of found objects or {@link #UNLIMITED}
+	 * @return the list
+	 */
+	public List<T> find(T parent, Matcher<?> matcher, int maxCount) {
+		return find(parent, matcher, maxCount, UNLIMITED);
+	}
+
+	/**
+	 * Finds objects fulfilling the matcher. Search stops once the specified number of
+	 * objects is found and it does not descend deeper than the specified depth.
+	 *
+	 * @param parent the parent
+	 * @param matcher the matcher
+	 * @param maxCount maximal number of found objects or {@link #UNLIMITED}
+	 * @param maxDepth maximal depth of found objects, the parent has depth 0, or {@link #UNLIMITED}
+	 * @return the list
+	 */
+	public List<T> find(T parent, Matcher<?> matcher, int maxCount, int maxDepth) {
 		List<T> list = new ArrayList<T>();
-		Stack<T> stack = new Stack<T>();
+		if (parent == null || maxCount == 0) {
+			return list;
+		}
+		boolean bounded = maxDepth != UNLIMITED;
+		Deque<T> stack = new ArrayDeque<T>();
+		// depths are tracked only for bounded search
+		Deque<Integer> depths = new ArrayDeque<Integer>();
 		// Initial push
 		stack.push(parent);
+		if (bounded) {
+			depths.push(0);
+		}
 		// Depth first search
 		while (!stack.isEmpty()) {
-			// Pop figure
 			T child = stack.pop();
-			// If null then continue
-			if (child == null) {
-				continue;
-			}
+			int depth = bounded ? depths.pop() : 0;
 			// Does it matches?
 			if (matcher.matches(child)) {
 				list.add(child);
+				if (list.size() == maxCount) {
+					break;
+				}
+			}
+			if (bounded && depth >= maxDepth) {
+				continue;
 			}
 			// Push another children
 			for (T t : getChildren(child)) {
-				stack.push(t);
+				// ArrayDeque does not permit null elements
+				if (t != null) {
+					stack.push(t);
+					if (bounded) {
+						depths.push(depth + 1);
+					}
+				}
 			}
 		}
 		return list;
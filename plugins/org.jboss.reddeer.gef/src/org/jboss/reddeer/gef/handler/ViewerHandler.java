@@ -96,11 +96,28 @@ public class ViewerHandler {
 	 * @return List of edit parts
 	 */
 	public List<EditPart> getEditParts(final EditPartViewer viewer, final Matcher<EditPart> matcher) {
+		return getEditParts(viewer, matcher, EditPartFinder.UNLIMITED);
+	}
+
+	/**
+	 * Returns edit parts in a given graphical viewer which fulfill the specified matcher. Search
+	 * stops once the specified number of edit parts is found.
+	 * 
+	 * @param viewer
+	 *            Graphical viewer
+	 * @param matcher
+	 *            Matcher
+	 * @param maxCount
+	 *            Maximal number of edit parts or {@link EditPartFinder#UNLIMITED}
+	 * @return List of edit parts
+	 */
+	public List<EditPart> getEditParts(final EditPartViewer viewer, final Matcher<EditPart> matcher,
+			final int maxCount) {
 		return Display.syncExec(new ResultRunnable<List<EditPart>>() {
 			@Override
 			public List<EditPart> run() {
 				EditPart root = viewer.getContents();
-				return new EditPartFinder().find(root, matcher);
+				return new EditPartFinder().find(root, matcher, maxCount);
 			}
 
 		});
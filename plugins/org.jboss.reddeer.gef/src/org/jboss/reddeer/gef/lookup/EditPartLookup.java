@@ -19,6 +19,7 @@ import org.eclipse.gef.EditPartViewer;
 import org.hamcrest.Matcher;
 import org.jboss.reddeer.common.logging.Logger;
 import org.jboss.reddeer.gef.GEFLayerException;
+import org.jboss.reddeer.gef.finder.EditPartFinder;
 import org.jboss.reddeer.gef.handler.ViewerHandler;
 
 /**
@@ -95,8 +96,10 @@ public class EditPartLookup {
 	 */
 	public EditPart findEditPart(EditPartViewer viewer, Matcher<EditPart> matcher, int index,
 			Comparator<EditPart> comparator) {
-		List<EditPart> editParts = ViewerHandler.getInstance().getEditParts(viewer, matcher);
-		if (editParts.size() <= 0) {
+		// without comparator the order is given by the search, so it can stop at the index
+		int maxCount = comparator == null ? index + 1 : EditPartFinder.UNLIMITED;
+		List<EditPart> editParts = ViewerHandler.getInstance().getEditParts(viewer, matcher, maxCount);
+		if (editParts.size() <= index) {
 			throw new GEFLayerException("Cannot find edit part with matcher " + matcher + " at index " + index);
 		}
 		if (comparator != null) {
@@ -92,7 +92,26 @@ public class FigureLookup {
 	 * @return Figure
 	 */
 	public IFigure findFigure(IFigure parent, Matcher<?> matcher, int index) {
-		List<IFigure> figures = new FigureFinder().find(parent, matcher);
+		return findFigure(parent, matcher, index, FigureFinder.UNLIMITED);
+	}
+
+	/**
+	 * Finds a figure which is fulfilled by the specified matcher at a given index. The figure is searched inside the
+	 * specified figure parent up to the specified depth.
+	 * 
+	 * @param parent
+	 *            Figure parent
+	 * @param matcher
+	 *            Figure matcher
+	 * @param index
+	 *            Index
+	 * @param maxDepth
+	 *            Maximal depth of the figure, direct children of the parent have depth 1, or
+	 *            {@link FigureFinder#UNLIMITED}
+	 * @return Figure
+	 */
+	public IFigure findFigure(IFigure parent, Matcher<?> matcher, int index, int maxDepth) {
+		List<IFigure> figures = new FigureFinder().find(parent, matcher, index + 1, maxDepth);
 		if (figures.size() <= index) {
 			throw new GEFLayerException("Cannot find figure with matcher " + matcher + " at " + index);
 		}
@@ -10,17 +10,25 @@
  ******************************************************************************/
 package org.jboss.reddeer.junit.extension.log.collector;
 
-import java.io.BufferedReader;
-import java.io.BufferedWriter;
 import java.io.File;
-import java.io.FileNotFoundException;
-import java.io.FileReader;
-import java.io.FileWriter;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
 
 import org.jboss.reddeer.common.logging.Logger;
+import org.jboss.reddeer.common.properties.RedDeerProperties;
 import org.jboss.reddeer.direct.platform.Platform;
 
 /**
@@ -34,17 +42,21 @@ public class LogCollector {
 
 	private static final long timestamp = System.currentTimeMillis();
 	private static final Logger log = Logger.getLogger(LogCollector.class);
+	private static final String ROTATED_LOG_SUFFIX = ".bak_";
+	private static final Map<String, WorkbenchLogPosition> positions = new HashMap<String, WorkbenchLogPosition>();
 
 	/**
 	 * Gets file name for a file with collected log entries. File name contains
-	 * config name and time stamp.
+	 * config name and time stamp. File name has .gz suffix if collected log is compressed,
+	 * see {@link RedDeerProperties#LOG_COLLECTOR_COMPRESSED}.
 	 * 
 	 * @param config RedDeer config
 	 * @param className test class name
 	 * @return file name of log file
 	 */
 	public String getFileName(String config, String className) {
-		return "config-" + config + "_class-" + className + "_" + getID();
+		String fileName = "config-" + config + "_class-" + className + "_" + getID();
+		return RedDeerProperties.LOG_COLLECTOR_COMPRESSED.getBooleanValue() ? fileName + ".gz" : fileName;
 	}
 
 	/**
@@ -103,8 +115,9 @@ public class LogCollector {
 	}
 
 	/**
-	 * Processes workbench log. It copies log entries from Eclipse workbench log to RedDeer log file of 
-	 * a specific test class.
+	 * Processes workbench log. It copies log entries added to Eclipse workbench log since last processing
+	 * to RedDeer log file of a specific test class. Position in workbench log is tracked so only new part
+	 * of the log is copied. When workbench log was rotated, rest of the rotated log file is copied first.
 	 * 
 	 * @param config RedDeer config
 	 * @param className test class name
@@ -112,30 +125,140 @@ public class LogCollector {
 	 */
 	public void processWorkbenchLog(String config, String className, String logDescription) {
 		if(eclipseLogFileExists()){
-			try (BufferedReader br = new BufferedReader(new FileReader(Platform.getWorkbenchLog()));
-					BufferedWriter bw = new BufferedWriter(new FileWriter(getLogFile(config, className), true))) {
-				String line = br.readLine();
-				if (line != null) {
-					bw.write(logDescription + "\n\n");
-					bw.write(line + "\n");
-					while ((line = br.readLine()) != null) {
-						bw.write(line + "\n");
+			File workbenchLog = getWorkbenchLog();
+			synchronized (positions) {
+				WorkbenchLogPosition position = getPosition(workbenchLog);
+				try (FileChannel logChannel = FileChannel.open(workbenchLog.toPath(), StandardOpenOption.READ)) {
+					Object identity = getIdentity(workbenchLog);
+					long size = logChannel.size();
+					long from = position.offset;
+					File rotatedLog = null;
+					if ((position.identity != null && !position.identity.equals(identity)) || size < from) {
+						rotatedLog = findRotatedLog(workbenchLog, position.identity);
+						from = 0;
 					}
-					bw.write("\n\n");
+					long rotatedCount = rotatedLog == null ? 0 : Math.max(rotatedLog.length() - position.offset, 0);
+					if (rotatedCount + size - from > 0) {
+						try (WritableByteChannel target = openLogFileChannel(config, className)) {
+							write(target, logDescription + "\n\n");
+							if (rotatedCount > 0) {
+								try (FileChannel rotatedChannel = FileChannel.open(rotatedLog.toPath(),
+										StandardOpenOption.READ)) {
+									transfer(rotatedChannel, position.offset, rotatedCount, target);
+								}
+							}
+							transfer(logChannel, from, size - from, target);
+							write(target, "\n\n");
+						}
+					}
+					position.identity = identity;
+					position.offset = size;
+				} catch (IOException e) {
+					e.printStackTrace();
 				}
-			} catch (FileNotFoundException e) {
-				// Should not happen
-				e.printStackTrace();
-			} catch (IOException e1) {
-				e1.printStackTrace();
 			}
 		} else {
 			log.debug("Log file does not exist");
 		}
 	}
+
+	/**
+	 * Skips current content of workbench log. Following processing of workbench log
+	 * copies only log entries added after this call.
+	 */
+	public void skipWorkbenchLog() {
+		if (eclipseLogFileExists()) {
+			File workbenchLog = getWorkbenchLog();
+			synchronized (positions) {
+				WorkbenchLogPosition position = getPosition(workbenchLog);
+				try {
+					position.identity = getIdentity(workbenchLog);
+					position.offset = workbenchLog.length();
+				} catch (IOException e) {
+					e.printStackTrace();
+				}
+			}
+		}
+	}
 	
+	/**
+	 * Gets Eclipse workbench log file which is collected.
+	 * 
+	 * @return workbench log file
+	 */
+	protected File getWorkbenchLog() {
+		return Platform.getWorkbenchLog();
+	}
+
 	protected boolean eclipseLogFileExists(){
-		File logFile = Platform.getWorkbenchLog();
+		File logFile = getWorkbenchLog();
 		return  logFile != null && logFile.exists();
 	}
-}
\ No newline at end of file
+
+	private WritableByteChannel openLogFileChannel(String config, String className) throws IOException {
+		File logFile = getLogFile(config, className);
+		if (RedDeerProperties.LOG_COLLECTOR_COMPRESSED.getBooleanValue()) {
+			// each processing appends a new gzip member, concatenated members form a valid gzip file
+			return Channels.newChannel(new GZIPOutputStream(new FileOutputStream(logFile, true)));
+		}
+		return FileChannel.open(logFile.toPath(), StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+	}
+
+	private static WorkbenchLogPosition getPosition(File workbenchLog) {
+		String path = workbenchLog.getAbsolutePath();
+		WorkbenchLogPosition position = positions.get(path);
+		if (position == null) {
+			position = new WorkbenchLogPosition();
+			positions.put(path, position);
+		}
+		return position;
+	}
+
+	/**
+	 * Gets identity of a file which is preserved when the file is renamed. It is file key
+	 * on platforms supporting it, creation time otherwise.
+	 */
+	private static Object getIdentity(File file) throws IOException {
+		BasicFileAttributes attributes = Files.readAttributes(file.toPath(), BasicFileAttributes.class);
+		return attributes.fileKey() != null ? attributes.fileKey() : attributes.creationTime();
+	}
+
+	private static File findRotatedLog(File workbenchLog, Object identity) throws IOException {
+		File[] rotatedLogs = workbenchLog.getAbsoluteFile().getParentFile().listFiles();
+		if (identity == null || rotatedLogs == null) {
+			return null;
+		}
+		for (File rotatedLog : rotatedLogs) {
+			if (rotatedLog.getName().startsWith(workbenchLog.getName() + ROTATED_LOG_SUFFIX)
+					&& identity.equals(getIdentity(rotatedLog))) {
+				return rotatedLog;
+			}
+		}
+		return null;
+	}
+
+	private static void transfer(FileChannel source, long position, long count, WritableByteChannel target)
+			throws IOException {
+		long transferred = 0;
+		while (transferred < count) {
+			long bytes = source.transferTo(position + transferred, count - transferred, target);
+			if (bytes <= 0) {
+				break;
+			}
+			transferred += bytes;
+		}
+	}
+
+	private static void write(WritableByteChannel target, String text) throws IOException {
+		ByteBuffer buffer = ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8));
+		while (buffer.hasRemaining()) {
+			target.write(buffer);
+		}
+	}
+
+	private static class WorkbenchLogPosition {
+
+		private Object identity;
+		private long offset;
+	}
+}
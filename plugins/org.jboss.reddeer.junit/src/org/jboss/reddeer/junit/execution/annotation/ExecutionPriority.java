@@ -0,0 +1,36 @@
+/******************************************************************************* 
+ * Copyright (c) 2016 Red Hat, Inc. 
+ * Distributed under license by Red Hat, Inc. All rights reserved. 
+ * This program is made available under the terms of the 
+ * Eclipse Public License v1.0 which accompanies this distribution, 
+ * and is available at http://www.eclipse.org/legal/epl-v10.html 
+ * 
+ * Contributors: 
+ * Red Hat, Inc. - initial API and implementation 
+ ******************************************************************************/ 
+package org.jboss.reddeer.junit.execution.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.jboss.reddeer.junit.execution.IExecutionPriority;
+
+/**
+ * Annotation for prioritizing execution of a test class when test classes are scheduled,
+ * see {@link IExecutionPriority}. Test classes without the annotation have priority 0.
+ * 
+ * @since 2.0
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface ExecutionPriority {
+
+	/**
+	 * Priority of test class. Test class with higher priority is executed sooner.
+	 *
+	 * @return priority of test class
+	 */
+	long value();
+}
@@ -15,6 +15,10 @@ import java.io.FileFilter;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.jboss.reddeer.common.logging.Logger;
 import org.jboss.reddeer.common.properties.RedDeerProperties;
@@ -26,6 +30,8 @@ import org.jboss.reddeer.junit.configuration.RedDeerConfigurationException;
  * The configuration files location is specified via a system property {@link #PROPERTY_CONFIG_LOC}. It can points 
  * either to a single file or to a directory. Please note that the directory cannot contain any other files except for the
  * configuration files and that it is not processed recursively. 
+ * <br>
+ * Found configuration files are parsed in parallel when the test run configurations are created.
  * 
  * @author Lucia Jelinkova
  *
@@ -59,14 +65,52 @@ public class SuiteConfiguration {
 			return configurations;
 		}
 		
+		List<TestRunConfigurationImpl> loadedConfigurations = new ArrayList<TestRunConfigurationImpl>();
 		for (File file :confFilesList){
 			log.info("Found configuration file " + file);
-			configurations.add(new TestRunConfigurationImpl(file));
+			loadedConfigurations.add(new TestRunConfigurationImpl(file));
 		}
+		loadConfigurations(loadedConfigurations);
+		configurations.addAll(loadedConfigurations);
 
 		return configurations;
 	}
 
+	private void loadConfigurations(List<TestRunConfigurationImpl> configurations) {
+		long start = System.currentTimeMillis();
+		int threads = Math.min(configurations.size(), Runtime.getRuntime().availableProcessors());
+		if (threads > 1) {
+			ExecutorService executor = Executors.newFixedThreadPool(threads);
+			try {
+				List<Future<?>> loads = new ArrayList<Future<?>>();
+				for (final TestRunConfigurationImpl configuration : configurations) {
+					loads.add(executor.submit(new Runnable() {
+						@Override
+						public void run() {
+							configuration.load();
+						}
+					}));
+				}
+				for (Future<?> load : loads) {
+					load.get();
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new RedDeerConfigurationException("Loading of configuration files was interrupted", e);
+			} catch (ExecutionException e) {
+				throw new RedDeerConfigurationException("Cannot load configuration files", e.getCause());
+			} finally {
+				executor.shutdown();
+			}
+		} else {
+			for (TestRunConfigurationImpl configuration : configurations) {
+				configuration.load();
+			}
+		}
+		log.info("Loaded " + configurations.size() + " configuration files in "
+				+ (System.currentTimeMillis() - start) + " ms");
+	}
+
 	/**
 	 * 
 	 * Returns configuration files specified in a system property. It can be a single file 
@@ -59,7 +59,15 @@ public class TestRunConfigurationImpl implements TestRunConfiguration {
 		return requirementsConfiguration;
 	}
 	
-	private XMLReader getConfigurationReader() {
+	/**
+	 * Parses and validates the configuration file in advance. Errors are reported
+	 * once the configuration is used.
+	 */
+	public void load() {
+		getConfigurationReader().load();
+	}
+
+	private synchronized XMLReader getConfigurationReader() {
 		if (configurationReader == null){
 			configurationReader = new XMLReader(file);
 		}
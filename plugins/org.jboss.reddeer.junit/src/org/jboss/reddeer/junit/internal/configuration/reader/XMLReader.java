@@ -11,9 +11,13 @@
 package org.jboss.reddeer.junit.internal.configuration.reader;
 
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
@@ -22,6 +26,14 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.transform.Source;
+import javax.xml.transform.stream.StreamSource;
+import javax.xml.validation.Schema;
+import javax.xml.validation.SchemaFactory;
 
 import org.jboss.reddeer.common.logging.Logger;
 import org.jboss.reddeer.junit.configuration.RedDeerConfigurationException;
@@ -35,6 +47,10 @@ import org.xml.sax.SAXParseException;
 
 /**
  * Reads the XML file and unmarshalls the requirements configuration.
+ * <br>
+ * JAXB contexts of configuration classes and schemas compiled from schema locations
+ * declared in configuration files are cached for the whole process, so XSD files are
+ * loaded only once even if there are many configuration files using them.
  * 
  * @author Lucia Jelinkova
  * 
@@ -47,6 +63,12 @@ public class XMLReader {
 
 	private Document doc;
 
+	private static final ConcurrentMap<Class<?>, JAXBContext> contexts = new ConcurrentHashMap<Class<?>, JAXBContext>();
+
+	private static final ConcurrentMap<String, Schema> schemas = new ConcurrentHashMap<String, Schema>();
+
+	private static final String XSI_NS = "http://www.w3.org/2001/XMLSchema-instance";
+
 	// TODO: change according to the real RedDeer namespace when published
 	// e.g. http://www.jboss.org/reddeer/schema
 	private static final String RED_DEER_NS = "http://www.jboss.org/NS/Req";
@@ -78,7 +100,7 @@ public class XMLReader {
 			Class<T> clazz) {
 		NodeList list = getDocument().getElementsByTagNameNS(namespace, tag);
 		try {
-			JAXBContext context = JAXBContext.newInstance(clazz);
+			JAXBContext context = getContext(clazz);
 			Unmarshaller unmarshaller = context.createUnmarshaller();
 			return (List<T>) unmarshall(unmarshaller, list);
 		} catch (JAXBException e) {
@@ -97,9 +119,36 @@ public class XMLReader {
 		return objects;
 	}
 
-	private Document getDocument() {
+	private static JAXBContext getContext(Class<?> clazz) throws JAXBException {
+		JAXBContext context = contexts.get(clazz);
+		if (context == null) {
+			context = JAXBContext.newInstance(clazz);
+			JAXBContext cached = contexts.putIfAbsent(clazz, context);
+			if (cached != null) {
+				context = cached;
+			}
+		}
+		return context;
+	}
+
+	/**
+	 * Parses and validates the XML file in advance. If the file cannot be loaded, error is not
+	 * reported now but by the first attempt to get configuration from it.
+	 */
+	public void load() {
+		try {
+			getDocument();
+		} catch (RedDeerConfigurationException e) {
+			log.debug("Loading of configuration file " + file.getAbsolutePath() + " failed: " + e.getMessage());
+		}
+	}
+
+	private synchronized Document getDocument() {
 		if (doc == null) {
+			long start = System.currentTimeMillis();
 			init();
+			log.debug("Configuration file " + file.getAbsolutePath() + " loaded in "
+					+ (System.currentTimeMillis() - start) + " ms");
 		}
 		return doc;
 	}
@@ -115,10 +164,15 @@ public class XMLReader {
 	private void init() {
 		DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
 		factory.setNamespaceAware(true);
-		factory.setValidating(true);
-		factory.setAttribute(
-				"http://java.sun.com/xml/jaxp/properties/schemaLanguage",
-				"http://www.w3.org/2001/XMLSchema");
+		Schema schema = getSchema();
+		if (schema != null) {
+			factory.setSchema(schema);
+		} else {
+			factory.setValidating(true);
+			factory.setAttribute(
+					"http://java.sun.com/xml/jaxp/properties/schemaLanguage",
+					"http://www.w3.org/2001/XMLSchema");
+		}
 
 		DocumentBuilder builder;
 		try {
@@ -140,6 +194,92 @@ public class XMLReader {
 		}
 	}
 
+	/**
+	 * Gets schema compiled from schema locations declared by the root element of the XML file.
+	 * 
+	 * @return cached schema or null if the file does not declare location of RedDeer schema or
+	 *         it cannot be read, in such case the file is validated by the parser itself
+	 */
+	private Schema getSchema() {
+		List<String> locations = getSchemaLocations();
+		if (locations.isEmpty()) {
+			return null;
+		}
+		String key = locations.toString();
+		Schema schema = schemas.get(key);
+		if (schema == null) {
+			Source[] sources = new Source[locations.size()];
+			for (int i = 0; i < sources.length; i++) {
+				sources[i] = new StreamSource(locations.get(i));
+			}
+			SchemaFactory factory = SchemaFactory.newInstance("http://www.w3.org/2001/XMLSchema");
+			factory.setErrorHandler(new RedDeerErrorHandler());
+			try {
+				schema = factory.newSchema(sources);
+			} catch (SAXException e) {
+				throw createCannotLoadException(file, e);
+			}
+			Schema cached = schemas.putIfAbsent(key, schema);
+			if (cached != null) {
+				schema = cached;
+			} else {
+				log.debug("Compiled schema from " + key);
+			}
+		}
+		return schema;
+	}
+
+	private List<String> getSchemaLocations() {
+		List<String> locations = new ArrayList<String>();
+		InputStream input = null;
+		XMLStreamReader reader = null;
+		try {
+			input = new FileInputStream(file);
+			reader = XMLInputFactory.newInstance().createXMLStreamReader(input);
+			while (reader.hasNext() && reader.next() != XMLStreamConstants.START_ELEMENT) {
+				// skip prolog
+			}
+			if (!reader.isStartElement()) {
+				return locations;
+			}
+			String schemaLocation = reader.getAttributeValue(XSI_NS, "schemaLocation");
+			if (schemaLocation != null) {
+				// pairs of namespace and location
+				String[] tokens = schemaLocation.trim().split("\\s+");
+				boolean redDeerLocation = false;
+				for (int i = 1; i < tokens.length; i += 2) {
+					redDeerLocation |= RED_DEER_NS.equals(tokens[i - 1]);
+					locations.add(file.toURI().resolve(tokens[i]).toString());
+				}
+				if (!redDeerLocation) {
+					// schema imported by other schemas is not used for validation by the parser
+					locations.clear();
+				}
+			}
+		} catch (XMLStreamException e) {
+			// not well formed file, let the parser report it
+			locations.clear();
+		} catch (IOException e) {
+			throw createCannotLoadException(file, e);
+		} finally {
+			if (reader != null) {
+				try {
+					reader.close();
+				} catch (XMLStreamException e) {
+					// nothing to do
+				}
+			}
+			if (input != null) {
+				try {
+					input.close();
+				} catch (IOException e) {
+					// nothing to do
+				}
+			}
+		}
+		return locations;
+	}
+
 	private XmlRootElement getRoot(Class<?> clazz) {
 		XmlRootElement root = clazz.getAnnotation(XmlRootElement.class);
 		if (root == null) {
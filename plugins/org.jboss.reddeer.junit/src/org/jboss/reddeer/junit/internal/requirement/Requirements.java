@@ -11,6 +11,7 @@
 package org.jboss.reddeer.junit.internal.requirement;
 
 import java.lang.annotation.Annotation;
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 
@@ -30,6 +31,7 @@ public class Requirements implements Requirement<Annotation>, Iterable<Requireme
 	private List<Requirement<?>> requirements;
 	private Class<?> clazz;
 	private String configID;
+	private SharedRequirements sharedRequirements;
 	private Logger log = Logger.getLogger(Requirements.class);
 	
 	/**
@@ -52,6 +54,21 @@ public class Requirements implements Requirement<Annotation>, Iterable<Requireme
 		this.configID = configID;
 	}
 
+	/**
+	 * Instantiates a new requirements.
+	 *
+	 * @param requirements the requirements
+	 * @param clazz the clazz
+	 * @param configID the config id
+	 * @param sharedRequirements shared requirements of the config, shared requirements among
+	 * the requirements are fulfilled and cleaned up through it
+	 */
+	public Requirements(List<Requirement<?>> requirements, Class<?> clazz, String configID,
+			SharedRequirements sharedRequirements) {
+		this(requirements, clazz, configID);
+		this.sharedRequirements = sharedRequirements;
+	}
+
 	/* (non-Javadoc)
 	 * @see java.lang.Iterable#iterator()
 	 */
@@ -69,6 +86,31 @@ public class Requirements implements Requirement<Annotation>, Iterable<Requireme
 		return requirements.size();
 	}
 	
+	/**
+	 * Gets requirements which are shared with other test classes.
+	 *
+	 * @return shared requirements, empty list if there are none
+	 */
+	public List<Requirement<?>> getShared() {
+		List<Requirement<?>> shared = new ArrayList<Requirement<?>>();
+		for (Requirement<?> r : requirements) {
+			if (isShared(r)) {
+				shared.add(r);
+			}
+		}
+		return shared;
+	}
+
+	/**
+	 * Registers the test class as a consumer of its shared requirements. Shared requirements
+	 * are cleaned up only after all registered consumers cleaned them up.
+	 */
+	public void registerSharedConsumer() {
+		for (Requirement<?> r : getShared()) {
+			sharedRequirements.addConsumer(r, this);
+		}
+	}
+
 	/* (non-Javadoc)
 	 * @see org.jboss.reddeer.junit.requirement.Requirement#canFulfill()
 	 */
@@ -102,7 +144,11 @@ public class Requirements implements Requirement<Annotation>, Iterable<Requireme
 		for (Requirement<?> r : requirements) {
 			try {
 				log.info("Fulfilling requirement of " + r.getClass());
-				r.fulfill();
+				if (isShared(r)) {
+					sharedRequirements.fulfill(r);
+				} else {
+					r.fulfill();
+				}
 			} catch (Throwable ex) {
 				ScreenshotCapturer screenshotCapturer = ScreenshotCapturer.getInstance();
 				try {
@@ -132,7 +178,11 @@ public class Requirements implements Requirement<Annotation>, Iterable<Requireme
 		for (Requirement<?> r : requirements) {
 			try {
 				log.info("Cleaning up requirement of " + r.getClass());
-				r.cleanUp();
+				if (isShared(r)) {
+					sharedRequirements.release(r, this);
+				} else {
+					r.cleanUp();
+				}
 			} catch (Throwable ex) {
 				ScreenshotCapturer screenshotCapturer = ScreenshotCapturer.getInstance();
 				try {
@@ -146,4 +196,8 @@ public class Requirements implements Requirement<Annotation>, Iterable<Requireme
 		}
 		
 	}
+
+	private boolean isShared(Requirement<?> requirement) {
+		return sharedRequirements != null && sharedRequirements.isShared(requirement);
+	}
 }
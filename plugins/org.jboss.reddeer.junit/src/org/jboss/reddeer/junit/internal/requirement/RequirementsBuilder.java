@@ -19,6 +19,7 @@ import org.jboss.reddeer.junit.internal.annotation.AnnotationsFinder;
 import org.jboss.reddeer.junit.internal.configuration.RequirementsConfiguration;
 import org.jboss.reddeer.junit.requirement.Requirement;
 import org.jboss.reddeer.junit.requirement.RequirementException;
+import org.jboss.reddeer.junit.requirement.SharedRequirement;
 
 /**
  * Builds and configures a set of requirements for the class and aggregates them into a {@link Requirements} object. 
@@ -32,6 +33,8 @@ public class RequirementsBuilder {
 	
 	private AnnotationsFinder finder = new AnnotationsFinder(new RequirementAnnotationMatcher());
 	
+	private SharedRequirements sharedRequirements;
+	
 	/**
 	 * Builds the.
 	 *
@@ -49,12 +52,23 @@ public class RequirementsBuilder {
 			requirements.add(build(annotation, config));
 		}
 		
-		return new Requirements(requirements, clazz, configID);
+		return new Requirements(requirements, clazz, configID, sharedRequirements);
 	}
 	
 	private Requirement<?> build(Annotation annotation, RequirementsConfiguration requirementConfig){
+		if (sharedRequirements != null) {
+			Requirement<?> sharedRequirement = sharedRequirements.get(annotation);
+			if (sharedRequirement != null) {
+				log.debug("Reusing shared requirement " + sharedRequirement.getClass() + " for annotation "
+						+ annotation.annotationType());
+				return sharedRequirement;
+			}
+		}
 		Requirement<?> requirement = getRequirement(annotation);
 		requirementConfig.configure(requirement);
+		if (sharedRequirements != null && requirement instanceof SharedRequirement) {
+			sharedRequirements.put(annotation, requirement);
+		}
 		return requirement;
 	}
 
@@ -94,4 +108,14 @@ public class RequirementsBuilder {
 	public void setFinder(AnnotationsFinder finder) {
 		this.finder = finder;
 	}
+
+	/**
+	 * Sets shared requirements of the config requirements are built for. Requirements implementing
+	 * {@link SharedRequirement} are shared by all classes declaring them by equal annotations.
+	 *
+	 * @param sharedRequirements shared requirements, null to disable sharing
+	 */
+	public void setSharedRequirements(SharedRequirements sharedRequirements) {
+		this.sharedRequirements = sharedRequirements;
+	}
 }
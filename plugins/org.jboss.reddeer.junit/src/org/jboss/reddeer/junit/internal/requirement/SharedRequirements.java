@@ -0,0 +1,150 @@
+/******************************************************************************* 
+ * Copyright (c) 2016 Red Hat, Inc. 
+ * Distributed under license by Red Hat, Inc. All rights reserved. 
+ * This program is made available under the terms of the 
+ * Eclipse Public License v1.0 which accompanies this distribution, 
+ * and is available at http://www.eclipse.org/legal/epl-v10.html 
+ * 
+ * Contributors: 
+ * Red Hat, Inc. - initial API and implementation 
+ ******************************************************************************/ 
+package org.jboss.reddeer.junit.internal.requirement;
+
+import java.lang.annotation.Annotation;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.jboss.reddeer.common.logging.Logger;
+import org.jboss.reddeer.junit.requirement.Requirement;
+import org.jboss.reddeer.junit.requirement.SharedRequirement;
+
+/**
+ * Holds {@link SharedRequirement}s of one test run configuration and counts test classes using them.
+ * Shared requirement is fulfilled by the first consumer and cleaned up when the last registered
+ * consumer is released. Consumers are compared by identity, thus a consumer released several times
+ * does not release the requirement on behalf of other consumers.
+ * 
+ * @since 2.0
+ */
+public class SharedRequirements {
+
+	private static final Logger log = Logger.getLogger(SharedRequirements.class);
+
+	private final Map<Annotation, Requirement<?>> requirements = new HashMap<Annotation, Requirement<?>>();
+
+	private final Map<Requirement<?>, State> states = new IdentityHashMap<Requirement<?>, State>();
+
+	/**
+	 * Gets shared requirement declared by specified annotation.
+	 * 
+	 * @param declaration annotation declaring the requirement
+	 * @return shared requirement or null if there is no requirement declared by equal annotation
+	 */
+	public synchronized Requirement<?> get(Annotation declaration) {
+		return requirements.get(declaration);
+	}
+
+	/**
+	 * Adds shared requirement declared by specified annotation.
+	 * 
+	 * @param declaration annotation declaring the requirement
+	 * @param requirement configured shared requirement
+	 */
+	public synchronized void put(Annotation declaration, Requirement<?> requirement) {
+		requirements.put(declaration, requirement);
+		states.put(requirement, new State());
+	}
+
+	/**
+	 * Finds out whether specified requirement is held by this object.
+	 * 
+	 * @param requirement requirement
+	 * @return true if requirement is shared, false otherwise
+	 */
+	public synchronized boolean isShared(Requirement<?> requirement) {
+		return states.containsKey(requirement);
+	}
+
+	/**
+	 * Registers a consumer of specified shared requirement, i.e. a test class which will fulfill
+	 * and release it.
+	 * 
+	 * @param requirement shared requirement
+	 * @param consumer object fulfilling and releasing the requirement, usually requirements of a test class
+	 */
+	public synchronized void addConsumer(Requirement<?> requirement, Object consumer) {
+		getState(requirement).consumers.add(consumer);
+	}
+
+	/**
+	 * Fulfills specified shared requirement if it is not fulfilled yet.
+	 * 
+	 * @param requirement shared requirement
+	 */
+	public synchronized void fulfill(Requirement<?> requirement) {
+		State state = getState(requirement);
+		if (state.fulfilled) {
+			log.info("Shared requirement of " + requirement.getClass() + " is already fulfilled");
+			return;
+		}
+		requirement.fulfill();
+		state.fulfilled = true;
+	}
+
+	/**
+	 * Releases specified shared requirement by specified consumer. Requirement is cleaned up
+	 * when there are no more registered consumers.
+	 * 
+	 * @param requirement shared requirement
+	 * @param consumer consumer which fulfilled the requirement
+	 */
+	public synchronized void release(Requirement<?> requirement, Object consumer) {
+		State state = getState(requirement);
+		if (!state.consumers.remove(consumer)) {
+			log.debug("Shared requirement of " + requirement.getClass() + " was not registered to be used by "
+					+ "releasing test class or it was released by it already");
+		}
+		if (!state.consumers.isEmpty()) {
+			log.info("Shared requirement of " + requirement.getClass() + " is still used by " + state.consumers.size()
+					+ " test class(es), skipping clean up");
+			return;
+		}
+		cleanUp(requirement, state);
+	}
+
+	/**
+	 * Cleans up all fulfilled shared requirements regardless of their consumers.
+	 * It is called when all test classes of test run configuration finished.
+	 */
+	public synchronized void cleanUpAll() {
+		for (Map.Entry<Requirement<?>, State> entry : states.entrySet()) {
+			entry.getValue().consumers.clear();
+			cleanUp(entry.getKey(), entry.getValue());
+		}
+	}
+
+	private void cleanUp(Requirement<?> requirement, State state) {
+		if (state.fulfilled) {
+			state.fulfilled = false;
+			requirement.cleanUp();
+		}
+	}
+
+	private State getState(Requirement<?> requirement) {
+		State state = states.get(requirement);
+		if (state == null) {
+			throw new IllegalArgumentException("Requirement " + requirement.getClass() + " is not shared");
+		}
+		return state;
+	}
+
+	private static class State {
+
+		private final Set<Object> consumers = Collections.newSetFromMap(new IdentityHashMap<Object, Boolean>());
+
+		private boolean fulfilled;
+	}
+}
@@ -10,12 +10,27 @@
  ******************************************************************************/ 
 package org.jboss.reddeer.junit.internal.runner;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.jboss.reddeer.common.properties.RedDeerProperties;
+import org.jboss.reddeer.junit.internal.requirement.Requirements;
+import org.jboss.reddeer.junit.internal.runner.statement.CleanUpSharedRequirementsStatement;
+import org.jboss.reddeer.junit.requirement.Requirement;
+import org.junit.runner.Runner;
+import org.junit.runner.notification.RunNotifier;
 import org.junit.runners.Suite;
 import org.junit.runners.model.InitializationError;
 import org.junit.runners.model.RunnerBuilder;
+import org.junit.runners.model.Statement;
 
 /**
- * Suite with custom name. 
+ * Suite with custom name. Test classes using the same shared requirements are run one after another
+ * so shared requirements are fulfilled and cleaned up as few times as possible.
  * 
  * @author Lucia Jelinkova
  *
@@ -24,6 +39,7 @@ public class NamedSuite extends Suite {
 	
 	private final String suiteName;
 	private final RunnerBuilder builder;
+	private List<Runner> orderedChildren;
 
 	/**
 	 * Constructor used for suites. 
@@ -53,6 +69,38 @@ public class NamedSuite extends Suite {
 		this.suiteName = name;
 	}
 	
+	/* (non-Javadoc)
+	 * @see org.junit.runners.Suite#getChildren()
+	 */
+	@Override
+	protected List<Runner> getChildren() {
+		List<Runner> children = super.getChildren();
+		if (children == null) {
+			return children;
+		}
+		if (orderedChildren == null) {
+			if (RedDeerProperties.SCHEDULE_TEST_CLASSES.getBooleanValue()) {
+				orderedChildren = new TestClassScheduler().schedule(children);
+			} else {
+				orderedChildren = groupBySharedRequirements(children);
+			}
+		}
+		return orderedChildren;
+	}
+
+	/* (non-Javadoc)
+	 * @see org.junit.runners.ParentRunner#classBlock(org.junit.runner.notification.RunNotifier)
+	 */
+	@Override
+	protected Statement classBlock(RunNotifier notifier) {
+		Statement statement = super.classBlock(notifier);
+		if (builder instanceof RequirementsRunnerBuilder) {
+			statement = new CleanUpSharedRequirementsStatement(
+					((RequirementsRunnerBuilder) builder).getSharedRequirements(), statement);
+		}
+		return statement;
+	}
+
 	/* (non-Javadoc)
 	 * @see org.junit.runners.ParentRunner#getName()
 	 */
@@ -76,4 +124,44 @@ public class NamedSuite extends Suite {
 	public RunnerBuilder getRunnerBuilder(){
 		return builder;
 	}
+
+	/**
+	 * Moves each test class using shared requirements right after the first test class using
+	 * the same shared requirements. Other test classes keep their position.
+	 */
+	private static List<Runner> groupBySharedRequirements(List<Runner> runners) {
+		List<List<Runner>> slots = new ArrayList<List<Runner>>();
+		Map<Set<Requirement<?>>, List<Runner>> groups = new HashMap<Set<Requirement<?>>, List<Runner>>();
+		for (Runner runner : runners) {
+			Set<Requirement<?>> shared = getSharedRequirements(runner);
+			List<Runner> slot = shared.isEmpty() ? null : groups.get(shared);
+			if (slot == null) {
+				slot = new ArrayList<Runner>();
+				slots.add(slot);
+				if (!shared.isEmpty()) {
+					groups.put(shared, slot);
+				}
+			}
+			slot.add(runner);
+		}
+		List<Runner> ordered = new ArrayList<Runner>(runners.size());
+		for (List<Runner> slot : slots) {
+			ordered.addAll(slot);
+		}
+		return ordered;
+	}
+
+	private static Set<Requirement<?>> getSharedRequirements(Runner runner) {
+		Requirements requirements = null;
+		if (runner instanceof RequirementsRunner) {
+			requirements = ((RequirementsRunner) runner).getRequirements();
+		} else if (runner instanceof ParameterizedRunner) {
+			requirements = ((ParameterizedRunner) runner).getRequirements();
+		}
+		Set<Requirement<?>> shared = new HashSet<Requirement<?>>();
+		if (requirements != null) {
+			shared.addAll(requirements.getShared());
+		}
+		return shared;
+	}
 }
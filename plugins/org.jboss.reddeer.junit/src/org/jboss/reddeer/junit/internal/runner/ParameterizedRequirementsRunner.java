@@ -219,6 +219,7 @@ public class ParameterizedRequirementsRunner extends RequirementsRunner {
      */
     @Override
     protected Statement classBlock(RunNotifier notifier) {
+        // requirements are fulfilled and cleaned up once by parent ParameterizedRunner
         return childrenInvoker(notifier);
     }
 
@@ -17,15 +17,19 @@ import java.util.List;
 import org.jboss.reddeer.junit.extensionpoint.IAfterTest;
 import org.jboss.reddeer.junit.extensionpoint.IBeforeTest;
 import org.jboss.reddeer.junit.internal.requirement.Requirements;
+import org.jboss.reddeer.junit.internal.runner.statement.RecordClassDurationStatement;
 import org.junit.runner.Runner;
 import org.junit.runner.notification.RunListener;
+import org.junit.runner.notification.RunNotifier;
 import org.junit.runners.Parameterized;
 import org.junit.runners.model.Statement;
 
 /**
  * This is parent runner for one parameterized test class. It's purpose is to
  * fulfill requirements and create child parameterized runners (
- * {@link ParameterizedRequirementsRunner}.
+ * {@link ParameterizedRequirementsRunner}. Requirements are fulfilled and cleaned up once in
+ * class block of this runner, child runners run only test methods, thus shared requirements
+ * are released once per parameterized test class.
  * 
  * @author rhopp
  *
@@ -95,6 +99,27 @@ public class ParameterizedRunner extends Parameterized {
 		return children;
 	}
 
+	/**
+	 * Gets requirements of the test class.
+	 *
+	 * @return requirements of the test class
+	 */
+	public Requirements getRequirements() {
+		return requirements;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.junit.runners.ParentRunner#classBlock(org.junit.runner.notification.
+	 * RunNotifier)
+	 */
+	@Override
+	protected Statement classBlock(RunNotifier notifier) {
+		return new RecordClassDurationStatement(getTestClass().getJavaClass(), super.classBlock(notifier));
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
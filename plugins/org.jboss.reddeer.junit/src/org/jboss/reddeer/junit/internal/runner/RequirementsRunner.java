@@ -21,6 +21,7 @@ import org.jboss.reddeer.junit.internal.requirement.Requirements;
 import org.jboss.reddeer.junit.internal.requirement.inject.RequirementsInjector;
 import org.jboss.reddeer.junit.internal.runner.statement.CleanUpRequirementStatement;
 import org.jboss.reddeer.junit.internal.runner.statement.FulfillRequirementsStatement;
+import org.jboss.reddeer.junit.internal.runner.statement.RecordClassDurationStatement;
 import org.jboss.reddeer.junit.internal.runner.statement.RunAfters;
 import org.jboss.reddeer.junit.internal.runner.statement.RunBefores;
 import org.jboss.reddeer.junit.internal.runner.statement.RunIAfterClassExtensions;
@@ -248,7 +249,7 @@ public class RequirementsRunner extends BlockJUnit4ClassRunner {
 		log.debug("Injecting fulfilled requirements into static fields of test class");
 		requirementsInjector.inject(getTestClass().getJavaClass(), requirements);
 		
-		return super.classBlock(notifier);
+		return new RecordClassDurationStatement(getTestClass().getJavaClass(), super.classBlock(notifier));
 	}
 	
 	/* (non-Javadoc)
@@ -293,6 +294,15 @@ public class RequirementsRunner extends BlockJUnit4ClassRunner {
 		 }
 	 }
 	
+	/**
+	 * Gets requirements of the test class.
+	 *
+	 * @return requirements of the test class
+	 */
+	public Requirements getRequirements() {
+		return requirements;
+	}
+
 	/**
 	 * Sets the requirements injector.
 	 *
@@ -20,6 +20,7 @@ import org.jboss.reddeer.junit.extensionpoint.IBeforeTest;
 import org.jboss.reddeer.junit.internal.configuration.TestRunConfiguration;
 import org.jboss.reddeer.junit.internal.requirement.Requirements;
 import org.jboss.reddeer.junit.internal.requirement.RequirementsBuilder;
+import org.jboss.reddeer.junit.internal.requirement.SharedRequirements;
 import org.junit.Ignore;
 import org.junit.Test;
 import org.junit.runner.Runner;
@@ -46,6 +47,8 @@ public class RequirementsRunnerBuilder extends RunnerBuilder {
 	
 	private RequirementsBuilder requirementsBuilder = new RequirementsBuilder();
 	
+	private SharedRequirements sharedRequirements = new SharedRequirements();
+	
 	private List<IBeforeTest> beforeTestExtensions;
 	private List<IAfterTest> afterTestExtensions;
 	
@@ -88,6 +91,7 @@ public class RequirementsRunnerBuilder extends RunnerBuilder {
 		this.beforeTestExtensions = beforeTestExtensions;
 		this.afterTestExtensions = afterTestExtensions;
 		this.testsManager = testsManager;
+		this.requirementsBuilder.setSharedRequirements(sharedRequirements);
 	}
 
 	/* (non-Javadoc)
@@ -101,6 +105,11 @@ public class RequirementsRunnerBuilder extends RunnerBuilder {
 		if(clazz.getAnnotation(Suite.SuiteClasses.class) != null){
 			return new Suite(clazz, this);
 		}
+		if (testsManager != null && !testsManager.isInShard(clazz)) {
+			log.info("Test " + clazz + " is executed by other shard");
+			testsManager.addOtherShardTest(clazz);
+			return null;
+		}
 		log.info("Found test " + clazz);
 		if(testsManager != null) {
 			testsManager.addTest(clazz);
@@ -108,6 +117,7 @@ public class RequirementsRunnerBuilder extends RunnerBuilder {
 		Requirements requirements = requirementsBuilder.build(clazz, config.getRequirementConfiguration(), config.getId());
 		if (requirements.canFulfill()){
 			log.info("All requirements can be fulfilled, the test will run");
+			requirements.registerSharedConsumer();
 			if(testsManager != null) {
 				testsManager.addExecutedTest(clazz);
 			}
@@ -129,6 +139,16 @@ public class RequirementsRunnerBuilder extends RunnerBuilder {
 	 */
 	public void setRequirementsBuilder(RequirementsBuilder requirementsBuilder) {
 		this.requirementsBuilder = requirementsBuilder;
+		this.requirementsBuilder.setSharedRequirements(sharedRequirements);
+	}
+
+	/**
+	 * Gets shared requirements of test classes built by this builder.
+	 *
+	 * @return shared requirements
+	 */
+	public SharedRequirements getSharedRequirements() {
+		return sharedRequirements;
 	}
 	
 	/**
@@ -0,0 +1,197 @@
+/******************************************************************************* 
+ * Copyright (c) 2016 Red Hat, Inc. 
+ * Distributed under license by Red Hat, Inc. All rights reserved. 
+ * This program is made available under the terms of the 
+ * Eclipse Public License v1.0 which accompanies this distribution, 
+ * and is available at http://www.eclipse.org/legal/epl-v10.html 
+ * 
+ * Contributors: 
+ * Red Hat, Inc. - initial API and implementation 
+ ******************************************************************************/ 
+package org.jboss.reddeer.junit.internal.runner;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.jboss.reddeer.common.logging.Logger;
+import org.jboss.reddeer.junit.execution.IExecutionPriority;
+import org.jboss.reddeer.junit.execution.PriorityComparator;
+import org.jboss.reddeer.junit.execution.annotation.ExecutionPriority;
+import org.jboss.reddeer.junit.internal.annotation.AnnotationsFinder;
+import org.jboss.reddeer.junit.internal.requirement.RequirementAnnotationMatcher;
+import org.junit.runner.Runner;
+
+/**
+ * Orders test classes so that requirements are fulfilled and cleaned up as few times as possible.
+ * State of a test class is the set of its requirement annotations and transition between two test
+ * classes costs one for each requirement which has to be cleaned up or fulfilled. Test classes are
+ * ordered by {@link PriorityComparator} according to {@link ExecutionPriority} first, test classes with
+ * equal priority are then ordered greedily, always picking the test class with the cheapest transition
+ * from the current state. Ties keep declaration order.
+ * 
+ * @since 2.0
+ */
+public class TestClassScheduler {
+
+	private static final Logger log = Logger.getLogger(TestClassScheduler.class);
+
+	private AnnotationsFinder finder = new AnnotationsFinder(new RequirementAnnotationMatcher());
+
+	private int originalTransitions;
+
+	private int scheduledTransitions;
+
+	/**
+	 * Orders specified runners.
+	 *
+	 * @param runners runners of test classes in declaration order
+	 * @return runners in scheduled order
+	 */
+	public List<Runner> schedule(List<Runner> runners) {
+		List<ScheduledRunner> scheduledRunners = new ArrayList<ScheduledRunner>(runners.size());
+		for (Runner runner : runners) {
+			scheduledRunners.add(new ScheduledRunner(runner, getRequirementAnnotations(runner), getPriority(runner)));
+		}
+		originalTransitions = countTransitions(scheduledRunners);
+
+		// sort is stable, test classes with equal priority keep declaration order
+		Collections.sort(scheduledRunners, new PriorityComparator());
+		List<ScheduledRunner> ordered = new ArrayList<ScheduledRunner>(scheduledRunners.size());
+		Set<Annotation> state = Collections.emptySet();
+		int bandStart = 0;
+		while (bandStart < scheduledRunners.size()) {
+			int bandEnd = bandStart;
+			long priority = scheduledRunners.get(bandStart).getPriority();
+			while (bandEnd < scheduledRunners.size() && scheduledRunners.get(bandEnd).getPriority() == priority) {
+				bandEnd++;
+			}
+			List<ScheduledRunner> band = new ArrayList<ScheduledRunner>(scheduledRunners.subList(bandStart, bandEnd));
+			while (!band.isEmpty()) {
+				int next = 0;
+				int nextCost = Integer.MAX_VALUE;
+				for (int i = 0; i < band.size() && nextCost > 0; i++) {
+					int cost = countTransitions(state, band.get(i).annotations);
+					if (cost < nextCost) {
+						next = i;
+						nextCost = cost;
+					}
+				}
+				ScheduledRunner scheduledRunner = band.remove(next);
+				state = scheduledRunner.annotations;
+				ordered.add(scheduledRunner);
+			}
+			bandStart = bandEnd;
+		}
+		scheduledTransitions = countTransitions(ordered);
+		log.info("Test classes scheduled with " + scheduledTransitions + " requirement transitions instead of "
+				+ originalTransitions + ", saved " + getSavedTransitions() + " transitions");
+
+		List<Runner> result = new ArrayList<Runner>(ordered.size());
+		for (ScheduledRunner scheduledRunner : ordered) {
+			result.add(scheduledRunner.runner);
+		}
+		return result;
+	}
+
+	/**
+	 * Gets number of requirement transitions of test classes in declaration order
+	 * computed by last {@link #schedule(List)} call.
+	 *
+	 * @return number of transitions in declaration order
+	 */
+	public int getOriginalTransitions() {
+		return originalTransitions;
+	}
+
+	/**
+	 * Gets number of requirement transitions of test classes in scheduled order
+	 * computed by last {@link #schedule(List)} call.
+	 *
+	 * @return number of transitions in scheduled order
+	 */
+	public int getScheduledTransitions() {
+		return scheduledTransitions;
+	}
+
+	/**
+	 * Gets number of requirement transitions saved by last {@link #schedule(List)} call.
+	 *
+	 * @return number of saved transitions, negative if scheduled order is worse because of priorities
+	 */
+	public int getSavedTransitions() {
+		return originalTransitions - scheduledTransitions;
+	}
+
+	/**
+	 * Sets the finder of requirement annotations.
+	 *
+	 * @param finder the new finder
+	 */
+	public void setFinder(AnnotationsFinder finder) {
+		this.finder = finder;
+	}
+
+	private Set<Annotation> getRequirementAnnotations(Runner runner) {
+		Class<?> testClass = runner.getDescription().getTestClass();
+		if (testClass == null) {
+			return Collections.emptySet();
+		}
+		return new HashSet<Annotation>(finder.find(testClass));
+	}
+
+	private static long getPriority(Runner runner) {
+		Class<?> testClass = runner.getDescription().getTestClass();
+		ExecutionPriority priority = testClass == null ? null : testClass.getAnnotation(ExecutionPriority.class);
+		return priority == null ? 0 : priority.value();
+	}
+
+	/**
+	 * Counts transitions of test classes run in specified order starting and ending with no requirements.
+	 */
+	private static int countTransitions(List<ScheduledRunner> order) {
+		int transitions = 0;
+		Set<Annotation> state = Collections.emptySet();
+		for (ScheduledRunner scheduledRunner : order) {
+			transitions += countTransitions(state, scheduledRunner.annotations);
+			state = scheduledRunner.annotations;
+		}
+		return transitions + state.size();
+	}
+
+	private static int countTransitions(Set<Annotation> from, Set<Annotation> to) {
+		int transitions = 0;
+		for (Annotation annotation : from) {
+			if (!to.contains(annotation)) {
+				transitions++;
+			}
+		}
+		for (Annotation annotation : to) {
+			if (!from.contains(annotation)) {
+				transitions++;
+			}
+		}
+		return transitions;
+	}
+
+	private static class ScheduledRunner implements IExecutionPriority {
+
+		private final Runner runner;
+		private final Set<Annotation> annotations;
+		private final long priority;
+
+		public ScheduledRunner(Runner runner, Set<Annotation> annotations, long priority) {
+			this.runner = runner;
+			this.annotations = annotations;
+			this.priority = priority;
+		}
+
+		@Override
+		public long getPriority() {
+			return priority;
+		}
+	}
+}
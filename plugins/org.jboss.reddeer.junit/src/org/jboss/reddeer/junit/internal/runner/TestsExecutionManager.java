@@ -10,7 +10,9 @@
  ******************************************************************************/ 
 package org.jboss.reddeer.junit.internal.runner;
 
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.Set;
 import java.util.TreeSet;
 
@@ -26,7 +28,11 @@ import java.util.TreeSet;
  * It will be added as test without a run.<br/><br/>
  * 
  * If the test class has a run, change the state of the test class
- * using method {@link #addExecutedTest(Class)}.
+ * using method {@link #addExecutedTest(Class)}.<br/><br/>
+ * 
+ * If the execution is sharded, only test classes set by {@link #setShardTestClasses(Collection)}
+ * are executed by this instance. Test classes of other shards are added using method
+ * {@link #addOtherShardTest(Class)}, they are neither executed nor reported as tests without a run.
  * 
  * @author Radoslav Rabara
  *
@@ -35,6 +41,8 @@ public class TestsExecutionManager {
 		
 	private Set<Class<?>> allTestClasses = new TreeSet<Class<?>>(classNameComparator);
 	private Set<Class<?>> executedTestClasses = new TreeSet<Class<?>>(classNameComparator);
+	private Set<Class<?>> otherShardTestClasses = new TreeSet<Class<?>>(classNameComparator);
+	private Set<String> shardTestClasses;
 	
 	private static Comparator<Class<?>> classNameComparator = new Comparator<Class<?>>(){
 		@Override
@@ -66,13 +74,46 @@ public class TestsExecutionManager {
 		executedTestClasses.add(testClass);
 	}
 	
+	/**
+	 * Adds the specified <var>testClass</var> to the manager
+	 * as test class executed by OTHER SHARD.
+	 *
+	 * @param testClass test {@link Class} to be added
+	 * 				as test class of other shard
+	 */
+	public void addOtherShardTest(Class<?> testClass) {
+		addTest(testClass);
+		otherShardTestClasses.add(testClass);
+	}
+	
+	/**
+	 * Sets names of test classes executed by the shard of this instance.
+	 *
+	 * @param testClasses names of test classes of this shard
+	 */
+	public void setShardTestClasses(Collection<String> testClasses) {
+		shardTestClasses = new HashSet<String>(testClasses);
+	}
+	
+	/**
+	 * Returns <code>true</code> if the specified test {@link Class}
+	 * belongs to the shard of this instance or execution is not sharded.
+	 *
+	 * @param testClass test {@link Class} whose shard is to be tested
+	 * @return <code>true</code> if the specified test class is executed by this instance
+	 */
+	public boolean isInShard(Class<?> testClass) {
+		return shardTestClasses == null || shardTestClasses.contains(testClass.getName());
+	}
+	
 	/**
 	 * Calculates the number of tests without a run.
 	 *
 	 * @return the number of tests without a run
 	 */
 	public boolean allTestsAreExecuted() {
-		int notExecutedTestsCount = allTestClasses.size() - executedTestClasses.size();
+		int notExecutedTestsCount = allTestClasses.size() - executedTestClasses.size()
+				- otherShardTestClasses.size();
 		return notExecutedTestsCount == 0;
 	}
 	
@@ -86,4 +127,15 @@ public class TestsExecutionManager {
 	public boolean isExecuted(Class<?> testClass) {
 		return executedTestClasses.contains(testClass); 
 	}
+	
+	/**
+	 * Returns <code>true</code> if the specified test {@link Class}
+	 * is executed by other shard.
+	 *
+	 * @param testClass test {@link Class} whose status is to be tested
+	 * @return <code>true</code> if the specified test class is executed by other shard
+	 */
+	public boolean isExecutedInOtherShard(Class<?> testClass) {
+		return otherShardTestClasses.contains(testClass);
+	}
 }
@@ -82,7 +82,7 @@ public class TestsWithoutExecutionSuite extends Suite {
 
 		@Override
 		public Runner runnerForClass(Class<?> clazz) throws Throwable {
-			if (testsRunManager.isExecuted(clazz)) {
+			if (testsRunManager.isExecuted(clazz) || testsRunManager.isExecutedInOtherShard(clazz)) {
 				return null;
 			}
 			return new TestWithoutExecutionRunner(clazz);
@@ -0,0 +1,50 @@
+/******************************************************************************* 
+ * Copyright (c) 2016 Red Hat, Inc. 
+ * Distributed under license by Red Hat, Inc. All rights reserved. 
+ * This program is made available under the terms of the 
+ * Eclipse Public License v1.0 which accompanies this distribution, 
+ * and is available at http://www.eclipse.org/legal/epl-v10.html 
+ * 
+ * Contributors: 
+ * Red Hat, Inc. - initial API and implementation 
+ ******************************************************************************/ 
+package org.jboss.reddeer.junit.internal.runner.statement;
+
+import org.jboss.reddeer.junit.internal.requirement.SharedRequirements;
+import org.junit.runners.model.Statement;
+
+/**
+ * Calls {@link #evaluate()} on the provided statement and cleans up all shared requirements
+ * which are still fulfilled, e.g. because some of their consumers did not run.
+ * 
+ * @since 2.0
+ */
+public class CleanUpSharedRequirementsStatement extends Statement {
+
+	private Statement statement;
+
+	private SharedRequirements sharedRequirements;
+
+	/**
+	 * Instantiates a new clean up shared requirements statement.
+	 *
+	 * @param sharedRequirements the shared requirements
+	 * @param statement the statement
+	 */
+	public CleanUpSharedRequirementsStatement(SharedRequirements sharedRequirements, Statement statement) {
+		this.statement = statement;
+		this.sharedRequirements = sharedRequirements;
+	}
+
+	/* (non-Javadoc)
+	 * @see org.junit.runners.model.Statement#evaluate()
+	 */
+	@Override
+	public void evaluate() throws Throwable {
+		try {
+			statement.evaluate();
+		} finally {
+			sharedRequirements.cleanUpAll();
+		}
+	}
+}
@@ -0,0 +1,54 @@
+/******************************************************************************* 
+ * Copyright (c) 2016 Red Hat, Inc. 
+ * Distributed under license by Red Hat, Inc. All rights reserved. 
+ * This program is made available under the terms of the 
+ * Eclipse Public License v1.0 which accompanies this distribution, 
+ * and is available at http://www.eclipse.org/legal/epl-v10.html 
+ * 
+ * Contributors: 
+ * Red Hat, Inc. - initial API and implementation 
+ ******************************************************************************/
+package org.jboss.reddeer.junit.internal.runner.statement;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.reddeer.junit.shard.ShardDurationsRecorder;
+import org.junit.runners.model.Statement;
+
+/**
+ * Calls {@link #evaluate()} on the provided class statement and records duration of the test class
+ * to {@link ShardDurationsRecorder}.
+ * 
+ * @since 2.0
+ */
+public class RecordClassDurationStatement extends Statement {
+
+	private final Class<?> testClass;
+
+	private final Statement statement;
+
+	/**
+	 * Instantiates a new record class duration statement.
+	 *
+	 * @param testClass the test class
+	 * @param statement the class statement
+	 */
+	public RecordClassDurationStatement(Class<?> testClass, Statement statement) {
+		this.testClass = testClass;
+		this.statement = statement;
+	}
+
+	/* (non-Javadoc)
+	 * @see org.junit.runners.model.Statement#evaluate()
+	 */
+	@Override
+	public void evaluate() throws Throwable {
+		long start = System.nanoTime();
+		try {
+			statement.evaluate();
+		} finally {
+			ShardDurationsRecorder.getInstance().classFinished(testClass.getName(),
+					TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+		}
+	}
+}
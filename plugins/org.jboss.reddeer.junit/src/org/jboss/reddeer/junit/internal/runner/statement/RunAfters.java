@@ -13,6 +13,8 @@ package org.jboss.reddeer.junit.internal.runner.statement;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.jboss.reddeer.common.timing.TimingCategory;
+import org.jboss.reddeer.common.timing.Timings;
 import org.junit.runners.model.FrameworkMethod;
 import org.junit.runners.model.MultipleFailureException;
 import org.junit.runners.model.Statement;
@@ -70,6 +72,7 @@ public class RunAfters extends AbstractStatementWithScreenshot {
 			errors.add(e);
 		} 
 		
+		long start = Timings.start();
 		for (FrameworkMethod each : fAfters) {
 			try {
 				frameworkMethod = each; 
@@ -83,6 +86,7 @@ public class RunAfters extends AbstractStatementWithScreenshot {
 				errors.add(e);
 			}
 		}
+		Timings.stop(TimingCategory.AFTERS, start);
 		
 		MultipleFailureException.assertEmpty(errors);
 	}
@@ -12,6 +12,8 @@ package org.jboss.reddeer.junit.internal.runner.statement;
 
 import java.util.List;
 
+import org.jboss.reddeer.common.timing.TimingCategory;
+import org.jboss.reddeer.common.timing.Timings;
 import org.junit.runners.model.FrameworkMethod;
 import org.junit.runners.model.Statement;
 import org.junit.runners.model.TestClass;
@@ -62,6 +64,7 @@ public class RunBefores extends AbstractStatementWithScreenshot {
 	@Override
 	public void evaluate() throws Throwable {
 		FrameworkMethod before = null;
+		long start = Timings.start();
 		try {
 			for (FrameworkMethod bfr : befores) {
 				before = bfr;
@@ -75,6 +78,8 @@ public class RunBefores extends AbstractStatementWithScreenshot {
 				createScreenshot("Before_" + before.getName());				
 			}
 			throw throwable;
+		} finally {
+			Timings.stop(TimingCategory.BEFORES, start);
 		}
 		nextStatement.evaluate();
 	}
@@ -11,6 +11,8 @@
 package org.jboss.reddeer.junit.internal.runner.statement;
 
 import org.jboss.reddeer.common.logging.Logger;
+import org.jboss.reddeer.common.timing.TimingCategory;
+import org.jboss.reddeer.common.timing.Timings;
 import org.junit.Test;
 import org.junit.runners.model.FrameworkMethod;
 import org.junit.runners.model.TestClass;
@@ -42,6 +44,7 @@ public class RunTestMethod extends AbstractStatementWithScreenshot {
      */
     @Override
     public void evaluate() throws Throwable {
+    	long start = Timings.start();
     	try{
     		frameworkMethod.invokeExplosively(target);	
     	} catch (Throwable t){
@@ -54,6 +57,8 @@ public class RunTestMethod extends AbstractStatementWithScreenshot {
 	    			createScreenshot();
     		}
     		throw t;
+    	} finally {
+    		Timings.stop(TimingCategory.TEST_METHOD, start);
     	}
     }
 }
\ No newline at end of file
@@ -0,0 +1,26 @@
+/******************************************************************************* 
+ * Copyright (c) 2016 Red Hat, Inc. 
+ * Distributed under license by Red Hat, Inc. All rights reserved. 
+ * This program is made available under the terms of the 
+ * Eclipse Public License v1.0 which accompanies this distribution, 
+ * and is available at http://www.eclipse.org/legal/epl-v10.html 
+ * 
+ * Contributors: 
+ * Red Hat, Inc. - initial API and implementation 
+ ******************************************************************************/ 
+package org.jboss.reddeer.junit.requirement;
+
+import java.lang.annotation.Annotation;
+
+/**
+ * Requirement shared by test classes of a RedDeer suite. Test classes declaring the requirement
+ * by equal annotations within the same test run configuration get the same requirement instance.
+ * Requirement is fulfilled before the first of these test classes and cleaned up after the last one
+ * instead of being fulfilled and cleaned up for each test class.
+ * 
+ * @param <T> type of annotation declaring the requirement
+ * @since 2.0
+ */
+public interface SharedRequirement<T extends Annotation> extends Requirement<T> {
+
+}
@@ -10,11 +10,14 @@
  ******************************************************************************/
 package org.jboss.reddeer.junit.runner;
 
+import java.io.File;
 import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
 
 import org.jboss.reddeer.common.logging.Logger;
+import org.jboss.reddeer.common.properties.RedDeerProperties;
+import org.jboss.reddeer.common.timing.Timings;
 import org.jboss.reddeer.junit.extensionpoint.IAfterTest;
 import org.jboss.reddeer.junit.extensionpoint.IBeforeTest;
 import org.jboss.reddeer.junit.extensionpoint.IIssueTracker;
@@ -28,8 +31,16 @@ import org.jboss.reddeer.junit.internal.runner.NamedSuite;
 import org.jboss.reddeer.junit.internal.runner.RequirementsRunnerBuilder;
 import org.jboss.reddeer.junit.internal.runner.TestsExecutionManager;
 import org.jboss.reddeer.junit.internal.runner.TestsWithoutExecutionSuite;
+import org.jboss.reddeer.junit.screenshot.FrameRecorder;
+import org.jboss.reddeer.junit.screenshot.ScreenshotCapturer;
+import org.jboss.reddeer.junit.shard.ShardConfiguration;
+import org.jboss.reddeer.junit.shard.ShardDurations;
+import org.jboss.reddeer.junit.shard.ShardDurationsRecorder;
+import org.jboss.reddeer.junit.shard.ShardPartitioner;
+import org.jboss.reddeer.junit.timing.TimingReportListener;
 import org.junit.runner.Runner;
 import org.junit.runner.notification.RunListener;
+import org.junit.runner.notification.RunNotifier;
 import org.junit.runners.Suite;
 import org.junit.runners.model.InitializationError;
 import org.junit.runners.model.RunnerBuilder;
@@ -107,6 +118,17 @@ public class RedDeerSuite extends Suite {
 		List<Runner> configuredSuites = new ArrayList<Runner>();
 		boolean isSuite = isSuite(clazz);
 
+		ShardConfiguration shard = ShardConfiguration.getInstance();
+		if (shard.isSharded()) {
+			List<String> testClasses = new ArrayList<String>();
+			collectTestClasses(clazz, testClasses);
+			List<String> shardTestClasses = new ShardPartitioner(ShardDurations.load(shard.getDurationsFile()))
+					.partition(testClasses, shard.getCount()).get(shard.getIndex() - 1);
+			log.info("Executing shard " + shard.getIndex() + "/" + shard.getCount() + " with "
+					+ shardTestClasses.size() + " of " + testClasses.size() + " test classes");
+			testsManager.setShardTestClasses(shardTestClasses);
+		}
+
 		for (TestRunConfiguration testRunConfig : config.getTestRunConfigurations()) {
 			log.info("Adding config with name " + testRunConfig.getId() + " to RedDeer suite");
 			RequirementsRunnerBuilder reqRunnerBuilder = new RequirementsRunnerBuilder(testRunConfig, runListeners,
@@ -128,11 +150,50 @@ public class RedDeerSuite extends Suite {
 		return configuredSuites;
 	}
 
+	private static void collectTestClasses(Class<?> clazz, List<String> testClasses) {
+		SuiteClasses annotation = clazz.getAnnotation(SuiteClasses.class);
+		if (annotation == null) {
+			testClasses.add(clazz.getName());
+			return;
+		}
+		for (Class<?> suiteClass : annotation.value()) {
+			collectTestClasses(suiteClass, testClasses);
+		}
+	}
+
 	private static boolean isSuite(Class<?> clazz) {
 		SuiteClasses annotation = clazz.getAnnotation(SuiteClasses.class);
 		return annotation != null;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.junit.runners.ParentRunner#run(org.junit.runner.notification.RunNotifier)
+	 */
+	@Override
+	public void run(RunNotifier notifier) {
+		File durationsFile = ShardConfiguration.getInstance().getRecordedDurationsFile();
+		TimingReportListener timingReport = Timings.isEnabled() ? new TimingReportListener() : null;
+		if (timingReport != null) {
+			notifier.addListener(timingReport);
+		}
+		FrameRecorder.getInstance().start();
+		try {
+			super.run(notifier);
+		} finally {
+			FrameRecorder.getInstance().stop();
+			ScreenshotCapturer.getInstance().flush();
+			if (durationsFile != null) {
+				ShardDurationsRecorder.getInstance().save(durationsFile);
+			}
+			if (timingReport != null) {
+				notifier.removeListener(timingReport);
+				timingReport.save(new File(RedDeerProperties.TIMING_REPORT.getValue()));
+			}
+		}
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -0,0 +1,308 @@
+/******************************************************************************* 
+ * Copyright (c) 2016 Red Hat, Inc. 
+ * Distributed under license by Red Hat, Inc. All rights reserved. 
+ * This program is made available under the terms of the 
+ * Eclipse Public License v1.0 which accompanies this distribution, 
+ * and is available at http://www.eclipse.org/legal/epl-v10.html 
+ * 
+ * Contributors: 
+ * Red Hat, Inc. - initial API and implementation 
+ ******************************************************************************/ 
+package org.jboss.reddeer.junit.screenshot;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.PaletteData;
+
+/**
+ * Ring buffer of frames with bounded memory. Frames are stored compressed, key frames contain
+ * all pixels and following frames contain only pixels xor-ed with the previous frame, which
+ * compresses well because mostly small parts of the screen change between frames. When
+ * the buffer exceeds its size, the oldest key frame is evicted together with all its delta frames.
+ * <br>
+ * Size of the buffer counts compressed frames only, the last frame is kept uncompressed
+ * in addition to compute the next delta frame.
+ * 
+ * @since 2.0
+ */
+public class FrameBuffer {
+
+	private static final int FRAME_OVERHEAD = 64;
+
+	private final long maxBytes;
+
+	private final int keyFrameInterval;
+
+	private final ArrayDeque<EncodedFrame> frames = new ArrayDeque<EncodedFrame>();
+
+	private final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+
+	private long bytes;
+
+	private int[] previousPixels;
+
+	private int framesSinceKeyFrame;
+
+	/**
+	 * Creates a new frame buffer.
+	 *
+	 * @param maxBytes maximum size of compressed frames in bytes
+	 * @param keyFrameInterval number of frames between two key frames
+	 */
+	public FrameBuffer(long maxBytes, int keyFrameInterval) {
+		this.maxBytes = maxBytes;
+		this.keyFrameInterval = keyFrameInterval;
+	}
+
+	/**
+	 * Adds a frame to the buffer and evicts the oldest frames if the buffer is full.
+	 *
+	 * @param imageData image of the frame
+	 * @param timestamp time the frame was captured in milliseconds
+	 */
+	public synchronized void add(ImageData imageData, long timestamp) {
+		int width = imageData.width;
+		int height = imageData.height;
+		int[] pixels = new int[width * height];
+		for (int y = 0; y < height; y++) {
+			imageData.getPixels(0, y, width, pixels, y * width);
+		}
+
+		EncodedFrame last = frames.peekLast();
+		boolean keyFrame = last == null || previousPixels == null || framesSinceKeyFrame >= keyFrameInterval - 1
+				|| last.width != width || last.height != height || last.depth != imageData.depth
+				|| !samePalette(last.palette, imageData.palette);
+		int[] encoded = pixels;
+		if (!keyFrame) {
+			encoded = new int[pixels.length];
+			for (int i = 0; i < pixels.length; i++) {
+				encoded[i] = pixels[i] ^ previousPixels[i];
+			}
+		}
+		EncodedFrame frame = new EncodedFrame(width, height, imageData.depth, imageData.palette, keyFrame,
+				timestamp, deflate(encoded));
+		frames.addLast(frame);
+		bytes += frame.getSize();
+		previousPixels = pixels;
+		framesSinceKeyFrame = keyFrame ? 0 : framesSinceKeyFrame + 1;
+
+		while (bytes > maxBytes && !frames.isEmpty()) {
+			evictFirst();
+			while (!frames.isEmpty() && !frames.peekFirst().keyFrame) {
+				evictFirst();
+			}
+		}
+		if (frames.isEmpty()) {
+			previousPixels = null;
+		}
+	}
+
+	/**
+	 * Gets number of frames in the buffer.
+	 *
+	 * @return number of frames
+	 */
+	public synchronized int size() {
+		return frames.size();
+	}
+
+	/**
+	 * Gets size of compressed frames in the buffer.
+	 *
+	 * @return size in bytes
+	 */
+	public synchronized long getSizeInBytes() {
+		return bytes;
+	}
+
+	/**
+	 * Removes all frames.
+	 */
+	public synchronized void clear() {
+		frames.clear();
+		bytes = 0;
+		previousPixels = null;
+	}
+
+	/**
+	 * Gets snapshot of current frames which can be decoded later without blocking the buffer.
+	 *
+	 * @return snapshot of frames
+	 */
+	public synchronized Snapshot snapshot() {
+		return new Snapshot(new ArrayList<EncodedFrame>(frames));
+	}
+
+	/**
+	 * Gets decoded frames from the oldest one.
+	 *
+	 * @return decoded frames
+	 */
+	public List<Frame> getFrames() {
+		return snapshot().decode();
+	}
+
+	private void evictFirst() {
+		bytes -= frames.removeFirst().getSize();
+	}
+
+	private byte[] deflate(int[] pixels) {
+		ByteBuffer buffer = ByteBuffer.allocate(pixels.length * 4);
+		buffer.asIntBuffer().put(pixels);
+		deflater.reset();
+		deflater.setInput(buffer.array());
+		deflater.finish();
+		ByteArrayOutputStream output = new ByteArrayOutputStream(pixels.length / 8 + 64);
+		byte[] chunk = new byte[8192];
+		while (!deflater.finished()) {
+			output.write(chunk, 0, deflater.deflate(chunk));
+		}
+		return output.toByteArray();
+	}
+
+	private static boolean samePalette(PaletteData palette0, PaletteData palette1) {
+		if (palette0.isDirect != palette1.isDirect) {
+			return false;
+		}
+		if (palette0.isDirect) {
+			return palette0.redMask == palette1.redMask && palette0.greenMask == palette1.greenMask
+					&& palette0.blueMask == palette1.blueMask;
+		}
+		return Arrays.equals(palette0.getRGBs(), palette1.getRGBs());
+	}
+
+	/**
+	 * Frames of the buffer at some point in time.
+	 */
+	public static class Snapshot {
+
+		private final List<EncodedFrame> frames;
+
+		private Snapshot(List<EncodedFrame> frames) {
+			this.frames = frames;
+		}
+
+		/**
+		 * Gets number of frames.
+		 *
+		 * @return number of frames
+		 */
+		public int size() {
+			return frames.size();
+		}
+
+		/**
+		 * Decodes frames.
+		 *
+		 * @return decoded frames from the oldest one
+		 */
+		public List<Frame> decode() {
+			List<Frame> decoded = new ArrayList<Frame>(frames.size());
+			Inflater inflater = new Inflater();
+			try {
+				int[] previous = null;
+				for (EncodedFrame frame : frames) {
+					int[] pixels = inflate(inflater, frame);
+					if (!frame.keyFrame) {
+						for (int i = 0; i < pixels.length; i++) {
+							pixels[i] ^= previous[i];
+						}
+					}
+					ImageData imageData = new ImageData(frame.width, frame.height, frame.depth, frame.palette);
+					for (int y = 0; y < frame.height; y++) {
+						imageData.setPixels(0, y, frame.width, pixels, y * frame.width);
+					}
+					decoded.add(new Frame(imageData, frame.timestamp));
+					previous = pixels;
+				}
+			} catch (DataFormatException e) {
+				throw new IllegalStateException("Frame cannot be decoded", e);
+			} finally {
+				inflater.end();
+			}
+			return Collections.unmodifiableList(decoded);
+		}
+
+		private static int[] inflate(Inflater inflater, EncodedFrame frame) throws DataFormatException {
+			byte[] bytes = new byte[frame.width * frame.height * 4];
+			inflater.reset();
+			inflater.setInput(frame.data);
+			int length = 0;
+			while (length < bytes.length && !inflater.finished()) {
+				length += inflater.inflate(bytes, length, bytes.length - length);
+			}
+			int[] pixels = new int[frame.width * frame.height];
+			ByteBuffer.wrap(bytes).asIntBuffer().get(pixels);
+			return pixels;
+		}
+	}
+
+	/**
+	 * Decoded frame.
+	 */
+	public static class Frame {
+
+		private final ImageData imageData;
+
+		private final long timestamp;
+
+		private Frame(ImageData imageData, long timestamp) {
+			this.imageData = imageData;
+			this.timestamp = timestamp;
+		}
+
+		/**
+		 * Gets image of the frame.
+		 *
+		 * @return image data
+		 */
+		public ImageData getImageData() {
+			return imageData;
+		}
+
+		/**
+		 * Gets time the frame was captured.
+		 *
+		 * @return time in milliseconds
+		 */
+		public long getTimestamp() {
+			return timestamp;
+		}
+	}
+
+	private static class EncodedFrame {
+
+		private final int width;
+		private final int height;
+		private final int depth;
+		private final PaletteData palette;
+		private final boolean keyFrame;
+		private final long timestamp;
+		private final byte[] data;
+
+		public EncodedFrame(int width, int height, int depth, PaletteData palette, boolean keyFrame, long timestamp,
+				byte[] data) {
+			this.width = width;
+			this.height = height;
+			this.depth = depth;
+			this.palette = palette;
+			this.keyFrame = keyFrame;
+			this.timestamp = timestamp;
+			this.data = data;
+		}
+
+		public long getSize() {
+			return data.length + FRAME_OVERHEAD;
+		}
+	}
+}
@@ -0,0 +1,263 @@
+/******************************************************************************* 
+ * Copyright (c) 2016 Red Hat, Inc. 
+ * Distributed under license by Red Hat, Inc. All rights reserved. 
+ * This program is made available under the terms of the 
+ * Eclipse Public License v1.0 which accompanies this distribution, 
+ * and is available at http://www.eclipse.org/legal/epl-v10.html 
+ * 
+ * Contributors: 
+ * Red Hat, Inc. - initial API and implementation 
+ ******************************************************************************/ 
+package org.jboss.reddeer.junit.screenshot;
+
+import java.io.File;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.SWTError;
+import org.eclipse.swt.graphics.GC;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.ImageLoader;
+import org.eclipse.swt.graphics.Rectangle;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+import org.jboss.reddeer.common.logging.Logger;
+import org.jboss.reddeer.common.properties.RedDeerProperties;
+
+/**
+ * Records low resolution frames of the active shell into a {@link FrameBuffer}, so that frames
+ * preceding a failure can be dumped next to the screenshot captured on failure. Recording is
+ * enabled by {@link RedDeerProperties#FRAME_RECORDER_ENABLED}, frames are captured every
+ * {@link RedDeerProperties#FRAME_RECORDER_INTERVAL} milliseconds and the buffer is limited
+ * to {@link RedDeerProperties#FRAME_RECORDER_MEMORY} megabytes.
+ * <br>
+ * Only copying of the shell is done in UI thread, its duration is measured and reported
+ * by {@link #getStatistics()}. Frames are scaled and compressed in a background thread,
+ * frames which cannot be compressed in time are dropped.
+ * 
+ * @since 2.0
+ */
+public class FrameRecorder {
+
+	private static final Logger log = Logger.getLogger(FrameRecorder.class);
+
+	private static final float FRAME_SCALE = 0.5f;
+
+	private static final int KEY_FRAME_INTERVAL = 20;
+
+	private static FrameRecorder instance;
+
+	private final boolean enabled;
+
+	private final int interval;
+
+	private final FrameBuffer buffer;
+
+	private final ThreadPoolExecutor encoder;
+
+	private volatile boolean recording;
+
+	private Display display;
+
+	private final LongAdder capturedFrames = new LongAdder();
+
+	private final LongAdder droppedFrames = new LongAdder();
+
+	private final LongAdder failedFrames = new LongAdder();
+
+	private final LongAdder captureNanos = new LongAdder();
+
+	private final AtomicLong maxCaptureNanos = new AtomicLong();
+
+	private final Runnable captureTask = new Runnable() {
+		@Override
+		public void run() {
+			if (!recording || display.isDisposed()) {
+				return;
+			}
+			try {
+				captureFrame();
+			} catch (Exception | SWTError e) {
+				frameFailed(e);
+			}
+			display.timerExec(interval, this);
+		}
+	};
+
+	private FrameRecorder() {
+		enabled = RedDeerProperties.FRAME_RECORDER_ENABLED.getBooleanValue();
+		interval = Math.max(1, Math.round(RedDeerProperties.FRAME_RECORDER_INTERVAL.getFloatValue()));
+		buffer = new FrameBuffer((long) (RedDeerProperties.FRAME_RECORDER_MEMORY.getFloatValue() * 1024 * 1024),
+				KEY_FRAME_INTERVAL);
+		encoder = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<Runnable>(2),
+				new ThreadFactory() {
+					@Override
+					public Thread newThread(Runnable runnable) {
+						Thread thread = new Thread(runnable, "RedDeer frame recorder");
+						thread.setDaemon(true);
+						return thread;
+					}
+				}, new RejectedExecutionHandler() {
+					@Override
+					public void rejectedExecution(Runnable runnable, ThreadPoolExecutor executor) {
+						droppedFrames.increment();
+					}
+				});
+	}
+
+	/**
+	 * Gets the single instance of FrameRecorder.
+	 *
+	 * @return single instance of FrameRecorder
+	 */
+	public static synchronized FrameRecorder getInstance() {
+		if (instance == null) {
+			instance = new FrameRecorder();
+		}
+		return instance;
+	}
+
+	/**
+	 * Finds out whether frames are being recorded.
+	 *
+	 * @return true if recording, false otherwise
+	 */
+	public boolean isRecording() {
+		return recording;
+	}
+
+	/**
+	 * Starts recording if it is enabled.
+	 */
+	public synchronized void start() {
+		if (!enabled || recording) {
+			return;
+		}
+		display = Display.getDefault();
+		recording = true;
+		display.asyncExec(captureTask);
+		log.info("Frame recorder started, capturing every " + interval + " ms");
+	}
+
+	/**
+	 * Stops recording and logs statistics.
+	 */
+	public synchronized void stop() {
+		if (!recording) {
+			return;
+		}
+		recording = false;
+		log.info("Frame recorder stopped, " + getStatistics());
+	}
+
+	/**
+	 * Writes frames currently in the buffer as PNG images into specified directory.
+	 * Frames are copied immediately and decoded and written by the returned task.
+	 *
+	 * @param directory directory to write frames to
+	 * @return task writing the frames
+	 */
+	public Runnable dump(final File directory) {
+		final FrameBuffer.Snapshot snapshot = buffer.snapshot();
+		return new Runnable() {
+			@Override
+			public void run() {
+				if (snapshot.size() == 0) {
+					return;
+				}
+				directory.mkdirs();
+				List<FrameBuffer.Frame> frames = snapshot.decode();
+				long lastTimestamp = frames.get(frames.size() - 1).getTimestamp();
+				for (int i = 0; i < frames.size(); i++) {
+					FrameBuffer.Frame frame = frames.get(i);
+					ImageLoader imageLoader = new ImageLoader();
+					imageLoader.data = new ImageData[] { frame.getImageData() };
+					imageLoader.save(new File(directory, String.format("frame-%03d-%dms.png", i,
+							frame.getTimestamp() - lastTimestamp)).getPath(), SWT.IMAGE_PNG);
+				}
+				log.debug(frames.size() + " frames written to " + directory.getAbsolutePath());
+			}
+		};
+	}
+
+	/**
+	 * Gets statistics of recording, i.e. number of captured, dropped and failed frames, time spent
+	 * in UI thread per frame and size of the buffer.
+	 *
+	 * @return statistics of recording
+	 */
+	public String getStatistics() {
+		long frames = capturedFrames.sum();
+		return frames + " frames captured, " + droppedFrames.sum() + " dropped, " + failedFrames.sum()
+				+ " failed, UI thread time per frame "
+				+ String.format("%.2f", frames == 0 ? 0 : captureNanos.sum() / 1e6 / frames) + " ms on average and "
+				+ String.format("%.2f", maxCaptureNanos.get() / 1e6) + " ms at most, " + buffer.size()
+				+ " frames in buffer taking " + buffer.getSizeInBytes() / 1024 + " KB";
+	}
+
+	private void captureFrame() {
+		long start = System.nanoTime();
+		Shell shell = display.getActiveShell();
+		if (shell == null || !shell.isVisible()) {
+			return;
+		}
+		Rectangle bounds = shell.getBounds();
+		if (bounds.width <= 0 || bounds.height <= 0) {
+			return;
+		}
+		final ImageData imageData;
+		GC gc = new GC(display);
+		Image image = null;
+		try {
+			image = new Image(display, bounds.width, bounds.height);
+			gc.copyArea(image, bounds.x, bounds.y);
+			imageData = image.getImageData();
+		} finally {
+			gc.dispose();
+			if (image != null) {
+				image.dispose();
+			}
+		}
+		final long timestamp = System.currentTimeMillis();
+		long duration = System.nanoTime() - start;
+		capturedFrames.increment();
+		captureNanos.add(duration);
+		long max;
+		while (duration > (max = maxCaptureNanos.get()) && !maxCaptureNanos.compareAndSet(max, duration)) {
+			// retry
+		}
+		encoder.execute(new Runnable() {
+			@Override
+			public void run() {
+				try {
+					buffer.add(imageData.scaledTo(Math.max(1, Math.round(imageData.width * FRAME_SCALE)),
+							Math.max(1, Math.round(imageData.height * FRAME_SCALE))), timestamp);
+				} catch (Exception | SWTError e) {
+					frameFailed(e);
+				}
+			}
+		});
+	}
+
+	/**
+	 * Counts failed frame, only the first failure is logged as an error so a permanent failure
+	 * does not flood the log. Recording continues with next frame.
+	 */
+	private void frameFailed(Throwable throwable) {
+		boolean first = failedFrames.sum() == 0;
+		failedFrames.increment();
+		if (first) {
+			log.error("Capturing frame failed, next failures are logged on debug level", throwable);
+		} else {
+			log.debug("Capturing frame failed: " + throwable);
+		}
+	}
+}
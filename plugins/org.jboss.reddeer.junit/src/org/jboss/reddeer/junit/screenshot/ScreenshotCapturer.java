@@ -11,12 +11,15 @@
 package org.jboss.reddeer.junit.screenshot;
 
 import java.io.File;
+import java.util.HashMap;
+import java.util.Map;
 
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.graphics.GC;
 import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.graphics.ImageData;
 import org.eclipse.swt.graphics.ImageLoader;
+import org.eclipse.swt.graphics.Rectangle;
 import org.eclipse.swt.widgets.Display;
 import org.jboss.reddeer.common.logging.Logger;
 import org.jboss.reddeer.common.properties.RedDeerProperties;
@@ -34,6 +37,16 @@ public class ScreenshotCapturer {
 	public static final String SEPARATOR = System.getProperty("file.separator");
 	
 	private static ScreenshotCapturer instance;
+
+	/**
+	 * Maximum number of captured screenshots waiting to be written, when exceeded
+	 * the screenshot is written in the capturing thread.
+	 */
+	private static final int MAX_PENDING_SCREENSHOTS = 4;
+
+	private final ScreenshotWriter writer = new ScreenshotWriter(MAX_PENDING_SCREENSHOTS);
+
+	private final Map<String, Integer> nextCounters = new HashMap<String, Integer>();
 	
 	private ScreenshotCapturer() {}
 	
@@ -42,7 +55,7 @@ public class ScreenshotCapturer {
 	 *
 	 * @return single instance of ScreenshotCapturer
 	 */
-	public static ScreenshotCapturer getInstance() {
+	public static synchronized ScreenshotCapturer getInstance() {
 		if (instance == null) {
 			instance = new ScreenshotCapturer();
 		}
@@ -73,6 +86,9 @@ public class ScreenshotCapturer {
 	 * File name is altered in case of existence screenshot with the given file
 	 * name. Alteration consists of number in braces in postfix.
 	 * 
+	 * If {@link FrameRecorder} is recording, frames preceding the failure are
+	 * written to directory named after the screenshot with postfix <i>-frames</i>.
+	 * 
 	 * @param config
 	 *            configuration file under which the test is running
 	 * @param name
@@ -87,7 +103,12 @@ public class ScreenshotCapturer {
 			
 			createDirectories(path);
 			
-			captureScreenshot(path + name + ".png");
+			captureScreenshot(path + name + getFileExtension());
+
+			FrameRecorder frameRecorder = FrameRecorder.getInstance();
+			if (frameRecorder.isRecording()) {
+				writer.write(frameRecorder.dump(new File(path + name + "-frames")));
+			}
 		} else {
 			logger.warn("Screenshot has not been captured on failure, because RedDeer property whether screenshot "
 					+ "should be captured or not is set to false.");
@@ -118,16 +139,22 @@ public class ScreenshotCapturer {
 	}
 	
 	/**
-	 * Capture screenshot with specified file name. PNG format is supported.
+	 * Capture screenshot with specified file name. Only copying of the display is done in UI thread,
+	 * the screenshot is scaled, encoded and written asynchronously. PNG and JPEG formats are supported,
+	 * see {@link RedDeerProperties#SCREENSHOT_FORMAT} and {@link RedDeerProperties#SCREENSHOT_SCALE}.
+	 * <br>
+	 * File with returned name may not exist yet when this method returns, call {@link #flush()}
+	 * before reading it.
 	 *
 	 * @param screenshotFileName the screenshot file name
-	 * @return absolute path to create screenshot filename
+	 * @return path to screenshot file which is being written
 	 * @throws CaptureScreenshotException the capture screenshot exception
 	 */
 	public String captureScreenshot(final String screenshotFileName) throws CaptureScreenshotException {
 		String alteredFileName = getAlteredScreenshotFileName(screenshotFileName);
 		final String fileName = createMissingDirectories(alteredFileName);
 		final Display display = Display.getDefault();
+		final ImageData[] imageData = new ImageData[1];
 		display.syncExec(new Runnable() {
 			@Override
 			public void run() {
@@ -136,17 +163,12 @@ public class ScreenshotCapturer {
 
 				try {
 					logger.debug("Capturing Screenshot: " + fileName);
-					image = new Image(display, display.getBounds().width, display.getBounds().height);
-					gc.copyArea(image, display.getBounds().x, display.getBounds().y);
-
-					ImageLoader imageLoader = new ImageLoader();
-					imageLoader.data = new ImageData[] { image.getImageData() };
-					imageLoader.save(fileName, SWT.IMAGE_PNG);
-
-					logger.debug("Screenshot successfully captured. Saved in " + new File(fileName).getAbsolutePath());
+					Rectangle bounds = display.getBounds();
+					image = new Image(display, bounds.width, bounds.height);
+					gc.copyArea(image, bounds.x, bounds.y);
+					imageData[0] = image.getImageData();
 				} catch (Exception ex) {
 					logger.error("Capturing screenshot failed", ex);
-					handleCorruptedScreenshot(fileName);
 				} finally {
 					gc.dispose();
 					if (image != null) {
@@ -155,9 +177,49 @@ public class ScreenshotCapturer {
 				}
 			}
 		});
+		if (imageData[0] != null) {
+			writer.write(new Runnable() {
+				@Override
+				public void run() {
+					writeScreenshot(imageData[0], fileName);
+				}
+			});
+		}
 		return fileName;
 	}
 
+	/**
+	 * Waits until all captured screenshots and frames are written.
+	 */
+	public void flush() {
+		writer.flush();
+	}
+
+	private void writeScreenshot(ImageData imageData, String fileName) {
+		try {
+			float scale = RedDeerProperties.SCREENSHOT_SCALE.getFloatValue();
+			if (scale > 0 && scale < 1) {
+				imageData = imageData.scaledTo(Math.max(1, Math.round(imageData.width * scale)),
+						Math.max(1, Math.round(imageData.height * scale)));
+			}
+			ImageLoader imageLoader = new ImageLoader();
+			imageLoader.data = new ImageData[] { imageData };
+			imageLoader.save(fileName, isJpeg() ? SWT.IMAGE_JPEG : SWT.IMAGE_PNG);
+			logger.debug("Screenshot successfully captured. Saved in " + new File(fileName).getAbsolutePath());
+		} catch (Exception ex) {
+			logger.error("Writing screenshot failed", ex);
+			handleCorruptedScreenshot(fileName);
+		}
+	}
+
+	private static boolean isJpeg() {
+		return "jpeg".equalsIgnoreCase(RedDeerProperties.SCREENSHOT_FORMAT.getValue());
+	}
+
+	private static String getFileExtension() {
+		return isJpeg() ? ".jpg" : ".png";
+	}
+
 	/**
 	 * Removes corrupted screenshot.
 	 * 
@@ -252,21 +314,28 @@ public class ScreenshotCapturer {
 		}
 	}
 	
-	private String getAlteredScreenshotFileName(String screenshotFileName) {
+	private synchronized String getAlteredScreenshotFileName(String screenshotFileName) {
 		String fileName = screenshotFileName;
-		String fileExtension = ".png";
+		String fileExtension = getFileExtension();
 		if (!screenshotFileName.contains(fileExtension)) {
 			fileName += fileExtension;
 		}
 		String partialFileName = fileName.substring(0, fileName.lastIndexOf("."));
-		int counter = 2;
-		if (new File(fileName).exists()) {
-			while (new File(partialFileName + "(" + counter + ")" + fileExtension).exists()) {
-				counter++;
+		// files are probed only once per name, following names are numbered from memory
+		Integer counter = nextCounters.get(partialFileName);
+		if (counter == null) {
+			counter = 1;
+			if (new File(partialFileName + fileExtension).exists()) {
+				counter = 2;
+				while (new File(partialFileName + "(" + counter + ")" + fileExtension).exists()) {
+					counter++;
+				}
 			}
-			return partialFileName + "(" + counter + ")" + fileExtension;
-		} else {
+		}
+		nextCounters.put(partialFileName, counter + 1);
+		if (counter == 1) {
 			return partialFileName + fileExtension;
 		}
+		return partialFileName + "(" + counter + ")" + fileExtension;
 	}
 }
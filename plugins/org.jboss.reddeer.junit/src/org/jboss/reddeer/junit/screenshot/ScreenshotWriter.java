@@ -0,0 +1,82 @@
+/******************************************************************************* 
+ * Copyright (c) 2016 Red Hat, Inc. 
+ * Distributed under license by Red Hat, Inc. All rights reserved. 
+ * This program is made available under the terms of the 
+ * Eclipse Public License v1.0 which accompanies this distribution, 
+ * and is available at http://www.eclipse.org/legal/epl-v10.html 
+ * 
+ * Contributors: 
+ * Red Hat, Inc. - initial API and implementation 
+ ******************************************************************************/ 
+package org.jboss.reddeer.junit.screenshot;
+
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.reddeer.common.logging.Logger;
+
+/**
+ * Writes captured screenshots and frames in a background thread. Number of writes waiting
+ * for the background thread is bounded, when it is exceeded the write is run in the submitting
+ * thread, so capturing is slowed down instead of holding unlimited number of images in memory.
+ * 
+ * @since 2.0
+ */
+public class ScreenshotWriter {
+
+	private static final Logger logger = Logger.getLogger(ScreenshotWriter.class);
+
+	private final ThreadPoolExecutor executor;
+
+	private final Queue<Future<?>> pendingWrites = new ConcurrentLinkedQueue<Future<?>>();
+
+	/**
+	 * Creates a new screenshot writer.
+	 *
+	 * @param maxPendingWrites maximum number of writes waiting for the background thread
+	 */
+	public ScreenshotWriter(int maxPendingWrites) {
+		executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<Runnable>(maxPendingWrites), new ThreadFactory() {
+					@Override
+					public Thread newThread(Runnable runnable) {
+						Thread thread = new Thread(runnable, "RedDeer screenshot writer");
+						thread.setDaemon(true);
+						return thread;
+					}
+				}, new ThreadPoolExecutor.CallerRunsPolicy());
+	}
+
+	/**
+	 * Submits a write. Write is run in the background thread or, if there are too many
+	 * pending writes, in the current thread before this method returns.
+	 *
+	 * @param write task writing a screenshot
+	 */
+	public void write(Runnable write) {
+		pendingWrites.add(executor.submit(write));
+	}
+
+	/**
+	 * Waits until all submitted writes are finished. Failures of writes are logged.
+	 */
+	public void flush() {
+		Future<?> pendingWrite;
+		while ((pendingWrite = pendingWrites.poll()) != null) {
+			try {
+				pendingWrite.get();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			} catch (ExecutionException e) {
+				logger.error("Writing screenshot failed", e.getCause());
+			}
+		}
+	}
+}
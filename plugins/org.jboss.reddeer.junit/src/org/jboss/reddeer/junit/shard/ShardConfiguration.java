@@ -0,0 +1,126 @@
+/******************************************************************************* 
+ * Copyright (c) 2016 Red Hat, Inc. 
+ * Distributed under license by Red Hat, Inc. All rights reserved. 
+ * This program is made available under the terms of the 
+ * Eclipse Public License v1.0 which accompanies this distribution, 
+ * and is available at http://www.eclipse.org/legal/epl-v10.html 
+ * 
+ * Contributors: 
+ * Red Hat, Inc. - initial API and implementation 
+ ******************************************************************************/
+package org.jboss.reddeer.junit.shard;
+
+import java.io.File;
+
+import org.jboss.reddeer.common.properties.RedDeerProperties;
+import org.jboss.reddeer.junit.runner.RedDeerSuiteException;
+
+/**
+ * Configuration of sharded execution of a RedDeer suite. Shard executed by this instance is
+ * specified by {@link RedDeerProperties#SHARD} in format index/count, where index starts with 1.
+ * All shards partition test classes in the same way using historical durations of test classes
+ * read from {@link RedDeerProperties#SHARD_DURATIONS}. Durations measured by this shard are
+ * recorded to file {@link #getRecordedDurationsFile()} and merged back by {@link ShardResultsMerger}.
+ * 
+ * @since 2.0
+ */
+public class ShardConfiguration {
+
+	private static ShardConfiguration instance;
+
+	private final int index;
+
+	private final int count;
+
+	private final File durationsFile;
+
+	/**
+	 * Creates a new shard configuration.
+	 *
+	 * @param shard shard in format index/count or null if execution is not sharded
+	 * @param durationsFile path to file with historical durations of test classes or null
+	 */
+	public ShardConfiguration(String shard, String durationsFile) {
+		if (shard == null || shard.trim().isEmpty()) {
+			index = 1;
+			count = 1;
+		} else {
+			String[] parts = shard.trim().split("/");
+			try {
+				if (parts.length != 2) {
+					throw new NumberFormatException(shard);
+				}
+				index = Integer.parseInt(parts[0].trim());
+				count = Integer.parseInt(parts[1].trim());
+			} catch (NumberFormatException e) {
+				throw new RedDeerSuiteException("Shard '" + shard + "' has to be in format index/count", e);
+			}
+			if (count < 1 || index < 1 || index > count) {
+				throw new RedDeerSuiteException("Shard '" + shard + "' has to have index between 1 and count");
+			}
+		}
+		this.durationsFile = durationsFile == null ? null : new File(durationsFile);
+	}
+
+	/**
+	 * Gets shard configuration specified by RedDeer properties.
+	 *
+	 * @return shard configuration
+	 */
+	public static synchronized ShardConfiguration getInstance() {
+		if (instance == null) {
+			instance = new ShardConfiguration(RedDeerProperties.SHARD.getValue(),
+					RedDeerProperties.SHARD_DURATIONS.getValue());
+		}
+		return instance;
+	}
+
+	/**
+	 * Finds out whether test classes are split into more than one shard.
+	 *
+	 * @return true if execution is sharded, false otherwise
+	 */
+	public boolean isSharded() {
+		return count > 1;
+	}
+
+	/**
+	 * Gets index of shard executed by this instance, starting with 1.
+	 *
+	 * @return index of shard
+	 */
+	public int getIndex() {
+		return index;
+	}
+
+	/**
+	 * Gets number of shards.
+	 *
+	 * @return number of shards
+	 */
+	public int getCount() {
+		return count;
+	}
+
+	/**
+	 * Gets file with historical durations of test classes.
+	 *
+	 * @return durations file or null if it is not specified
+	 */
+	public File getDurationsFile() {
+		return durationsFile;
+	}
+
+	/**
+	 * Gets file durations of test classes executed by this shard are recorded to.
+	 *
+	 * @return recorded durations file or null if durations file is not specified
+	 */
+	public File getRecordedDurationsFile() {
+		return durationsFile == null ? null : getRecordedDurationsFile(durationsFile, index);
+	}
+
+	static File getRecordedDurationsFile(File durationsFile, int index) {
+		return new File(durationsFile.getPath() + "." + index);
+	}
+}
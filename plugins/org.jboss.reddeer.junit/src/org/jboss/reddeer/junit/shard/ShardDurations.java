@@ -0,0 +1,88 @@
+/******************************************************************************* 
+ * Copyright (c) 2016 Red Hat, Inc. 
+ * Distributed under license by Red Hat, Inc. All rights reserved. 
+ * This program is made available under the terms of the 
+ * Eclipse Public License v1.0 which accompanies this distribution, 
+ * and is available at http://www.eclipse.org/legal/epl-v10.html 
+ * 
+ * Contributors: 
+ * Red Hat, Inc. - initial API and implementation 
+ ******************************************************************************/
+package org.jboss.reddeer.junit.shard;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import org.jboss.reddeer.common.logging.Logger;
+import org.jboss.reddeer.junit.runner.RedDeerSuiteException;
+
+/**
+ * Reads and writes durations of test classes. Durations are stored as properties
+ * with test class name as key and duration in milliseconds as value.
+ * 
+ * @since 2.0
+ */
+public class ShardDurations {
+
+	private static final Logger log = Logger.getLogger(ShardDurations.class);
+
+	private ShardDurations() {
+
+	}
+
+	/**
+	 * Loads durations of test classes. Entries with invalid duration are skipped.
+	 *
+	 * @param file durations file
+	 * @return durations in milliseconds by test class name, empty map if file does not exist
+	 */
+	public static Map<String, Long> load(File file) {
+		Map<String, Long> durations = new HashMap<String, Long>();
+		if (file == null || !file.isFile()) {
+			return durations;
+		}
+		Properties properties = new Properties();
+		try (InputStream input = new FileInputStream(file)) {
+			properties.load(input);
+		} catch (IOException e) {
+			throw new RedDeerSuiteException("Cannot read durations of test classes from " + file, e);
+		}
+		for (String className : properties.stringPropertyNames()) {
+			try {
+				durations.put(className, Long.parseLong(properties.getProperty(className).trim()));
+			} catch (NumberFormatException e) {
+				log.warn("Skipping invalid duration of test class " + className + " in " + file);
+			}
+		}
+		return durations;
+	}
+
+	/**
+	 * Saves durations of test classes.
+	 *
+	 * @param durations durations in milliseconds by test class name
+	 * @param file durations file
+	 */
+	public static void save(Map<String, Long> durations, File file) {
+		Properties properties = new Properties();
+		for (Map.Entry<String, Long> duration : durations.entrySet()) {
+			properties.setProperty(duration.getKey(), duration.getValue().toString());
+		}
+		File parent = file.getAbsoluteFile().getParentFile();
+		if (parent != null) {
+			parent.mkdirs();
+		}
+		try (OutputStream output = new FileOutputStream(file)) {
+			properties.store(output, "Durations of RedDeer test classes in milliseconds");
+		} catch (IOException e) {
+			throw new RedDeerSuiteException("Cannot write durations of test classes to " + file, e);
+		}
+	}
+}
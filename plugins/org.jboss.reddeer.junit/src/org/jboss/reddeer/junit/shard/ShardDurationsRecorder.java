@@ -0,0 +1,71 @@
+/******************************************************************************* 
+ * Copyright (c) 2016 Red Hat, Inc. 
+ * Distributed under license by Red Hat, Inc. All rights reserved. 
+ * This program is made available under the terms of the 
+ * Eclipse Public License v1.0 which accompanies this distribution, 
+ * and is available at http://www.eclipse.org/legal/epl-v10.html 
+ * 
+ * Contributors: 
+ * Red Hat, Inc. - initial API and implementation 
+ ******************************************************************************/
+package org.jboss.reddeer.junit.shard;
+
+import java.io.File;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Records durations of test classes executed in this shard. Duration of a test class is
+ * measured around its whole class block, i.e. it includes fulfilling and cleaning up of
+ * requirements, methods annotated by @BeforeClass and @AfterClass and all test methods.
+ * Test class executed for several configurations is recorded with sum of its durations.
+ * 
+ * @since 2.0
+ */
+public class ShardDurationsRecorder {
+
+	private static ShardDurationsRecorder instance;
+
+	private final Map<String, Long> durations = new HashMap<String, Long>();
+
+	/**
+	 * Gets instance of ShardDurationsRecorder.
+	 *
+	 * @return ShardDurationsRecorder instance
+	 */
+	public static synchronized ShardDurationsRecorder getInstance() {
+		if (instance == null) {
+			instance = new ShardDurationsRecorder();
+		}
+		return instance;
+	}
+
+	/**
+	 * Records duration of a finished test class.
+	 *
+	 * @param className name of test class
+	 * @param duration duration of the test class in milliseconds
+	 */
+	public synchronized void classFinished(String className, long duration) {
+		Long total = durations.get(className);
+		durations.put(className, total == null ? duration : total + duration);
+	}
+
+	/**
+	 * Gets recorded durations of test classes.
+	 *
+	 * @return durations in milliseconds by test class name
+	 */
+	public synchronized Map<String, Long> getDurations() {
+		return new HashMap<String, Long>(durations);
+	}
+
+	/**
+	 * Saves recorded durations of test classes.
+	 *
+	 * @param file durations file
+	 */
+	public void save(File file) {
+		ShardDurations.save(getDurations(), file);
+	}
+}
@@ -0,0 +1,110 @@
+/******************************************************************************* 
+ * Copyright (c) 2016 Red Hat, Inc. 
+ * Distributed under license by Red Hat, Inc. All rights reserved. 
+ * This program is made available under the terms of the 
+ * Eclipse Public License v1.0 which accompanies this distribution, 
+ * and is available at http://www.eclipse.org/legal/epl-v10.html 
+ * 
+ * Contributors: 
+ * Red Hat, Inc. - initial API and implementation 
+ ******************************************************************************/
+package org.jboss.reddeer.junit.shard;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Partitions test classes into shards with similar total duration. Test classes are assigned
+ * from the longest one to the shard with the lowest total duration so far. Test classes without
+ * historical duration are estimated by average duration of known test classes. Partitioning
+ * is deterministic, so all shards compute the same partitions from the same input.
+ * 
+ * @since 2.0
+ */
+public class ShardPartitioner {
+
+	private final Map<String, Long> durations;
+
+	/**
+	 * Creates a new partitioner.
+	 *
+	 * @param durations historical durations in milliseconds by test class name
+	 */
+	public ShardPartitioner(Map<String, Long> durations) {
+		this.durations = durations;
+	}
+
+	/**
+	 * Partitions test classes into specified number of shards.
+	 *
+	 * @param classNames names of test classes
+	 * @param count number of shards
+	 * @return names of test classes of each shard in original order
+	 */
+	public List<List<String>> partition(Collection<String> classNames, int count) {
+		Set<String> uniqueClassNames = new LinkedHashSet<String>(classNames);
+		List<String> sorted = new ArrayList<String>(uniqueClassNames);
+		final long defaultDuration = getDefaultDuration(sorted);
+		Collections.sort(sorted, new Comparator<String>() {
+			@Override
+			public int compare(String className0, String className1) {
+				int result = Long.compare(getDuration(className1, defaultDuration), getDuration(className0, defaultDuration));
+				return result != 0 ? result : className0.compareTo(className1);
+			}
+		});
+
+		long[] totals = new long[count];
+		List<List<String>> assigned = new ArrayList<List<String>>(count);
+		for (int i = 0; i < count; i++) {
+			assigned.add(new ArrayList<String>());
+		}
+		for (String className : sorted) {
+			int shard = 0;
+			for (int i = 1; i < count; i++) {
+				if (totals[i] < totals[shard]) {
+					shard = i;
+				}
+			}
+			totals[shard] += getDuration(className, defaultDuration);
+			assigned.get(shard).add(className);
+		}
+
+		List<List<String>> partitions = new ArrayList<List<String>>(count);
+		for (List<String> shardClassNames : assigned) {
+			Set<String> shardClassNameSet = new HashSet<String>(shardClassNames);
+			List<String> ordered = new ArrayList<String>(shardClassNames.size());
+			for (String className : uniqueClassNames) {
+				if (shardClassNameSet.contains(className)) {
+					ordered.add(className);
+				}
+			}
+			partitions.add(ordered);
+		}
+		return partitions;
+	}
+
+	private long getDefaultDuration(Collection<String> classNames) {
+		long total = 0;
+		int known = 0;
+		for (String className : classNames) {
+			Long duration = durations.get(className);
+			if (duration != null) {
+				total += duration;
+				known++;
+			}
+		}
+		return known == 0 ? 1 : Math.max(1, total / known);
+	}
+
+	private long getDuration(String className, long defaultDuration) {
+		Long duration = durations.get(className);
+		return duration == null ? defaultDuration : duration;
+	}
+}
@@ -0,0 +1,226 @@
+/******************************************************************************* 
+ * Copyright (c) 2016 Red Hat, Inc. 
+ * Distributed under license by Red Hat, Inc. All rights reserved. 
+ * This program is made available under the terms of the 
+ * Eclipse Public License v1.0 which accompanies this distribution, 
+ * and is available at http://www.eclipse.org/legal/epl-v10.html 
+ * 
+ * Contributors: 
+ * Red Hat, Inc. - initial API and implementation 
+ ******************************************************************************/
+package org.jboss.reddeer.junit.shard;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerException;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+
+import org.jboss.reddeer.common.logging.Logger;
+import org.jboss.reddeer.junit.runner.RedDeerSuiteException;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+import org.xml.sax.SAXException;
+
+/**
+ * Merges results of shards into one directory. JUnit XML reports (TEST-*.xml) with the same
+ * relative path are merged into one report, counts and times of test suites are summed up.
+ * All other files, e.g. screenshots and RedDeer logs, are copied, files with the same
+ * relative path are prefixed by name of the shard directory. Workspace directories of shards
+ * are skipped.
+ * 
+ * @since 2.0
+ */
+public class ShardResultsMerger {
+
+	private static final Logger log = Logger.getLogger(ShardResultsMerger.class);
+
+	/**
+	 * Name of workspace directory in shard directory, it is not merged.
+	 */
+	public static final String WORKSPACE_DIRECTORY = "workspace";
+
+	private static final String[] SUMMED_COUNTS = new String[] { "tests", "failures", "errors", "skipped" };
+
+	/**
+	 * Merges results of specified shards.
+	 *
+	 * @param shardDirectories output directories of shards
+	 * @param target directory merged results are written to
+	 */
+	public void merge(List<File> shardDirectories, final File target) {
+		final Map<String, List<File>> reports = new TreeMap<String, List<File>>();
+		for (final File shardDirectory : shardDirectories) {
+			if (!shardDirectory.isDirectory()) {
+				log.warn("Results of shard " + shardDirectory + " do not exist");
+				continue;
+			}
+			final Path root = shardDirectory.toPath();
+			try {
+				Files.walkFileTree(root, new SimpleFileVisitor<Path>() {
+					@Override
+					public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+						if (dir.getParent() != null && dir.getParent().equals(root)
+								&& dir.getFileName().toString().equals(WORKSPACE_DIRECTORY)) {
+							return FileVisitResult.SKIP_SUBTREE;
+						}
+						return FileVisitResult.CONTINUE;
+					}
+
+					@Override
+					public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+						String relativePath = root.relativize(file).toString();
+						if (isJUnitReport(file.getFileName().toString())) {
+							List<File> files = reports.get(relativePath);
+							if (files == null) {
+								files = new ArrayList<File>();
+								reports.put(relativePath, files);
+							}
+							files.add(file.toFile());
+						} else {
+							copy(file, target.toPath().resolve(relativePath), shardDirectory.getName());
+						}
+						return FileVisitResult.CONTINUE;
+					}
+				});
+			} catch (IOException e) {
+				throw new RedDeerSuiteException("Cannot merge results of shard " + shardDirectory, e);
+			}
+		}
+		for (Map.Entry<String, List<File>> report : reports.entrySet()) {
+			mergeJUnitReports(report.getValue(), new File(target, report.getKey()));
+		}
+		log.info("Results of " + shardDirectories.size() + " shards merged to " + target);
+	}
+
+	/**
+	 * Merges durations recorded by shards into durations file and deletes recorded files.
+	 *
+	 * @param durationsFile file with historical durations of test classes
+	 * @param count number of shards
+	 */
+	public void mergeDurations(File durationsFile, int count) {
+		Map<String, Long> durations = ShardDurations.load(durationsFile);
+		List<File> recordedFiles = new ArrayList<File>();
+		for (int index = 1; index <= count; index++) {
+			File recordedFile = ShardConfiguration.getRecordedDurationsFile(durationsFile, index);
+			durations.putAll(ShardDurations.load(recordedFile));
+			recordedFiles.add(recordedFile);
+		}
+		ShardDurations.save(durations, durationsFile);
+		for (File recordedFile : recordedFiles) {
+			recordedFile.delete();
+		}
+	}
+
+	/**
+	 * Merges JUnit XML reports into one report. Test suites of all reports are merged into
+	 * the test suite of the first report, or appended if the reports contain more test suites.
+	 *
+	 * @param reports reports to merge
+	 * @param target merged report
+	 */
+	public void mergeJUnitReports(List<File> reports, File target) {
+		try {
+			DocumentBuilder builder = DocumentBuilderFactory.newInstance().newDocumentBuilder();
+			Document merged = builder.parse(reports.get(0));
+			Element mergedRoot = merged.getDocumentElement();
+			for (File report : reports.subList(1, reports.size())) {
+				Element root = builder.parse(report).getDocumentElement();
+				if (mergedRoot.getTagName().equals("testsuite") && root.getTagName().equals("testsuite")) {
+					sumAttributes(mergedRoot, root);
+					NodeList children = root.getChildNodes();
+					for (int i = 0; i < children.getLength(); i++) {
+						Node child = children.item(i);
+						if (child.getNodeType() == Node.ELEMENT_NODE && ((Element) child).getTagName().equals("properties")) {
+							continue;
+						}
+						mergedRoot.appendChild(merged.importNode(child, true));
+					}
+				} else {
+					if (!mergedRoot.getTagName().equals("testsuites")) {
+						Element testSuites = merged.createElement("testsuites");
+						merged.replaceChild(testSuites, mergedRoot);
+						testSuites.appendChild(mergedRoot);
+						mergedRoot = testSuites;
+					}
+					if (root.getTagName().equals("testsuites")) {
+						NodeList children = root.getChildNodes();
+						for (int i = 0; i < children.getLength(); i++) {
+							mergedRoot.appendChild(merged.importNode(children.item(i), true));
+						}
+					} else {
+						mergedRoot.appendChild(merged.importNode(root, true));
+					}
+				}
+			}
+			target.getAbsoluteFile().getParentFile().mkdirs();
+			Transformer transformer = TransformerFactory.newInstance().newTransformer();
+			transformer.setOutputProperty(OutputKeys.ENCODING, "UTF-8");
+			transformer.transform(new DOMSource(merged), new StreamResult(target));
+		} catch (ParserConfigurationException | SAXException | IOException | TransformerException e) {
+			throw new RedDeerSuiteException("Cannot merge JUnit reports " + reports + " to " + target, e);
+		}
+	}
+
+	private static void sumAttributes(Element merged, Element added) {
+		for (String attribute : SUMMED_COUNTS) {
+			if (merged.hasAttribute(attribute) || added.hasAttribute(attribute)) {
+				merged.setAttribute(attribute, Long.toString(parseLong(merged.getAttribute(attribute))
+						+ parseLong(added.getAttribute(attribute))));
+			}
+		}
+		if (merged.hasAttribute("time") || added.hasAttribute("time")) {
+			merged.setAttribute("time", String.format(Locale.ENGLISH, "%.3f",
+					parseDouble(merged.getAttribute("time")) + parseDouble(added.getAttribute("time"))));
+		}
+	}
+
+	private static long parseLong(String value) {
+		try {
+			return value.isEmpty() ? 0 : Long.parseLong(value.trim());
+		} catch (NumberFormatException e) {
+			return 0;
+		}
+	}
+
+	private static double parseDouble(String value) {
+		try {
+			return value.isEmpty() ? 0 : Double.parseDouble(value.trim().replace(",", ""));
+		} catch (NumberFormatException e) {
+			return 0;
+		}
+	}
+
+	private static boolean isJUnitReport(String fileName) {
+		return fileName.startsWith("TEST-") && fileName.endsWith(".xml");
+	}
+
+	private static void copy(Path source, Path target, String shardName) throws IOException {
+		if (Files.exists(target)) {
+			target = target.resolveSibling(shardName + "-" + target.getFileName());
+		}
+		Files.createDirectories(target.getParent());
+		Files.copy(source, target, StandardCopyOption.REPLACE_EXISTING);
+	}
+}
@@ -0,0 +1,222 @@
+/******************************************************************************* 
+ * Copyright (c) 2016 Red Hat, Inc. 
+ * Distributed under license by Red Hat, Inc. All rights reserved. 
+ * This program is made available under the terms of the 
+ * Eclipse Public License v1.0 which accompanies this distribution, 
+ * and is available at http://www.eclipse.org/legal/epl-v10.html 
+ * 
+ * Contributors: 
+ * Red Hat, Inc. - initial API and implementation 
+ ******************************************************************************/
+package org.jboss.reddeer.junit.shard;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.jboss.reddeer.common.logging.Logger;
+
+/**
+ * Launches a RedDeer suite in several processes, each executing one shard of test classes
+ * in its own output directory, workspace and optionally its own Xvfb display, and merges
+ * their results by {@link ShardResultsMerger}. Xvfb picks a free display number itself and
+ * shard is launched once Xvfb reports the display by -displayfd, i.e. once it accepts connections.
+ * <br>
+ * Launched command can contain following placeholders replaced for each shard:
+ * <ul>
+ * <li><b>{shard}</b> - shard in format index/count to be passed as rd.shard property</li>
+ * <li><b>{shardDir}</b> - output directory of shard</li>
+ * <li><b>{workspace}</b> - workspace directory of shard</li>
+ * <li><b>{durations}</b> - durations file to be passed as rd.shardDurations property</li>
+ * </ul>
+ * Usage:<br>
+ * <code>ShardedSuiteLauncher [--xvfb] [--durations file] count outputDir command [arguments]</code>
+ * 
+ * @since 2.0
+ */
+public class ShardedSuiteLauncher {
+
+	private static final Logger log = Logger.getLogger(ShardedSuiteLauncher.class);
+
+	/**
+	 * Prefix of output directories of shards.
+	 */
+	public static final String SHARD_DIRECTORY_PREFIX = "shard-";
+
+	/**
+	 * Name of directory merged results are written to.
+	 */
+	public static final String MERGED_DIRECTORY = "merged";
+
+	private static final long XVFB_TIMEOUT = 30000;
+
+	private final int count;
+
+	private final File outputDirectory;
+
+	private final List<String> command;
+
+	private boolean xvfb;
+
+	private File durationsFile;
+
+	/**
+	 * Creates a new launcher.
+	 *
+	 * @param count number of shards
+	 * @param outputDirectory directory shard directories and merged results are created in
+	 * @param command command launching the suite with placeholders
+	 */
+	public ShardedSuiteLauncher(int count, File outputDirectory, List<String> command) {
+		this.count = count;
+		this.outputDirectory = outputDirectory;
+		this.command = command;
+	}
+
+	/**
+	 * Sets whether each shard gets its own Xvfb display.
+	 *
+	 * @param xvfb true to start Xvfb for each shard
+	 */
+	public void setXvfb(boolean xvfb) {
+		this.xvfb = xvfb;
+	}
+
+	/**
+	 * Sets file with historical durations of test classes. Durations recorded by shards are merged into it.
+	 *
+	 * @param durationsFile durations file
+	 */
+	public void setDurationsFile(File durationsFile) {
+		this.durationsFile = durationsFile;
+	}
+
+	/**
+	 * Launches all shards, waits for them and merges their results.
+	 *
+	 * @return highest exit code of shards
+	 * @throws IOException if a process cannot be started
+	 * @throws InterruptedException if waiting for shards is interrupted
+	 */
+	public int launch() throws IOException, InterruptedException {
+		List<File> shardDirectories = new ArrayList<File>(count);
+		List<Process> shards = new ArrayList<Process>(count);
+		List<Process> displays = new ArrayList<Process>(count);
+		int exitCode = 0;
+		try {
+			for (int index = 1; index <= count; index++) {
+				File shardDirectory = new File(outputDirectory, SHARD_DIRECTORY_PREFIX + index).getAbsoluteFile();
+				new File(shardDirectory, ShardResultsMerger.WORKSPACE_DIRECTORY).mkdirs();
+				shardDirectories.add(shardDirectory);
+
+				ProcessBuilder builder = new ProcessBuilder(getShardCommand(index, shardDirectory));
+				builder.directory(shardDirectory);
+				builder.redirectErrorStream(true);
+				builder.redirectOutput(new File(shardDirectory, "console.log"));
+				if (xvfb) {
+					Process display = new ProcessBuilder("Xvfb", "-displayfd", "1", "-screen", "0", "1920x1080x24",
+							"-nolisten", "tcp").redirectError(new File(shardDirectory, "xvfb.log")).start();
+					displays.add(display);
+					builder.environment().put("DISPLAY", ":" + waitForDisplay(display));
+				}
+				log.info("Launching shard " + index + "/" + count + " in " + shardDirectory);
+				shards.add(builder.start());
+			}
+			for (int index = 1; index <= count; index++) {
+				int shardExitCode = shards.get(index - 1).waitFor();
+				log.info("Shard " + index + "/" + count + " finished with exit code " + shardExitCode);
+				exitCode = Math.max(exitCode, shardExitCode);
+			}
+		} finally {
+			for (Process shard : shards) {
+				shard.destroy();
+			}
+			for (Process display : displays) {
+				display.destroy();
+			}
+		}
+		ShardResultsMerger merger = new ShardResultsMerger();
+		merger.merge(shardDirectories, new File(outputDirectory, MERGED_DIRECTORY));
+		if (durationsFile != null) {
+			merger.mergeDurations(durationsFile, count);
+		}
+		return exitCode;
+	}
+
+	/**
+	 * Waits until Xvfb writes number of its display to standard output, it happens
+	 * once the display is ready.
+	 */
+	private static String waitForDisplay(Process xvfb) throws IOException, InterruptedException {
+		long timeout = System.currentTimeMillis() + XVFB_TIMEOUT;
+		while (xvfb.getInputStream().available() == 0) {
+			if (!xvfb.isAlive()) {
+				throw new IOException("Xvfb exited with exit code " + xvfb.exitValue());
+			}
+			if (System.currentTimeMillis() > timeout) {
+				throw new IOException("Xvfb did not report its display in " + XVFB_TIMEOUT + " ms");
+			}
+			Thread.sleep(100);
+		}
+		BufferedReader reader = new BufferedReader(
+				new InputStreamReader(xvfb.getInputStream(), StandardCharsets.US_ASCII));
+		String display = reader.readLine();
+		if (display == null || !display.trim().matches("\\d+")) {
+			throw new IOException("Xvfb reported invalid display " + display);
+		}
+		return display.trim();
+	}
+
+	private List<String> getShardCommand(int index, File shardDirectory) {
+		List<String> shardCommand = new ArrayList<String>(command.size());
+		for (String argument : command) {
+			shardCommand.add(argument.replace("{shard}", index + "/" + count)
+					.replace("{shardDir}", shardDirectory.getPath())
+					.replace("{workspace}", new File(shardDirectory, ShardResultsMerger.WORKSPACE_DIRECTORY).getPath())
+					.replace("{durations}", durationsFile == null ? "" : durationsFile.getAbsolutePath()));
+		}
+		return shardCommand;
+	}
+
+	/**
+	 * Launches sharded suite from command line.
+	 *
+	 * @param args [--xvfb] [--durations file] count outputDir command [arguments]
+	 * @throws Exception if shards cannot be launched
+	 */
+	public static void main(String[] args) throws Exception {
+		boolean xvfb = false;
+		File durationsFile = null;
+		int position = 0;
+		while (position < args.length && args[position].startsWith("--")) {
+			if (args[position].equals("--xvfb")) {
+				xvfb = true;
+			} else if (args[position].equals("--durations") && position + 1 < args.length) {
+				durationsFile = new File(args[++position]);
+			} else {
+				printUsage();
+				return;
+			}
+			position++;
+		}
+		if (args.length - position < 3) {
+			printUsage();
+			return;
+		}
+		ShardedSuiteLauncher launcher = new ShardedSuiteLauncher(Integer.parseInt(args[position]),
+				new File(args[position + 1]), Arrays.asList(args).subList(position + 2, args.length));
+		launcher.setXvfb(xvfb);
+		launcher.setDurationsFile(durationsFile);
+		System.exit(launcher.launch());
+	}
+
+	private static void printUsage() {
+		System.err.println("Usage: ShardedSuiteLauncher [--xvfb] [--durations file] count outputDir command [arguments]");
+		System.exit(2);
+	}
+}
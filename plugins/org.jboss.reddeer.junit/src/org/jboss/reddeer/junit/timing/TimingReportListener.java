@@ -0,0 +1,174 @@
+/******************************************************************************* 
+ * Copyright (c) 2016 Red Hat, Inc. 
+ * Distributed under license by Red Hat, Inc. All rights reserved. 
+ * This program is made available under the terms of the 
+ * Eclipse Public License v1.0 which accompanies this distribution, 
+ * and is available at http://www.eclipse.org/legal/epl-v10.html 
+ * 
+ * Contributors: 
+ * Red Hat, Inc. - initial API and implementation 
+ ******************************************************************************/
+package org.jboss.reddeer.junit.timing;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.reddeer.common.logging.Logger;
+import org.jboss.reddeer.common.timing.TimingCategory;
+import org.jboss.reddeer.common.timing.TimingSnapshot;
+import org.jboss.reddeer.common.timing.Timings;
+import org.junit.runner.Description;
+import org.junit.runner.notification.RunListener;
+
+/**
+ * Collects per test breakdown of time measured by {@link Timings}, i.e. time spent waiting,
+ * sleeping, in UI thread and in lookups together with number of these operations, and writes
+ * it to CSV or JSON report. Durations of categories overlap, see {@link Timings}.
+ * 
+ * @since 2.0
+ */
+public class TimingReportListener extends RunListener {
+
+	private static final Logger log = Logger.getLogger(TimingReportListener.class);
+
+	private final Map<Description, TimingSnapshot> startSnapshots = new HashMap<Description, TimingSnapshot>();
+
+	private final Map<Description, Long> startTimes = new HashMap<Description, Long>();
+
+	private final List<TestTiming> testTimings = new ArrayList<TestTiming>();
+
+	@Override
+	public synchronized void testStarted(Description description) throws Exception {
+		startSnapshots.put(description, Timings.snapshot());
+		startTimes.put(description, System.nanoTime());
+	}
+
+	@Override
+	public synchronized void testFinished(Description description) throws Exception {
+		TimingSnapshot startSnapshot = startSnapshots.remove(description);
+		Long startTime = startTimes.remove(description);
+		if (startSnapshot == null || startTime == null) {
+			return;
+		}
+		testTimings.add(new TestTiming(description.getDisplayName(), System.nanoTime() - startTime,
+				Timings.snapshot().since(startSnapshot)));
+	}
+
+	/**
+	 * Saves the report. Report is written in JSON format if file name ends with .json, in CSV format otherwise.
+	 *
+	 * @param file report file
+	 */
+	public synchronized void save(File file) {
+		File parent = file.getAbsoluteFile().getParentFile();
+		if (parent != null) {
+			parent.mkdirs();
+		}
+		try (Writer writer = new OutputStreamWriter(Files.newOutputStream(file.toPath()), StandardCharsets.UTF_8)) {
+			if (file.getName().endsWith(".json")) {
+				writeJson(writer);
+			} else {
+				writeCsv(writer);
+			}
+			log.info("Timing report of " + testTimings.size() + " tests written to " + file.getAbsolutePath());
+		} catch (IOException e) {
+			log.error("Cannot write timing report to " + file.getAbsolutePath(), e);
+		}
+	}
+
+	/**
+	 * Writes the report in CSV format.
+	 *
+	 * @param writer writer to write report to
+	 * @throws IOException if writing fails
+	 */
+	public synchronized void writeCsv(Writer writer) throws IOException {
+		writer.write("test,totalMs");
+		for (TimingCategory category : TimingCategory.values()) {
+			writer.write("," + getName(category) + "Count," + getName(category) + "Ms");
+		}
+		writer.write("\n");
+		for (TestTiming testTiming : testTimings) {
+			writer.write("\"" + testTiming.test.replace("\"", "\"\"") + "\"," + testTiming.getTotalMillis());
+			for (TimingCategory category : TimingCategory.values()) {
+				writer.write("," + testTiming.timings.getCount(category) + "," + testTiming.timings.getMillis(category));
+			}
+			writer.write("\n");
+		}
+	}
+
+	/**
+	 * Writes the report in JSON format.
+	 *
+	 * @param writer writer to write report to
+	 * @throws IOException if writing fails
+	 */
+	public synchronized void writeJson(Writer writer) throws IOException {
+		writer.write("[");
+		for (int i = 0; i < testTimings.size(); i++) {
+			TestTiming testTiming = testTimings.get(i);
+			writer.write(i == 0 ? "\n" : ",\n");
+			writer.write("  {\"test\": \"" + escapeJson(testTiming.test) + "\", \"totalMs\": " + testTiming.getTotalMillis());
+			for (TimingCategory category : TimingCategory.values()) {
+				writer.write(", \"" + getName(category) + "Count\": " + testTiming.timings.getCount(category)
+						+ ", \"" + getName(category) + "Ms\": " + testTiming.timings.getMillis(category));
+			}
+			writer.write("}");
+		}
+		writer.write("\n]\n");
+	}
+
+	private static String getName(TimingCategory category) {
+		StringBuilder name = new StringBuilder();
+		boolean upperCase = false;
+		for (char c : category.name().toLowerCase().toCharArray()) {
+			if (c == '_') {
+				upperCase = true;
+			} else {
+				name.append(upperCase ? Character.toUpperCase(c) : c);
+				upperCase = false;
+			}
+		}
+		return name.toString();
+	}
+
+	private static String escapeJson(String text) {
+		StringBuilder escaped = new StringBuilder(text.length());
+		for (char c : text.toCharArray()) {
+			if (c == '"' || c == '\\') {
+				escaped.append('\\').append(c);
+			} else if (c < 0x20) {
+				escaped.append(String.format("\\u%04x", (int) c));
+			} else {
+				escaped.append(c);
+			}
+		}
+		return escaped.toString();
+	}
+
+	private static class TestTiming {
+
+		private final String test;
+		private final long totalNanos;
+		private final TimingSnapshot timings;
+
+		public TestTiming(String test, long totalNanos, TimingSnapshot timings) {
+			this.test = test;
+			this.totalNanos = totalNanos;
+			this.timings = timings;
+		}
+
+		public long getTotalMillis() {
+			return TimeUnit.NANOSECONDS.toMillis(totalNanos);
+		}
+	}
+}
@@ -10,15 +10,22 @@
  ******************************************************************************/ 
 package org.jboss.reddeer.logparser.editors;
 
+import java.io.BufferedReader;
+import java.io.File;
 import java.io.IOException;
-import java.io.LineNumberReader;
 import java.io.StringReader;
-import java.util.Arrays;
-import java.util.Iterator;
-import java.util.TreeMap;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ForkJoinPool;
 
+import org.eclipse.core.filesystem.EFS;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.jface.action.IMenuListener;
 import org.eclipse.jface.action.IMenuManager;
 import org.eclipse.jface.action.MenuManager;
@@ -35,6 +42,7 @@ import org.eclipse.swt.layout.GridLayout;
 import org.eclipse.swt.widgets.Button;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Control;
+import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Label;
 import org.eclipse.swt.widgets.Menu;
 import org.eclipse.swt.widgets.Text;
@@ -43,24 +51,35 @@ import org.eclipse.ui.IEditorSite;
 import org.eclipse.ui.IURIEditorInput;
 import org.eclipse.ui.IWorkbenchActionConstants;
 import org.eclipse.ui.PartInitException;
+import org.eclipse.ui.editors.text.IStorageDocumentProvider;
 import org.eclipse.ui.part.MultiPageEditorPart;
+import org.eclipse.ui.texteditor.IDocumentProvider;
 import org.jboss.reddeer.logparser.LogParserActivator;
 import org.jboss.reddeer.logparser.LogParserLog;
+import org.jboss.reddeer.logparser.model.LineOffsetIndex;
 import org.jboss.reddeer.logparser.model.LogData;
-import org.jboss.reddeer.logparser.model.ParseRule;
+import org.jboss.reddeer.logparser.parser.LogParser;
+import org.jboss.reddeer.logparser.parser.ParsedLog;
+import org.jboss.reddeer.logparser.parser.ParsedLogListener;
 
 public class LogParserEditor extends MultiPageEditorPart {
 	/**
 	 * The ID of the editor as specified by the extension.
 	 */
 	public static final String ID = "org.jboss.reddeer.logparser.editors.LogParserEditor";
+	private static final int READ_BUFFER_SIZE = 1 << 16;
 	private static Image findPrevImage;
 	private static Image findNextImage;
 	private static Image closeFindCompositeImage;
 	
 	private ReadOnlyTextEditor sourceTextEditor;
 	private StyledText parsedLogStyledText;
-	private TreeMap<Integer, Integer> parsedLineNumToOrigLineNum;
+	private ParsedLog parsedLog;
+	private ParseLogJob parseLogJob;
+	private Job indexLogJob;
+	private MoveLogWindowJob moveLogWindowJob;
+	private LogWindowDocumentProvider logWindowDocumentProvider;
+	private int sourcePageIndex = 1;
 	private Text findText;
 	private Label findStatusLabel;	
 	private Composite findComposite;
@@ -83,6 +102,19 @@ public class LogParserEditor extends MultiPageEditorPart {
 		super.init(site, input);
 	}
 
+	@Override
+	public void dispose() {
+		if (parseLogJob != null) {
+			parseLogJob.cancel();
+			parseLogJob = null;
+		}
+		if (moveLogWindowJob != null) {
+			moveLogWindowJob.cancel();
+			moveLogWindowJob = null;
+		}
+		super.dispose();
+	}
+
 	@Override
 	public boolean isDirty() {
 		return false;
@@ -187,14 +219,43 @@ public class LogParserEditor extends MultiPageEditorPart {
 	}
 
 	private void createSourcePage() {
-		sourceTextEditor = new ReadOnlyTextEditor();
-		int pageIndex;
+		File logFile = null;
 		try {
-			pageIndex = addPage(sourceTextEditor, getEditorInput());
-			setPageText(pageIndex, "Original Log");
+			logFile = getLocalLogFile();
+		} catch (CoreException ce) {
+			LogParserLog.logError("Unable to get local file of log", ce);
+		}
+		if (logFile == null) {
+			sourceTextEditor = new ReadOnlyTextEditor();
+		} else {
+			logWindowDocumentProvider = new LogWindowDocumentProvider(logFile);
+			sourceTextEditor = new ReadOnlyTextEditor(logWindowDocumentProvider);
+		}
+		try {
+			sourcePageIndex = addPage(sourceTextEditor, getEditorInput());
+			setPageText(sourcePageIndex, "Original Log");
 		} catch (PartInitException pie) {
 			LogParserLog.logError("Unable to initiliaze Original Log page of LogParser editor", pie);
 		}
+		if (logFile != null) {
+			scheduleIndexLogJob(logFile);
+		}
+	}
+
+	private void scheduleIndexLogJob(final File logFile) {
+		indexLogJob = new Job("Indexing log " + getEditorInput().getName()) {
+			@Override
+			protected IStatus run(IProgressMonitor monitor) {
+				try {
+					LineOffsetIndex.getIndex(logFile).update();
+				} catch (IOException ioe) {
+					return LogParserLog.createStatus(IStatus.ERROR, IStatus.OK, "Unable to index log " + logFile, ioe);
+				}
+				return Status.OK_STATUS;
+			}
+		};
+		indexLogJob.setPriority(Job.DECORATE);
+		indexLogJob.schedule();
 	}
 
 	private void updateTitle() {
@@ -203,95 +264,90 @@ public class LogParserEditor extends MultiPageEditorPart {
 		setTitleToolTip(editorInput.getToolTipText());
 	}
 
+	/**
+	 * Parses log in background job. Parsed lines are appended to parsed log page as they are available,
+	 * previously running parsing of this editor is canceled.
+	 * 
+	 * @param logData log data with parse rules to apply
+	 */
 	public void parseLog(LogData logData) {
+		if (parseLogJob != null) {
+			parseLogJob.cancel();
+		}
+		parsedLog = null;
 		parsedLogStyledText.setText("");
-		if (parsedLineNumToOrigLineNum == null) {
-			parsedLineNumToOrigLineNum = new TreeMap<Integer, Integer>();
+		parseLogJob = new ParseLogJob(logData);
+		parseLogJob.schedule();
+	}
+
+	public void showSelectedParsedLineInOriginalLog(){
+		int selectedParsedLine = parsedLogStyledText.getLineAtOffset(parsedLogStyledText.getSelection().x);
+		setActivePage(1);
+		int originalLineNumber = parsedLog == null ? -1 : parsedLog.getOriginalLineNumber(selectedParsedLine);
+		if (originalLineNumber > 0 && logWindowDocumentProvider != null
+				&& !logWindowDocumentProvider.isInWindow(originalLineNumber - 1)) {
+			moveLogWindow(originalLineNumber - 1);
 		} else {
-			parsedLineNumToOrigLineNum.clear();
+			selectOriginalLine(originalLineNumber - 1);
 		}
-		LineNumberReader lineNumberReader = new LineNumberReader(new StringReader(
-				sourceTextEditor.getDocumentProvider().getDocument(sourceTextEditor.getEditorInput()).get()));
-		String line;
-		try {
-			TreeMap<Integer, String> originalLogLines = new TreeMap<Integer, String>();
-			TreeMap<Integer, ParseRule> parsedLogIncludeLines = new TreeMap<Integer, ParseRule>();
-			while ((line = lineNumberReader.readLine()) != null) {
-				int lineNumber = lineNumberReader.getLineNumber();
-				originalLogLines.put(lineNumber, line);
-				boolean notIncludeLine = true;
-				ParseRule parseRule = getDefaultParseRule();
-				if (logData.getParseRules() != null && !logData.getParseRules().isEmpty() && line != null
-						&& line.length() > 0) {
-					boolean excludeRegexNotApplied = true;
-					Iterator<ParseRule> itParseRule = logData.getParseRules().iterator();
-					while (notIncludeLine && excludeRegexNotApplied && itParseRule.hasNext()) {
-						parseRule = itParseRule.next();
-						boolean includeRegexMatches = true;
-						if (parseRule.getIncludeRegex() != null && parseRule.getIncludeRegex().length() > 0) {
-							includeRegexMatches = line.matches(parseRule.getIncludeRegex());
-						}
-						if (includeRegexMatches) {
-							if (parseRule.getExcludeRegex() != null && parseRule.getExcludeRegex().length() > 0) {
-								notIncludeLine = line.matches(parseRule.getExcludeRegex());
-								if (notIncludeLine) {
-									excludeRegexNotApplied = false;
-								}
-							} else {
-								notIncludeLine = false;
-							}
-						}
-					}
-				} else {
-					notIncludeLine = line == null || line.length() == 0;
-				}
-				if (!notIncludeLine) {
-					int addLinesFrom = lineNumber;
-					int addLinesTo = lineNumber;
-					addLinesFrom -= parseRule.getDisplayLinesBefore();
-					if (addLinesFrom < 0) {
-						addLinesFrom = 0;
-					}
-					addLinesTo += parseRule.getDisplaylinesAfter();
+	}
 
-					for (int addLineNumber = addLinesFrom; addLineNumber <= addLinesTo; addLineNumber++) {
-						if (!parsedLogIncludeLines.containsKey(addLineNumber)) {
-							parsedLogIncludeLines.put(addLineNumber, parseRule);
-						}
-					}
-				}
-			}
-			Iterator<Integer> itIncludeLine = parsedLogIncludeLines.keySet().iterator();
-			int addLineNumber = 0;
-			while (itIncludeLine.hasNext()) {
-				int originalLineNumber = itIncludeLine.next();
-				parsedLogIncludeLines.get(originalLineNumber);
-				String originalLine = originalLogLines.get(originalLineNumber);
-				if (originalLine != null) {
-					ParseRule appliedParseRule = parsedLogIncludeLines.get(originalLineNumber);
-					String insertLine = originalLine;
-					insertLine = fillString(appliedParseRule.getIndent(), ' ') + appliedParseRule.getPrefix()
-							+ originalLine;
-					parsedLogStyledText.append(insertLine + "\n");
-					parsedLineNumToOrigLineNum.put(addLineNumber, originalLineNumber);
-					addLineNumber++;
-				}
-			}
-		} catch (IOException ioe) {
-			LogParserLog.logError("Error while parsing log", ioe);
+	/**
+	 * Selects line of source page document showing specified line of original log. First line
+	 * is selected when the line is not known.
+	 */
+	private void selectOriginalLine(long originalLine) {
+		int selectedLine = 0;
+		if (originalLine >= 0) {
+			long firstLine = logWindowDocumentProvider == null ? 0 : logWindowDocumentProvider.getFirstLine();
+			selectedLine = (int) (originalLine - firstLine);
 		}
+		getSourceEditorStyledText().setSelection(getSourceEditorStyledText().getOffsetAtLine(selectedLine));
+	}
 
+	/**
+	 * Moves window of source page around specified line of original log and selects the line.
+	 * Start of the window is found in background job once the log is indexed.
+	 */
+	private void moveLogWindow(long originalLine) {
+		if (moveLogWindowJob != null) {
+			moveLogWindowJob.cancel();
+		}
+		moveLogWindowJob = new MoveLogWindowJob(originalLine);
+		moveLogWindowJob.schedule();
 	}
 
-	public void showSelectedParsedLineInOriginalLog(){
-		int selectedParsedLine = parsedLogStyledText.getLineAtOffset(parsedLogStyledText.getSelection().x);
-		setActivePage(1);
-		int selectedOriginalLine = 0;
-		Integer integerLineNum = selectedOriginalLine = parsedLineNumToOrigLineNum.get(selectedParsedLine);
-		if (integerLineNum != null){
-			selectedOriginalLine = integerLineNum - 1;
+	private File getLocalLogFile() throws CoreException {
+		return EFS.getStore(((IURIEditorInput) getEditorInput()).getURI()).toLocalFile(EFS.NONE, null);
+	}
+
+	/**
+	 * Opens reader of parsed log. Local files are streamed through a buffered file channel
+	 * so whole log is never held in memory, other logs are read from source editor document.
+	 */
+	private BufferedReader openLogReader(File file, String documentText) throws IOException {
+		if (file == null) {
+			return new BufferedReader(new StringReader(documentText));
 		}
-		getSourceEditorStyledText().setSelection(getSourceEditorStyledText().getOffsetAtLine(selectedOriginalLine));
+		FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+		return new BufferedReader(
+				Channels.newReader(channel, getLogCharset(sourceTextEditor.getEditorInput()).newDecoder(), -1),
+				READ_BUFFER_SIZE);
+	}
+
+	private Charset getLogCharset(IEditorInput editorInput) {
+		IDocumentProvider documentProvider = sourceTextEditor.getDocumentProvider();
+		if (documentProvider instanceof IStorageDocumentProvider) {
+			IStorageDocumentProvider storageDocumentProvider = (IStorageDocumentProvider) documentProvider;
+			String encoding = storageDocumentProvider.getEncoding(editorInput);
+			if (encoding == null) {
+				encoding = storageDocumentProvider.getDefaultEncoding();
+			}
+			if (encoding != null && Charset.isSupported(encoding)) {
+				return Charset.forName(encoding);
+			}
+		}
+		return Charset.defaultCharset();
 	}
 	
 	public static void disposeImages(){
@@ -392,29 +448,6 @@ public class LogParserEditor extends MultiPageEditorPart {
 		findText.setText(parsedLogStyledText.getSelectionText());
 	}
 	
-	private ParseRule getDefaultParseRule() {
-		ParseRule defautlParseRule = new ParseRule();
-
-		defautlParseRule.setIncludeRegex("");
-		defautlParseRule.setExcludeRegex("");
-		defautlParseRule.setIndent(0);
-		defautlParseRule.setDisplayLinesBefore(0);
-		defautlParseRule.setDisplaylinesAfter(0);
-		defautlParseRule.setPrefix("");
-
-		return defautlParseRule;
-	}
-
-	private String fillString(int length, char charToFill) {
-		String result = "";
-		if (length > 0) {
-			char[] array = new char[length];
-			Arrays.fill(array, charToFill);
-			result = new String(array);
-		}
-		return result;
-	}
-
 	private void setParsedLogFont() {
 		parsedLogStyledText.setFont(getSourceEditorStyledText().getFont());
 	}
@@ -442,4 +475,133 @@ public class LogParserEditor extends MultiPageEditorPart {
 		return (StyledText)control;
 	}
 	
+	/**
+	 * Job finding byte offset of a new window of source page by line offset index. Index is used
+	 * only after the indexing job is finished, source page is updated only while the job is
+	 * the current window job of the editor.
+	 */
+	private class MoveLogWindowJob extends Job {
+
+		private final long originalLine;
+
+		public MoveLogWindowJob(long originalLine) {
+			super("Moving to line " + (originalLine + 1) + " of log " + getEditorInput().getName());
+			this.originalLine = originalLine;
+		}
+
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			final long firstLine = Math.max(originalLine - LogWindowDocumentProvider.WINDOW_LINES / 2, 0);
+			final long firstLineOffset;
+			try {
+				if (indexLogJob != null) {
+					indexLogJob.join();
+				}
+				LineOffsetIndex index = LineOffsetIndex.getIndex(getLocalLogFile());
+				index.update();
+				firstLineOffset = index.getLineOffset(firstLine);
+			} catch (InterruptedException ie) {
+				return Status.CANCEL_STATUS;
+			} catch (IOException | CoreException e) {
+				return LogParserLog.createStatus(IStatus.ERROR, IStatus.OK, "Unable to find line of log", e);
+			}
+			if (monitor.isCanceled()) {
+				return Status.CANCEL_STATUS;
+			}
+			Display.getDefault().asyncExec(new Runnable() {
+				@Override
+				public void run() {
+					if (moveLogWindowJob != MoveLogWindowJob.this || parsedLogStyledText.isDisposed()) {
+						return;
+					}
+					logWindowDocumentProvider.setFirstLine(firstLine, firstLineOffset);
+					refreshLog();
+					setPageText(sourcePageIndex, firstLine == 0 ? "Original Log"
+							: "Original Log (from line " + (firstLine + 1) + ")");
+					selectOriginalLine(originalLine);
+				}
+			});
+			return Status.OK_STATUS;
+		}
+	}
+
+	/**
+	 * Job parsing log with rules evaluated in parallel. Results are passed to UI thread only
+	 * while the job is the current parsing job of the editor.
+	 */
+	private class ParseLogJob extends Job {
+
+		private final LogData logData;
+
+		public ParseLogJob(LogData logData) {
+			super("Parsing log " + getEditorInput().getName());
+			this.logData = logData;
+			setUser(true);
+		}
+
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			try {
+				File file = getLocalLogFile();
+				String documentText = null;
+				long logLength;
+				if (file == null) {
+					documentText = getDocumentText();
+					logLength = documentText.length();
+				} else {
+					logLength = file.length();
+				}
+				monitor.beginTask(getName(), (int) Math.min(Integer.MAX_VALUE, logLength / 1024));
+				final ParsedLog result;
+				try (BufferedReader reader = openLogReader(file, documentText)) {
+					result = new LogParser(logData.getParseRules()).parse(reader, ForkJoinPool.commonPool(), monitor,
+							new ParsedLogListener() {
+								@Override
+								public void parsedTextAdded(final String text) {
+									asyncExecIfCurrent(new Runnable() {
+										@Override
+										public void run() {
+											parsedLogStyledText.append(text);
+										}
+									});
+								}
+							});
+				}
+				asyncExecIfCurrent(new Runnable() {
+					@Override
+					public void run() {
+						parsedLog = result;
+					}
+				});
+			} catch (IOException | CoreException e) {
+				return LogParserLog.createStatus(IStatus.ERROR, IStatus.OK, "Error while parsing log", e);
+			} finally {
+				monitor.done();
+			}
+			return monitor.isCanceled() ? Status.CANCEL_STATUS : Status.OK_STATUS;
+		}
+
+		private String getDocumentText() {
+			final String[] text = new String[1];
+			Display.getDefault().syncExec(new Runnable() {
+				@Override
+				public void run() {
+					text[0] = sourceTextEditor.getDocumentProvider().getDocument(sourceTextEditor.getEditorInput()).get();
+				}
+			});
+			return text[0];
+		}
+
+		private void asyncExecIfCurrent(final Runnable runnable) {
+			Display.getDefault().asyncExec(new Runnable() {
+				@Override
+				public void run() {
+					if (parseLogJob == ParseLogJob.this && !parsedLogStyledText.isDisposed()) {
+						runnable.run();
+					}
+				}
+			});
+		}
+	}
+
 }
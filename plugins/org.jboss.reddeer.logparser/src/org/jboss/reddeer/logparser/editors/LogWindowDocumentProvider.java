@@ -0,0 +1,158 @@
+/******************************************************************************* 
+ * Copyright (c) 2016 Red Hat, Inc. 
+ * Distributed under license by Red Hat, Inc. All rights reserved. 
+ * This program is made available under the terms of the 
+ * Eclipse Public License v1.0 which accompanies this distribution, 
+ * and is available at http://www.eclipse.org/legal/epl-v10.html 
+ * 
+ * Contributors: 
+ * Red Hat, Inc. - initial API and implementation 
+ ******************************************************************************/ 
+package org.jboss.reddeer.logparser.editors;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.StandardOpenOption;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.jface.operation.IRunnableContext;
+import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.source.IAnnotationModel;
+import org.eclipse.ui.WorkbenchEncoding;
+import org.eclipse.ui.editors.text.IStorageDocumentProvider;
+import org.eclipse.ui.texteditor.AbstractDocumentProvider;
+import org.jboss.reddeer.logparser.LogParserLog;
+
+/**
+ * Read-only document provider of a local log file which provides only a window of
+ * {@link #WINDOW_LINES} lines of the log so the log is never loaded to memory as a whole.
+ * Byte offset of start of the window has to be found by caller, e.g. by
+ * {@link org.jboss.reddeer.logparser.model.LineOffsetIndex} in a background job, document
+ * provider only reads the window.
+ */
+public class LogWindowDocumentProvider extends AbstractDocumentProvider implements IStorageDocumentProvider {
+
+	public static final int WINDOW_LINES = 10000;
+
+	private final File logFile;
+	private long firstLine;
+	private long firstLineOffset;
+	private String encoding;
+
+	/**
+	 * Creates document provider of specified log file.
+	 * 
+	 * @param logFile local log file
+	 */
+	public LogWindowDocumentProvider(File logFile) {
+		this.logFile = logFile;
+	}
+
+	/**
+	 * Gets index of first line of log in provided document.
+	 * 
+	 * @return zero based index of first line of the window
+	 */
+	public long getFirstLine() {
+		return firstLine;
+	}
+
+	/**
+	 * Sets first line of log in provided document. Document has to be reset
+	 * to reflect the change.
+	 * 
+	 * @param firstLine zero based index of first line of the window
+	 * @param firstLineOffset byte offset of first line of the window
+	 */
+	public void setFirstLine(long firstLine, long firstLineOffset) {
+		this.firstLine = Math.max(firstLine, 0);
+		this.firstLineOffset = this.firstLine == 0 ? 0 : firstLineOffset;
+	}
+
+	/**
+	 * Finds out whether specified line of log is in provided document.
+	 * 
+	 * @param line zero based index of line of log
+	 * @return true if line is in current window, false otherwise
+	 */
+	public boolean isInWindow(long line) {
+		return line >= firstLine && line < firstLine + WINDOW_LINES;
+	}
+
+	@Override
+	protected IDocument createDocument(Object element) throws CoreException {
+		try {
+			return new Document(readWindow(firstLineOffset));
+		} catch (IOException ioe) {
+			throw new CoreException(LogParserLog.createStatus(IStatus.ERROR, IStatus.OK,
+					"Unable to read log " + logFile, ioe));
+		}
+	}
+
+	private String readWindow(long offset) throws IOException {
+		StringBuilder text = new StringBuilder();
+		try (FileChannel channel = FileChannel.open(logFile.toPath(), StandardOpenOption.READ)) {
+			channel.position(offset);
+			BufferedReader reader = new BufferedReader(Channels.newReader(channel, getCharset().newDecoder(), -1));
+			String line;
+			for (int i = 0; i < WINDOW_LINES && (line = reader.readLine()) != null; i++) {
+				text.append(line).append('\n');
+			}
+		}
+		return text.toString();
+	}
+
+	private Charset getCharset() {
+		String charsetName = encoding != null ? encoding : getDefaultEncoding();
+		return charsetName != null && Charset.isSupported(charsetName) ? Charset.forName(charsetName)
+				: Charset.defaultCharset();
+	}
+
+	@Override
+	protected IAnnotationModel createAnnotationModel(Object element) throws CoreException {
+		return null;
+	}
+
+	@Override
+	protected void doSaveDocument(IProgressMonitor monitor, Object element, IDocument document, boolean overwrite)
+			throws CoreException {
+		// do nothing it's read-only
+	}
+
+	@Override
+	protected IRunnableContext getOperationRunner(IProgressMonitor monitor) {
+		return null;
+	}
+
+	@Override
+	public boolean isReadOnly(Object element) {
+		return true;
+	}
+
+	@Override
+	public boolean isModifiable(Object element) {
+		return false;
+	}
+
+	@Override
+	public String getDefaultEncoding() {
+		return WorkbenchEncoding.getWorkbenchDefaultEncoding();
+	}
+
+	@Override
+	public String getEncoding(Object element) {
+		return encoding;
+	}
+
+	@Override
+	public void setEncoding(Object element, String encoding) {
+		this.encoding = encoding;
+	}
+}
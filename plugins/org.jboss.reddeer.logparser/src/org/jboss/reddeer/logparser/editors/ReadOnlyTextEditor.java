@@ -12,8 +12,19 @@ package org.jboss.reddeer.logparser.editors;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.ui.editors.text.TextEditor;
+import org.eclipse.ui.texteditor.IDocumentProvider;
 
 public class ReadOnlyTextEditor extends TextEditor {
+
+	public ReadOnlyTextEditor() {
+		super();
+	}
+
+	public ReadOnlyTextEditor(IDocumentProvider documentProvider) {
+		super();
+		setDocumentProvider(documentProvider);
+	}
+
 	@Override
 	public void doSave(IProgressMonitor monitor) {
 		// do nothing it's read-only
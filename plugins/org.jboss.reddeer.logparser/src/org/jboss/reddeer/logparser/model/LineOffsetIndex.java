@@ -0,0 +1,288 @@
+/******************************************************************************* 
+ * Copyright (c) 2016 Red Hat, Inc. 
+ * Distributed under license by Red Hat, Inc. All rights reserved. 
+ * This program is made available under the terms of the 
+ * Eclipse Public License v1.0 which accompanies this distribution, 
+ * and is available at http://www.eclipse.org/legal/epl-v10.html 
+ * 
+ * Contributors: 
+ * Red Hat, Inc. - initial API and implementation 
+ ******************************************************************************/ 
+package org.jboss.reddeer.logparser.model;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+import org.jboss.reddeer.logparser.LogParserActivator;
+import org.jboss.reddeer.logparser.LogParserLog;
+
+/**
+ * Index of byte offsets of lines of a log file. Offset of every {@link #LINES_PER_SAMPLE}-th line is
+ * kept, offsets of other lines are found by scanning at most {@link #LINES_PER_SAMPLE} lines from
+ * the nearest sample. Index is stored in plugin state location next to logparserdata.xml and is
+ * extended when the log grows. Log is considered rewritten, and index is rebuilt, when the log shrinks
+ * or checksum of its beginning changes. Rewrite of the log keeping its length and beginning is not detected.
+ * <br>
+ * Lines are split as by {@link java.io.BufferedReader#readLine()}, i.e. a line is terminated by '\n', '\r'
+ * or "\r\n". Log is expected to be in an ASCII compatible encoding.
+ */
+public class LineOffsetIndex {
+
+	public static final int LINES_PER_SAMPLE = 1024;
+
+	private static final int MAGIC = 0x4C504958;
+	private static final int VERSION = 2;
+	private static final int SCAN_BUFFER_SIZE = 1 << 20;
+	private static final int CHECKSUM_LENGTH = 4096;
+
+	private static final Map<String, LineOffsetIndex> indexes = new HashMap<String, LineOffsetIndex>();
+
+	private final File logFile;
+	private long indexedLength;
+	private long lastModified;
+	private long newlineCount;
+	private long lastLineStart;
+	private boolean endsWithCarriageReturn;
+	private int checksumLength;
+	private long checksum;
+	private long[] samples = new long[] { 0 };
+	private int sampleCount = 1;
+
+	private LineOffsetIndex(File logFile) {
+		this.logFile = logFile;
+	}
+
+	/**
+	 * Gets index of specified log file. Index is loaded from plugin state location when it was
+	 * stored before, it is not updated to current content of the log by this method.
+	 * 
+	 * @param logFile log file
+	 * @return index of log file
+	 */
+	public static synchronized LineOffsetIndex getIndex(File logFile) {
+		String path = logFile.getAbsolutePath();
+		LineOffsetIndex index = indexes.get(path);
+		if (index == null) {
+			index = new LineOffsetIndex(logFile.getAbsoluteFile());
+			index.load();
+			indexes.put(path, index);
+		}
+		return index;
+	}
+
+	/**
+	 * Updates index to current content of the log file. Only part of the log appended since last
+	 * update is scanned, index is rebuilt when the log was truncated or rewritten.
+	 * 
+	 * @throws IOException if log file cannot be read
+	 */
+	public synchronized void update() throws IOException {
+		long length = logFile.length();
+		long modified = logFile.lastModified();
+		if (length == indexedLength && modified == lastModified) {
+			return;
+		}
+		try (FileChannel channel = FileChannel.open(logFile.toPath(), StandardOpenOption.READ)) {
+			boolean sameBeginning = computeChecksum(channel, checksumLength) == checksum;
+			if (length == indexedLength && sameBeginning) {
+				// only modification time has changed
+				lastModified = modified;
+				save();
+				return;
+			}
+			if (length < indexedLength || !sameBeginning) {
+				reset();
+			}
+			ByteBuffer buffer = ByteBuffer.allocateDirect(SCAN_BUFFER_SIZE);
+			long position = indexedLength;
+			channel.position(position);
+			int read;
+			while ((read = channel.read(buffer)) > 0) {
+				buffer.flip();
+				for (int i = 0; i < read; i++) {
+					scan(buffer.get(i), position + i);
+				}
+				position += read;
+				buffer.clear();
+			}
+			indexedLength = position;
+			if (checksumLength < CHECKSUM_LENGTH) {
+				checksumLength = (int) Math.min(indexedLength, CHECKSUM_LENGTH);
+				checksum = computeChecksum(channel, checksumLength);
+			}
+		}
+		lastModified = modified;
+		save();
+	}
+
+	/**
+	 * Gets number of indexed lines.
+	 * 
+	 * @return number of lines
+	 */
+	public synchronized long getLineCount() {
+		return indexedLength > lastLineStart ? newlineCount + 1 : newlineCount;
+	}
+
+	/**
+	 * Gets byte offset of specified line.
+	 * 
+	 * @param line zero based index of line, lines out of indexed range are clamped to it
+	 * @return byte offset of the first character of the line
+	 * @throws IOException if log file cannot be read
+	 */
+	public synchronized long getLineOffset(long line) throws IOException {
+		long lastLine = Math.max(getLineCount() - 1, 0);
+		long clampedLine = Math.max(0, Math.min(line, lastLine));
+		int sample = (int) (clampedLine / LINES_PER_SAMPLE);
+		long offset = samples[sample];
+		long linesToSkip = clampedLine - (long) sample * LINES_PER_SAMPLE;
+		if (linesToSkip == 0) {
+			return offset;
+		}
+		try (FileChannel channel = FileChannel.open(logFile.toPath(), StandardOpenOption.READ)) {
+			ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+			channel.position(offset);
+			long lineStart = offset;
+			boolean carriageReturn = false;
+			int read;
+			while ((read = channel.read(buffer)) > 0) {
+				buffer.flip();
+				for (int i = 0; i < read; i++) {
+					byte b = buffer.get(i);
+					if (b == '\n' && carriageReturn) {
+						// end of "\r\n" terminator, line was already counted at '\r'
+						lineStart = offset + i + 1;
+					} else if (linesToSkip == 0) {
+						return lineStart;
+					} else if (b == '\n' || b == '\r') {
+						linesToSkip--;
+						lineStart = offset + i + 1;
+					}
+					carriageReturn = b == '\r';
+					if (linesToSkip == 0 && !carriageReturn) {
+						return lineStart;
+					}
+				}
+				offset += read;
+				buffer.clear();
+			}
+			return lineStart;
+		}
+	}
+
+	private void scan(byte b, long position) {
+		if (b == '\n' && endsWithCarriageReturn) {
+			// end of "\r\n" terminator, line was already counted at '\r'
+			lastLineStart = position + 1;
+			if (newlineCount % LINES_PER_SAMPLE == 0) {
+				samples[sampleCount - 1] = lastLineStart;
+			}
+		} else if (b == '\n' || b == '\r') {
+			newlineCount++;
+			lastLineStart = position + 1;
+			if (newlineCount % LINES_PER_SAMPLE == 0) {
+				addSample(lastLineStart);
+			}
+		}
+		endsWithCarriageReturn = b == '\r';
+	}
+
+	private static long computeChecksum(FileChannel channel, int length) throws IOException {
+		ByteBuffer buffer = ByteBuffer.allocate(length);
+		channel.position(0);
+		while (buffer.hasRemaining() && channel.read(buffer) > 0) {
+			// read whole checksum range
+		}
+		CRC32 crc = new CRC32();
+		crc.update(buffer.array(), 0, buffer.position());
+		return crc.getValue();
+	}
+
+	private void addSample(long offset) {
+		if (sampleCount == samples.length) {
+			samples = Arrays.copyOf(samples, sampleCount * 2);
+		}
+		samples[sampleCount++] = offset;
+	}
+
+	private void reset() {
+		indexedLength = 0;
+		lastModified = 0;
+		newlineCount = 0;
+		lastLineStart = 0;
+		endsWithCarriageReturn = false;
+		checksumLength = 0;
+		checksum = 0;
+		samples = new long[] { 0 };
+		sampleCount = 1;
+	}
+
+	private void load() {
+		File indexFile = getIndexFile(logFile);
+		if (!indexFile.exists()) {
+			return;
+		}
+		try (DataInputStream input = new DataInputStream(new BufferedInputStream(new FileInputStream(indexFile)))) {
+			if (input.readInt() != MAGIC || input.readInt() != VERSION
+					|| !logFile.getPath().equals(input.readUTF())) {
+				return;
+			}
+			indexedLength = input.readLong();
+			lastModified = input.readLong();
+			newlineCount = input.readLong();
+			lastLineStart = input.readLong();
+			endsWithCarriageReturn = input.readBoolean();
+			checksumLength = input.readInt();
+			checksum = input.readLong();
+			sampleCount = input.readInt();
+			samples = new long[Math.max(sampleCount, 1)];
+			for (int i = 0; i < sampleCount; i++) {
+				samples[i] = input.readLong();
+			}
+		} catch (IOException ioe) {
+			LogParserLog.logError("Unable to load index of log " + logFile, ioe);
+			reset();
+		}
+	}
+
+	private void save() {
+		try (DataOutputStream output = new DataOutputStream(
+				new BufferedOutputStream(new FileOutputStream(getIndexFile(logFile))))) {
+			output.writeInt(MAGIC);
+			output.writeInt(VERSION);
+			output.writeUTF(logFile.getPath());
+			output.writeLong(indexedLength);
+			output.writeLong(lastModified);
+			output.writeLong(newlineCount);
+			output.writeLong(lastLineStart);
+			output.writeBoolean(endsWithCarriageReturn);
+			output.writeInt(checksumLength);
+			output.writeLong(checksum);
+			output.writeInt(sampleCount);
+			for (int i = 0; i < sampleCount; i++) {
+				output.writeLong(samples[i]);
+			}
+		} catch (IOException ioe) {
+			LogParserLog.logError("Unable to save index of log " + logFile, ioe);
+		}
+	}
+
+	private static File getIndexFile(File logFile) {
+		return LogParserActivator.getDefault().getStateLocation()
+				.append("logindex-" + Integer.toHexString(logFile.getPath().hashCode()) + ".idx").toFile();
+	}
+}
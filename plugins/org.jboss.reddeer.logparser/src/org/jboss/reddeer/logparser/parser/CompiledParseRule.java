@@ -0,0 +1,114 @@
+/******************************************************************************* 
+ * Copyright (c) 2016 Red Hat, Inc. 
+ * Distributed under license by Red Hat, Inc. All rights reserved. 
+ * This program is made available under the terms of the 
+ * Eclipse Public License v1.0 which accompanies this distribution, 
+ * and is available at http://www.eclipse.org/legal/epl-v10.html 
+ * 
+ * Contributors: 
+ * Red Hat, Inc. - initial API and implementation 
+ ******************************************************************************/ 
+package org.jboss.reddeer.logparser.parser;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.jboss.reddeer.logparser.model.ParseRule;
+
+/**
+ * Parse rule with include and exclude regular expressions compiled once.
+ */
+public class CompiledParseRule {
+
+	/**
+	 * Rule used for all non empty lines when there are no parse rules.
+	 */
+	public static final CompiledParseRule DEFAULT = new CompiledParseRule(new ParseRule());
+
+	private final Pattern includePattern;
+	private final Pattern excludePattern;
+	private final String linePrefix;
+	private final int displayLinesBefore;
+	private final int displayLinesAfter;
+
+	public CompiledParseRule(ParseRule parseRule) {
+		this.includePattern = compile(parseRule.getIncludeRegex());
+		this.excludePattern = compile(parseRule.getExcludeRegex());
+		this.linePrefix = fillString(parseRule.getIndent(), ' ') + (parseRule.getPrefix() == null ? "" : parseRule.getPrefix());
+		this.displayLinesBefore = Math.max(parseRule.getDisplayLinesBefore(), 0);
+		this.displayLinesAfter = Math.max(parseRule.getDisplaylinesAfter(), 0);
+	}
+
+	/**
+	 * Compiles specified parse rules.
+	 * 
+	 * @param parseRules parse rules, can be null
+	 * @return compiled parse rules in the same order
+	 */
+	public static List<CompiledParseRule> compile(List<ParseRule> parseRules) {
+		if (parseRules == null || parseRules.isEmpty()) {
+			return Collections.emptyList();
+		}
+		List<CompiledParseRule> result = new ArrayList<CompiledParseRule>(parseRules.size());
+		for (ParseRule parseRule : parseRules) {
+			result.add(new CompiledParseRule(parseRule));
+		}
+		return result;
+	}
+
+	/**
+	 * Finds rule the line is included by. Rules are evaluated in order, line is included by the first rule
+	 * whose include regex matches unless exclude regex of that rule matches too. If there are no rules
+	 * all non empty lines are included by {@link #DEFAULT} rule.
+	 * 
+	 * @param line line of log
+	 * @param rules compiled parse rules
+	 * @return rule including the line or null if the line is not included
+	 */
+	public static CompiledParseRule evaluate(String line, List<CompiledParseRule> rules) {
+		if (line.length() == 0) {
+			return null;
+		}
+		if (rules.isEmpty()) {
+			return DEFAULT;
+		}
+		for (CompiledParseRule rule : rules) {
+			if (rule.includePattern == null || rule.includePattern.matcher(line).matches()) {
+				if (rule.excludePattern != null && rule.excludePattern.matcher(line).matches()) {
+					return null;
+				}
+				return rule;
+			}
+		}
+		return null;
+	}
+
+	public String getLinePrefix() {
+		return linePrefix;
+	}
+
+	public int getDisplayLinesBefore() {
+		return displayLinesBefore;
+	}
+
+	public int getDisplayLinesAfter() {
+		return displayLinesAfter;
+	}
+
+	private static Pattern compile(String regex) {
+		return regex == null || regex.length() == 0 ? null : Pattern.compile(regex);
+	}
+
+	private static String fillString(int length, char charToFill) {
+		String result = "";
+		if (length > 0) {
+			char[] array = new char[length];
+			Arrays.fill(array, charToFill);
+			result = new String(array);
+		}
+		return result;
+	}
+}
@@ -0,0 +1,143 @@
+/******************************************************************************* 
+ * Copyright (c) 2016 Red Hat, Inc. 
+ * Distributed under license by Red Hat, Inc. All rights reserved. 
+ * This program is made available under the terms of the 
+ * Eclipse Public License v1.0 which accompanies this distribution, 
+ * and is available at http://www.eclipse.org/legal/epl-v10.html 
+ * 
+ * Contributors: 
+ * Red Hat, Inc. - initial API and implementation 
+ ******************************************************************************/ 
+package org.jboss.reddeer.logparser.parser;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.jboss.reddeer.logparser.model.ParseRule;
+
+/**
+ * Streaming log parser. Log is read line by line and only lines which can still be displayed
+ * as a context of some included line are held in memory.
+ */
+public class LogParser {
+
+	/**
+	 * Number of lines read and evaluated at once by parallel parsing.
+	 */
+	public static final int BATCH_SIZE = 16384;
+
+	private static final int MAX_PENDING_BATCHES = 2;
+
+	private static final int CHARS_PER_WORK_UNIT = 1024;
+
+	private final List<CompiledParseRule> rules;
+
+	/**
+	 * Creates parser applying specified parse rules.
+	 * 
+	 * @param parseRules parse rules, can be null
+	 */
+	public LogParser(List<ParseRule> parseRules) {
+		this.rules = CompiledParseRule.compile(parseRules);
+	}
+
+	/**
+	 * Parses log read from specified reader evaluating parse rules in parallel. Log is read in batches
+	 * of {@link #BATCH_SIZE} lines, rules are evaluated on fork-join pool while next batches are read
+	 * and results are passed to parsed log builder in order so context lines are shared across batches.
+	 * Reader is not closed.
+	 * 
+	 * @param reader reader of original log
+	 * @param pool pool to evaluate rules on
+	 * @param monitor progress monitor, one unit of work is reported per 1024 characters read
+	 * @param listener listener notified about parsed text as it is available
+	 * @return parsed log, when parsing is canceled parsed log contains only lines parsed so far
+	 * @throws IOException if log cannot be read
+	 */
+	public ParsedLog parse(BufferedReader reader, ForkJoinPool pool, IProgressMonitor monitor,
+			ParsedLogListener listener) throws IOException {
+		ParsedLogBuilder builder = new ParsedLogBuilder(rules);
+		ArrayDeque<Batch> pendingBatches = new ArrayDeque<Batch>();
+		long[] progress = new long[2];
+		int lineNumber = 0;
+		boolean endOfLog = false;
+		try {
+			while (!endOfLog && !monitor.isCanceled()) {
+				Batch batch = new Batch(lineNumber + 1);
+				endOfLog = batch.read(reader);
+				lineNumber += batch.count;
+				if (batch.count > 0) {
+					batch.task = pool.submit(new RuleEvaluationTask(batch.lines, batch.results, rules, 0, batch.count));
+					pendingBatches.add(batch);
+				}
+				while (!pendingBatches.isEmpty() && (endOfLog || pendingBatches.size() > MAX_PENDING_BATCHES)
+						&& !monitor.isCanceled()) {
+					addBatch(pendingBatches.poll(), builder, monitor, listener, progress);
+				}
+			}
+		} finally {
+			for (Batch batch : pendingBatches) {
+				batch.task.cancel(false);
+			}
+		}
+		ParsedLog parsedLog = builder.build();
+		String text = builder.takeNewText();
+		if (text.length() > 0) {
+			listener.parsedTextAdded(text);
+		}
+		return parsedLog;
+	}
+
+	private void addBatch(Batch batch, ParsedLogBuilder builder, IProgressMonitor monitor,
+			ParsedLogListener listener, long[] progress) {
+		batch.task.join();
+		for (int i = 0; i < batch.count; i++) {
+			builder.addLine(batch.firstLineNumber + i, batch.lines[i], batch.results[i]);
+		}
+		String text = builder.takeNewText();
+		if (text.length() > 0) {
+			listener.parsedTextAdded(text);
+		}
+		progress[0] += batch.chars;
+		long units = progress[0] / CHARS_PER_WORK_UNIT;
+		monitor.worked((int) (units - progress[1]));
+		progress[1] = units;
+	}
+
+	private static class Batch {
+
+		private final int firstLineNumber;
+		private final String[] lines = new String[BATCH_SIZE];
+		private final CompiledParseRule[] results = new CompiledParseRule[BATCH_SIZE];
+		private int count;
+		private long chars;
+		private ForkJoinTask<?> task;
+
+		public Batch(int firstLineNumber) {
+			this.firstLineNumber = firstLineNumber;
+		}
+
+		/**
+		 * Reads lines of the batch.
+		 * 
+		 * @return true if end of log was reached
+		 */
+		public boolean read(BufferedReader reader) throws IOException {
+			String line;
+			while (count < BATCH_SIZE) {
+				line = reader.readLine();
+				if (line == null) {
+					return true;
+				}
+				lines[count++] = line;
+				chars += line.length() + 1;
+			}
+			return false;
+		}
+	}
+}
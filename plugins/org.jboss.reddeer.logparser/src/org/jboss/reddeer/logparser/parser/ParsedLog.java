@@ -0,0 +1,45 @@
+/******************************************************************************* 
+ * Copyright (c) 2016 Red Hat, Inc. 
+ * Distributed under license by Red Hat, Inc. All rights reserved. 
+ * This program is made available under the terms of the 
+ * Eclipse Public License v1.0 which accompanies this distribution, 
+ * and is available at http://www.eclipse.org/legal/epl-v10.html 
+ * 
+ * Contributors: 
+ * Red Hat, Inc. - initial API and implementation 
+ ******************************************************************************/ 
+package org.jboss.reddeer.logparser.parser;
+
+/**
+ * Result of log parsing. Holds mapping of lines of parsed log to lines of original log. Text of parsed
+ * log is passed to {@link ParsedLogListener} while the log is parsed and it is not kept.
+ */
+public class ParsedLog {
+
+	private final int[] originalLineNumbers;
+	private final int lineCount;
+
+	ParsedLog(int[] originalLineNumbers, int lineCount) {
+		this.originalLineNumbers = originalLineNumbers;
+		this.lineCount = lineCount;
+	}
+
+	/**
+	 * Gets number of lines of parsed log.
+	 * 
+	 * @return number of lines
+	 */
+	public int getLineCount() {
+		return lineCount;
+	}
+
+	/**
+	 * Gets number of line in original log specified line of parsed log comes from.
+	 * 
+	 * @param parsedLine zero based index of line in parsed log
+	 * @return one based number of line in original log or -1 if there is no such parsed line
+	 */
+	public int getOriginalLineNumber(int parsedLine) {
+		return parsedLine >= 0 && parsedLine < lineCount ? originalLineNumbers[parsedLine] : -1;
+	}
+}
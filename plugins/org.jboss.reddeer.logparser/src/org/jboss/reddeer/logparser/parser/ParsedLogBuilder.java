@@ -0,0 +1,146 @@
+/******************************************************************************* 
+ * Copyright (c) 2016 Red Hat, Inc. 
+ * Distributed under license by Red Hat, Inc. All rights reserved. 
+ * This program is made available under the terms of the 
+ * Eclipse Public License v1.0 which accompanies this distribution, 
+ * and is available at http://www.eclipse.org/legal/epl-v10.html 
+ * 
+ * Contributors: 
+ * Red Hat, Inc. - initial API and implementation 
+ ******************************************************************************/ 
+package org.jboss.reddeer.logparser.parser;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Builds parsed log from lines of original log passed in order together with the rule they are
+ * included by. Lines displayed before included line are kept in a ring buffer bounded by the biggest
+ * number of lines displayed before by any rule, lines displayed after are tracked as pending claims.
+ * Each line is displayed with the rule of the first included line whose context covers it.
+ */
+public class ParsedLogBuilder {
+
+	private final String[] lines;
+	private final int[] lineNumbers;
+	private final CompiledParseRule[] claims;
+	private int first;
+	private int size;
+
+	private final ArrayDeque<ForwardClaim> forwardClaims = new ArrayDeque<ForwardClaim>();
+
+	private final StringBuilder newText = new StringBuilder();
+	private int[] originalLineNumbers = new int[1024];
+	private int lineCount;
+
+	/**
+	 * Creates builder for specified rules.
+	 * 
+	 * @param rules rules lines can be included by
+	 */
+	public ParsedLogBuilder(List<CompiledParseRule> rules) {
+		int maxLinesBefore = 0;
+		for (CompiledParseRule rule : rules) {
+			maxLinesBefore = Math.max(maxLinesBefore, rule.getDisplayLinesBefore());
+		}
+		lines = new String[maxLinesBefore + 1];
+		lineNumbers = new int[maxLinesBefore + 1];
+		claims = new CompiledParseRule[maxLinesBefore + 1];
+	}
+
+	/**
+	 * Adds next line of original log.
+	 * 
+	 * @param lineNumber one based number of the line, lines have to be added in order
+	 * @param line text of the line
+	 * @param includedBy rule the line is included by or null if the line is not included
+	 */
+	public void addLine(int lineNumber, String line, CompiledParseRule includedBy) {
+		while (!forwardClaims.isEmpty() && forwardClaims.peekFirst().lastLine < lineNumber) {
+			forwardClaims.pollFirst();
+		}
+		CompiledParseRule claim = null;
+		if (!forwardClaims.isEmpty() && forwardClaims.peekFirst().firstLine <= lineNumber) {
+			claim = forwardClaims.peekFirst().rule;
+		}
+		if (size == lines.length) {
+			emitFirst();
+		}
+		int index = (first + size) % lines.length;
+		lines[index] = line;
+		lineNumbers[index] = lineNumber;
+		claims[index] = claim;
+		size++;
+
+		if (includedBy != null) {
+			int firstLine = lineNumber - includedBy.getDisplayLinesBefore();
+			for (int i = 0; i < size; i++) {
+				int bufferIndex = (first + i) % lines.length;
+				if (lineNumbers[bufferIndex] >= firstLine && claims[bufferIndex] == null) {
+					claims[bufferIndex] = includedBy;
+				}
+			}
+			int lastLine = lineNumber + includedBy.getDisplayLinesAfter();
+			int nextUnclaimedLine = forwardClaims.isEmpty() ? lineNumber + 1
+					: Math.max(lineNumber + 1, forwardClaims.peekLast().lastLine + 1);
+			if (nextUnclaimedLine <= lastLine) {
+				forwardClaims.addLast(new ForwardClaim(nextUnclaimedLine, lastLine, includedBy));
+			}
+		}
+	}
+
+	/**
+	 * Finishes parsing. Builder should not be used after this method is called.
+	 * 
+	 * @return parsed log
+	 */
+	public ParsedLog build() {
+		while (size > 0) {
+			emitFirst();
+		}
+		forwardClaims.clear();
+		return new ParsedLog(originalLineNumbers, lineCount);
+	}
+
+	/**
+	 * Gets text of parsed log added since last call of this method. Lines become available once
+	 * they can no longer be claimed by a rule of a following line. Builder does not keep the text
+	 * once it is taken.
+	 * 
+	 * @return text added since last call, empty string if there is no new text
+	 */
+	public String takeNewText() {
+		String text = newText.toString();
+		newText.setLength(0);
+		return text;
+	}
+
+	private void emitFirst() {
+		CompiledParseRule claim = claims[first];
+		if (claim != null) {
+			newText.append(claim.getLinePrefix()).append(lines[first]).append('\n');
+			if (lineCount == originalLineNumbers.length) {
+				originalLineNumbers = Arrays.copyOf(originalLineNumbers, lineCount * 2);
+			}
+			originalLineNumbers[lineCount++] = lineNumbers[first];
+		}
+		lines[first] = null;
+		claims[first] = null;
+		first = (first + 1) % lines.length;
+		size--;
+	}
+
+	private static class ForwardClaim {
+
+		private final int firstLine;
+		private final int lastLine;
+		private final CompiledParseRule rule;
+
+		public ForwardClaim(int firstLine, int lastLine, CompiledParseRule rule) {
+			this.firstLine = firstLine;
+			this.lastLine = lastLine;
+			this.rule = rule;
+		}
+	}
+}
@@ -0,0 +1,24 @@
+/******************************************************************************* 
+ * Copyright (c) 2016 Red Hat, Inc. 
+ * Distributed under license by Red Hat, Inc. All rights reserved. 
+ * This program is made available under the terms of the 
+ * Eclipse Public License v1.0 which accompanies this distribution, 
+ * and is available at http://www.eclipse.org/legal/epl-v10.html 
+ * 
+ * Contributors: 
+ * Red Hat, Inc. - initial API and implementation 
+ ******************************************************************************/ 
+package org.jboss.reddeer.logparser.parser;
+
+/**
+ * Listener notified about parts of parsed log while the log is being parsed.
+ */
+public interface ParsedLogListener {
+
+	/**
+	 * Called when new lines of parsed log are available. Text is passed in order of parsed log.
+	 * 
+	 * @param text new lines of parsed log, each terminated by new line character
+	 */
+	void parsedTextAdded(String text);
+}
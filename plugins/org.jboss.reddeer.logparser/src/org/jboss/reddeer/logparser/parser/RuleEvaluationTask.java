@@ -0,0 +1,51 @@
+/******************************************************************************* 
+ * Copyright (c) 2016 Red Hat, Inc. 
+ * Distributed under license by Red Hat, Inc. All rights reserved. 
+ * This program is made available under the terms of the 
+ * Eclipse Public License v1.0 which accompanies this distribution, 
+ * and is available at http://www.eclipse.org/legal/epl-v10.html 
+ * 
+ * Contributors: 
+ * Red Hat, Inc. - initial API and implementation 
+ ******************************************************************************/ 
+package org.jboss.reddeer.logparser.parser;
+
+import java.util.List;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Evaluates parse rules against a batch of lines, splitting the batch between fork-join workers.
+ */
+class RuleEvaluationTask extends RecursiveAction {
+
+	private static final long serialVersionUID = 1L;
+
+	private static final int THRESHOLD = 1024;
+
+	private final String[] lines;
+	private final CompiledParseRule[] results;
+	private final List<CompiledParseRule> rules;
+	private final int from;
+	private final int to;
+
+	RuleEvaluationTask(String[] lines, CompiledParseRule[] results, List<CompiledParseRule> rules, int from, int to) {
+		this.lines = lines;
+		this.results = results;
+		this.rules = rules;
+		this.from = from;
+		this.to = to;
+	}
+
+	@Override
+	protected void compute() {
+		if (to - from <= THRESHOLD) {
+			for (int i = from; i < to; i++) {
+				results[i] = CompiledParseRule.evaluate(lines[i], rules);
+			}
+		} else {
+			int middle = (from + to) >>> 1;
+			invokeAll(new RuleEvaluationTask(lines, results, rules, from, middle),
+					new RuleEvaluationTask(lines, results, rules, middle, to));
+		}
+	}
+}
@@ -10,7 +10,8 @@
  ******************************************************************************/ 
 package org.jboss.reddeer.swt.condition;
 
-import org.jboss.reddeer.common.condition.AbstractWaitCondition;
+import org.eclipse.swt.SWT;
+import org.jboss.reddeer.common.condition.AbstractDisplayEventWaitCondition;
 import org.jboss.reddeer.common.logging.Logger;
 import org.jboss.reddeer.core.lookup.ShellLookup;
 import org.jboss.reddeer.core.util.InstanceValidator;
@@ -22,7 +23,7 @@ import org.jboss.reddeer.swt.api.Shell;
  * 
  * @author rhopp, mlabuda@redhat.com
  */
-public class ShellIsActive extends AbstractWaitCondition {
+public class ShellIsActive extends AbstractDisplayEventWaitCondition {
 	
 	private Shell shell;
 	private static final Logger log = Logger.getLogger(ShellIsActive.class);
@@ -33,6 +34,7 @@ public class ShellIsActive extends AbstractWaitCondition {
 	 * @param shell Shell to compare to.
 	 */
 	public ShellIsActive(Shell shell){
+		super(SWT.Activate, SWT.Deactivate, SWT.Dispose);
 		InstanceValidator.checkNotNull(shell, "shell");
 		this.shell = shell;
 	}
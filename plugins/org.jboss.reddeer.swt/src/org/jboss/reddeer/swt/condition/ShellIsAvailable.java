@@ -1,6 +1,7 @@
 package org.jboss.reddeer.swt.condition;
 
-import org.jboss.reddeer.common.condition.AbstractWaitCondition;
+import org.eclipse.swt.SWT;
+import org.jboss.reddeer.common.condition.AbstractDisplayEventWaitCondition;
 import org.jboss.reddeer.core.lookup.ShellLookup;
 import org.jboss.reddeer.core.util.InstanceValidator;
 import org.jboss.reddeer.swt.api.Shell;
@@ -10,7 +11,7 @@ import org.jboss.reddeer.swt.api.Shell;
  * 
  * @author rawagner
  */
-public class ShellIsAvailable extends AbstractWaitCondition {
+public class ShellIsAvailable extends AbstractDisplayEventWaitCondition {
 	
 	private Shell shell;
 	
@@ -20,6 +21,7 @@ public class ShellIsAvailable extends AbstractWaitCondition {
 	 * @param shell Shell to compare to.
 	 */
 	public ShellIsAvailable(Shell shell){
+		super(SWT.Show, SWT.Activate, SWT.Dispose);
 		InstanceValidator.checkNotNull(shell, "shell");
 		this.shell = shell;
 	}
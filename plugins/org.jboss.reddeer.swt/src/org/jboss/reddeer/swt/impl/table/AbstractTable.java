@@ -22,7 +22,9 @@ import org.jboss.reddeer.swt.api.Table;
 import org.jboss.reddeer.swt.api.TableItem;
 import org.jboss.reddeer.swt.condition.TableHasRows;
 import org.jboss.reddeer.swt.exception.SWTLayerException;
+import org.jboss.reddeer.core.exception.CoreLayerException;
 import org.jboss.reddeer.core.handler.TableHandler;
+import org.jboss.reddeer.core.handler.TableSnapshot;
 import org.jboss.reddeer.core.reference.ReferencedComposite;
 import org.jboss.reddeer.common.wait.TimePeriod;
 import org.jboss.reddeer.common.wait.WaitUntil;
@@ -51,12 +53,7 @@ public abstract class AbstractTable extends AbstractWidget<org.eclipse.swt.widge
 	 */
 	@Override
 	public boolean containsItem(String item){
-		for(TableItem it: getItems()){
-			if(it.getText().equals(item)){
-				return true;
-			}
-		}
-		return false;
+		return containsItem(item, 0);
 	}
 	
 	/* (non-Javadoc)
@@ -64,12 +61,7 @@ public abstract class AbstractTable extends AbstractWidget<org.eclipse.swt.widge
 	 */
 	@Override
 	public boolean containsItem(String item, int cellIndex){
-		for(TableItem it: getItems()){
-			if(it.getText(cellIndex).equals(item)){
-				return true;
-			}
-		}
-		return false;
+		return getSnapshot().indexOf(item, cellIndex) >= 0;
 	}
 	
 	/* (non-Javadoc)
@@ -92,14 +84,16 @@ public abstract class AbstractTable extends AbstractWidget<org.eclipse.swt.widge
 	@Override
 	public List<TableItem> getItems(Matcher<TableItem>... matchers) {
 		List<TableItem> matchedItems = new ArrayList<TableItem>();
+		TableSnapshot snapshot = getSnapshot();
 		
-		for (TableItem item : getItems()){
+		for (int row = 0; row < snapshot.rowCount(); row++){
+			TableItem item = new SnapshotTableItem(snapshot, row);
 			int index = 0;
 			while (index < matchers.length && matchers[index].matches(item)){
 				index++;
 			}
 			if (index == matchers.length){
-				matchedItems.add(item);
+				matchedItems.add(new DefaultTableItem(snapshot.getItem(row)));
 			}
 		}
 		return matchedItems;
@@ -120,10 +114,7 @@ public abstract class AbstractTable extends AbstractWidget<org.eclipse.swt.widge
 	 */
 	@Override
 	public TableItem getItem(final String itemText) {
-		waitUntilTableHasRows();
-		int row = TableHandler.getInstance().indexOf(swtWidget, itemText, 0);
-		org.eclipse.swt.widgets.TableItem tItem = TableHandler.getInstance().getSWTItem(swtWidget, row);
-		return new DefaultTableItem(tItem);
+		return getItem(itemText, 0);
 	}
 	
 	/* (non-Javadoc)
@@ -131,10 +122,12 @@ public abstract class AbstractTable extends AbstractWidget<org.eclipse.swt.widge
 	 */
 	@Override
 	public TableItem getItem(final String itemText, int column) {
-		waitUntilTableHasRows();
-		int row = TableHandler.getInstance().indexOf(swtWidget, itemText, column);
-		org.eclipse.swt.widgets.TableItem tItem = TableHandler.getInstance().getSWTItem(swtWidget, row);
-		return new DefaultTableItem(tItem);
+		TableSnapshot snapshot = getSnapshot();
+		int row = snapshot.indexOf(itemText, column);
+		if (row < 0) {
+			throw new CoreLayerException("Item " + itemText + " does not exist in table");
+		}
+		return new DefaultTableItem(snapshot.getItem(row));
 	}
 
 	/* (non-Javadoc)
@@ -197,6 +190,17 @@ public abstract class AbstractTable extends AbstractWidget<org.eclipse.swt.widge
 	private void waitUntilTableHasRows() {
 		new WaitUntil(new TableHasRows(this), TimePeriod.NORMAL, false);
 	}
+
+	/**
+	 * Gets snapshot of the table content read in a single UI thread pass.
+	 * Waits until the table has rows first.
+	 *
+	 * @return snapshot of the table content
+	 */
+	protected TableSnapshot getSnapshot() {
+		waitUntilTableHasRows();
+		return TableHandler.getInstance().getSnapshot(swtWidget);
+	}
 	
 	/* (non-Javadoc)
 	 * @see org.jboss.reddeer.swt.api.Table#indexOf(org.jboss.reddeer.swt.api.TableItem)
@@ -264,9 +268,10 @@ public abstract class AbstractTable extends AbstractWidget<org.eclipse.swt.widge
 	@Override
 	public List<TableItem> getSelectetItems(){
 		LinkedList<TableItem> result = new LinkedList<TableItem>();
-		for (TableItem tableItem : getItems()){
-			if (tableItem.isSelected()){
-				result.addLast(tableItem);
+		TableSnapshot snapshot = getSnapshot();
+		for (int row = 0; row < snapshot.rowCount(); row++){
+			if (snapshot.isSelected(row)){
+				result.addLast(new DefaultTableItem(snapshot.getItem(row)));
 			}
 		}
 		return result;
@@ -11,15 +11,19 @@
 package org.jboss.reddeer.swt.impl.tree;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Set;
 
 import org.hamcrest.Matcher;
 import org.jboss.reddeer.common.logging.Logger;
+import org.jboss.reddeer.common.wait.TimePeriod;
 import org.jboss.reddeer.swt.api.Tree;
 import org.jboss.reddeer.swt.api.TreeItem;
 import org.jboss.reddeer.core.handler.TreeHandler;
 import org.jboss.reddeer.core.handler.TreeItemHandler;
+import org.jboss.reddeer.core.handler.TreeSnapshot;
 import org.jboss.reddeer.core.reference.ReferencedComposite;
 import org.jboss.reddeer.swt.widgets.AbstractWidget;
 
@@ -42,8 +46,24 @@ public abstract class AbstractTree extends AbstractWidget<org.eclipse.swt.widget
 	 * @see org.jboss.reddeer.swt.api.Tree#getAllItems()
 	 */
 	public List<TreeItem> getAllItems() {
+		// expand collapsed branches level by level and capture whole tree after each level,
+		// leaves are never expanded and items which refuse to expand are not expanded again
+		Set<org.eclipse.swt.widgets.TreeItem> expanded = new HashSet<org.eclipse.swt.widgets.TreeItem>();
+		TreeSnapshot snapshot = treeHandler.getSnapshot(swtWidget);
+		List<org.eclipse.swt.widgets.TreeItem> collapsed = snapshot.getCollapsedBranches();
+		while (!collapsed.isEmpty()) {
+			for (org.eclipse.swt.widgets.TreeItem swtTreeItem : collapsed) {
+				treeItemHandler.expand(swtTreeItem, TimePeriod.SHORT);
+				expanded.add(swtTreeItem);
+			}
+			snapshot = treeHandler.getSnapshot(swtWidget);
+			collapsed = new ArrayList<org.eclipse.swt.widgets.TreeItem>(snapshot.getCollapsedBranches());
+			collapsed.removeAll(expanded);
+		}
 		List<TreeItem> list = new LinkedList<TreeItem>();
-		list.addAll(getAllItemsRecursive(getItems()));
+		for (org.eclipse.swt.widgets.TreeItem swtTreeItem : snapshot.getItems()) {
+			list.add(new DefaultTreeItem(swtTreeItem));
+		}
 		return list;
 	}
 
@@ -113,14 +133,4 @@ public abstract class AbstractTree extends AbstractWidget<org.eclipse.swt.widget
 		logger.info("Unselect all tree items");
 		treeHandler.unselectAllItems(swtWidget);
 	}
-	
-	private List<TreeItem> getAllItemsRecursive(List<TreeItem> parentItems) {
-		List<TreeItem> list = new LinkedList<TreeItem>();
-
-		for (TreeItem item : parentItems) {
-			list.add(item);
-			list.addAll(getAllItemsRecursive(item.getItems()));
-		}
-		return list;
-	}
 }
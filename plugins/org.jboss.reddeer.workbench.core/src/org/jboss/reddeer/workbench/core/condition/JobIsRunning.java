@@ -10,11 +10,16 @@
  ******************************************************************************/ 
 package org.jboss.reddeer.workbench.core.condition;
 
+import org.eclipse.core.runtime.jobs.IJobChangeEvent;
+import org.eclipse.core.runtime.jobs.IJobChangeListener;
 import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.core.runtime.jobs.JobChangeAdapter;
 import org.hamcrest.CoreMatchers;
 import org.hamcrest.Matcher;
 import org.jboss.reddeer.common.condition.AbstractWaitCondition;
+import org.jboss.reddeer.common.condition.ObservableWaitCondition;
 import org.jboss.reddeer.common.logging.Logger;
+import org.jboss.reddeer.common.wait.WaitNotifier;
 
 /**
  * Condition is met when there is/are running non-system job(s).
@@ -23,13 +28,14 @@ import org.jboss.reddeer.common.logging.Logger;
  * @author Lucia Jelinkova
  */
 @SuppressWarnings("rawtypes")
-public class JobIsRunning extends AbstractWaitCondition {
+public class JobIsRunning extends AbstractWaitCondition implements ObservableWaitCondition {
 	private static final Logger log = Logger.getLogger(JobIsRunning.class);
 
 	private Matcher[] consideredJobs;
 	private Matcher[] excludeJobs;
 	private boolean skipSystemJobs;
 	private Job[] currentJobs;
+	private IJobChangeListener jobChangeListener;
 
 	/**
 	 * Constructs JobIsRunning wait condition. Condition is met when job is running.
@@ -154,6 +160,36 @@ public class JobIsRunning extends AbstractWaitCondition {
 		return false;
 	}
 
+	/* (non-Javadoc)
+	 * @see org.jboss.reddeer.common.condition.ObservableWaitCondition#addWaitNotifier(org.jboss.reddeer.common.wait.WaitNotifier)
+	 */
+	@Override
+	public void addWaitNotifier(final WaitNotifier notifier) {
+		jobChangeListener = new JobChangeAdapter() {
+			@Override
+			public void running(IJobChangeEvent event) {
+				notifier.wakeUp();
+			}
+
+			@Override
+			public void done(IJobChangeEvent event) {
+				notifier.wakeUp();
+			}
+		};
+		Job.getJobManager().addJobChangeListener(jobChangeListener);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.jboss.reddeer.common.condition.ObservableWaitCondition#removeWaitNotifier(org.jboss.reddeer.common.wait.WaitNotifier)
+	 */
+	@Override
+	public void removeWaitNotifier(WaitNotifier notifier) {
+		if (jobChangeListener != null) {
+			Job.getJobManager().removeJobChangeListener(jobChangeListener);
+			jobChangeListener = null;
+		}
+	}
+
 	/* (non-Javadoc)
 	 * @see org.jboss.reddeer.common.condition.AbstractWaitCondition#description()
 	 */
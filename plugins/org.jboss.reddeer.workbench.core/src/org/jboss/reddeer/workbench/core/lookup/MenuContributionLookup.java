@@ -0,0 +1,146 @@
+/******************************************************************************* 
+ * Copyright (c) 2016 Red Hat, Inc. 
+ * Distributed under license by Red Hat, Inc. All rights reserved. 
+ * This program is made available under the terms of the 
+ * Eclipse Public License v1.0 which accompanies this distribution, 
+ * and is available at http://www.eclipse.org/legal/epl-v10.html 
+ * 
+ * Contributors: 
+ * Red Hat, Inc. - initial API and implementation 
+ ******************************************************************************/
+package org.jboss.reddeer.workbench.core.lookup;
+
+import java.lang.reflect.Method;
+
+import org.eclipse.core.commands.Command;
+import org.eclipse.core.commands.ParameterizedCommand;
+import org.eclipse.jface.action.IContributionItem;
+import org.eclipse.swt.widgets.MenuItem;
+import org.eclipse.ui.PlatformUI;
+import org.eclipse.ui.commands.ICommandService;
+import org.eclipse.ui.handlers.IHandlerService;
+import org.eclipse.ui.menus.CommandContributionItem;
+import org.jboss.reddeer.common.logging.Logger;
+import org.jboss.reddeer.common.util.Display;
+import org.jboss.reddeer.common.util.ResultRunnable;
+
+/**
+ * Provides workbench contributions behind SWT menu items, i.e. contribution IDs and
+ * commands. Menu items created by menu managers hold their contribution item as data.
+ * 
+ * @since 2.0
+ */
+public class MenuContributionLookup {
+
+	private static final Logger log = Logger.getLogger(MenuContributionLookup.class);
+
+	private static MenuContributionLookup instance;
+
+	private MenuContributionLookup() {
+
+	}
+
+	/**
+	 * Gets instance of MenuContributionLookup.
+	 * 
+	 * @return MenuContributionLookup instance
+	 */
+	public static MenuContributionLookup getInstance() {
+		if (instance == null) {
+			instance = new MenuContributionLookup();
+		}
+		return instance;
+	}
+
+	/**
+	 * Gets ID of contribution item which created specified menu item.
+	 * 
+	 * @param item menu item
+	 * @return contribution ID or null if menu item was not created by a contribution item
+	 */
+	public String getContributionId(final MenuItem item) {
+		return Display.syncExec(new ResultRunnable<String>() {
+			@Override
+			public String run() {
+				Object data = item.isDisposed() ? null : item.getData();
+				return data instanceof IContributionItem ? ((IContributionItem) data).getId() : null;
+			}
+		});
+	}
+
+	/**
+	 * Gets command which is executed by specified menu item.
+	 * 
+	 * @param item menu item
+	 * @return command or null if menu item is not backed by a command
+	 */
+	public ParameterizedCommand getCommand(final MenuItem item) {
+		return Display.syncExec(new ResultRunnable<ParameterizedCommand>() {
+			@Override
+			public ParameterizedCommand run() {
+				Object data = item.isDisposed() ? null : item.getData();
+				if (data instanceof CommandContributionItem) {
+					return ((CommandContributionItem) data).getCommand();
+				}
+				// e4 handled items keep their command in model which is not accessible via public API
+				Object command = invoke(invoke(data, "getModel"), "getWbCommand");
+				return command instanceof ParameterizedCommand ? (ParameterizedCommand) command : null;
+			}
+		});
+	}
+
+	/**
+	 * Executes command of specified menu item asynchronously via handler service instead of
+	 * notifying the menu item, thus a dialog opened by the command does not block the caller.
+	 * Failure of the command execution is logged, it cannot be thrown to the caller.
+	 * 
+	 * @param item menu item
+	 * @return true if command was scheduled for execution, false if menu item is not backed
+	 *         by a defined and enabled command
+	 */
+	public boolean executeCommand(MenuItem item) {
+		final ParameterizedCommand parameterizedCommand = getCommand(item);
+		if (parameterizedCommand == null) {
+			return false;
+		}
+		boolean executable = Display.syncExec(new ResultRunnable<Boolean>() {
+			@Override
+			public Boolean run() {
+				ICommandService commandService = (ICommandService) PlatformUI.getWorkbench()
+						.getService(ICommandService.class);
+				Command command = commandService.getCommand(parameterizedCommand.getId());
+				return command.isDefined() && command.isEnabled();
+			}
+		});
+		if (!executable) {
+			log.debug("Command " + parameterizedCommand.getId() + " is not defined or enabled");
+			return false;
+		}
+		log.info("Execute command " + parameterizedCommand.getId());
+		Display.asyncExec(new Runnable() {
+			@Override
+			public void run() {
+				IHandlerService handlerService = (IHandlerService) PlatformUI.getWorkbench()
+						.getService(IHandlerService.class);
+				try {
+					handlerService.executeCommand(parameterizedCommand, null);
+				} catch (Exception e) {
+					log.error("Execution of command " + parameterizedCommand.getId() + " failed", e);
+				}
+			}
+		});
+		return true;
+	}
+
+	private static Object invoke(Object target, String methodName) {
+		if (target == null) {
+			return null;
+		}
+		try {
+			Method method = target.getClass().getMethod(methodName);
+			return method.invoke(target);
+		} catch (Exception e) {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,63 @@
+/******************************************************************************* 
+ * Copyright (c) 2016 Red Hat, Inc. 
+ * Distributed under license by Red Hat, Inc. All rights reserved. 
+ * This program is made available under the terms of the 
+ * Eclipse Public License v1.0 which accompanies this distribution, 
+ * and is available at http://www.eclipse.org/legal/epl-v10.html 
+ * 
+ * Contributors: 
+ * Red Hat, Inc. - initial API and implementation 
+ ******************************************************************************/ 
+package org.jboss.reddeer.common.test.logging;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+
+import org.jboss.reddeer.common.logging.AsyncFileAppender;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class AsyncFileAppenderTest {
+
+	private File logFile;
+
+	@Before
+	public void createLogFile() throws IOException {
+		logFile = File.createTempFile("reddeer", ".log");
+	}
+
+	@After
+	public void deleteLogFile() {
+		logFile.delete();
+	}
+
+	@Test
+	public void appendedMessagesAreWrittenOnClose() throws IOException {
+		AsyncFileAppender appender = new AsyncFileAppender(logFile, 16);
+		for (int i = 0; i < 10; i++) {
+			appender.append("message " + i);
+		}
+		appender.close();
+
+		List<String> lines = Files.readAllLines(logFile.toPath(), StandardCharsets.UTF_8);
+		assertEquals(10, lines.size());
+		assertEquals("message 0", lines.get(0));
+		assertEquals("message 9", lines.get(9));
+	}
+
+	@Test
+	public void messagesAppendedAfterCloseAreIgnored() throws IOException {
+		AsyncFileAppender appender = new AsyncFileAppender(logFile, 16);
+		appender.append("message");
+		appender.close();
+		appender.append("ignored message");
+
+		assertEquals(1, Files.readAllLines(logFile.toPath(), StandardCharsets.UTF_8).size());
+	}
+}
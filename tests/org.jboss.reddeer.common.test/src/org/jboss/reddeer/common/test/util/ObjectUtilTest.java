@@ -0,0 +1,104 @@
+/******************************************************************************* 
+ * Copyright (c) 2016 Red Hat, Inc. 
+ * Distributed under license by Red Hat, Inc. All rights reserved. 
+ * This program is made available under the terms of the 
+ * Eclipse Public License v1.0 which accompanies this distribution, 
+ * and is available at http://www.eclipse.org/legal/epl-v10.html 
+ * 
+ * Contributors: 
+ * Red Hat, Inc. - initial API and implementation 
+ ******************************************************************************/ 
+package org.jboss.reddeer.common.test.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.lang.reflect.InvocationTargetException;
+
+import org.jboss.reddeer.common.exception.RedDeerException;
+import org.jboss.reddeer.common.util.ObjectUtil;
+import org.junit.Test;
+
+public class ObjectUtilTest {
+
+	@Test
+	public void invokeMethodWithoutArguments() {
+		assertEquals(3, ObjectUtil.invokeMethod("abc", "length"));
+	}
+
+	@Test
+	public void invokeMethodWithPrimitiveArgument() {
+		assertEquals('b', ObjectUtil.invokeMethod("abc", "charAt", new Class<?>[] { int.class }, new Object[] { 1 }));
+	}
+
+	@Test
+	public void resolvedMethodIsCached() {
+		ObjectUtil.invokeMethod(new StringBuilder("abc"), "length");
+		long hits = ObjectUtil.getCacheHits();
+		long misses = ObjectUtil.getCacheMisses();
+
+		ObjectUtil.invokeMethod(new StringBuilder("def"), "length");
+
+		assertEquals(hits + 1, ObjectUtil.getCacheHits());
+		assertEquals(misses, ObjectUtil.getCacheMisses());
+	}
+
+	@Test
+	public void missingMethodIsCached() {
+		invokeMissingMethod();
+		long misses = ObjectUtil.getCacheMisses();
+
+		invokeMissingMethod();
+
+		assertEquals(misses, ObjectUtil.getCacheMisses());
+	}
+
+	@Test
+	public void cachedSignatureDoesNotChangeWithCallersArray() {
+		Class<?>[] argTypes = new Class<?>[] { int.class };
+		ObjectUtil.invokeMethod("abc", "charAt", argTypes, new Object[] { 0 });
+		argTypes[0] = String.class;
+		long hits = ObjectUtil.getCacheHits();
+
+		ObjectUtil.invokeMethod("abc", "charAt", new Class<?>[] { int.class }, new Object[] { 0 });
+
+		assertEquals(hits + 1, ObjectUtil.getCacheHits());
+	}
+
+	@Test
+	public void exceptionThrownByMethodIsWrapped() {
+		try {
+			ObjectUtil.invokeMethod("abc", "charAt", new Class<?>[] { int.class }, new Object[] { 5 });
+			fail("RedDeerException was expected");
+		} catch (RedDeerException e) {
+			assertTrue(e.getCause() instanceof InvocationTargetException);
+			assertTrue(e.getCause().getCause() instanceof IndexOutOfBoundsException);
+		}
+	}
+
+	@Test(expected = TestError.class)
+	public void errorThrownByMethodIsNotWrapped() {
+		ObjectUtil.invokeMethod(new ErrorThrower(), "throwError");
+	}
+
+	private void invokeMissingMethod() {
+		try {
+			ObjectUtil.invokeMethod(new Object(), "getText");
+			fail("RedDeerException was expected");
+		} catch (RedDeerException e) {
+			// expected
+		}
+	}
+
+	public static class ErrorThrower {
+
+		public void throwError() {
+			throw new TestError();
+		}
+	}
+
+	@SuppressWarnings("serial")
+	public static class TestError extends Error {
+	}
+}
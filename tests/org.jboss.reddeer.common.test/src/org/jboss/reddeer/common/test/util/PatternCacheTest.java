@@ -0,0 +1,56 @@
+/******************************************************************************* 
+ * Copyright (c) 2016 Red Hat, Inc. 
+ * Distributed under license by Red Hat, Inc. All rights reserved. 
+ * This program is made available under the terms of the 
+ * Eclipse Public License v1.0 which accompanies this distribution, 
+ * and is available at http://www.eclipse.org/legal/epl-v10.html 
+ * 
+ * Contributors: 
+ * Red Hat, Inc. - initial API and implementation 
+ ******************************************************************************/ 
+package org.jboss.reddeer.common.test.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.regex.Pattern;
+
+import org.jboss.reddeer.common.matcher.RegexMatcher;
+import org.jboss.reddeer.common.util.PatternCache;
+import org.junit.Test;
+
+public class PatternCacheTest {
+
+	@Test
+	public void patternIsCompiledOnce() {
+		Pattern pattern = PatternCache.getPattern("pattern.*cache");
+		assertSame(pattern, PatternCache.getPattern("pattern.*cache"));
+	}
+
+	@Test
+	public void matchesWholeText() {
+		assertTrue(PatternCache.matches("Errors (2 items)", "Errors \\(\\d+ .*\\)"));
+		assertFalse(PatternCache.matches("All Errors (2 items)", "Errors \\(\\d+ .*\\)"));
+	}
+
+	@Test
+	public void leastRecentlyUsedPatternIsEvicted() {
+		Pattern first = PatternCache.getPattern("evicted-0");
+		for (int i = 1; i <= PatternCache.MAX_SIZE; i++) {
+			PatternCache.getPattern("evicted-" + i);
+		}
+		assertEquals(PatternCache.MAX_SIZE, PatternCache.size());
+		assertNotSame(first, PatternCache.getPattern("evicted-0"));
+	}
+
+	@Test
+	public void regexMatcherMatchesWholeText() {
+		RegexMatcher matcher = new RegexMatcher("Finish|Next.*");
+		assertTrue(matcher.matches("Finish"));
+		assertTrue(matcher.matches("Next >"));
+		assertFalse(matcher.matches("< Back"));
+	}
+}
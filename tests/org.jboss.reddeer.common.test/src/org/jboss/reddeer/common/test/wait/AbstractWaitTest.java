@@ -0,0 +1,137 @@
+/*******************************************************************************
+ * Copyright (c) 2016 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.reddeer.common.test.wait;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.jboss.reddeer.common.condition.AbstractWaitCondition;
+import org.jboss.reddeer.common.condition.ObservableWaitCondition;
+import org.jboss.reddeer.common.properties.RedDeerProperties;
+import org.jboss.reddeer.common.wait.TimePeriod;
+import org.jboss.reddeer.common.wait.WaitNotifier;
+import org.jboss.reddeer.common.wait.WaitUntil;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class AbstractWaitTest {
+
+	private static String timePeriodFactor;
+
+	@BeforeClass
+	public static void setup() {
+		timePeriodFactor = System.getProperty(RedDeerProperties.TIME_PERIOD_FACTOR.getName());
+		System.setProperty(RedDeerProperties.TIME_PERIOD_FACTOR.getName(), "1");
+		TimePeriod.updateFactor();
+	}
+
+	@AfterClass
+	public static void cleanup() {
+		if (timePeriodFactor != null) {
+			System.setProperty(RedDeerProperties.TIME_PERIOD_FACTOR.getName(), timePeriodFactor);
+		} else {
+			System.clearProperty(RedDeerProperties.TIME_PERIOD_FACTOR.getName());
+		}
+		TimePeriod.updateFactor();
+	}
+
+	@Test
+	public void testPeriodIsDoubledUpToMaximum() {
+		CountingCondition condition = new CountingCondition();
+		new WaitUntil(condition, TimePeriod.getCustomMillis(2000), false, TimePeriod.SHORT);
+
+		// tested after 10, 30, 70, 150, 310, 630, 1270 and 2000 ms (and once more at start)
+		assertTrue("Condition was tested only " + condition.tests + " times, backoff does not start "
+				+ "with short periods", condition.tests >= 6);
+		assertTrue("Condition was tested " + condition.tests + " times, test period is not doubled",
+				condition.tests <= 15);
+	}
+
+	@Test
+	public void waitIsWokenUpByNotifier() {
+		final ObservedCondition condition = new ObservedCondition();
+		Thread thread = new Thread(new Runnable() {
+			@Override
+			public void run() {
+				try {
+					Thread.sleep(1300);
+				} catch (InterruptedException e) {
+					return;
+				}
+				WaitNotifier notifier = condition.notifier;
+				condition.met = true;
+				notifier.wakeUp();
+			}
+		});
+
+		long start = System.currentTimeMillis();
+		thread.start();
+		// without wake up the condition would be tested next time after 2550 ms
+		new WaitUntil(condition, TimePeriod.NORMAL, true, TimePeriod.NORMAL);
+		long elapsed = System.currentTimeMillis() - start;
+
+		assertTrue("Wait finished after " + elapsed + " ms, it was not woken up", elapsed < 2000);
+		assertTrue("Wait notifier was not removed", condition.notifier == null);
+	}
+
+	@Test
+	public void wakeUpBeforeAwaitIsNotLost() throws InterruptedException {
+		WaitNotifier notifier = new WaitNotifier();
+		notifier.wakeUp();
+
+		assertTrue(notifier.await(5000));
+		assertFalse(notifier.await(10));
+	}
+
+	private class CountingCondition extends AbstractWaitCondition {
+
+		private int tests;
+
+		@Override
+		public boolean test() {
+			tests++;
+			return false;
+		}
+
+		@Override
+		public String description() {
+			return "never met condition";
+		}
+	}
+
+	private class ObservedCondition extends AbstractWaitCondition implements ObservableWaitCondition {
+
+		private volatile boolean met;
+
+		private volatile WaitNotifier notifier;
+
+		@Override
+		public boolean test() {
+			return met;
+		}
+
+		@Override
+		public void addWaitNotifier(WaitNotifier notifier) {
+			this.notifier = notifier;
+		}
+
+		@Override
+		public void removeWaitNotifier(WaitNotifier notifier) {
+			this.notifier = null;
+		}
+
+		@Override
+		public String description() {
+			return "observed condition";
+		}
+	}
+}
@@ -129,4 +129,30 @@ public class TimePeriodTest {
 		
 		assertThat(TimePeriod.getCustom(1).getSeconds(), is(0L));
 	}
+
+	@Test
+	public void getMilliseconds_factor1() {
+		System.setProperty(RedDeerProperties.TIME_PERIOD_FACTOR.getName(), "1");
+		TimePeriod.updateFactor();
+
+		assertThat(TimePeriod.getCustom(5).getMilliseconds(), is(5000L));
+		assertThat(TimePeriod.getCustomMillis(250).getMilliseconds(), is(250L));
+		assertThat(TimePeriod.getCustomMillis(2500).getSeconds(), is(2L));
+	}
+
+	@Test
+	public void getMilliseconds_factor_gt1() {
+		System.setProperty(RedDeerProperties.TIME_PERIOD_FACTOR.getName(), "2");
+		TimePeriod.updateFactor();
+
+		assertThat(TimePeriod.getCustomMillis(250).getMilliseconds(), is(500L));
+	}
+
+	@Test
+	public void getMilliseconds_periodmax() {
+		System.setProperty(RedDeerProperties.TIME_PERIOD_FACTOR.getName(), "1");
+		TimePeriod.updateFactor();
+
+		assertThat(TimePeriod.getCustom(Long.MAX_VALUE).getMilliseconds(), is(Long.MAX_VALUE));
+	}
 }
@@ -0,0 +1,127 @@
+/******************************************************************************* 
+ * Copyright (c) 2016 Red Hat, Inc. 
+ * Distributed under license by Red Hat, Inc. All rights reserved. 
+ * This program is made available under the terms of the 
+ * Eclipse Public License v1.0 which accompanies this distribution, 
+ * and is available at http://www.eclipse.org/legal/epl-v10.html 
+ * 
+ * Contributors: 
+ * Red Hat, Inc. - initial API and implementation 
+ ******************************************************************************/ 
+package org.jboss.reddeer.eclipse.test.ui.console;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.ui.console.IConsoleDocumentPartitioner;
+import org.eclipse.ui.console.TextConsole;
+import org.jboss.reddeer.eclipse.ui.console.ConsoleObserver;
+import org.jboss.reddeer.eclipse.ui.console.ConsoleObserver.Mark;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests searching of console text by {@link ConsoleObserver} when the console is trimmed,
+ * cleared or edited.
+ */
+public class ConsoleObserverTest {
+
+	private IDocument document;
+
+	private ConsoleObserver observer;
+
+	@Before
+	public void createConsole() {
+		TestConsole console = new TestConsole();
+		document = console.getDocument();
+		observer = ConsoleObserver.getObserver(console);
+	}
+
+	@Test
+	public void appendedTextIsFoundAfterMark() throws BadLocationException {
+		append("abc");
+		Mark mark = observer.mark();
+
+		assertFalse(observer.hasTextSince(mark, "a"));
+		append("def");
+
+		assertFalse("Text before mark was found", observer.hasTextSince(mark, "cd"));
+		assertTrue(observer.hasTextSince(mark, "de"));
+		assertEquals("def", observer.getTextSince(mark));
+		assertEquals(6, observer.getLength());
+	}
+
+	@Test
+	public void textTrimmedPastMarkIsNotFound() throws BadLocationException {
+		append("abc");
+		Mark mark = observer.mark();
+		append("def");
+		assertTrue(observer.hasTextSince(mark, "d"));
+
+		// console trims its beginning when it exceeds its high water mark
+		document.replace(0, 5, "");
+
+		assertFalse("Text found before trimming was not forgotten", observer.hasTextSince(mark, "d"));
+		assertFalse(observer.hasTextSince(mark, "de"));
+		assertTrue(observer.hasTextSince(mark, "f"));
+		assertEquals("f", observer.getTextSince(mark));
+		append("gh");
+		assertEquals("fgh", observer.getTextSince(mark));
+		assertTrue(observer.hasTextSince(mark, "fg"));
+	}
+
+	@Test
+	public void textWrittenBeforeClearingIsNotFound() throws BadLocationException {
+		append("abc");
+		Mark start = observer.markStart();
+		Mark mark = observer.mark();
+		assertTrue(observer.hasTextSince(start, "b"));
+		long changes = observer.getChangeCount();
+
+		document.set("");
+
+		assertEquals(0, observer.getLength());
+		assertEquals(changes + 1, observer.getChangeCount());
+		assertFalse(observer.hasTextSince(start, "b"));
+		assertEquals("", observer.getTextSince(start));
+		append("xbz");
+		assertTrue(observer.hasTextSince(start, "b"));
+		assertTrue(observer.hasTextSince(mark, "xb"));
+		assertEquals("xbz", observer.getTextSince(start));
+		assertEquals("xbz", observer.getTextSince(mark));
+	}
+
+	@Test
+	public void editedTextIsSearchedAgain() throws BadLocationException {
+		append("abc");
+		Mark start = observer.markStart();
+		assertFalse(observer.hasTextSince(start, "Z"));
+
+		document.replace(1, 1, "Z");
+
+		assertTrue(observer.hasTextSince(start, "aZc"));
+		assertEquals("aZc", observer.getTextSince(start));
+	}
+
+	private void append(String text) throws BadLocationException {
+		document.replace(document.getLength(), 0, text);
+	}
+
+	/**
+	 * Text console which is not displayed and whose document is written directly.
+	 */
+	private static class TestConsole extends TextConsole {
+
+		public TestConsole() {
+			super("Test console", null, null, true);
+		}
+
+		@Override
+		protected IConsoleDocumentPartitioner getPartitioner() {
+			return null;
+		}
+	}
+}
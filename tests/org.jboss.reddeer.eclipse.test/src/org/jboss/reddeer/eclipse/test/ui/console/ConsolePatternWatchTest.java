@@ -0,0 +1,214 @@
+/******************************************************************************* 
+ * Copyright (c) 2016 Red Hat, Inc. 
+ * Distributed under license by Red Hat, Inc. All rights reserved. 
+ * This program is made available under the terms of the 
+ * Eclipse Public License v1.0 which accompanies this distribution, 
+ * and is available at http://www.eclipse.org/legal/epl-v10.html 
+ * 
+ * Contributors: 
+ * Red Hat, Inc. - initial API and implementation 
+ ******************************************************************************/ 
+package org.jboss.reddeer.eclipse.test.ui.console;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.ui.console.IConsoleDocumentPartitioner;
+import org.eclipse.ui.console.TextConsole;
+import org.jboss.reddeer.eclipse.ui.console.ConsoleMatch;
+import org.jboss.reddeer.eclipse.ui.console.ConsoleObserver;
+import org.jboss.reddeer.eclipse.ui.console.ConsolePatternWatch;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests evaluation of patterns by {@link ConsolePatternWatch} against text appended
+ * to console in several chunks.
+ */
+public class ConsolePatternWatchTest {
+
+	private IDocument document;
+
+	private ConsoleObserver observer;
+
+	private List<ConsolePatternWatch> watches = new ArrayList<ConsolePatternWatch>();
+
+	@Before
+	public void createConsole() throws BadLocationException {
+		TestConsole console = new TestConsole();
+		document = console.getDocument();
+		observer = ConsoleObserver.getObserver(console);
+		append("Starting server\n");
+	}
+
+	@After
+	public void closeWatches() {
+		for (ConsolePatternWatch watch : watches) {
+			watch.close();
+		}
+	}
+
+	@Test
+	public void matchStraddlingTwoAppendsIsFound() throws BadLocationException {
+		Pattern pattern = Pattern.compile("Server started in \\d+ ms");
+		ConsolePatternWatch watch = watch(ConsolePatternWatch.DEFAULT_CARRY_OVER, pattern);
+
+		append("Server sta");
+		watch.flush();
+		assertFalse(watch.hasMatch());
+		append("rted in 25 ms\n");
+		watch.flush();
+
+		assertEquals(1, watch.getMatchCount());
+		ConsoleMatch match = watch.getFirstMatch(pattern);
+		assertEquals("Server started in 25 ms", match.getText());
+		assertEquals("Starting server\n".length(), match.getOffset());
+	}
+
+	@Test
+	public void textBeforeWatchIsNotEvaluated() throws BadLocationException {
+		ConsolePatternWatch watch = watch(ConsolePatternWatch.DEFAULT_CARRY_OVER, Pattern.compile("server"));
+
+		append("Stopping ");
+		watch.flush();
+		assertFalse(watch.hasMatch());
+		append("server");
+		watch.flush();
+
+		assertEquals(1, watch.getMatchCount());
+		assertEquals("Starting server\nStopping ".length(), watch.getFirstMatch().getOffset());
+	}
+
+	@Test
+	public void matchIsLimitedByCarryOver() throws BadLocationException {
+		Pattern pattern = Pattern.compile("abcdefgh");
+		ConsolePatternWatch smallWatch = watch(3, pattern);
+		ConsolePatternWatch sufficientWatch = watch(4, pattern);
+
+		append("abcd");
+		append("efgh");
+		smallWatch.flush();
+
+		assertFalse(smallWatch.hasMatch());
+		assertTrue(sufficientWatch.hasMatch());
+	}
+
+	@Test
+	public void defaultCarryOverKeepsPreviousText() throws BadLocationException {
+		Pattern pattern = Pattern.compile("BEGIN[^!]*END");
+		ConsolePatternWatch watch = watch(ConsolePatternWatch.DEFAULT_CARRY_OVER, pattern);
+
+		append("BEGIN");
+		append(repeat('x', ConsolePatternWatch.DEFAULT_CARRY_OVER - "BEGIN".length()));
+		append("END!");
+		watch.flush();
+		assertEquals(1, watch.getMatchCount());
+
+		append("BEGIN");
+		append(repeat('x', ConsolePatternWatch.DEFAULT_CARRY_OVER - "BEGIN".length() + 1));
+		append("END!");
+		watch.flush();
+		assertEquals("Match longer than carry-over was found", 1, watch.getMatchCount());
+	}
+
+	@Test
+	public void overlappingMatchesAreNotReportedAgain() throws BadLocationException {
+		ConsolePatternWatch watch = watch(ConsolePatternWatch.DEFAULT_CARRY_OVER, Pattern.compile("aa"));
+
+		append("a");
+		append("a");
+		append("a");
+		watch.flush();
+
+		// "aa" at offsets 0 and 1 overlap, only the first one is a match
+		assertEquals(1, watch.getMatchCount());
+		append("a");
+		watch.flush();
+		assertEquals(2, watch.getMatchCount());
+		assertEquals(watch.getMatches().get(0).getOffset() + 2, watch.getMatches().get(1).getOffset());
+	}
+
+	@Test
+	public void matchInCarryOverIsNotReportedAgain() throws BadLocationException {
+		ConsolePatternWatch watch = watch(ConsolePatternWatch.DEFAULT_CARRY_OVER, Pattern.compile("abc"));
+
+		append("abc");
+		append("def");
+		append("ghi");
+		watch.flush();
+
+		assertEquals(1, watch.getMatchCount());
+	}
+
+	@Test
+	public void patternMatchingAfterRecordedMatchesOverflowIsFound() throws BadLocationException {
+		Pattern noisy = Pattern.compile("tick");
+		Pattern started = Pattern.compile("started");
+		ConsolePatternWatch watch = watch(ConsolePatternWatch.DEFAULT_CARRY_OVER, noisy, started);
+
+		for (int i = 0; i < ConsolePatternWatch.MAX_RECORDED_MATCHES + 10; i++) {
+			append("tick\n");
+		}
+		append("Server started\n");
+		watch.flush();
+
+		assertEquals(ConsolePatternWatch.MAX_RECORDED_MATCHES, watch.getMatches().size());
+		assertEquals(ConsolePatternWatch.MAX_RECORDED_MATCHES + 11, watch.getMatchCount());
+		assertTrue("Match not recorded because of the limit was lost", watch.hasMatch(started));
+		assertEquals("started", watch.getFirstMatch(started).getText());
+		assertEquals(watch.getMatches().get(0), watch.getFirstMatch(noisy));
+	}
+
+	@Test
+	public void carryOverIsForgottenWhenConsoleIsCleared() throws BadLocationException {
+		ConsolePatternWatch watch = watch(ConsolePatternWatch.DEFAULT_CARRY_OVER, Pattern.compile("abcd"));
+
+		append("ab");
+		document.set("");
+		append("cd");
+		watch.flush();
+
+		assertFalse(watch.hasMatch());
+	}
+
+	private ConsolePatternWatch watch(int maxCarryOver, Pattern... patterns) {
+		ConsolePatternWatch watch = observer.watch(maxCarryOver, patterns);
+		watches.add(watch);
+		return watch;
+	}
+
+	private void append(String text) throws BadLocationException {
+		document.replace(document.getLength(), 0, text);
+	}
+
+	private static String repeat(char c, int count) {
+		StringBuilder builder = new StringBuilder(count);
+		for (int i = 0; i < count; i++) {
+			builder.append(c);
+		}
+		return builder.toString();
+	}
+
+	/**
+	 * Text console which is not displayed and whose document is written directly.
+	 */
+	private static class TestConsole extends TextConsole {
+
+		public TestConsole() {
+			super("Test console", null, null, true);
+		}
+
+		@Override
+		protected IConsoleDocumentPartitioner getPartitioner() {
+			return null;
+		}
+	}
+}
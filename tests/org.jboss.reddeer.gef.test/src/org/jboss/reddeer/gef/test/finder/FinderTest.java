@@ -0,0 +1,124 @@
+/******************************************************************************* 
+ * Copyright (c) 2016 Red Hat, Inc. 
+ * Distributed under license by Red Hat, Inc. All rights reserved. 
+ * This program is made available under the terms of the 
+ * Eclipse Public License v1.0 which accompanies this distribution, 
+ * and is available at http://www.eclipse.org/legal/epl-v10.html 
+ * 
+ * Contributors: 
+ * Red Hat, Inc. - initial API and implementation 
+ ******************************************************************************/ 
+package org.jboss.reddeer.gef.test.finder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hamcrest.BaseMatcher;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.jboss.reddeer.gef.finder.Finder;
+import org.junit.Test;
+
+/**
+ * Test for Finder on synthetic models of 1k, 10k and 100k nodes.
+ */
+public class FinderTest {
+
+	private static final int[] MODEL_SIZES = new int[] { 1000, 10000, 100000 };
+
+	@Test
+	public void testLimitedSearchReturnsPrefixOfUnlimitedSearch() {
+		for (int size : MODEL_SIZES) {
+			Node root = createModel(size, 10);
+			List<Node> all = new NodeFinder().find(root, new IsLabeled("X"));
+			assertEquals(size / 10, all.size());
+
+			List<Node> first = new NodeFinder().find(root, new IsLabeled("X"), 3);
+			assertEquals(all.subList(0, 3), first);
+		}
+	}
+
+	@Test
+	public void testLimitedSearchStopsEarly() {
+		for (int size : MODEL_SIZES) {
+			Node root = createModel(size, 10);
+			NodeFinder finder = new NodeFinder();
+			finder.find(root, new IsLabeled("X"), 1);
+			assertTrue("Visited " + finder.visited + " of " + size + " nodes", finder.visited < 100);
+		}
+	}
+
+	@Test
+	public void testDepthBoundedSearch() {
+		Node root = createModel(1000, 10);
+		assertEquals(0, new NodeFinder().find(root, new IsLabeled("X"), Finder.UNLIMITED, 0).size());
+		assertEquals(1, new NodeFinder().find(root, new IsLabeled("X"), Finder.UNLIMITED, 1).size());
+		assertEquals(11, new NodeFinder().find(root, new IsLabeled("X"), Finder.UNLIMITED, 2).size());
+	}
+
+	@Test
+	public void testNullChildrenAreSkipped() {
+		Node root = new Node("root");
+		root.children.add(null);
+		root.children.add(new Node("X"));
+		assertEquals(1, new NodeFinder().find(root, new IsLabeled("X")).size());
+	}
+
+	/**
+	 * Creates a tree where each node has ten children and every n-th node is labeled with X.
+	 */
+	private static Node createModel(int size, int n) {
+		Node root = new Node("root");
+		List<Node> parents = new ArrayList<Node>();
+		parents.add(root);
+		for (int i = 1; i <= size; i++) {
+			Node node = new Node(i % n == 0 ? "X" : "node" + i);
+			parents.get((i - 1) / 10).children.add(node);
+			parents.add(node);
+		}
+		return root;
+	}
+
+	private static class Node {
+
+		private final String label;
+		private final List<Node> children = new ArrayList<Node>();
+
+		public Node(String label) {
+			this.label = label;
+		}
+	}
+
+	private static class NodeFinder extends Finder<Node> {
+
+		private int visited;
+
+		@Override
+		public List<Node> getChildren(Node child) {
+			visited++;
+			return child.children;
+		}
+	}
+
+	private static class IsLabeled extends BaseMatcher<Node> {
+
+		private final String label;
+
+		public IsLabeled(String label) {
+			this.label = label;
+		}
+
+		@Override
+		public boolean matches(Object item) {
+			return item instanceof Node && label.equals(((Node) item).label);
+		}
+
+		@Override
+		public void describeTo(Description description) {
+			description.appendText("node labeled " + label);
+		}
+	}
+}
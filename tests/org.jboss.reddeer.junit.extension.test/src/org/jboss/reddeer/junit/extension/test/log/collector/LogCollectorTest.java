@@ -0,0 +1,181 @@
+/******************************************************************************* 
+ * Copyright (c) 2016 Red Hat, Inc. 
+ * Distributed under license by Red Hat, Inc. All rights reserved. 
+ * This program is made available under the terms of the 
+ * Eclipse Public License v1.0 which accompanies this distribution, 
+ * and is available at http://www.eclipse.org/legal/epl-v10.html 
+ * 
+ * Contributors: 
+ * Red Hat, Inc. - initial API and implementation 
+ ******************************************************************************/ 
+package org.jboss.reddeer.junit.extension.test.log.collector;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.GZIPInputStream;
+
+import org.jboss.reddeer.common.properties.RedDeerProperties;
+import org.jboss.reddeer.junit.extension.log.collector.LogCollector;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class LogCollectorTest {
+
+	private static final String CONFIG = "config";
+	private static final String CLASS_NAME = "TestClass";
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private File workbenchLog;
+	private TestLogCollector collector;
+
+	@Before
+	public void setUp() throws IOException {
+		workbenchLog = new File(folder.newFolder("workspace"), ".log");
+		collector = new TestLogCollector(workbenchLog, folder.newFolder("reddeer-log"));
+	}
+
+	@Test
+	public void skippedContentIsNotCollected() throws IOException {
+		write(workbenchLog, "old\n");
+		collector.skipWorkbenchLog();
+		append(workbenchLog, "new\n");
+
+		collector.processWorkbenchLog(CONFIG, CLASS_NAME, "test");
+
+		assertEquals("test\n\nnew\n\n\n", readLogFile());
+	}
+
+	@Test
+	public void nothingIsCollectedWithoutNewContent() throws IOException {
+		write(workbenchLog, "old\n");
+		collector.skipWorkbenchLog();
+
+		collector.processWorkbenchLog(CONFIG, CLASS_NAME, "test");
+
+		assertFalse(new File(collector.getLogFilePath(CONFIG, CLASS_NAME)).exists());
+
+		append(workbenchLog, "new\n");
+		collector.processWorkbenchLog(CONFIG, CLASS_NAME, "first");
+		collector.processWorkbenchLog(CONFIG, CLASS_NAME, "second");
+
+		assertEquals("first\n\nnew\n\n\n", readLogFile());
+	}
+
+	@Test
+	public void rotatedLogTailIsCollected() throws IOException {
+		write(workbenchLog, "first\n");
+		collector.processWorkbenchLog(CONFIG, CLASS_NAME, "before");
+		append(workbenchLog, "second\n");
+		Files.move(workbenchLog.toPath(), new File(workbenchLog.getParentFile(), ".log.bak_0").toPath());
+		write(workbenchLog, "third\n");
+
+		collector.processWorkbenchLog(CONFIG, CLASS_NAME, "after");
+
+		assertEquals("before\n\nfirst\n\n\nafter\n\nsecond\nthird\n\n\n", readLogFile());
+	}
+
+	@Test
+	public void unrelatedRotatedLogIsNotCollected() throws IOException {
+		write(new File(workbenchLog.getParentFile(), ".log.bak_0"), "unrelated\n");
+		write(workbenchLog, "first\n");
+		collector.processWorkbenchLog(CONFIG, CLASS_NAME, "before");
+		assertTrue(workbenchLog.delete());
+		write(workbenchLog, "new\n");
+
+		collector.processWorkbenchLog(CONFIG, CLASS_NAME, "after");
+
+		assertEquals("before\n\nfirst\n\n\nafter\n\nnew\n\n\n", readLogFile());
+	}
+
+	@Test
+	public void truncatedLogIsCollectedFromStart() throws IOException {
+		write(workbenchLog, "first\n");
+		collector.processWorkbenchLog(CONFIG, CLASS_NAME, "before");
+		write(workbenchLog, "new\n");
+
+		collector.processWorkbenchLog(CONFIG, CLASS_NAME, "after");
+
+		assertEquals("before\n\nfirst\n\n\nafter\n\nnew\n\n\n", readLogFile());
+	}
+
+	@Test
+	public void compressedLogConsistsOfGzipMembers() throws IOException {
+		System.setProperty(RedDeerProperties.LOG_COLLECTOR_COMPRESSED.getName(), "true");
+		try {
+			write(workbenchLog, "first\n");
+			collector.processWorkbenchLog(CONFIG, CLASS_NAME, "before");
+			append(workbenchLog, "second\n");
+			collector.processWorkbenchLog(CONFIG, CLASS_NAME, "after");
+
+			String logFilePath = collector.getLogFilePath(CONFIG, CLASS_NAME);
+			assertTrue(logFilePath.endsWith(".gz"));
+			try (InputStream input = new GZIPInputStream(new FileInputStream(logFilePath))) {
+				assertEquals("before\n\nfirst\n\n\nafter\n\nsecond\n\n\n", read(input));
+			}
+		} finally {
+			System.clearProperty(RedDeerProperties.LOG_COLLECTOR_COMPRESSED.getName());
+		}
+	}
+
+	private String readLogFile() throws IOException {
+		try (InputStream input = new FileInputStream(collector.getLogFilePath(CONFIG, CLASS_NAME))) {
+			return read(input);
+		}
+	}
+
+	private static String read(InputStream input) throws IOException {
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		byte[] buffer = new byte[1024];
+		int count;
+		while ((count = input.read(buffer)) != -1) {
+			output.write(buffer, 0, count);
+		}
+		return new String(output.toByteArray(), StandardCharsets.UTF_8);
+	}
+
+	private static void write(File file, String text) throws IOException {
+		Files.write(file.toPath(), text.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static void append(File file, String text) throws IOException {
+		Files.write(file.toPath(), text.getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+	}
+
+	/**
+	 * Log collector collecting given workbench log to given directory.
+	 */
+	private static class TestLogCollector extends LogCollector {
+
+		private final File workbenchLog;
+		private final File directory;
+
+		public TestLogCollector(File workbenchLog, File directory) {
+			this.workbenchLog = workbenchLog;
+			this.directory = directory;
+		}
+
+		@Override
+		protected File getWorkbenchLog() {
+			return workbenchLog;
+		}
+
+		@Override
+		public String getDirectory() {
+			return directory.getAbsolutePath() + File.separator;
+		}
+	}
+}
@@ -0,0 +1,40 @@
+/******************************************************************************* 
+ * Copyright (c) 2016 Red Hat, Inc. 
+ * Distributed under license by Red Hat, Inc. All rights reserved. 
+ * This program is made available under the terms of the 
+ * Eclipse Public License v1.0 which accompanies this distribution, 
+ * and is available at http://www.eclipse.org/legal/epl-v10.html 
+ * 
+ * Contributors: 
+ * Red Hat, Inc. - initial API and implementation 
+ ******************************************************************************/ 
+package org.jboss.reddeer.junit.test.integration.runner.order.shared;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+import org.jboss.reddeer.junit.internal.runner.ParameterizedRequirementsRunnerFactory;
+import org.jboss.reddeer.junit.test.integration.runner.order.TestSequence;
+import org.jboss.reddeer.junit.test.integration.runner.order.shared.SharedSequenceRequirement.SharedSequence;
+import org.junit.Test;
+import org.junit.runners.Parameterized.Parameter;
+import org.junit.runners.Parameterized.Parameters;
+import org.junit.runners.Parameterized.UseParametersRunnerFactory;
+
+@UseParametersRunnerFactory(ParameterizedRequirementsRunnerFactory.class)
+@SharedSequence
+public class ParameterizedSharedRequirementTestCase {
+
+	@Parameters
+	public static Collection<Object> data() {
+		return Arrays.asList(new Object[] { 1, 2, 3 });
+	}
+
+	@Parameter
+	public int parameter;
+
+	@Test
+	public void test() {
+		TestSequence.addTestWithParam(ParameterizedSharedRequirementTestCase.class, parameter);
+	}
+}
@@ -0,0 +1,82 @@
+/******************************************************************************* 
+ * Copyright (c) 2016 Red Hat, Inc. 
+ * Distributed under license by Red Hat, Inc. All rights reserved. 
+ * This program is made available under the terms of the 
+ * Eclipse Public License v1.0 which accompanies this distribution, 
+ * and is available at http://www.eclipse.org/legal/epl-v10.html 
+ * 
+ * Contributors: 
+ * Red Hat, Inc. - initial API and implementation 
+ ******************************************************************************/ 
+package org.jboss.reddeer.junit.test.integration.runner.order.shared;
+
+import static org.jboss.reddeer.junit.test.integration.runner.order.TestSequence.createCleanup;
+import static org.jboss.reddeer.junit.test.integration.runner.order.TestSequence.createFulfill;
+import static org.jboss.reddeer.junit.test.integration.runner.order.TestSequence.createIAfter;
+import static org.jboss.reddeer.junit.test.integration.runner.order.TestSequence.createIAfterClass;
+import static org.jboss.reddeer.junit.test.integration.runner.order.TestSequence.createIBefore;
+import static org.jboss.reddeer.junit.test.integration.runner.order.TestSequence.createIBeforeClass;
+import static org.jboss.reddeer.junit.test.integration.runner.order.TestSequence.createTest;
+import static org.jboss.reddeer.junit.test.integration.runner.order.TestSequence.createTestWithParam;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jboss.reddeer.junit.internal.configuration.SuiteConfiguration;
+import org.jboss.reddeer.junit.test.integration.runner.IAfterTestImpl;
+import org.jboss.reddeer.junit.test.integration.runner.IBeforeTestImpl;
+import org.jboss.reddeer.junit.test.integration.runner.order.TestSequenceRedDeerSuite;
+import org.junit.runners.model.InitializationError;
+import org.junit.runners.model.RunnerBuilder;
+
+/**
+ * Checks that a shared requirement is fulfilled before the first and cleaned up after the last
+ * of its consumers, even if one of them is a parameterized test class.
+ */
+public class SharedRequirementSequenceSuite extends TestSequenceRedDeerSuite {
+
+	private static final List<Object> expectedSequence;
+
+	static {
+		expectedSequence = new ArrayList<Object>();
+		// suite 1 and suite 2
+		for (int i = 0; i < 2; i++) {
+			expectedSequence.add(createIBeforeClass(IBeforeTestImpl.class));
+			expectedSequence.add(createFulfill(SharedSequenceRequirement.class));
+			addTest(createTest(FirstSharedRequirementTestCase.class));
+			expectedSequence.add(createIAfterClass(IAfterTestImpl.class));
+
+			expectedSequence.add(createIBeforeClass(IBeforeTestImpl.class));
+			for (int parameter = 1; parameter <= 3; parameter++) {
+				addTest(createTestWithParam(ParameterizedSharedRequirementTestCase.class, parameter));
+			}
+			expectedSequence.add(createIAfterClass(IAfterTestImpl.class));
+
+			expectedSequence.add(createIBeforeClass(IBeforeTestImpl.class));
+			addTest(createTest(SecondSharedRequirementTestCase.class));
+			expectedSequence.add(createCleanup(SharedSequenceRequirement.class));
+			expectedSequence.add(createIAfterClass(IAfterTestImpl.class));
+		}
+	}
+
+	public SharedRequirementSequenceSuite(Class<?> clazz, RunnerBuilder builder,
+			SuiteConfiguration config) throws InitializationError {
+		super(clazz, builder, config);
+	}
+
+	public SharedRequirementSequenceSuite(Class<?> clazz, RunnerBuilder builder)
+			throws InitializationError {
+		super(clazz, builder);
+	}
+
+	@Override
+	protected List<?> getExpectedSequence() {
+		return expectedSequence;
+	}
+
+	private static void addTest(String test) {
+		expectedSequence.add(createIBefore(IBeforeTestImpl.class));
+		expectedSequence.add(test);
+		expectedSequence.add(createIAfter(IAfterTestImpl.class));
+	}
+}
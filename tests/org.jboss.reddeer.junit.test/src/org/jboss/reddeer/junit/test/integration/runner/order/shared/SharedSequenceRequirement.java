@@ -0,0 +1,49 @@
+/******************************************************************************* 
+ * Copyright (c) 2016 Red Hat, Inc. 
+ * Distributed under license by Red Hat, Inc. All rights reserved. 
+ * This program is made available under the terms of the 
+ * Eclipse Public License v1.0 which accompanies this distribution, 
+ * and is available at http://www.eclipse.org/legal/epl-v10.html 
+ * 
+ * Contributors: 
+ * Red Hat, Inc. - initial API and implementation 
+ ******************************************************************************/ 
+package org.jboss.reddeer.junit.test.integration.runner.order.shared;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.jboss.reddeer.junit.requirement.SharedRequirement;
+import org.jboss.reddeer.junit.test.integration.runner.order.TestSequence;
+import org.jboss.reddeer.junit.test.integration.runner.order.shared.SharedSequenceRequirement.SharedSequence;
+
+public class SharedSequenceRequirement implements SharedRequirement<SharedSequence> {
+
+	@Retention(RetentionPolicy.RUNTIME)
+	@Target(ElementType.TYPE)
+	public @interface SharedSequence {
+
+	}
+
+	@Override
+	public boolean canFulfill() {
+		return true;
+	}
+
+	@Override
+	public void fulfill() {
+		TestSequence.addFulfill(SharedSequenceRequirement.class);
+	}
+
+	@Override
+	public void setDeclaration(SharedSequence declaration) {
+
+	}
+
+	@Override
+	public void cleanUp() {
+		TestSequence.addCleanup(SharedSequenceRequirement.class);
+	}
+}
@@ -105,6 +105,31 @@ public class XMLReaderTest {
 		assertThat(result.size(), is(2));
 	}
 
+	@Test(expected = RedDeerConfigurationException.class)
+	public void nonValidCustomRequirementAfterValid() {
+		new XMLReader(new File(CONFIG_DIR_ROOT + "valid.xml")).getConfiguration(UserConfiguration.class);
+		reader = new XMLReader(new File(CONFIG_DIR_ROOT + "nonvalid.xml"));
+
+		reader.getConfiguration(UserConfiguration.class);
+	}
+
+	@Test(expected = RedDeerConfigurationException.class)
+	public void loadNonValidCustomRequirement() {
+		reader = new XMLReader(new File(CONFIG_DIR_ROOT + "nonvalid.xml"));
+		reader.load();
+
+		reader.getConfiguration(UserConfiguration.class);
+	}
+
+	@Test
+	public void loadValidRedDeerRequirementConfiguration() {
+		reader = new XMLReader(new File(CONFIG_DIR_ROOT + "valid.xml"));
+		reader.load();
+		List<?> result = reader.getConfiguration(UserConfiguration.class);
+
+		assertThat(result.size(), is(2));
+	}
+
 	private void assertSimpleConfiguredObject(Object configObject,
 			String expectedAttribute) {
 		assertThat(configObject, instanceOf(SimpleXML.class));
@@ -0,0 +1,140 @@
+/******************************************************************************* 
+ * Copyright (c) 2016 Red Hat, Inc. 
+ * Distributed under license by Red Hat, Inc. All rights reserved. 
+ * This program is made available under the terms of the 
+ * Eclipse Public License v1.0 which accompanies this distribution, 
+ * and is available at http://www.eclipse.org/legal/epl-v10.html 
+ * 
+ * Contributors: 
+ * Red Hat, Inc. - initial API and implementation 
+ ******************************************************************************/ 
+package org.jboss.reddeer.junit.test.internal.requirement;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jboss.reddeer.junit.internal.requirement.Requirements;
+import org.jboss.reddeer.junit.internal.requirement.SharedRequirements;
+import org.jboss.reddeer.junit.requirement.Requirement;
+import org.jboss.reddeer.junit.requirement.SharedRequirement;
+import org.jboss.reddeer.junit.test.internal.requirement.TestRequirementA.TestRequirementAAnnotation;
+import org.junit.Before;
+import org.junit.Test;
+
+public class SharedRequirementsTest {
+
+	private SharedRequirements sharedRequirements;
+
+	private SharedRequirement<?> sharedRequirement;
+
+	private Annotation declaration;
+
+	@Before
+	public void setUp() {
+		sharedRequirements = new SharedRequirements();
+		sharedRequirement = mock(SharedRequirement.class);
+		declaration = DeclaringClass.class.getAnnotation(TestRequirementAAnnotation.class);
+		sharedRequirements.put(declaration, sharedRequirement);
+	}
+
+	@Test
+	public void get() {
+		assertTrue(sharedRequirements.get(declaration) == sharedRequirement);
+		assertTrue(sharedRequirements.isShared(sharedRequirement));
+		assertFalse(sharedRequirements.isShared(mock(Requirement.class)));
+	}
+
+	@Test
+	public void fulfilledOnceAndCleanedUpByLastConsumer() {
+		Requirements first = createRequirements();
+		Requirements second = createRequirements();
+		first.registerSharedConsumer();
+		second.registerSharedConsumer();
+
+		first.fulfill();
+		first.cleanUp();
+		second.fulfill();
+		verify(sharedRequirement, times(1)).fulfill();
+		verify(sharedRequirement, never()).cleanUp();
+
+		second.cleanUp();
+		verify(sharedRequirement, times(1)).cleanUp();
+	}
+
+	@Test
+	public void consumerReleasedRepeatedlyDoesNotReleaseOtherConsumers() {
+		Requirements first = createRequirements();
+		Requirements second = createRequirements();
+		first.registerSharedConsumer();
+		second.registerSharedConsumer();
+
+		first.fulfill();
+		first.cleanUp();
+		first.cleanUp();
+		second.fulfill();
+		verify(sharedRequirement, times(1)).fulfill();
+		verify(sharedRequirement, never()).cleanUp();
+
+		second.cleanUp();
+		verify(sharedRequirement, times(1)).cleanUp();
+	}
+
+	@Test
+	public void notSharedRequirementIsFulfilledForEachClass() {
+		Requirement<?> requirement = mock(Requirement.class);
+		List<Requirement<?>> list = new ArrayList<Requirement<?>>();
+		list.add(requirement);
+		Requirements first = new Requirements(list, String.class, null, sharedRequirements);
+		Requirements second = new Requirements(list, String.class, null, sharedRequirements);
+
+		first.fulfill();
+		first.cleanUp();
+		second.fulfill();
+		second.cleanUp();
+
+		verify(requirement, times(2)).fulfill();
+		verify(requirement, times(2)).cleanUp();
+	}
+
+	@Test
+	public void cleanUpAll() {
+		Requirements first = createRequirements();
+		Requirements second = createRequirements();
+		first.registerSharedConsumer();
+		second.registerSharedConsumer();
+
+		first.fulfill();
+		sharedRequirements.cleanUpAll();
+		sharedRequirements.cleanUpAll();
+
+		verify(sharedRequirement, times(1)).cleanUp();
+	}
+
+	@Test
+	public void cleanUpAll_notFulfilled() {
+		createRequirements().registerSharedConsumer();
+
+		sharedRequirements.cleanUpAll();
+
+		verify(sharedRequirement, never()).cleanUp();
+	}
+
+	private Requirements createRequirements() {
+		List<Requirement<?>> list = new ArrayList<Requirement<?>>();
+		list.add(sharedRequirement);
+		return new Requirements(list, String.class, null, sharedRequirements);
+	}
+
+	@TestRequirementAAnnotation
+	private static class DeclaringClass {
+
+	}
+}
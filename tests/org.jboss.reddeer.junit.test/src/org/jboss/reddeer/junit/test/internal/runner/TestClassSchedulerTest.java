@@ -0,0 +1,196 @@
+/******************************************************************************* 
+ * Copyright (c) 2016 Red Hat, Inc. 
+ * Distributed under license by Red Hat, Inc. All rights reserved. 
+ * This program is made available under the terms of the 
+ * Eclipse Public License v1.0 which accompanies this distribution, 
+ * and is available at http://www.eclipse.org/legal/epl-v10.html 
+ * 
+ * Contributors: 
+ * Red Hat, Inc. - initial API and implementation 
+ ******************************************************************************/ 
+package org.jboss.reddeer.junit.test.internal.runner;
+
+import static org.junit.Assert.assertEquals;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jboss.reddeer.junit.execution.annotation.ExecutionPriority;
+import org.jboss.reddeer.junit.internal.runner.TestClassScheduler;
+import org.jboss.reddeer.junit.requirement.Requirement;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.Description;
+import org.junit.runner.Runner;
+import org.junit.runner.notification.RunNotifier;
+
+public class TestClassSchedulerTest {
+
+	private TestClassScheduler scheduler;
+
+	@Before
+	public void setUp() {
+		scheduler = new TestClassScheduler();
+	}
+
+	@Test
+	public void testGroupsEqualRequirements() {
+		List<Runner> scheduled = scheduler.schedule(runners(TestA1.class, TestB1.class, TestA2.class, TestB2.class));
+
+		assertEquals(classes(TestA1.class, TestA2.class, TestB1.class, TestB2.class), classes(scheduled));
+		assertEquals(8, scheduler.getOriginalTransitions());
+		assertEquals(4, scheduler.getScheduledTransitions());
+		assertEquals(4, scheduler.getSavedTransitions());
+	}
+
+	@Test
+	public void testPrefersCheapestTransition() {
+		List<Runner> scheduled = scheduler.schedule(runners(TestA1.class, TestB1.class, TestAB.class));
+
+		assertEquals(classes(TestA1.class, TestAB.class, TestB1.class), classes(scheduled));
+		assertEquals(4, scheduler.getScheduledTransitions());
+	}
+
+	@Test
+	public void testKeepsOrderWithoutRequirements() {
+		List<Runner> scheduled = scheduler.schedule(runners(TestNone2.class, TestNone1.class));
+
+		assertEquals(classes(TestNone2.class, TestNone1.class), classes(scheduled));
+		assertEquals(0, scheduler.getSavedTransitions());
+	}
+
+	@Test
+	public void testRespectsPriority() {
+		List<Runner> scheduled = scheduler.schedule(runners(TestA1.class, TestB1.class, TestPriorityA.class));
+
+		assertEquals(classes(TestPriorityA.class, TestA1.class, TestB1.class), classes(scheduled));
+	}
+
+	private static List<Runner> runners(Class<?>... testClasses) {
+		List<Runner> runners = new ArrayList<Runner>();
+		for (Class<?> testClass : testClasses) {
+			runners.add(new ClassRunner(testClass));
+		}
+		return runners;
+	}
+
+	private static List<Class<?>> classes(Class<?>... testClasses) {
+		List<Class<?>> classes = new ArrayList<Class<?>>();
+		for (Class<?> testClass : testClasses) {
+			classes.add(testClass);
+		}
+		return classes;
+	}
+
+	private static List<Class<?>> classes(List<Runner> runners) {
+		List<Class<?>> classes = new ArrayList<Class<?>>();
+		for (Runner runner : runners) {
+			classes.add(runner.getDescription().getTestClass());
+		}
+		return classes;
+	}
+
+	private static class ClassRunner extends Runner {
+
+		private Class<?> testClass;
+
+		public ClassRunner(Class<?> testClass) {
+			this.testClass = testClass;
+		}
+
+		@Override
+		public Description getDescription() {
+			return Description.createSuiteDescription(testClass);
+		}
+
+		@Override
+		public void run(RunNotifier notifier) {
+		}
+	}
+
+	public static class RequirementA implements Requirement<RequirementA.A> {
+
+		@Retention(RetentionPolicy.RUNTIME)
+		@Target(ElementType.TYPE)
+		public @interface A {
+		}
+
+		@Override
+		public boolean canFulfill() {
+			return true;
+		}
+
+		@Override
+		public void fulfill() {
+		}
+
+		@Override
+		public void setDeclaration(A declaration) {
+		}
+
+		@Override
+		public void cleanUp() {
+		}
+	}
+
+	public static class RequirementB implements Requirement<RequirementB.B> {
+
+		@Retention(RetentionPolicy.RUNTIME)
+		@Target(ElementType.TYPE)
+		public @interface B {
+		}
+
+		@Override
+		public boolean canFulfill() {
+			return true;
+		}
+
+		@Override
+		public void fulfill() {
+		}
+
+		@Override
+		public void setDeclaration(B declaration) {
+		}
+
+		@Override
+		public void cleanUp() {
+		}
+	}
+
+	@RequirementA.A
+	public static class TestA1 {
+	}
+
+	@RequirementA.A
+	public static class TestA2 {
+	}
+
+	@RequirementB.B
+	public static class TestB1 {
+	}
+
+	@RequirementB.B
+	public static class TestB2 {
+	}
+
+	@RequirementA.A
+	@RequirementB.B
+	public static class TestAB {
+	}
+
+	@RequirementA.A
+	@ExecutionPriority(1)
+	public static class TestPriorityA {
+	}
+
+	public static class TestNone1 {
+	}
+
+	public static class TestNone2 {
+	}
+}
@@ -0,0 +1,163 @@
+/******************************************************************************* 
+ * Copyright (c) 2016 Red Hat, Inc. 
+ * Distributed under license by Red Hat, Inc. All rights reserved. 
+ * This program is made available under the terms of the 
+ * Eclipse Public License v1.0 which accompanies this distribution, 
+ * and is available at http://www.eclipse.org/legal/epl-v10.html 
+ * 
+ * Contributors: 
+ * Red Hat, Inc. - initial API and implementation 
+ ******************************************************************************/ 
+package org.jboss.reddeer.junit.test.screenshot;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.PaletteData;
+import org.eclipse.swt.graphics.RGB;
+import org.jboss.reddeer.junit.screenshot.FrameBuffer;
+import org.junit.Test;
+
+public class FrameBufferTest {
+
+	private static final PaletteData PALETTE = new PaletteData(0xFF0000, 0xFF00, 0xFF);
+
+	@Test
+	public void testDecodesDeltaFrames() {
+		FrameBuffer buffer = new FrameBuffer(1024 * 1024, 3);
+		for (int i = 0; i < 7; i++) {
+			buffer.add(createFrame(i), i);
+		}
+
+		List<FrameBuffer.Frame> frames = buffer.getFrames();
+		assertEquals(7, frames.size());
+		for (int i = 0; i < frames.size(); i++) {
+			assertEquals(i, frames.get(i).getTimestamp());
+			assertFrame(i, frames.get(i).getImageData());
+		}
+	}
+
+	@Test
+	public void testEvictsWholeKeyFrameGroups() {
+		FrameBuffer buffer = new FrameBuffer(1024 * 1024, 3);
+		buffer.add(createFrame(0), 0);
+		long frameSize = buffer.getSizeInBytes();
+		buffer = new FrameBuffer(frameSize * 5, 3);
+		for (int i = 0; i < 20; i++) {
+			buffer.add(createFrame(i), i);
+			assertTrue(buffer.getSizeInBytes() <= frameSize * 5);
+		}
+
+		List<FrameBuffer.Frame> frames = buffer.getFrames();
+		assertTrue(frames.size() > 0);
+		assertEquals(19, frames.get(frames.size() - 1).getTimestamp());
+		for (FrameBuffer.Frame frame : frames) {
+			assertFrame((int) frame.getTimestamp(), frame.getImageData());
+		}
+	}
+
+	@Test
+	public void testSizeChangeStartsKeyFrame() {
+		FrameBuffer buffer = new FrameBuffer(1024 * 1024, 10);
+		buffer.add(createFrame(0), 0);
+		buffer.add(new ImageData(20, 10, 24, PALETTE), 1);
+
+		List<FrameBuffer.Frame> frames = buffer.getFrames();
+		assertEquals(2, frames.size());
+		assertFrame(0, frames.get(0).getImageData());
+		assertEquals(20, frames.get(1).getImageData().width);
+		assertEquals(0, frames.get(1).getImageData().getPixel(5, 5));
+	}
+
+	@Test
+	public void testEqualIndexedPalettesKeepDeltaFrames() {
+		FrameBuffer buffer = new FrameBuffer(1024 * 1024, 10);
+		buffer.add(createIndexedFrame(createGrayPalette(), 0), 0);
+		// palette of each captured image is a new instance
+		buffer.add(createIndexedFrame(createGrayPalette(), 0), 1);
+
+		FrameBuffer keyFrameBuffer = new FrameBuffer(1024 * 1024, 10);
+		keyFrameBuffer.add(createIndexedFrame(createGrayPalette(), 0), 0);
+		keyFrameBuffer.add(createIndexedFrame(createInvertedGrayPalette(), 0), 1);
+
+		assertTrue("Frame with equal palette was not encoded as delta frame",
+				buffer.getSizeInBytes() < keyFrameBuffer.getSizeInBytes());
+		assertIndexedFrame(0, buffer.getFrames().get(1).getImageData());
+	}
+
+	@Test
+	public void testDifferentIndexedPalettesStartKeyFrame() {
+		FrameBuffer buffer = new FrameBuffer(1024 * 1024, 10);
+		buffer.add(createIndexedFrame(createGrayPalette(), 0), 0);
+		buffer.add(createIndexedFrame(createInvertedGrayPalette(), 1), 1);
+
+		List<FrameBuffer.Frame> frames = buffer.getFrames();
+		assertEquals(2, frames.size());
+		assertIndexedFrame(0, frames.get(0).getImageData());
+		assertIndexedFrame(1, frames.get(1).getImageData());
+		assertEquals(new RGB(255, 255, 255), frames.get(1).getImageData().palette.getRGB(0));
+	}
+
+	private static PaletteData createGrayPalette() {
+		RGB[] rgbs = new RGB[256];
+		for (int i = 0; i < rgbs.length; i++) {
+			rgbs[i] = new RGB(i, i, i);
+		}
+		return new PaletteData(rgbs);
+	}
+
+	private static PaletteData createInvertedGrayPalette() {
+		RGB[] rgbs = new RGB[256];
+		for (int i = 0; i < rgbs.length; i++) {
+			rgbs[i] = new RGB(255 - i, 255 - i, 255 - i);
+		}
+		return new PaletteData(rgbs);
+	}
+
+	private static ImageData createIndexedFrame(PaletteData palette, int index) {
+		ImageData imageData = new ImageData(64, 48, 8, palette);
+		for (int x = 0; x < imageData.width; x++) {
+			for (int y = 0; y < imageData.height; y++) {
+				imageData.setPixel(x, y, getPixel(index, x, y) & 0xFF);
+			}
+		}
+		return imageData;
+	}
+
+	private static void assertIndexedFrame(int index, ImageData imageData) {
+		for (int x = 0; x < imageData.width; x++) {
+			for (int y = 0; y < imageData.height; y++) {
+				assertEquals(getPixel(index, x, y) & 0xFF, imageData.getPixel(x, y));
+			}
+		}
+	}
+
+	private static ImageData createFrame(int index) {
+		ImageData imageData = new ImageData(64, 48, 24, PALETTE);
+		for (int x = 0; x < imageData.width; x++) {
+			for (int y = 0; y < imageData.height; y++) {
+				imageData.setPixel(x, y, getPixel(index, x, y));
+			}
+		}
+		return imageData;
+	}
+
+	private static int getPixel(int index, int x, int y) {
+		// frames differ only in a small moving square
+		if (x >= index && x < index + 8 && y >= 8 && y < 16) {
+			return 0xFF0000;
+		}
+		return (x * 31 + y * 17) & 0xFFFFFF;
+	}
+
+	private static void assertFrame(int index, ImageData imageData) {
+		for (int x = 0; x < imageData.width; x++) {
+			for (int y = 0; y < imageData.height; y++) {
+				assertEquals(getPixel(index, x, y), imageData.getPixel(x, y));
+			}
+		}
+	}
+}
@@ -0,0 +1,133 @@
+/******************************************************************************* 
+ * Copyright (c) 2016 Red Hat, Inc. 
+ * Distributed under license by Red Hat, Inc. All rights reserved. 
+ * This program is made available under the terms of the 
+ * Eclipse Public License v1.0 which accompanies this distribution, 
+ * and is available at http://www.eclipse.org/legal/epl-v10.html 
+ * 
+ * Contributors: 
+ * Red Hat, Inc. - initial API and implementation 
+ ******************************************************************************/ 
+package org.jboss.reddeer.junit.test.screenshot;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.jboss.reddeer.junit.screenshot.ScreenshotCapturer;
+import org.jboss.reddeer.junit.screenshot.ScreenshotWriter;
+import org.junit.Test;
+
+public class ScreenshotWriterTest {
+
+	private static final int MAX_PENDING_WRITES = 2;
+
+	@Test
+	public void testWriteIsRunInBackground() {
+		ScreenshotWriter writer = new ScreenshotWriter(MAX_PENDING_WRITES);
+		ThreadRecordingWrite write = new ThreadRecordingWrite();
+
+		writer.write(write);
+		writer.flush();
+
+		assertNotSame(Thread.currentThread(), write.thread.get());
+	}
+
+	@Test
+	public void testWriteIsRunInCallerWhenQueueIsFull() throws InterruptedException {
+		ScreenshotWriter writer = new ScreenshotWriter(MAX_PENDING_WRITES);
+		final CountDownLatch started = new CountDownLatch(1);
+		final CountDownLatch release = new CountDownLatch(1);
+		writer.write(new Runnable() {
+			@Override
+			public void run() {
+				started.countDown();
+				try {
+					release.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+		});
+		assertTrue(started.await(10, TimeUnit.SECONDS));
+		ThreadRecordingWrite[] queuedWrites = new ThreadRecordingWrite[MAX_PENDING_WRITES];
+		for (int i = 0; i < MAX_PENDING_WRITES; i++) {
+			queuedWrites[i] = new ThreadRecordingWrite();
+			writer.write(queuedWrites[i]);
+		}
+
+		ThreadRecordingWrite rejectedWrite = new ThreadRecordingWrite();
+		writer.write(rejectedWrite);
+
+		assertSame(Thread.currentThread(), rejectedWrite.thread.get());
+		release.countDown();
+		writer.flush();
+		for (ThreadRecordingWrite queuedWrite : queuedWrites) {
+			assertNotSame(Thread.currentThread(), queuedWrite.thread.get());
+		}
+	}
+
+	@Test
+	public void testFailedWriteDoesNotStopWriter() {
+		ScreenshotWriter writer = new ScreenshotWriter(MAX_PENDING_WRITES);
+		final AtomicInteger writes = new AtomicInteger();
+		writer.write(new Runnable() {
+			@Override
+			public void run() {
+				throw new IllegalStateException("Test failure of write");
+			}
+		});
+		writer.write(new Runnable() {
+			@Override
+			public void run() {
+				writes.incrementAndGet();
+			}
+		});
+
+		writer.flush();
+
+		assertEquals(1, writes.get());
+	}
+
+	@Test
+	public void testScreenshotExistsAfterFlush() throws Exception {
+		File directory = createTempDirectory();
+		try {
+			String fileName = ScreenshotCapturer.getInstance().captureScreenshot(
+					directory.getPath() + ScreenshotCapturer.SEPARATOR + "screenshot");
+			ScreenshotCapturer.getInstance().flush();
+
+			assertTrue("Screenshot " + fileName + " does not exist", new File(fileName).isFile());
+		} finally {
+			for (File file : directory.listFiles()) {
+				file.delete();
+			}
+			directory.delete();
+		}
+	}
+
+	private static File createTempDirectory() throws IOException {
+		File directory = File.createTempFile("reddeer-screenshots", "");
+		directory.delete();
+		directory.mkdirs();
+		return directory;
+	}
+
+	private static class ThreadRecordingWrite implements Runnable {
+
+		private final AtomicReference<Thread> thread = new AtomicReference<Thread>();
+
+		@Override
+		public void run() {
+			thread.set(Thread.currentThread());
+		}
+	}
+}
@@ -0,0 +1,87 @@
+/******************************************************************************* 
+ * Copyright (c) 2016 Red Hat, Inc. 
+ * Distributed under license by Red Hat, Inc. All rights reserved. 
+ * This program is made available under the terms of the 
+ * Eclipse Public License v1.0 which accompanies this distribution, 
+ * and is available at http://www.eclipse.org/legal/epl-v10.html 
+ * 
+ * Contributors: 
+ * Red Hat, Inc. - initial API and implementation 
+ ******************************************************************************/ 
+package org.jboss.reddeer.junit.test.shard;
+
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+
+import org.jboss.reddeer.junit.extensionpoint.IAfterTest;
+import org.jboss.reddeer.junit.extensionpoint.IBeforeTest;
+import org.jboss.reddeer.junit.internal.requirement.Requirements;
+import org.jboss.reddeer.junit.internal.runner.RequirementsRunner;
+import org.jboss.reddeer.junit.requirement.Requirement;
+import org.jboss.reddeer.junit.shard.ShardDurationsRecorder;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.notification.RunNotifier;
+
+public class ShardDurationsRecorderTest {
+
+	private static final long SLEEP = 100;
+
+	@Test
+	public void testClassDurationIncludesClassSetup() throws Exception {
+		Long previous = ShardDurationsRecorder.getInstance().getDurations().get(SlowClassSetupTest.class.getName());
+
+		new RequirementsRunner(SlowClassSetupTest.class, new SlowRequirements(), "config", null,
+				new ArrayList<IBeforeTest>(), new ArrayList<IAfterTest>()).run(new RunNotifier());
+
+		Long duration = ShardDurationsRecorder.getInstance().getDurations().get(SlowClassSetupTest.class.getName());
+		duration -= previous == null ? 0 : previous;
+		// fulfill, @BeforeClass, @AfterClass and clean up
+		assertTrue("Recorded duration " + duration + " ms does not include class setup", duration >= 4 * SLEEP);
+	}
+
+	private static void sleep() {
+		try {
+			Thread.sleep(SLEEP);
+		} catch (InterruptedException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	private static class SlowRequirements extends Requirements {
+
+		public SlowRequirements() {
+			super(new ArrayList<Requirement<?>>(), SlowClassSetupTest.class, "config");
+		}
+
+		@Override
+		public void fulfill() {
+			sleep();
+		}
+
+		@Override
+		public void cleanUp() {
+			sleep();
+		}
+	}
+
+	public static class SlowClassSetupTest {
+
+		@BeforeClass
+		public static void setupClass() {
+			sleep();
+		}
+
+		@AfterClass
+		public static void cleanupClass() {
+			sleep();
+		}
+
+		@Test
+		public void testNothing() {
+
+		}
+	}
+}
@@ -0,0 +1,59 @@
+/******************************************************************************* 
+ * Copyright (c) 2016 Red Hat, Inc. 
+ * Distributed under license by Red Hat, Inc. All rights reserved. 
+ * This program is made available under the terms of the 
+ * Eclipse Public License v1.0 which accompanies this distribution, 
+ * and is available at http://www.eclipse.org/legal/epl-v10.html 
+ * 
+ * Contributors: 
+ * Red Hat, Inc. - initial API and implementation 
+ ******************************************************************************/ 
+package org.jboss.reddeer.junit.test.shard;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jboss.reddeer.junit.shard.ShardPartitioner;
+import org.junit.Test;
+
+public class ShardPartitionerTest {
+
+	@Test
+	public void testPartitionByDuration() {
+		Map<String, Long> durations = new HashMap<String, Long>();
+		durations.put("A", 100L);
+		durations.put("B", 60L);
+		durations.put("C", 50L);
+		durations.put("D", 10L);
+
+		// E has no history and is estimated by average duration 55
+		List<List<String>> partitions = new ShardPartitioner(durations).partition(
+				Arrays.asList("A", "B", "C", "D", "E"), 2);
+
+		assertEquals(2, partitions.size());
+		assertEquals(Arrays.asList("A", "C"), partitions.get(0));
+		assertEquals(Arrays.asList("B", "D", "E"), partitions.get(1));
+	}
+
+	@Test
+	public void testPartitionWithoutHistory() {
+		List<List<String>> partitions = new ShardPartitioner(new HashMap<String, Long>()).partition(
+				Arrays.asList("C", "A", "B", "D"), 3);
+
+		assertEquals(Arrays.asList("A", "D"), partitions.get(0));
+		assertEquals(Arrays.asList("B"), partitions.get(1));
+		assertEquals(Arrays.asList("C"), partitions.get(2));
+	}
+
+	@Test
+	public void testPartitionKeepsOrderAndDropsDuplicates() {
+		List<List<String>> partitions = new ShardPartitioner(new HashMap<String, Long>()).partition(
+				Arrays.asList("D", "C", "B", "A", "D"), 1);
+
+		assertEquals(Arrays.asList("D", "C", "B", "A"), partitions.get(0));
+	}
+}
@@ -0,0 +1,123 @@
+/******************************************************************************* 
+ * Copyright (c) 2016 Red Hat, Inc. 
+ * Distributed under license by Red Hat, Inc. All rights reserved. 
+ * This program is made available under the terms of the 
+ * Eclipse Public License v1.0 which accompanies this distribution, 
+ * and is available at http://www.eclipse.org/legal/epl-v10.html 
+ * 
+ * Contributors: 
+ * Red Hat, Inc. - initial API and implementation 
+ ******************************************************************************/ 
+package org.jboss.reddeer.junit.test.shard;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import org.jboss.reddeer.junit.shard.ShardConfiguration;
+import org.jboss.reddeer.junit.shard.ShardDurations;
+import org.jboss.reddeer.junit.shard.ShardResultsMerger;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+public class ShardResultsMergerTest {
+
+	private static final String REPORT = "TEST-org.jboss.reddeer.Suite.xml";
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testMergeJUnitReportsOfShards() throws Exception {
+		File shard1 = folder.newFolder("shard1");
+		File shard2 = folder.newFolder("shard2");
+		File shard3 = folder.newFolder("shard3");
+		write(new File(shard1, REPORT), testSuite(2, 1, 0, 0, "1.250", testCase("A", "first") + testCase("A", "second")));
+		write(new File(shard2, REPORT), testSuite(1, 0, 1, 0, "0.500", testCase("B", "third")));
+		write(new File(shard3, REPORT), testSuite(3, 0, 0, 2, "2.000",
+				testCase("C", "fourth") + testCase("C", "fifth") + testCase("C", "sixth")));
+		write(new File(shard1, "screenshots/A.png"), "first");
+		write(new File(shard2, "screenshots/A.png"), "second");
+		write(new File(shard3, ShardResultsMerger.WORKSPACE_DIRECTORY + "/.metadata/.log"), "log");
+		File target = new File(folder.getRoot(), "merged");
+
+		new ShardResultsMerger().merge(Arrays.asList(shard1, shard2, shard3), target);
+
+		Element testSuite = DocumentBuilderFactory.newInstance().newDocumentBuilder()
+				.parse(new File(target, REPORT)).getDocumentElement();
+		assertEquals("testsuite", testSuite.getTagName());
+		assertEquals("6", testSuite.getAttribute("tests"));
+		assertEquals("1", testSuite.getAttribute("failures"));
+		assertEquals("1", testSuite.getAttribute("errors"));
+		assertEquals("2", testSuite.getAttribute("skipped"));
+		assertEquals("3.750", testSuite.getAttribute("time"));
+		assertEquals(1, testSuite.getElementsByTagName("properties").getLength());
+		NodeList testCases = testSuite.getElementsByTagName("testcase");
+		String[] names = new String[] { "first", "second", "third", "fourth", "fifth", "sixth" };
+		assertEquals(names.length, testCases.getLength());
+		for (int i = 0; i < names.length; i++) {
+			assertEquals(names[i], ((Element) testCases.item(i)).getAttribute("name"));
+		}
+		assertEquals("first", read(new File(target, "screenshots/A.png")));
+		assertEquals("second", read(new File(target, "screenshots/shard2-A.png")));
+		assertFalse(new File(target, ShardResultsMerger.WORKSPACE_DIRECTORY).exists());
+	}
+
+	@Test
+	public void testMergeDurations() throws IOException {
+		File durationsFile = new File(folder.getRoot(), "durations.properties");
+		ShardDurations.save(durations("A", 100L, "B", 200L), durationsFile);
+		File recorded1 = new ShardConfiguration("1/2", durationsFile.getPath()).getRecordedDurationsFile();
+		File recorded2 = new ShardConfiguration("2/2", durationsFile.getPath()).getRecordedDurationsFile();
+		ShardDurations.save(durations("B", 300L), recorded1);
+		ShardDurations.save(durations("C", 400L), recorded2);
+
+		new ShardResultsMerger().mergeDurations(durationsFile, 2);
+
+		assertEquals(durations("A", 100L, "B", 300L, "C", 400L), ShardDurations.load(durationsFile));
+		assertFalse(recorded1.exists());
+		assertFalse(recorded2.exists());
+	}
+
+	private static String testSuite(int tests, int failures, int errors, int skipped, String time, String testCases) {
+		return "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+				+ "<testsuite name=\"org.jboss.reddeer.Suite\" tests=\"" + tests + "\" failures=\"" + failures
+				+ "\" errors=\"" + errors + "\" skipped=\"" + skipped + "\" time=\"" + time + "\">\n"
+				+ "<properties><property name=\"os.name\" value=\"Linux\"/></properties>\n" + testCases
+				+ "</testsuite>\n";
+	}
+
+	private static String testCase(String className, String name) {
+		return "<testcase classname=\"" + className + "\" name=\"" + name + "\" time=\"0.1\"/>\n";
+	}
+
+	private static Map<String, Long> durations(Object... entries) {
+		Map<String, Long> durations = new HashMap<String, Long>();
+		for (int i = 0; i < entries.length; i += 2) {
+			durations.put((String) entries[i], (Long) entries[i + 1]);
+		}
+		return durations;
+	}
+
+	private static void write(File file, String content) throws IOException {
+		file.getParentFile().mkdirs();
+		Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static String read(File file) throws IOException {
+		return new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+	}
+}
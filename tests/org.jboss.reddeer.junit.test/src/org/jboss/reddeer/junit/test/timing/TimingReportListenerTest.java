@@ -0,0 +1,71 @@
+/******************************************************************************* 
+ * Copyright (c) 2016 Red Hat, Inc. 
+ * Distributed under license by Red Hat, Inc. All rights reserved. 
+ * This program is made available under the terms of the 
+ * Eclipse Public License v1.0 which accompanies this distribution, 
+ * and is available at http://www.eclipse.org/legal/epl-v10.html 
+ * 
+ * Contributors: 
+ * Red Hat, Inc. - initial API and implementation 
+ ******************************************************************************/ 
+package org.jboss.reddeer.junit.test.timing;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.StringWriter;
+
+import org.jboss.reddeer.junit.timing.TimingReportListener;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.Description;
+
+public class TimingReportListenerTest {
+
+	private TimingReportListener listener;
+
+	@Before
+	public void setUp() throws Exception {
+		listener = new TimingReportListener();
+		Description first = Description.createTestDescription(TimingReportListenerTest.class, "first");
+		Description second = Description.createTestDescription(TimingReportListenerTest.class, "second \"quoted\"");
+		listener.testStarted(first);
+		listener.testFinished(first);
+		listener.testStarted(second);
+		listener.testFinished(second);
+	}
+
+	@Test
+	public void testCsvReport() throws Exception {
+		StringWriter writer = new StringWriter();
+		listener.writeCsv(writer);
+
+		String[] lines = writer.toString().split("\n");
+		assertEquals(3, lines.length);
+		assertTrue(lines[0].startsWith("test,totalMs,waitCount,waitMs,sleepCount,sleepMs,syncExecCount,syncExecMs,"));
+		assertTrue(lines[1].startsWith("\"first(" + TimingReportListenerTest.class.getName() + ")\","));
+		assertTrue(lines[2].startsWith("\"second \"\"quoted\"\"("));
+		assertEquals(lines[0].split(",").length, lines[1].split(",").length);
+	}
+
+	@Test
+	public void testJsonReport() throws Exception {
+		StringWriter writer = new StringWriter();
+		listener.writeJson(writer);
+
+		String report = writer.toString();
+		assertTrue(report.startsWith("[\n  {\"test\": \"first("));
+		assertTrue(report.contains("{\"test\": \"second \\\"quoted\\\"("));
+		assertTrue(report.contains("\"widgetLookupCount\": 0"));
+		assertTrue(report.endsWith("}\n]\n"));
+	}
+
+	@Test
+	public void testIgnoresTestNotStarted() throws Exception {
+		listener.testFinished(Description.createTestDescription(TimingReportListenerTest.class, "third"));
+
+		StringWriter writer = new StringWriter();
+		listener.writeCsv(writer);
+		assertEquals(3, writer.toString().split("\n").length);
+	}
+}
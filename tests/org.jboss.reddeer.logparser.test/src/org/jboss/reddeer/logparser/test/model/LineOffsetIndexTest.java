@@ -0,0 +1,169 @@
+/******************************************************************************* 
+ * Copyright (c) 2016 Red Hat, Inc. 
+ * Distributed under license by Red Hat, Inc. All rights reserved. 
+ * This program is made available under the terms of the 
+ * Eclipse Public License v1.0 which accompanies this distribution, 
+ * and is available at http://www.eclipse.org/legal/epl-v10.html 
+ * 
+ * Contributors: 
+ * Red Hat, Inc. - initial API and implementation 
+ ******************************************************************************/ 
+package org.jboss.reddeer.logparser.test.model;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jboss.reddeer.logparser.model.LineOffsetIndex;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests that {@link LineOffsetIndex} finds same lines as {@link BufferedReader#readLine()}.
+ */
+public class LineOffsetIndexTest {
+
+	private static final int LINES_PER_SAMPLE = LineOffsetIndex.LINES_PER_SAMPLE;
+
+	private File logFile;
+
+	@Before
+	public void createLogFile() throws IOException {
+		logFile = File.createTempFile("reddeer-log", ".log");
+	}
+
+	@After
+	public void deleteLogFile() {
+		logFile.delete();
+	}
+
+	@Test
+	public void linesAreFoundFromSamples() throws IOException {
+		String log = log(0, LINES_PER_SAMPLE * 3 + 10, "\n");
+		write(log, false);
+
+		assertIndexed(log);
+	}
+
+	@Test
+	public void appendedLinesAreIndexed() throws IOException {
+		String log = log(0, LINES_PER_SAMPLE + 10, "\n") + "unterminated ";
+		write(log, false);
+		assertIndexed(log);
+
+		String appended = log(0, LINES_PER_SAMPLE * 2, "\n");
+		write(appended, true);
+
+		assertIndexed(log + appended);
+	}
+
+	@Test
+	public void indexIsRebuiltWhenLogIsTruncated() throws IOException {
+		write(log(0, LINES_PER_SAMPLE * 2, "\n"), false);
+		assertIndexed(log(0, LINES_PER_SAMPLE * 2, "\n"));
+
+		String log = log(0, LINES_PER_SAMPLE + 5, "\n");
+		write(log, false);
+
+		assertIndexed(log);
+	}
+
+	@Test
+	public void indexIsRebuiltWhenLogIsRewritten() throws IOException {
+		write(log(0, LINES_PER_SAMPLE * 2, "\n"), false);
+		assertIndexed(log(0, LINES_PER_SAMPLE * 2, "\n"));
+
+		String log = log(7, LINES_PER_SAMPLE * 3, "\n");
+		write(log, false);
+
+		assertIndexed(log);
+	}
+
+	@Test
+	public void indexIsKeptWhenOnlyModificationTimeChanges() throws IOException {
+		String log = log(0, LINES_PER_SAMPLE * 2, "\n");
+		write(log, false);
+		assertIndexed(log);
+
+		logFile.setLastModified(logFile.lastModified() - 10000);
+
+		assertIndexed(log);
+	}
+
+	@Test
+	public void carriageReturnTerminatesLine() throws IOException {
+		String log = log(0, LINES_PER_SAMPLE * 2 + 3, "\r") + log(0, LINES_PER_SAMPLE * 2 + 3, "\r\n")
+				+ "a\r\rb\n\rc\r\n\nd";
+		write(log, false);
+
+		assertIndexed(log);
+	}
+
+	@Test
+	public void crlfIsSplitByAppend() throws IOException {
+		// second sample starts right after "\r\n" split by the append
+		String log = log(0, LINES_PER_SAMPLE - 1, "\n") + "a\r";
+		write(log, false);
+		assertIndexed(log);
+
+		write("\nb\r\n", true);
+
+		assertIndexed(log + "\nb\r\n");
+	}
+
+	private void assertIndexed(String log) throws IOException {
+		List<Long> offsets = readLineOffsets(log);
+		LineOffsetIndex index = LineOffsetIndex.getIndex(logFile);
+		index.update();
+
+		assertEquals(offsets.size(), index.getLineCount());
+		for (int line = 0; line < offsets.size(); line++) {
+			assertEquals("Offset of line " + line, (long) offsets.get(line), index.getLineOffset(line));
+		}
+	}
+
+	/**
+	 * Gets offsets of lines read by buffered reader.
+	 */
+	private static List<Long> readLineOffsets(String log) throws IOException {
+		List<Long> offsets = new ArrayList<Long>();
+		BufferedReader reader = new BufferedReader(new StringReader(log));
+		long offset = 0;
+		String line;
+		while ((line = reader.readLine()) != null) {
+			offsets.add(offset);
+			offset += line.length();
+			if (offset < log.length() && log.charAt((int) offset) == '\r') {
+				offset++;
+				if (offset < log.length() && log.charAt((int) offset) == '\n') {
+					offset++;
+				}
+			} else if (offset < log.length()) {
+				offset++;
+			}
+		}
+		return offsets;
+	}
+
+	private static String log(int seed, int lineCount, String lineDelimiter) {
+		StringBuilder log = new StringBuilder();
+		for (int i = 0; i < lineCount; i++) {
+			log.append("line ").append(i * (seed + 1) % 97).append(lineDelimiter);
+		}
+		return log.toString();
+	}
+
+	private void write(String text, boolean append) throws IOException {
+		try (FileOutputStream output = new FileOutputStream(logFile, append)) {
+			output.write(text.getBytes(StandardCharsets.US_ASCII));
+		}
+	}
+}
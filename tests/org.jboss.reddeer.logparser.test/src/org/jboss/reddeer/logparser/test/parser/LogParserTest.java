@@ -0,0 +1,184 @@
+/******************************************************************************* 
+ * Copyright (c) 2016 Red Hat, Inc. 
+ * Distributed under license by Red Hat, Inc. All rights reserved. 
+ * This program is made available under the terms of the 
+ * Eclipse Public License v1.0 which accompanies this distribution, 
+ * and is available at http://www.eclipse.org/legal/epl-v10.html 
+ * 
+ * Contributors: 
+ * Red Hat, Inc. - initial API and implementation 
+ ******************************************************************************/ 
+package org.jboss.reddeer.logparser.test.parser;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.jboss.reddeer.logparser.model.ParseRule;
+import org.jboss.reddeer.logparser.parser.CompiledParseRule;
+import org.jboss.reddeer.logparser.parser.LogParser;
+import org.jboss.reddeer.logparser.parser.ParsedLog;
+import org.jboss.reddeer.logparser.parser.ParsedLogBuilder;
+import org.jboss.reddeer.logparser.parser.ParsedLogListener;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests parsing of log in batches by {@link LogParser} and merging of batch results.
+ */
+public class LogParserTest {
+
+	private static final int BATCH_SIZE = LogParser.BATCH_SIZE;
+
+	private ForkJoinPool pool;
+
+	@Before
+	public void createPool() {
+		pool = new ForkJoinPool(4);
+	}
+
+	@After
+	public void shutdownPool() {
+		pool.shutdownNow();
+	}
+
+	@Test
+	public void resultIsSameAsOfSequentialParsing() throws IOException {
+		List<ParseRule> rules = Arrays.asList(rule(".*ERROR.*", 3, 3, "E "), rule(".*WARN.*", 2, 0, "W "));
+		String log = log(BATCH_SIZE * 3 + 1000, BATCH_SIZE - 2, BATCH_SIZE + 1, BATCH_SIZE * 2, BATCH_SIZE * 3 + 4);
+
+		CollectingListener listener = new CollectingListener();
+		ParsedLog parsedLog = new LogParser(rules).parse(reader(log), pool, new NullProgressMonitor(), listener);
+
+		assertTrue("Parsed text was not passed in parts", listener.calls > 1);
+		assertEquals(parseSequentially(rules, log), format(listener.text.toString(), parsedLog));
+	}
+
+	@Test
+	public void contextIsSharedAcrossBatches() throws IOException {
+		List<ParseRule> rules = Arrays.asList(rule(".*ERROR.*", 2, 2, "E "));
+		// first and last line of a batch
+		String log = log(BATCH_SIZE * 2, BATCH_SIZE + 1, BATCH_SIZE * 2);
+
+		CollectingListener listener = new CollectingListener();
+		ParsedLog parsedLog = new LogParser(rules).parse(reader(log), pool, new NullProgressMonitor(), listener);
+
+		int[] expectedLines = new int[] { BATCH_SIZE - 1, BATCH_SIZE, BATCH_SIZE + 1, BATCH_SIZE + 2,
+				BATCH_SIZE + 3, BATCH_SIZE * 2 - 2, BATCH_SIZE * 2 - 1, BATCH_SIZE * 2 };
+		assertEquals(expectedLines.length, parsedLog.getLineCount());
+		String[] lines = listener.text.toString().split("\n");
+		for (int i = 0; i < expectedLines.length; i++) {
+			assertEquals(expectedLines[i], parsedLog.getOriginalLineNumber(i));
+			assertEquals("E " + line(expectedLines[i], expectedLines[i] == BATCH_SIZE + 1
+					|| expectedLines[i] == BATCH_SIZE * 2), lines[i]);
+		}
+	}
+
+	@Test
+	public void parsingIsStoppedWhenCanceled() throws IOException {
+		List<ParseRule> rules = Arrays.asList(rule(".*", 0, 0, ""));
+		String log = log(BATCH_SIZE * 6);
+
+		CollectingListener listener = new CollectingListener();
+		ParsedLog parsedLog = new LogParser(rules).parse(reader(log), pool, new CancelingProgressMonitor(),
+				listener);
+
+		assertTrue("Parsing was not canceled", parsedLog.getLineCount() < BATCH_SIZE * 6);
+		String expected = parseSequentially(rules, log);
+		String parsed = format(listener.text.toString(), parsedLog);
+		assertEquals(expected.substring(0, parsed.length()), parsed);
+	}
+
+	/**
+	 * Parses log by parsed log builder only, line by line.
+	 */
+	private static String parseSequentially(List<ParseRule> rules, String log) throws IOException {
+		List<CompiledParseRule> compiledRules = CompiledParseRule.compile(rules);
+		ParsedLogBuilder builder = new ParsedLogBuilder(compiledRules);
+		BufferedReader reader = reader(log);
+		StringBuilder text = new StringBuilder();
+		int lineNumber = 0;
+		String line;
+		while ((line = reader.readLine()) != null) {
+			lineNumber++;
+			builder.addLine(lineNumber, line, CompiledParseRule.evaluate(line, compiledRules));
+			text.append(builder.takeNewText());
+		}
+		ParsedLog parsedLog = builder.build();
+		text.append(builder.takeNewText());
+		return format(text.toString(), parsedLog);
+	}
+
+	private static String format(String text, ParsedLog parsedLog) {
+		String[] lines = text.split("\n", -1);
+		assertEquals(lines.length - 1, parsedLog.getLineCount());
+		StringBuilder result = new StringBuilder();
+		for (int i = 0; i < parsedLog.getLineCount(); i++) {
+			result.append(lines[i]).append("\n@").append(parsedLog.getOriginalLineNumber(i)).append('\n');
+		}
+		return result.toString();
+	}
+
+	private static String log(int lineCount, int... errorLines) {
+		StringBuilder log = new StringBuilder();
+		for (int lineNumber = 1; lineNumber <= lineCount; lineNumber++) {
+			boolean error = false;
+			for (int errorLine : errorLines) {
+				error |= errorLine == lineNumber;
+			}
+			log.append(line(lineNumber, error)).append(lineNumber % 1000 == 0 ? "\r\n" : "\n");
+		}
+		return log.toString();
+	}
+
+	private static String line(int lineNumber, boolean error) {
+		if (error) {
+			return "ERROR " + lineNumber;
+		}
+		return (lineNumber % 997 == 0 ? "WARN " : "INFO ") + lineNumber;
+	}
+
+	private static BufferedReader reader(String log) {
+		return new BufferedReader(new StringReader(log));
+	}
+
+	private static ParseRule rule(String includeRegex, int linesBefore, int linesAfter, String prefix) {
+		ParseRule rule = new ParseRule();
+		rule.setIncludeRegex(includeRegex);
+		rule.setDisplayLinesBefore(linesBefore);
+		rule.setDisplaylinesAfter(linesAfter);
+		rule.setPrefix(prefix);
+		return rule;
+	}
+
+	private static class CollectingListener implements ParsedLogListener {
+
+		private final StringBuilder text = new StringBuilder();
+		private int calls;
+
+		@Override
+		public void parsedTextAdded(String text) {
+			this.text.append(text);
+			calls++;
+		}
+	}
+
+	/**
+	 * Progress monitor canceled once first batch is parsed.
+	 */
+	private static class CancelingProgressMonitor extends NullProgressMonitor {
+
+		@Override
+		public void worked(int work) {
+			setCanceled(true);
+		}
+	}
+}
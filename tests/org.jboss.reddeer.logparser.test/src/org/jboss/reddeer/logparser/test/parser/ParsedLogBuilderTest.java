@@ -0,0 +1,183 @@
+/******************************************************************************* 
+ * Copyright (c) 2016 Red Hat, Inc. 
+ * Distributed under license by Red Hat, Inc. All rights reserved. 
+ * This program is made available under the terms of the 
+ * Eclipse Public License v1.0 which accompanies this distribution, 
+ * and is available at http://www.eclipse.org/legal/epl-v10.html 
+ * 
+ * Contributors: 
+ * Red Hat, Inc. - initial API and implementation 
+ ******************************************************************************/ 
+package org.jboss.reddeer.logparser.test.parser;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.LineNumberReader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.jboss.reddeer.logparser.model.ParseRule;
+import org.jboss.reddeer.logparser.parser.CompiledParseRule;
+import org.jboss.reddeer.logparser.parser.ParsedLog;
+import org.jboss.reddeer.logparser.parser.ParsedLogBuilder;
+import org.junit.Test;
+
+/**
+ * Tests matching of parse rules and selection of displayed lines by {@link ParsedLogBuilder}.
+ */
+public class ParsedLogBuilderTest {
+
+	private static final int RANDOM_CASES = 20000;
+
+	@Test
+	public void linesAreIncludedByFirstMatchingRule() throws IOException {
+		List<ParseRule> rules = Arrays.asList(rule(".*ERROR.*", ".*ignored.*", 0, 0, "E "), rule(".*WARN.*", "", 0, 0, "W "));
+
+		assertEquals("E ERROR 1\n@1\nW WARN 3\n@3\n",
+				parse(rules, "ERROR 1\nERROR ignored WARN\nWARN 3\nINFO 4\n"));
+	}
+
+	@Test
+	public void contextLinesAreDisplayedWithRuleOfFirstIncludedLine() throws IOException {
+		List<ParseRule> rules = Arrays.asList(rule(".*ERROR.*", "", 1, 2, "E "), rule(".*WARN.*", "", 2, 0, "W "));
+
+		assertEquals("E a\n@1\nE ERROR\n@2\nE b\n@3\nE WARN\n@4\nW c\n@5\nW WARN\n@6\n",
+				parse(rules, "a\nERROR\nb\nWARN\nc\nWARN\nd\n"));
+	}
+
+	@Test
+	public void allNonEmptyLinesAreIncludedWithoutRules() throws IOException {
+		assertEquals("a\n@1\nb\n@3\n", parse(new ArrayList<ParseRule>(), "a\n\nb\n"));
+	}
+
+	@Test
+	public void resultIsSameAsOfPreviousParser() throws IOException {
+		Random random = new Random(1);
+		for (int i = 0; i < RANDOM_CASES; i++) {
+			List<ParseRule> rules = new ArrayList<ParseRule>();
+			int ruleCount = random.nextInt(4);
+			for (int j = 0; j < ruleCount; j++) {
+				rules.add(rule(random.nextBoolean() ? "" : ".*" + randomChar(random, 3) + ".*",
+						random.nextInt(3) == 0 ? ".*" + randomChar(random, 3) + ".*" : "",
+						random.nextInt(4), random.nextInt(4), "P" + j));
+				rules.get(j).setIndent(random.nextInt(3));
+			}
+			StringBuilder log = new StringBuilder();
+			int lineCount = random.nextInt(30);
+			for (int j = 0; j < lineCount; j++) {
+				int length = random.nextInt(3);
+				for (int k = 0; k < length; k++) {
+					log.append(randomChar(random, 4));
+				}
+				log.append(random.nextInt(10) == 0 ? "\r\n" : "\n");
+			}
+
+			assertEquals("Case " + i + ", log:\n" + log, parseByPreviousAlgorithm(rules, log.toString()),
+					parse(rules, log.toString()));
+		}
+	}
+
+	private static String parse(List<ParseRule> rules, String log) throws IOException {
+		List<CompiledParseRule> compiledRules = CompiledParseRule.compile(rules);
+		ParsedLogBuilder builder = new ParsedLogBuilder(compiledRules);
+		BufferedReader reader = new BufferedReader(new StringReader(log));
+		StringBuilder text = new StringBuilder();
+		int lineNumber = 0;
+		String line;
+		while ((line = reader.readLine()) != null) {
+			lineNumber++;
+			builder.addLine(lineNumber, line, CompiledParseRule.evaluate(line, compiledRules));
+			text.append(builder.takeNewText());
+		}
+		ParsedLog parsedLog = builder.build();
+		text.append(builder.takeNewText());
+
+		String[] lines = text.toString().split("\n", -1);
+		assertEquals(lines.length - 1, parsedLog.getLineCount());
+		StringBuilder result = new StringBuilder();
+		for (int i = 0; i < parsedLog.getLineCount(); i++) {
+			result.append(lines[i]).append("\n@").append(parsedLog.getOriginalLineNumber(i)).append('\n');
+		}
+		return result.toString();
+	}
+
+	/**
+	 * Parsing as it was implemented before rules were compiled and log was streamed.
+	 */
+	private static String parseByPreviousAlgorithm(List<ParseRule> rules, String log) throws IOException {
+		LineNumberReader reader = new LineNumberReader(new StringReader(log));
+		TreeMap<Integer, String> originalLines = new TreeMap<Integer, String>();
+		TreeMap<Integer, ParseRule> includedLines = new TreeMap<Integer, ParseRule>();
+		String line;
+		while ((line = reader.readLine()) != null) {
+			int lineNumber = reader.getLineNumber();
+			originalLines.put(lineNumber, line);
+			boolean notIncludeLine = true;
+			ParseRule parseRule = new ParseRule();
+			if (!rules.isEmpty() && line.length() > 0) {
+				boolean excludeRegexNotApplied = true;
+				Iterator<ParseRule> iterator = rules.iterator();
+				while (notIncludeLine && excludeRegexNotApplied && iterator.hasNext()) {
+					parseRule = iterator.next();
+					boolean includeRegexMatches = true;
+					if (parseRule.getIncludeRegex().length() > 0) {
+						includeRegexMatches = line.matches(parseRule.getIncludeRegex());
+					}
+					if (includeRegexMatches) {
+						if (parseRule.getExcludeRegex().length() > 0) {
+							notIncludeLine = line.matches(parseRule.getExcludeRegex());
+							excludeRegexNotApplied = !notIncludeLine;
+						} else {
+							notIncludeLine = false;
+						}
+					}
+				}
+			} else {
+				notIncludeLine = line.length() == 0;
+			}
+			if (!notIncludeLine) {
+				int from = Math.max(lineNumber - parseRule.getDisplayLinesBefore(), 0);
+				int to = lineNumber + parseRule.getDisplaylinesAfter();
+				for (int included = from; included <= to; included++) {
+					if (!includedLines.containsKey(included)) {
+						includedLines.put(included, parseRule);
+					}
+				}
+			}
+		}
+		StringBuilder result = new StringBuilder();
+		for (int lineNumber : includedLines.keySet()) {
+			String originalLine = originalLines.get(lineNumber);
+			if (originalLine != null) {
+				ParseRule parseRule = includedLines.get(lineNumber);
+				char[] indent = new char[parseRule.getIndent()];
+				Arrays.fill(indent, ' ');
+				result.append(new String(indent)).append(parseRule.getPrefix()).append(originalLine)
+						.append("\n@").append(lineNumber).append('\n');
+			}
+		}
+		return result.toString();
+	}
+
+	private static ParseRule rule(String includeRegex, String excludeRegex, int linesBefore, int linesAfter,
+			String prefix) {
+		ParseRule rule = new ParseRule();
+		rule.setIncludeRegex(includeRegex);
+		rule.setExcludeRegex(excludeRegex);
+		rule.setDisplayLinesBefore(linesBefore);
+		rule.setDisplaylinesAfter(linesAfter);
+		rule.setPrefix(prefix);
+		return rule;
+	}
+
+	private static char randomChar(Random random, int range) {
+		return (char) ('a' + random.nextInt(range));
+	}
+}
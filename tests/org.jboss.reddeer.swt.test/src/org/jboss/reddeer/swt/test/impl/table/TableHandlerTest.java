@@ -0,0 +1,112 @@
+/******************************************************************************* 
+ * Copyright (c) 2016 Red Hat, Inc. 
+ * Distributed under license by Red Hat, Inc. All rights reserved. 
+ * This program is made available under the terms of the 
+ * Eclipse Public License v1.0 which accompanies this distribution, 
+ * and is available at http://www.eclipse.org/legal/epl-v10.html 
+ * 
+ * Contributors: 
+ * Red Hat, Inc. - initial API and implementation 
+ ******************************************************************************/ 
+package org.jboss.reddeer.swt.test.impl.table;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.layout.GridLayout;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swt.widgets.Table;
+import org.eclipse.swt.widgets.TableColumn;
+import org.eclipse.swt.widgets.TableItem;
+import org.jboss.reddeer.common.util.Display;
+import org.jboss.reddeer.common.util.ResultRunnable;
+import org.jboss.reddeer.core.handler.ItemState;
+import org.jboss.reddeer.core.handler.TableHandler;
+import org.jboss.reddeer.swt.test.SWTLayerTestCase;
+import org.junit.Test;
+
+/**
+ * Tests reading texts and states of many table items in a single UI thread call.
+ */
+public class TableHandlerTest extends SWTLayerTestCase {
+
+	private Table table;
+
+	private Table tableWithoutColumns;
+
+	@Override
+	protected void createControls(Shell shell) {
+		shell.setLayout(new GridLayout());
+		table = new Table(shell, SWT.CHECK | SWT.MULTI);
+		for (int column = 0; column < 3; column++) {
+			new TableColumn(table, SWT.NONE).setText("column " + column);
+		}
+		for (int row = 0; row < 4; row++) {
+			TableItem item = new TableItem(table, SWT.NONE);
+			for (int column = 0; column < 3; column++) {
+				item.setText(column, "r" + row + "c" + column);
+			}
+		}
+		table.getItem(1).setChecked(true);
+		table.select(2);
+
+		tableWithoutColumns = new Table(shell, SWT.SINGLE);
+		new TableItem(tableWithoutColumns, SWT.NONE).setText("x");
+		new TableItem(tableWithoutColumns, SWT.NONE).setText("y");
+	}
+
+	@Test
+	public void getTextsOfSpecifiedColumns() {
+		List<String[]> texts = TableHandler.getInstance().getTexts(getItems(table), 2, 0);
+
+		assertEquals(4, texts.size());
+		assertArrayEquals(new String[] { "r1c2", "r1c0" }, texts.get(1));
+	}
+
+	@Test
+	public void getTextsOfAllColumns() {
+		List<String[]> texts = TableHandler.getInstance().getTexts(getItems(table));
+
+		assertEquals(4, texts.size());
+		for (int row = 0; row < 4; row++) {
+			assertArrayEquals(new String[] { "r" + row + "c0", "r" + row + "c1", "r" + row + "c2" },
+					texts.get(row));
+		}
+	}
+
+	@Test
+	public void getTextsOfTableWithoutColumns() {
+		List<String[]> texts = TableHandler.getInstance().getTexts(getItems(tableWithoutColumns));
+
+		assertEquals(2, texts.size());
+		assertArrayEquals(new String[] { "x" }, texts.get(0));
+		assertArrayEquals(new String[] { "y" }, texts.get(1));
+	}
+
+	@Test
+	public void getStates() {
+		List<ItemState> states = TableHandler.getInstance().getStates(getItems(table));
+
+		assertEquals(4, states.size());
+		assertTrue(states.get(1).isChecked());
+		assertFalse(states.get(1).isSelected());
+		assertTrue(states.get(2).isSelected());
+		assertFalse(states.get(2).isChecked());
+		assertFalse(states.get(0).isExpanded());
+	}
+
+	private static List<TableItem> getItems(final Table table) {
+		return Display.syncExec(new ResultRunnable<List<TableItem>>() {
+			@Override
+			public List<TableItem> run() {
+				return Arrays.asList(table.getItems());
+			}
+		});
+	}
+}
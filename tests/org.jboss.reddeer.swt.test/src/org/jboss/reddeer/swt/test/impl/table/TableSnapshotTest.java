@@ -0,0 +1,179 @@
+/******************************************************************************* 
+ * Copyright (c) 2016 Red Hat, Inc. 
+ * Distributed under license by Red Hat, Inc. All rights reserved. 
+ * This program is made available under the terms of the 
+ * Eclipse Public License v1.0 which accompanies this distribution, 
+ * and is available at http://www.eclipse.org/legal/epl-v10.html 
+ * 
+ * Contributors: 
+ * Red Hat, Inc. - initial API and implementation 
+ ******************************************************************************/ 
+package org.jboss.reddeer.swt.test.impl.table;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.layout.GridData;
+import org.eclipse.swt.layout.GridLayout;
+import org.eclipse.swt.widgets.Event;
+import org.eclipse.swt.widgets.Listener;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swt.widgets.Table;
+import org.eclipse.swt.widgets.TableColumn;
+import org.hamcrest.BaseMatcher;
+import org.hamcrest.Description;
+import org.jboss.reddeer.core.exception.CoreLayerException;
+import org.jboss.reddeer.core.handler.TableHandler;
+import org.jboss.reddeer.core.handler.TableSnapshot;
+import org.jboss.reddeer.swt.api.TableItem;
+import org.jboss.reddeer.swt.impl.table.DefaultTable;
+import org.jboss.reddeer.swt.test.SWTLayerTestCase;
+import org.junit.Test;
+
+/**
+ * Tests reading table content in bulk through {@link TableSnapshot}.
+ */
+public class TableSnapshotTest extends SWTLayerTestCase {
+
+	private static final int VIRTUAL_ROWS = TableHandler.VIRTUAL_PAGE_SIZE * 2 + 500;
+
+	private Table table;
+
+	private Table virtualTable;
+
+	@Override
+	protected void createControls(Shell shell) {
+		shell.setLayout(new GridLayout());
+		table = new Table(shell, SWT.CHECK | SWT.MULTI);
+		for (int column = 0; column < 3; column++) {
+			new TableColumn(table, SWT.NONE).setText("column " + column);
+		}
+		for (int row = 0; row < 5; row++) {
+			org.eclipse.swt.widgets.TableItem item = new org.eclipse.swt.widgets.TableItem(table, SWT.NONE);
+			for (int column = 0; column < 3; column++) {
+				item.setText(column, "r" + row + "c" + column);
+			}
+		}
+		table.getItem(3).setChecked(true);
+		table.select(new int[] { 1, 4 });
+
+		virtualTable = new Table(shell, SWT.VIRTUAL | SWT.SINGLE);
+		GridData data = new GridData(SWT.FILL, SWT.FILL, true, true);
+		data.heightHint = 100;
+		virtualTable.setLayoutData(data);
+		virtualTable.addListener(SWT.SetData, new Listener() {
+			@Override
+			public void handleEvent(Event event) {
+				org.eclipse.swt.widgets.TableItem item = (org.eclipse.swt.widgets.TableItem) event.item;
+				item.setText("v" + virtualTable.indexOf(item));
+			}
+		});
+		virtualTable.setItemCount(VIRTUAL_ROWS);
+	}
+
+	@Test
+	public void snapshotContainsAllCellsAndStates() {
+		TableSnapshot snapshot = TableHandler.getInstance().getSnapshot(table);
+
+		assertEquals(5, snapshot.rowCount());
+		assertEquals(3, snapshot.columnCount());
+		assertEquals("r2c1", snapshot.getText(2, 1));
+		assertEquals("", snapshot.getText(2, 3));
+		assertTrue(snapshot.isChecked(3));
+		assertFalse(snapshot.isChecked(1));
+		assertTrue(snapshot.isSelected(1));
+		assertTrue(snapshot.isSelected(4));
+		assertFalse(snapshot.isSelected(3));
+		assertEquals(4, snapshot.indexOf("r4c2", 2));
+		assertEquals(-1, snapshot.indexOf("r4c2", 1));
+	}
+
+	@Test
+	public void virtualTableIsReadInPages() {
+		TableSnapshot snapshot = TableHandler.getInstance().getSnapshot(virtualTable);
+
+		assertEquals(VIRTUAL_ROWS, snapshot.rowCount());
+		assertEquals(1, snapshot.columnCount());
+		assertEquals("v0", snapshot.getText(0, 0));
+		assertEquals("v" + TableHandler.VIRTUAL_PAGE_SIZE, snapshot.getText(TableHandler.VIRTUAL_PAGE_SIZE, 0));
+		assertEquals("v" + (VIRTUAL_ROWS - 1), snapshot.getText(VIRTUAL_ROWS - 1, 0));
+	}
+
+	@Test
+	public void indexOf() {
+		assertEquals(2, TableHandler.getInstance().indexOf(table, "r2c0", 0));
+		assertEquals(VIRTUAL_ROWS - 1, TableHandler.getInstance().indexOf(virtualTable, "v" + (VIRTUAL_ROWS - 1), 0));
+	}
+
+	@Test(expected = CoreLayerException.class)
+	public void indexOfMissingItem() {
+		TableHandler.getInstance().indexOf(table, "r2c0", 1);
+	}
+
+	@Test
+	public void getItemByTextInColumn() {
+		TableItem item = new DefaultTable(0).getItem("r3c2", 2);
+
+		assertEquals("r3c0", item.getText());
+		assertTrue(item.isChecked());
+	}
+
+	@Test(expected = CoreLayerException.class)
+	public void getMissingItem() {
+		new DefaultTable(0).getItem("r3c2");
+	}
+
+	@Test
+	public void containsItem() {
+		DefaultTable defaultTable = new DefaultTable(0);
+
+		assertTrue(defaultTable.containsItem("r0c0"));
+		assertTrue(defaultTable.containsItem("r0c1", 1));
+		assertFalse(defaultTable.containsItem("r0c1"));
+	}
+
+	@Test
+	public void getSelectedItems() {
+		List<TableItem> selected = new DefaultTable(0).getSelectetItems();
+
+		assertEquals(2, selected.size());
+		assertEquals("r1c0", selected.get(0).getText());
+		assertEquals("r4c0", selected.get(1).getText());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void getItemsMatchedAgainstSnapshot() {
+		List<TableItem> items = new DefaultTable(0).getItems(new CellMatcher(1, "r2c1"));
+
+		assertEquals(1, items.size());
+		assertEquals("r2c0", items.get(0).getText());
+		assertEquals("r2c2", items.get(0).getText(2));
+	}
+
+	private static class CellMatcher extends BaseMatcher<TableItem> {
+
+		private final int column;
+
+		private final String text;
+
+		CellMatcher(int column, String text) {
+			this.column = column;
+			this.text = text;
+		}
+
+		@Override
+		public boolean matches(Object item) {
+			return item instanceof TableItem && text.equals(((TableItem) item).getText(column));
+		}
+
+		@Override
+		public void describeTo(Description description) {
+			description.appendText("cell " + column + " with text " + text);
+		}
+	}
+}
@@ -0,0 +1,110 @@
+/******************************************************************************* 
+ * Copyright (c) 2016 Red Hat, Inc. 
+ * Distributed under license by Red Hat, Inc. All rights reserved. 
+ * This program is made available under the terms of the 
+ * Eclipse Public License v1.0 which accompanies this distribution, 
+ * and is available at http://www.eclipse.org/legal/epl-v10.html 
+ * 
+ * Contributors: 
+ * Red Hat, Inc. - initial API and implementation 
+ ******************************************************************************/ 
+package org.jboss.reddeer.swt.test.impl.tree;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.swt.widgets.Tree;
+import org.eclipse.swt.widgets.TreeItem;
+import org.jboss.reddeer.common.util.Display;
+import org.jboss.reddeer.common.util.ResultRunnable;
+import org.jboss.reddeer.core.handler.ItemState;
+import org.jboss.reddeer.core.handler.TreeItemHandler;
+import org.jboss.reddeer.swt.impl.tree.DefaultTree;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests reading texts and states of many tree items in a single UI thread call.
+ */
+public class TreeItemHandlerTest extends AbstractTreeTest {
+
+	private Tree tree;
+
+	@Before
+	public void initTree() {
+		tree = new DefaultTree().getSWTWidget();
+		createTreeItems(tree, 1);
+	}
+
+	@Test
+	public void getTextsOfSpecifiedColumns() {
+		List<String[]> texts = TreeItemHandler.getInstance().getTexts(getTopItems(), 1, 0);
+
+		assertEquals(3, texts.size());
+		assertArrayEquals(new String[] { "A", "" }, texts.get(0));
+		assertArrayEquals(new String[] { "C", "" }, texts.get(2));
+	}
+
+	@Test
+	public void getTextsOfAllColumns() {
+		List<String[]> texts = TreeItemHandler.getInstance().getTexts(getTopItems());
+
+		assertEquals(3, texts.size());
+		assertArrayEquals(new String[] { "", "B", "" }, texts.get(1));
+	}
+
+	@Test
+	public void getTextsOfItemsFromDifferentLevels() {
+		List<TreeItem> items = new ArrayList<TreeItem>(getTopItems());
+		items.add(0, Display.syncExec(new ResultRunnable<TreeItem>() {
+			@Override
+			public TreeItem run() {
+				return tree.getItem(0).getItem(0);
+			}
+		}));
+		List<String[]> texts = TreeItemHandler.getInstance().getTexts(items, 1);
+
+		assertEquals(4, texts.size());
+		assertArrayEquals(new String[] { "AA" }, texts.get(0));
+		assertArrayEquals(new String[] { "A" }, texts.get(1));
+	}
+
+	@Test
+	public void getStates() {
+		Display.syncExec(new Runnable() {
+			@Override
+			public void run() {
+				tree.getItem(0).setExpanded(true);
+				tree.getItem(1).setChecked(true);
+				tree.setSelection(tree.getItem(2));
+			}
+		});
+		List<ItemState> states = TreeItemHandler.getInstance().getStates(getTopItems());
+
+		assertEquals(3, states.size());
+		assertTrue(states.get(0).isExpanded());
+		assertFalse(states.get(0).isChecked());
+		assertTrue(states.get(1).isChecked());
+		assertFalse(states.get(1).isExpanded());
+		assertTrue(states.get(2).isSelected());
+		assertFalse(states.get(0).isSelected());
+	}
+
+	private List<TreeItem> getTopItems() {
+		return Display.syncExec(new ResultRunnable<List<TreeItem>>() {
+			@Override
+			public List<TreeItem> run() {
+				List<TreeItem> items = new ArrayList<TreeItem>();
+				for (TreeItem item : tree.getItems()) {
+					items.add(item);
+				}
+				return items;
+			}
+		});
+	}
+}
@@ -0,0 +1,91 @@
+/*******************************************************************************
+ * Copyright (c) 2016 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.reddeer.swt.test.impl.tree;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.swt.widgets.Tree;
+import org.eclipse.swt.widgets.TreeItem;
+import org.jboss.reddeer.common.util.Display;
+import org.jboss.reddeer.common.util.ResultRunnable;
+import org.jboss.reddeer.common.wait.TimePeriod;
+import org.jboss.reddeer.common.wait.WaitUntil;
+import org.jboss.reddeer.core.lookup.TreeItemLookup;
+import org.jboss.reddeer.core.lookup.TreeItemLookup.TreeItemHasChildren;
+import org.jboss.reddeer.swt.impl.tree.DefaultTree;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests that waiting for children of a tree item does not wake up itself.
+ */
+public class TreeItemHasChildrenTest extends AbstractTreeTest {
+
+	private Tree tree;
+
+	@Before
+	public void initTree() {
+		tree = new DefaultTree().getSWTWidget();
+	}
+
+	@Test
+	public void leafItemIsNotExpandedByCondition() {
+		TreeItem leaf = createTreeItem(tree, "leaf");
+		CountingTreeItemHasChildren condition = new CountingTreeItemHasChildren(leaf);
+
+		new WaitUntil(condition, TimePeriod.getCustomMillis(1500), false);
+
+		// backoff tests the condition about ten times in 1.5 s, self triggered
+		// SWT.Expand events would wake the wait up after each test
+		assertTrue("Condition was tested " + condition.tests + " times", condition.tests <= 15);
+		assertFalse(condition.test());
+	}
+
+	@Test
+	public void itemWithChildrenIsFound() {
+		final TreeItem parent = createTreeItem(tree, "parent");
+		Display.syncExec(new ResultRunnable<TreeItem>() {
+			@Override
+			public TreeItem run() {
+				TreeItem child = new TreeItem(parent, 0);
+				child.setText("child");
+				return child;
+			}
+		});
+
+		CountingTreeItemHasChildren condition = new CountingTreeItemHasChildren(parent);
+		new WaitUntil(condition, TimePeriod.SHORT);
+
+		assertTrue(condition.tests == 1);
+		assertFalse("Condition expanded tree item", Display.syncExec(new ResultRunnable<Boolean>() {
+			@Override
+			public Boolean run() {
+				return parent.getExpanded();
+			}
+		}));
+	}
+
+	private static class CountingTreeItemHasChildren extends TreeItemHasChildren {
+
+		private int tests;
+
+		public CountingTreeItemHasChildren(TreeItem treeItem) {
+			TreeItemLookup.getInstance().super(treeItem);
+		}
+
+		@Override
+		public boolean test() {
+			tests++;
+			return super.test();
+		}
+	}
+}
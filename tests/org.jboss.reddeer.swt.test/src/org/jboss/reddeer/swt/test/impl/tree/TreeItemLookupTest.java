@@ -0,0 +1,165 @@
+/******************************************************************************* 
+ * Copyright (c) 2016 Red Hat, Inc. 
+ * Distributed under license by Red Hat, Inc. All rights reserved. 
+ * This program is made available under the terms of the 
+ * Eclipse Public License v1.0 which accompanies this distribution, 
+ * and is available at http://www.eclipse.org/legal/epl-v10.html 
+ * 
+ * Contributors: 
+ * Red Hat, Inc. - initial API and implementation 
+ ******************************************************************************/ 
+package org.jboss.reddeer.swt.test.impl.tree;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Event;
+import org.eclipse.swt.widgets.Listener;
+import org.eclipse.swt.widgets.Tree;
+import org.eclipse.swt.widgets.TreeItem;
+import org.hamcrest.BaseMatcher;
+import org.hamcrest.Description;
+import org.jboss.reddeer.common.util.Display;
+import org.jboss.reddeer.common.util.ResultRunnable;
+import org.jboss.reddeer.core.handler.TreeItemHandler;
+import org.jboss.reddeer.core.lookup.TreeItemLookup;
+import org.jboss.reddeer.core.matcher.TreeItemRegexMatcher;
+import org.jboss.reddeer.core.matcher.TreeItemTextMatcher;
+import org.jboss.reddeer.swt.impl.tree.DefaultTree;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests that tree item lookup matches whole levels in UI thread and expands only
+ * collapsed items having children.
+ */
+@SuppressWarnings("unchecked")
+public class TreeItemLookupTest extends AbstractTreeTest {
+
+	private static final String PLACEHOLDER = "Pending...";
+
+	private Tree tree;
+
+	@Before
+	public void initTree() {
+		tree = new DefaultTree().getSWTWidget();
+	}
+
+	@Test
+	public void matchersAreEvaluatedInUIThread() {
+		createTreeItems(tree);
+		UIThreadMatcher matcher = new UIThreadMatcher();
+
+		List<TreeItem> items = TreeItemLookup.getInstance().getTreeItems(tree, new TreeItemTextMatcher("A"), matcher);
+
+		assertEquals(1, items.size());
+		assertTrue("Matcher was evaluated " + matcher.nonUIThreadCalls + " times outside of UI thread",
+				matcher.nonUIThreadCalls == 0);
+	}
+
+	@Test
+	public void leavesOnPathAreNotWaitedFor() {
+		createTreeItems(tree);
+		long start = System.currentTimeMillis();
+
+		// C is a leaf, it used to cost a wait for its children of NORMAL time period
+		List<TreeItem> items = TreeItemLookup.getInstance().getTreeItems(tree,
+				new TreeItemRegexMatcher(".*"), new TreeItemRegexMatcher(".*"));
+
+		long elapsed = System.currentTimeMillis() - start;
+		assertEquals(2, items.size());
+		assertEquals("AA", TreeItemHandler.getInstance().getText(items.get(0), 0));
+		assertEquals("BB", TreeItemHandler.getInstance().getText(items.get(1), 0));
+		assertTrue("Lookup took " + elapsed + " ms", elapsed < 5000);
+	}
+
+	@Test
+	public void collapsedItemIsExpandedAndPopulated() {
+		createLazyItem(false);
+
+		List<TreeItem> items = TreeItemLookup.getInstance().getTreeItems(tree,
+				new TreeItemTextMatcher("lazy"), new TreeItemTextMatcher("child 2"));
+
+		assertEquals(1, items.size());
+	}
+
+	@Test
+	public void childrenOfExpandedItemAreNotWaitedFor() {
+		// expanded item shows placeholder until its children are computed in background,
+		// lookup does not wait for them and takes the placeholder as it is
+		createLazyItem(true);
+		Display.syncExec(new Runnable() {
+			@Override
+			public void run() {
+				Display.getDisplay().timerExec(3000, new Runnable() {
+					@Override
+					public void run() {
+						if (!tree.isDisposed()) {
+							populate(tree.getItem(0));
+						}
+					}
+				});
+			}
+		});
+		long start = System.currentTimeMillis();
+
+		List<TreeItem> items = TreeItemLookup.getInstance().getTreeItems(tree,
+				new TreeItemTextMatcher("lazy"), new TreeItemRegexMatcher(".*"));
+
+		long elapsed = System.currentTimeMillis() - start;
+		assertEquals(1, items.size());
+		assertEquals(PLACEHOLDER, TreeItemHandler.getInstance().getText(items.get(0), 0));
+		assertTrue("Lookup took " + elapsed + " ms", elapsed < 3000);
+	}
+
+	private void createLazyItem(final boolean expanded) {
+		Display.syncExec(new ResultRunnable<TreeItem>() {
+			@Override
+			public TreeItem run() {
+				TreeItem item = new TreeItem(tree, SWT.NONE);
+				item.setText("lazy");
+				new TreeItem(item, SWT.NONE).setText(PLACEHOLDER);
+				if (expanded) {
+					item.setExpanded(true);
+				} else {
+					tree.addListener(SWT.Expand, new Listener() {
+						@Override
+						public void handleEvent(Event event) {
+							populate((TreeItem) event.item);
+						}
+					});
+				}
+				return item;
+			}
+		});
+	}
+
+	private static void populate(TreeItem item) {
+		if (item.getItemCount() == 1 && PLACEHOLDER.equals(item.getItem(0).getText())) {
+			item.getItem(0).dispose();
+			new TreeItem(item, SWT.NONE).setText("child 1");
+			new TreeItem(item, SWT.NONE).setText("child 2");
+		}
+	}
+
+	private static class UIThreadMatcher extends BaseMatcher<TreeItem> {
+
+		private int nonUIThreadCalls;
+
+		@Override
+		public boolean matches(Object item) {
+			if (Display.getDisplay().getThread() != Thread.currentThread()) {
+				nonUIThreadCalls++;
+			}
+			return "AA".equals(((TreeItem) item).getText());
+		}
+
+		@Override
+		public void describeTo(Description description) {
+			description.appendText("AA matched in UI thread");
+		}
+	}
+}
@@ -0,0 +1,104 @@
+/******************************************************************************* 
+ * Copyright (c) 2016 Red Hat, Inc. 
+ * Distributed under license by Red Hat, Inc. All rights reserved. 
+ * This program is made available under the terms of the 
+ * Eclipse Public License v1.0 which accompanies this distribution, 
+ * and is available at http://www.eclipse.org/legal/epl-v10.html 
+ * 
+ * Contributors: 
+ * Red Hat, Inc. - initial API and implementation 
+ ******************************************************************************/ 
+package org.jboss.reddeer.swt.test.impl.tree;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Event;
+import org.eclipse.swt.widgets.Listener;
+import org.eclipse.swt.widgets.Tree;
+import org.jboss.reddeer.common.util.Display;
+import org.jboss.reddeer.core.handler.TreeHandler;
+import org.jboss.reddeer.core.handler.TreeSnapshot;
+import org.jboss.reddeer.swt.api.TreeItem;
+import org.jboss.reddeer.swt.impl.tree.DefaultTree;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests capturing tree content in bulk through {@link TreeSnapshot}.
+ */
+public class TreeSnapshotTest extends AbstractTreeTest {
+
+	private Tree tree;
+
+	@Before
+	public void initTree() {
+		tree = new DefaultTree().getSWTWidget();
+		createTreeItems(tree);
+	}
+
+	@Test
+	public void snapshotCapturesOnlyExpandedItems() {
+		Display.syncExec(new Runnable() {
+			@Override
+			public void run() {
+				tree.getItem(0).setExpanded(true);
+				tree.getItem(0).setChecked(true);
+			}
+		});
+		TreeSnapshot snapshot = TreeHandler.getInstance().getSnapshot(tree);
+
+		// A, AA, B, C
+		assertEquals(4, snapshot.size());
+		assertTrue(snapshot.isExpanded(0));
+		assertTrue(snapshot.isChecked(0));
+		assertFalse(snapshot.isCollapsedBranch(0));
+		assertTrue(snapshot.isCollapsedBranch(1));
+		assertTrue(snapshot.isCollapsedBranch(2));
+		assertFalse(snapshot.isCollapsedBranch(3));
+		assertEquals(0, snapshot.getParent(1));
+		assertArrayEquals(new String[] { "A", "AA" }, snapshot.getPath(1));
+		assertEquals(1, snapshot.indexOf("A", "AA"));
+		assertEquals(-1, snapshot.indexOf("A", "AA", "AAA"));
+		assertEquals(2, snapshot.getCollapsedBranches().size());
+		assertEquals("", snapshot.getText(1, TREE_COLUMN_COUNT));
+	}
+
+	@Test
+	public void getAllItemsExpandsOnlyBranches() {
+		final List<String> expandedItems = new ArrayList<String>();
+		final Listener listener = new Listener() {
+			@Override
+			public void handleEvent(Event event) {
+				String text = ((org.eclipse.swt.widgets.TreeItem) event.item).getText();
+				if (!expandedItems.contains(text)) {
+					expandedItems.add(text);
+				}
+			}
+		};
+		Display.syncExec(new Runnable() {
+			@Override
+			public void run() {
+				tree.addListener(SWT.Expand, listener);
+			}
+		});
+
+		List<TreeItem> items = new DefaultTree().getAllItems();
+
+		List<String> texts = new ArrayList<String>();
+		for (TreeItem item : items) {
+			texts.add(item.getText());
+		}
+		assertEquals("[A, AA, AAA, AAB, B, BB, C]", texts.toString());
+		assertEquals(3, expandedItems.size());
+		assertTrue(expandedItems.contains("A"));
+		assertTrue(expandedItems.contains("AA"));
+		assertTrue(expandedItems.contains("B"));
+	}
+}
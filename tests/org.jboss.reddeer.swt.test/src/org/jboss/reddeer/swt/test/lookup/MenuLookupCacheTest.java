@@ -0,0 +1,251 @@
+/******************************************************************************* 
+ * Copyright (c) 2016 Red Hat, Inc. 
+ * Distributed under license by Red Hat, Inc. All rights reserved. 
+ * This program is made available under the terms of the 
+ * Eclipse Public License v1.0 which accompanies this distribution, 
+ * and is available at http://www.eclipse.org/legal/epl-v10.html 
+ * 
+ * Contributors: 
+ * Red Hat, Inc. - initial API and implementation 
+ ******************************************************************************/ 
+package org.jboss.reddeer.swt.test.lookup;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Event;
+import org.eclipse.swt.widgets.Listener;
+import org.eclipse.swt.widgets.Menu;
+import org.eclipse.swt.widgets.MenuItem;
+import org.eclipse.swt.widgets.Shell;
+import org.hamcrest.Matcher;
+import org.jboss.reddeer.common.util.Display;
+import org.jboss.reddeer.common.util.ResultRunnable;
+import org.jboss.reddeer.core.lookup.MenuLookupCache;
+import org.jboss.reddeer.swt.test.SWTLayerTestCase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests keys, validity checks and invalidation of {@link MenuLookupCache}.
+ */
+public class MenuLookupCacheTest extends SWTLayerTestCase {
+
+	private MenuLookupCache cache;
+
+	private Menu menuBar;
+
+	private Menu newMenu;
+
+	private MenuItem exitItem;
+
+	private MenuItem projectItem;
+
+	private MenuItem[] path;
+
+	@Override
+	protected void createControls(Shell shell) {
+		menuBar = new Menu(shell, SWT.BAR);
+		shell.setMenuBar(menuBar);
+		MenuItem fileItem = createItem(menuBar, SWT.CASCADE, "&File");
+		Menu fileMenu = new Menu(shell, SWT.DROP_DOWN);
+		fileItem.setMenu(fileMenu);
+		MenuItem newItem = createItem(fileMenu, SWT.CASCADE, "&New");
+		exitItem = createItem(fileMenu, SWT.PUSH, "E&xit");
+		newMenu = new Menu(shell, SWT.DROP_DOWN);
+		newItem.setMenu(newMenu);
+		projectItem = createItem(newMenu, SWT.PUSH, "&Project");
+		path = new MenuItem[] { fileItem, newItem, projectItem };
+	}
+
+	@Before
+	public void createCache() {
+		cache = new MenuLookupCache(true);
+	}
+
+	@After
+	public void disposeCache() {
+		cache.dispose();
+	}
+
+	@Test
+	public void cachedPathIsFoundByMatcherDescriptions() {
+		put(matchers(is("File"), is("New"), is("Project")));
+
+		// matchers are compared by their descriptions, not by identity
+		assertSame(projectItem, get(matchers(is("File"), is("New"), is("Project"))));
+		assertNull(get(matchers(is("File"), is("New"), equalTo("Project"))));
+		assertNull(get(matchers(is("File"), is("New"))));
+		assertEquals(1, cache.getHits());
+		assertEquals(2, cache.getMisses());
+	}
+
+	@Test
+	public void disabledCacheReturnsNothing() {
+		final MenuLookupCache disabledCache = new MenuLookupCache(false);
+		final Matcher<String>[] matchers = matchers(is("File"), is("New"), is("Project"));
+
+		MenuItem item = Display.syncExec(new ResultRunnable<MenuItem>() {
+			@Override
+			public MenuItem run() {
+				disabledCache.put(getTopItems(), matchers, path);
+				return disabledCache.get(getTopItems(), matchers);
+			}
+		});
+
+		assertNull(item);
+	}
+
+	@Test
+	public void pathIsInvalidatedWhenMenuIsShown() {
+		put(matchers(is("File"), is("New"), is("Project")));
+
+		show(newMenu);
+
+		assertNull(get(matchers(is("File"), is("New"), is("Project"))));
+	}
+
+	@Test
+	public void menuShownWhileResolvingDoesNotInvalidatePath() {
+		put(matchers(is("File"), is("New"), is("Project")));
+
+		Display.syncExec(new Runnable() {
+			@Override
+			public void run() {
+				cache.setResolving(true);
+				try {
+					newMenu.notifyListeners(SWT.Show, new Event());
+				} finally {
+					cache.setResolving(false);
+				}
+			}
+		});
+
+		assertSame(projectItem, get(matchers(is("File"), is("New"), is("Project"))));
+	}
+
+	@Test
+	public void pathIsInvalidatedWhenItsMenuItemIsDisposed() {
+		put(matchers(is("File"), is("New"), is("Project")));
+
+		dispose(exitItem);
+		assertSame(projectItem, get(matchers(is("File"), is("New"), is("Project"))));
+		dispose(projectItem);
+
+		assertNull(get(matchers(is("File"), is("New"), is("Project"))));
+	}
+
+	@Test
+	public void pathIsNotFoundWhenMenuItemTextChanges() {
+		put(matchers(is("File"), is("New"), is("Project")));
+
+		Display.syncExec(new Runnable() {
+			@Override
+			public void run() {
+				projectItem.setText("&Other");
+			}
+		});
+
+		assertNull(get(matchers(is("File"), is("New"), is("Project"))));
+	}
+
+	@Test
+	public void intermediateMenusAreShownOnCacheHit() {
+		final int[] shown = new int[1];
+		Display.syncExec(new Runnable() {
+			@Override
+			public void run() {
+				newMenu.addListener(SWT.Show, new Listener() {
+					@Override
+					public void handleEvent(Event event) {
+						shown[0]++;
+					}
+				});
+			}
+		});
+		put(matchers(is("File"), is("New"), is("Project")));
+
+		assertSame(projectItem, get(matchers(is("File"), is("New"), is("Project"))));
+		assertEquals(1, shown[0]);
+		assertSame("Menu shown by cache invalidated cached path", projectItem,
+				get(matchers(is("File"), is("New"), is("Project"))));
+	}
+
+	@Test
+	public void pathIsNotReturnedWhenShownMenuReplacesItsItems() {
+		// dynamic contributions recreate menu items when menu is shown
+		Display.syncExec(new Runnable() {
+			@Override
+			public void run() {
+				newMenu.addListener(SWT.Show, new Listener() {
+					@Override
+					public void handleEvent(Event event) {
+						for (MenuItem item : newMenu.getItems()) {
+							item.dispose();
+						}
+						createItem(newMenu, SWT.PUSH, "&Project");
+					}
+				});
+			}
+		});
+		put(matchers(is("File"), is("New"), is("Project")));
+
+		assertNull(get(matchers(is("File"), is("New"), is("Project"))));
+	}
+
+	private void put(final Matcher<String>[] matchers) {
+		Display.syncExec(new Runnable() {
+			@Override
+			public void run() {
+				cache.put(getTopItems(), matchers, path);
+			}
+		});
+	}
+
+	private MenuItem get(final Matcher<String>[] matchers) {
+		return Display.syncExec(new ResultRunnable<MenuItem>() {
+			@Override
+			public MenuItem run() {
+				return cache.get(getTopItems(), matchers);
+			}
+		});
+	}
+
+	private MenuItem[] getTopItems() {
+		return menuBar.getItems();
+	}
+
+	private void show(final Menu menu) {
+		Display.syncExec(new Runnable() {
+			@Override
+			public void run() {
+				menu.notifyListeners(SWT.Show, new Event());
+			}
+		});
+	}
+
+	private void dispose(final MenuItem item) {
+		Display.syncExec(new Runnable() {
+			@Override
+			public void run() {
+				item.dispose();
+			}
+		});
+	}
+
+	private static MenuItem createItem(Menu menu, int style, String text) {
+		MenuItem item = new MenuItem(menu, style);
+		item.setText(text);
+		return item;
+	}
+
+	@SafeVarargs
+	private static Matcher<String>[] matchers(Matcher<String>... matchers) {
+		return matchers;
+	}
+}
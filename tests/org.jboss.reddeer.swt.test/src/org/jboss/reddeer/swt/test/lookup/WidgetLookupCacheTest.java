@@ -0,0 +1,129 @@
+/******************************************************************************* 
+ * Copyright (c) 2016 Red Hat, Inc. 
+ * Distributed under license by Red Hat, Inc. All rights reserved. 
+ * This program is made available under the terms of the 
+ * Eclipse Public License v1.0 which accompanies this distribution, 
+ * and is available at http://www.eclipse.org/legal/epl-v10.html 
+ * 
+ * Contributors: 
+ * Red Hat, Inc. - initial API and implementation 
+ ******************************************************************************/ 
+package org.jboss.reddeer.swt.test.lookup;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swt.widgets.Text;
+import org.hamcrest.Matcher;
+import org.jboss.reddeer.common.util.Display;
+import org.jboss.reddeer.common.util.ResultRunnable;
+import org.jboss.reddeer.core.lookup.WidgetLookupCache;
+import org.jboss.reddeer.swt.test.SWTLayerTestCase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests validity checks and invalidation of {@link WidgetLookupCache}.
+ */
+public class WidgetLookupCacheTest extends SWTLayerTestCase {
+
+	private static final Matcher<Text> TEXT_MATCHER = instanceOf(Text.class);
+
+	private WidgetLookupCache cache;
+
+	private Shell shell;
+
+	private Text text;
+
+	@Override
+	protected void createControls(Shell shell) {
+		this.shell = shell;
+		text = new Text(shell, SWT.BORDER);
+	}
+
+	@Before
+	public void createCache() {
+		cache = new WidgetLookupCache(true);
+	}
+
+	@After
+	public void disposeCache() {
+		cache.dispose();
+	}
+
+	@Test
+	public void cachedWidgetIsReturned() {
+		cache.put(shell, Text.class, 0, TEXT_MATCHER, text);
+
+		assertSame(text, cache.get(shell, Text.class, 0, TEXT_MATCHER));
+		assertNull(cache.get(shell, Text.class, 0, instanceOf(Shell.class)));
+	}
+
+	@Test
+	public void disabledCacheReturnsNothing() {
+		WidgetLookupCache disabledCache = new WidgetLookupCache(false);
+		disabledCache.put(shell, Text.class, 0, TEXT_MATCHER, text);
+
+		assertNull(disabledCache.get(shell, Text.class, 0, TEXT_MATCHER));
+	}
+
+	@Test
+	public void widgetWithHigherIndexIsNotCached() {
+		Text secondText = createText();
+		cache.put(shell, Text.class, 1, TEXT_MATCHER, secondText);
+
+		assertNull(cache.get(shell, Text.class, 1, TEXT_MATCHER));
+	}
+
+	@Test
+	public void cacheIsInvalidatedWhenWidgetIsCreated() {
+		cache.put(shell, Text.class, 0, TEXT_MATCHER, text);
+
+		createText();
+
+		assertNull(cache.get(shell, Text.class, 0, TEXT_MATCHER));
+	}
+
+	@Test
+	public void cacheIsInvalidatedWhenWidgetIsDisposed() {
+		final Text secondText = createText();
+		cache.put(shell, Text.class, 0, TEXT_MATCHER, text);
+
+		Display.syncExec(new Runnable() {
+			@Override
+			public void run() {
+				secondText.dispose();
+			}
+		});
+
+		assertNull(cache.get(shell, Text.class, 0, TEXT_MATCHER));
+	}
+
+	@Test
+	public void hiddenWidgetIsNotReturned() {
+		cache.put(shell, Text.class, 0, TEXT_MATCHER, text);
+		Display.syncExec(new Runnable() {
+			@Override
+			public void run() {
+				text.setVisible(false);
+			}
+		});
+		// setVisible(false) fires SWT.Hide, put the widget back to test visibility check alone
+		cache.put(shell, Text.class, 0, TEXT_MATCHER, text);
+
+		assertNull(cache.get(shell, Text.class, 0, TEXT_MATCHER));
+	}
+
+	private Text createText() {
+		return Display.syncExec(new ResultRunnable<Text>() {
+			@Override
+			public Text run() {
+				return new Text(shell, SWT.BORDER);
+			}
+		});
+	}
+}
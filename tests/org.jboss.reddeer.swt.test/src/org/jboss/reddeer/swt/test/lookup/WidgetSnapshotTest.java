@@ -0,0 +1,163 @@
+/******************************************************************************* 
+ * Copyright (c) 2016 Red Hat, Inc. 
+ * Distributed under license by Red Hat, Inc. All rights reserved. 
+ * This program is made available under the terms of the 
+ * Eclipse Public License v1.0 which accompanies this distribution, 
+ * and is available at http://www.eclipse.org/legal/epl-v10.html 
+ * 
+ * Contributors: 
+ * Red Hat, Inc. - initial API and implementation 
+ ******************************************************************************/ 
+package org.jboss.reddeer.swt.test.lookup;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.layout.RowLayout;
+import org.eclipse.swt.widgets.Button;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Shell;
+import org.hamcrest.BaseMatcher;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.jboss.reddeer.common.util.Display;
+import org.jboss.reddeer.common.util.ResultRunnable;
+import org.jboss.reddeer.core.lookup.WidgetSnapshot;
+import org.jboss.reddeer.swt.test.SWTLayerTestCase;
+import org.junit.Test;
+
+/**
+ * Tests depth-first order, visibility and recursion of {@link WidgetSnapshot}.
+ */
+public class WidgetSnapshotTest extends SWTLayerTestCase {
+
+	private Shell shell;
+
+	private Composite outer;
+
+	private Composite hidden;
+
+	private Button first;
+
+	private Button nested;
+
+	private Button last;
+
+	private Button invisible;
+
+	private Button shellButton;
+
+	private final Matcher<Button> buttons = instanceOf(Button.class);
+
+	@Override
+	protected void createControls(Shell shell) {
+		this.shell = shell;
+		outer = createComposite(shell);
+		first = createButton(outer, "first");
+		Composite inner = createComposite(outer);
+		nested = createButton(inner, "nested");
+		last = createButton(outer, "last");
+		hidden = createComposite(shell);
+		invisible = createButton(hidden, "invisible");
+		hidden.setVisible(false);
+		shellButton = createButton(shell, "shell");
+	}
+
+	@Test
+	public void indexCountsMatchesAcrossNestedComposites() {
+		assertSame(first, WidgetSnapshot.find(shell, buttons, true, 0));
+		assertSame(nested, WidgetSnapshot.find(shell, buttons, true, 1));
+		assertSame(last, WidgetSnapshot.find(shell, buttons, true, 2));
+		assertSame(shellButton, WidgetSnapshot.find(shell, buttons, true, 3));
+		assertNull(WidgetSnapshot.find(shell, buttons, true, 4));
+
+		WidgetSnapshot<Button> snapshot = WidgetSnapshot.capture(shell, buttons, true);
+		assertEquals(Arrays.asList(first, nested, last, shellButton), snapshot.getWidgets());
+		assertSame(nested, snapshot.get(1));
+		assertNull(snapshot.get(4));
+	}
+
+	@Test
+	public void invisibleSubtreeIsSkipped() {
+		assertTrue(Display.syncExec(new ResultRunnable<Boolean>() {
+			@Override
+			public Boolean run() {
+				// the button itself is visible, only its parent is hidden
+				return invisible.getVisible();
+			}
+		}));
+		assertEquals(Arrays.asList(first, nested, last, shellButton),
+				WidgetSnapshot.capture(shell, buttons, true).getWidgets());
+		assertNull(WidgetSnapshot.find(hidden, buttons, true, 0));
+
+		Display.syncExec(new Runnable() {
+			@Override
+			public void run() {
+				outer.setVisible(false);
+			}
+		});
+
+		assertEquals(Collections.singletonList(shellButton),
+				WidgetSnapshot.capture(shell, buttons, true).getWidgets());
+		assertSame(shellButton, WidgetSnapshot.find(shell, buttons, true, 0));
+	}
+
+	@Test
+	public void nonRecursiveLookupEvaluatesParentWidgetOnly() {
+		assertEquals(0, WidgetSnapshot.capture(shell, buttons, false).size());
+		assertNull(WidgetSnapshot.find(outer, buttons, false, 0));
+		assertEquals(Collections.singletonList(first), WidgetSnapshot.capture(first, buttons, false).getWidgets());
+		assertSame(first, WidgetSnapshot.find(first, buttons, false, 0));
+		assertNull(WidgetSnapshot.find(first, buttons, false, 1));
+
+		assertEquals(Arrays.asList(first, nested, last), WidgetSnapshot.capture(outer, buttons, true).getWidgets());
+		assertSame(nested, WidgetSnapshot.find(outer, buttons, true, 1));
+	}
+
+	@Test(timeout = 30000)
+	public void matcherCallingSyncExecOnUIThreadDoesNotBlock() {
+		Matcher<Button> withText = new BaseMatcher<Button>() {
+			@Override
+			public boolean matches(Object item) {
+				if (!(item instanceof Button)) {
+					return false;
+				}
+				final Button button = (Button) item;
+				// matcher is evaluated in UI thread already
+				return "nested".equals(Display.syncExec(new ResultRunnable<String>() {
+					@Override
+					public String run() {
+						return button.getText();
+					}
+				}));
+			}
+
+			@Override
+			public void describeTo(Description description) {
+				description.appendText("button with text nested");
+			}
+		};
+
+		assertEquals(Collections.singletonList(nested), WidgetSnapshot.capture(shell, withText, true).getWidgets());
+		assertSame(nested, WidgetSnapshot.find(shell, withText, true, 0));
+	}
+
+	private static Composite createComposite(Composite parent) {
+		Composite composite = new Composite(parent, SWT.NONE);
+		composite.setLayout(new RowLayout(SWT.VERTICAL));
+		return composite;
+	}
+
+	private static Button createButton(Composite parent, String text) {
+		Button button = new Button(parent, SWT.PUSH);
+		button.setText(text);
+		return button;
+	}
+}
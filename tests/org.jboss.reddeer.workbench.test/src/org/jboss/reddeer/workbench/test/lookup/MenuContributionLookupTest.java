@@ -0,0 +1,205 @@
+/******************************************************************************* 
+ * Copyright (c) 2016 Red Hat, Inc. 
+ * Distributed under license by Red Hat, Inc. All rights reserved. 
+ * This program is made available under the terms of the 
+ * Eclipse Public License v1.0 which accompanies this distribution, 
+ * and is available at http://www.eclipse.org/legal/epl-v10.html 
+ * 
+ * Contributors: 
+ * Red Hat, Inc. - initial API and implementation 
+ ******************************************************************************/ 
+package org.jboss.reddeer.workbench.test.lookup;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.core.commands.AbstractHandler;
+import org.eclipse.core.commands.Command;
+import org.eclipse.core.commands.CommandManager;
+import org.eclipse.core.commands.ExecutionEvent;
+import org.eclipse.core.commands.ExecutionException;
+import org.eclipse.jface.action.MenuManager;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Event;
+import org.eclipse.swt.widgets.Listener;
+import org.eclipse.swt.widgets.MenuItem;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.ui.PlatformUI;
+import org.eclipse.ui.commands.ICommandService;
+import org.eclipse.ui.handlers.IHandlerActivation;
+import org.eclipse.ui.handlers.IHandlerService;
+import org.eclipse.ui.menus.CommandContributionItem;
+import org.eclipse.ui.menus.CommandContributionItemParameter;
+import org.jboss.reddeer.common.properties.RedDeerProperties;
+import org.jboss.reddeer.common.util.Display;
+import org.jboss.reddeer.core.handler.MenuHandler;
+import org.jboss.reddeer.junit.runner.RedDeerSuite;
+import org.jboss.reddeer.workbench.core.lookup.MenuContributionLookup;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Tests reading of commands behind menu items by {@link MenuContributionLookup} and selecting
+ * of command-backed menu items with and without {@link RedDeerProperties#MENU_COMMAND_INVOCATION}.
+ */
+@RunWith(RedDeerSuite.class)
+public class MenuContributionLookupTest {
+
+	private static final String COMMAND_ID = "org.jboss.reddeer.workbench.test.lookup.testCommand";
+
+	private static final String CONTRIBUTION_ID = "org.jboss.reddeer.workbench.test.lookup.testItem";
+
+	private String menuCommandInvocation;
+
+	private TestHandler handler;
+
+	private IHandlerActivation handlerActivation;
+
+	private Shell shell;
+
+	private MenuItem commandItem;
+
+	private MenuItem plainItem;
+
+	private volatile int selections;
+
+	@Before
+	public void setUp() {
+		menuCommandInvocation = System.getProperty(RedDeerProperties.MENU_COMMAND_INVOCATION.getName());
+		handler = new TestHandler();
+		Display.syncExec(new Runnable() {
+			@Override
+			public void run() {
+				ICommandService commandService = (ICommandService) PlatformUI.getWorkbench()
+						.getService(ICommandService.class);
+				Command command = commandService.getCommand(COMMAND_ID);
+				command.define("RedDeer test command", null,
+						commandService.getCategory(CommandManager.AUTOGENERATED_CATEGORY_ID));
+				IHandlerService handlerService = (IHandlerService) PlatformUI.getWorkbench()
+						.getService(IHandlerService.class);
+				handlerActivation = handlerService.activateHandler(COMMAND_ID, handler);
+
+				CommandContributionItemParameter parameter = new CommandContributionItemParameter(
+						PlatformUI.getWorkbench(), CONTRIBUTION_ID, COMMAND_ID, CommandContributionItem.STYLE_PUSH);
+				parameter.label = "Test command";
+				MenuManager menuManager = new MenuManager();
+				menuManager.add(new CommandContributionItem(parameter));
+				shell = new Shell(Display.getDisplay());
+				shell.setText("Menu contribution test");
+				shell.setMenuBar(menuManager.createMenuBar(shell));
+				menuManager.updateAll(true);
+				commandItem = shell.getMenuBar().getItem(0);
+				commandItem.addListener(SWT.Selection, new Listener() {
+					@Override
+					public void handleEvent(Event event) {
+						selections++;
+					}
+				});
+				plainItem = new MenuItem(shell.getMenuBar(), SWT.PUSH);
+				plainItem.setText("Plain item");
+			}
+		});
+	}
+
+	@After
+	public void tearDown() {
+		if (menuCommandInvocation != null) {
+			System.setProperty(RedDeerProperties.MENU_COMMAND_INVOCATION.getName(), menuCommandInvocation);
+		} else {
+			System.clearProperty(RedDeerProperties.MENU_COMMAND_INVOCATION.getName());
+		}
+		Display.syncExec(new Runnable() {
+			@Override
+			public void run() {
+				IHandlerService handlerService = (IHandlerService) PlatformUI.getWorkbench()
+						.getService(IHandlerService.class);
+				handlerService.deactivateHandler(handlerActivation);
+				shell.dispose();
+			}
+		});
+	}
+
+	@Test
+	public void commandBehindMenuItemIsFound() {
+		MenuContributionLookup lookup = MenuContributionLookup.getInstance();
+
+		assertEquals(CONTRIBUTION_ID, lookup.getContributionId(commandItem));
+		assertEquals(COMMAND_ID, lookup.getCommand(commandItem).getId());
+		assertNull(lookup.getContributionId(plainItem));
+		assertNull(lookup.getCommand(plainItem));
+		assertFalse(lookup.executeCommand(plainItem));
+	}
+
+	@Test
+	public void disabledCommandIsNotExecuted() {
+		handler.enabled = false;
+
+		assertFalse(MenuContributionLookup.getInstance().executeCommand(commandItem));
+		assertEquals(0, handler.executions);
+	}
+
+	@Test
+	public void commandIsExecutedWhenInvocationIsEnabled() {
+		System.setProperty(RedDeerProperties.MENU_COMMAND_INVOCATION.getName(), "true");
+
+		MenuHandler.getInstance().select(commandItem);
+
+		assertEquals(1, handler.executions);
+		assertEquals("Menu item was notified instead of executing its command", 0, selections);
+	}
+
+	@Test
+	public void menuItemIsSelectedWhenInvocationIsDisabled() {
+		System.setProperty(RedDeerProperties.MENU_COMMAND_INVOCATION.getName(), "false");
+
+		MenuHandler.getInstance().select(commandItem);
+
+		assertEquals(1, selections);
+		// command contribution item executes the command on selection
+		assertEquals(1, handler.executions);
+	}
+
+	@Test
+	public void itemWithoutCommandIsSelectedWhenInvocationIsEnabled() {
+		System.setProperty(RedDeerProperties.MENU_COMMAND_INVOCATION.getName(), "true");
+		final int[] plainSelections = new int[1];
+		Display.syncExec(new Runnable() {
+			@Override
+			public void run() {
+				plainItem.addListener(SWT.Selection, new Listener() {
+					@Override
+					public void handleEvent(Event event) {
+						plainSelections[0]++;
+					}
+				});
+			}
+		});
+
+		MenuHandler.getInstance().select(plainItem);
+
+		assertEquals(1, plainSelections[0]);
+		assertTrue(handler.executions == 0);
+	}
+
+	private static class TestHandler extends AbstractHandler {
+
+		private volatile boolean enabled = true;
+
+		private volatile int executions;
+
+		@Override
+		public boolean isEnabled() {
+			return enabled;
+		}
+
+		@Override
+		public Object execute(ExecutionEvent event) throws ExecutionException {
+			executions++;
+			return null;
+		}
+	}
+}